@@ -44,6 +44,7 @@ import com.amazon.dlic.auth.http.kerberos.util.KrbConstants;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.SpecialPermission;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -65,6 +66,9 @@ public class HTTPSpnegoAuthenticator implements HTTPAuthenticator {
     private boolean stripRealmFromPrincipalName;
     private Set<String> acceptorPrincipal;
     private Path acceptorKeyTabPath;
+    private SpnegoSessionTokens sessionTokens;
+    private String sessionCookieName;
+    private boolean secureSessionCookie;
 
     @SuppressWarnings("removal")
     public HTTPSpnegoAuthenticator(final Settings settings, final Path configPath) {
@@ -160,6 +164,18 @@ public class HTTPSpnegoAuthenticator implements HTTPAuthenticator {
             log.debug("acceptor_principal {}", acceptorPrincipal);
             log.debug("acceptor_keytab_filepath {}", acceptorKeyTabPath);
 
+            if (settings.getAsBoolean("session_token.enabled", false)) {
+                final String signingKey = settings.get("session_token.signing_key");
+                sessionTokens = new SpnegoSessionTokens(
+                    Strings.isNullOrEmpty(signingKey) ? null : Base64.getDecoder().decode(signingKey),
+                    settings.getAsTime("session_token.ttl", TimeValue.timeValueMinutes(5)).millis(),
+                    System::currentTimeMillis
+                );
+                sessionCookieName = settings.get("session_token.cookie_name", "opensearch_spnego_session");
+                secureSessionCookie = settings.getAsBoolean("session_token.secure_cookie", true);
+                log.debug("SPNEGO session tokens enabled, ttl {}ms", sessionTokens.getTtlMillis());
+            }
+
         } catch (Throwable e) {
             log.error("Cannot construct HTTPSpnegoAuthenticator due to {}", e.getMessage(), e);
             log.error(
@@ -179,6 +195,13 @@ public class HTTPSpnegoAuthenticator implements HTTPAuthenticator {
             sm.checkPermission(new SpecialPermission());
         }
 
+        if (sessionTokens != null) {
+            final String principal = sessionTokens.verify(getSessionCookie(request));
+            if (principal != null) {
+                return new AuthCredentials(principal).markComplete();
+            }
+        }
+
         AuthCredentials creds = AccessController.doPrivileged(new PrivilegedAction<AuthCredentials>() {
             @Override
             public AuthCredentials run() {
@@ -186,9 +209,40 @@ public class HTTPSpnegoAuthenticator implements HTTPAuthenticator {
             }
         });
 
+        if (sessionTokens != null && creds != null && creds.isComplete()) {
+            threadContext.addResponseHeader("Set-Cookie", createSessionCookie(creds.getUsername()));
+        }
+
         return creds;
     }
 
+    private String getSessionCookie(final RestRequest request) {
+        final String cookieHeader = request.header("Cookie");
+
+        if (cookieHeader == null) {
+            return null;
+        }
+
+        for (String cookie : cookieHeader.split(";")) {
+            final int separator = cookie.indexOf('=');
+            if (separator > 0 && cookie.substring(0, separator).trim().equals(sessionCookieName)) {
+                return cookie.substring(separator + 1).trim();
+            }
+        }
+
+        return null;
+    }
+
+    private String createSessionCookie(final String username) {
+        return sessionCookieName
+            + "="
+            + sessionTokens.issue(username)
+            + "; Path=/; Max-Age="
+            + sessionTokens.getTtlMillis() / 1000
+            + "; HttpOnly; SameSite=Strict"
+            + (secureSessionCookie ? "; Secure" : "");
+    }
+
     private AuthCredentials extractCredentials0(final RestRequest request) {
 
         if (acceptorPrincipal == null || acceptorKeyTabPath == null) {
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package com.amazon.dlic.auth.http.kerberos;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.function.LongSupplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Issues and verifies short-lived session tokens for principals which completed a SPNEGO handshake, so that
+ * subsequent requests can be authenticated without another GSS context.
+ *
+ * A token has the form {@code base64url(principal).issuedAt.expiresAt.base64url(hmac)}, where the HMAC-SHA256 is
+ * computed over the part before the last dot. Tokens issued before this instance was created are rejected, so all
+ * tokens are revoked when the security configuration is reloaded and the authenticator is recreated.
+ */
+final class SpnegoSessionTokens {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final long notBefore;
+
+    SpnegoSessionTokens(final byte[] signingKey, final long ttlMillis, final LongSupplier clock) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("session_token.ttl must be positive");
+        }
+
+        this.key = new SecretKeySpec(signingKey != null ? signingKey : randomKey(), ALGORITHM);
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.notBefore = clock.getAsLong();
+    }
+
+    long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    String issue(final String principal) {
+        final long now = clock.getAsLong();
+        final String payload = ENCODER.encodeToString(principal.getBytes(StandardCharsets.UTF_8)) + "." + now + "." + (now + ttlMillis);
+        return payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * @return the principal the token was issued for, or null if the token is malformed, forged, expired or revoked
+     */
+    String verify(final String token) {
+        if (token == null) {
+            return null;
+        }
+
+        final int signatureStart = token.lastIndexOf('.');
+        if (signatureStart <= 0) {
+            return null;
+        }
+
+        final String payload = token.substring(0, signatureStart);
+        final String[] parts = payload.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+
+        try {
+            final byte[] signature = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return null;
+            }
+
+            final long issuedAt = Long.parseLong(parts[1]);
+            final long expiresAt = Long.parseLong(parts[2]);
+            final long now = clock.getAsLong();
+            if (issuedAt < notBefore || now >= expiresAt) {
+                return null;
+            }
+
+            return new String(DECODER.decode(parts[0]), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(final String payload) {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to sign SPNEGO session token", e);
+        }
+    }
+
+    private static byte[] randomKey() {
+        final byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.logging.log4j.Logger;
 import org.ldaptive.Connection;
 import org.ldaptive.ConnectionConfig;
 import org.ldaptive.LdapEntry;
+import org.ldaptive.LdapException;
 import org.ldaptive.ReturnAttributes;
 import org.ldaptive.SearchFilter;
 import org.ldaptive.SearchScope;
@@ -122,7 +123,12 @@ public class LDAPAuthenticationBackend implements AuthenticationBackend {
                 Utils.unbindAndCloseSilently(ldapConnection);
             }
 
-            LDAPAuthorizationBackend.checkConnection(connectionConfig, dn, password);
+            try {
+                LDAPAuthorizationBackend.checkConnection(connectionConfig, dn, password);
+            } catch (final LdapException e) {
+                Utils.checkRejectedBind(e);
+                throw e;
+            }
 
             final String usernameAttribute = settings.get(ConfigConstants.LDAP_AUTHC_USERNAME_ATTRIBUTE, null);
             String username = dn;
@@ -33,6 +33,9 @@ public final class ConfigConstants {
     public static final String LDAP_AUTHZ_NESTEDROLEFILTER = "nested_role_filter";
     public static final String LDAP_AUTHZ_MAX_NESTED_DEPTH = "max_nested_depth";
     public static final int LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT = 30;
+    public static final String LDAP_AUTHZ_ROLESEARCH_BATCH_ENABLED = "rolesearch_batch.enabled";
+    public static final String LDAP_AUTHZ_ROLESEARCH_BATCH_WINDOW_MS = "rolesearch_batch.window_ms";
+    public static final String LDAP_AUTHZ_ROLESEARCH_BATCH_MAX_SIZE = "rolesearch_batch.max_size";
 
     public static final String FOLLOW_REFERRALS = "follow_referrals";
     public static final boolean FOLLOW_REFERRALS_DEFAULT = true;
@@ -85,6 +88,8 @@ public final class ConfigConstants {
     public static final String LDAP_POOL_MAX_SIZE = "pool.max_size";
 
     public static final String LDAP_POOL_TYPE = "pool.type";
+    public static final String LDAP_POOL_STRATEGY = "pool.strategy";
+    public static final String LDAP_POOL_PREWARM = "pool.prewarm";
 
     public static final String LDAP_LEGACY_POOL_PRUNING_PERIOD = "pruning.period";
     public static final String LDAP_LEGACY_POOL_IDLE_TIME = "pruning.idleTime";
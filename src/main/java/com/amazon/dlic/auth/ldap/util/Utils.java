@@ -25,9 +25,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.ldaptive.Connection;
 import org.ldaptive.LdapAttribute;
+import org.ldaptive.LdapException;
+import org.ldaptive.ResultCode;
 
+import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.SpecialPermission;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.rest.RestStatus;
 
 public final class Utils {
 
@@ -110,4 +114,15 @@ public final class Utils {
 
         return attribute.getStringValue();
     }
+
+    /**
+     * Throws a definite rejection (status 401) if the bind with the credentials of a user failed because the LDAP
+     * server reported invalid credentials, which the failed authentication cache remembers. Other errors, like an
+     * unreachable server, may go away on a retry and are left to the caller.
+     */
+    public static void checkRejectedBind(final LdapException e) {
+        if (e.getResultCode() == ResultCode.INVALID_CREDENTIALS) {
+            throw new OpenSearchSecurityException("Invalid credentials", RestStatus.UNAUTHORIZED, e);
+        }
+    }
 }
@@ -31,7 +31,6 @@ import org.ldaptive.LdapEntry;
 import org.ldaptive.LdapException;
 import org.ldaptive.Response;
 import org.ldaptive.ReturnAttributes;
-import org.ldaptive.pool.ConnectionPool;
 
 import com.amazon.dlic.auth.ldap.LdapUser;
 import com.amazon.dlic.auth.ldap.util.ConfigConstants;
@@ -53,7 +52,7 @@ public class LDAPAuthenticationBackend2 implements AuthenticationBackend, Destro
 
     private final Settings settings;
 
-    private ConnectionPool connectionPool;
+    private LDAPConnectionPool connectionPool;
     private ConnectionFactory connectionFactory;
     private ConnectionFactory authConnectionFactory;
     private LDAPUserSearcher userSearcher;
@@ -252,6 +251,7 @@ public class LDAPAuthenticationBackend2 implements AuthenticationBackend, Destro
             });
         } catch (PrivilegedActionException e) {
             if (e.getException() instanceof LdapException) {
+                Utils.checkRejectedBind((LdapException) e.getException());
                 throw (LdapException) e.getException();
             } else if (e.getException() instanceof RuntimeException) {
                 throw (RuntimeException) e.getException();
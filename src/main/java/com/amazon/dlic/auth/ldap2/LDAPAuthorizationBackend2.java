@@ -39,7 +39,6 @@ import org.ldaptive.LdapException;
 import org.ldaptive.ReturnAttributes;
 import org.ldaptive.SearchFilter;
 import org.ldaptive.SearchScope;
-import org.ldaptive.pool.ConnectionPool;
 
 import com.amazon.dlic.auth.ldap.LdapUser;
 import com.amazon.dlic.auth.ldap.util.ConfigConstants;
@@ -53,6 +52,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.Strings;
 import org.opensearch.security.auth.AuthorizationBackend;
 import org.opensearch.security.auth.Destroyable;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
@@ -72,11 +72,13 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
     private final WildcardMatcher skipUsersMatcher;
     private final WildcardMatcher nestedRoleMatcher;
     private final List<Map.Entry<String, Settings>> roleBaseSettings;
-    private ConnectionPool connectionPool;
+    private LDAPConnectionPool connectionPool;
     private ConnectionFactory connectionFactory;
     private LDAPUserSearcher userSearcher;
     private final String[] returnAttributes;
     private final boolean shouldFollowReferrals;
+    /** batchers for the role bases whose searches can be coalesced, by role base key */
+    private final Map<String, RoleSearchBatcher> roleSearchBatchers;
 
     public LDAPAuthorizationBackend2(final Settings settings, final Path configPath) throws SSLConfigException {
         this.settings = settings;
@@ -94,6 +96,50 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
         this.returnAttributes = settings.getAsList(ConfigConstants.LDAP_RETURN_ATTRIBUTES, Arrays.asList(ReturnAttributes.ALL.value()))
             .toArray(new String[0]);
         this.shouldFollowReferrals = settings.getAsBoolean(ConfigConstants.FOLLOW_REFERRALS, ConfigConstants.FOLLOW_REFERRALS_DEFAULT);
+        this.roleSearchBatchers = createRoleSearchBatchers(settings, roleBaseSettings, returnAttributes, shouldFollowReferrals);
+    }
+
+    private static Map<String, RoleSearchBatcher> createRoleSearchBatchers(
+        final Settings settings,
+        final List<Map.Entry<String, Settings>> roleBaseSettings,
+        final String[] returnAttributes,
+        final boolean shouldFollowReferrals
+    ) {
+        if (!settings.getAsBoolean(ConfigConstants.LDAP_AUTHZ_ROLESEARCH_BATCH_ENABLED, false)) {
+            return Collections.emptyMap();
+        }
+
+        final long windowMs = settings.getAsLong(ConfigConstants.LDAP_AUTHZ_ROLESEARCH_BATCH_WINDOW_MS, 5L);
+        final int maxSize = settings.getAsInt(ConfigConstants.LDAP_AUTHZ_ROLESEARCH_BATCH_MAX_SIZE, 50);
+        final Map<String, RoleSearchBatcher> result = new HashMap<>();
+
+        for (Map.Entry<String, Settings> roleBase : roleBaseSettings) {
+            final String filter = roleBase.getValue().get(ConfigConstants.LDAP_AUTHCZ_SEARCH, DEFAULT_ROLESEARCH);
+
+            if (RoleSearchBatcher.memberAttribute(filter) == null) {
+                log.warn(
+                    "Role searches of {} are not batched, only filters like (member={0}) are supported: {}",
+                    roleBase.getKey(),
+                    filter
+                );
+                continue;
+            }
+
+            result.put(
+                roleBase.getKey(),
+                new RoleSearchBatcher(
+                    roleBase.getValue().get(ConfigConstants.LDAP_AUTHCZ_BASE, DEFAULT_ROLEBASE),
+                    filter,
+                    returnAttributes,
+                    shouldFollowReferrals,
+                    windowMs,
+                    maxSize,
+                    SecurityStats.forNode(settings)
+                )
+            );
+        }
+
+        return result;
     }
 
     private static List<Map.Entry<String, Settings>> getRoleSearchSettings(Settings settings) {
@@ -301,21 +347,27 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
 
                 for (Map.Entry<String, Settings> roleSearchSettingsEntry : roleBaseSettings) {
                     Settings roleSearchSettings = roleSearchSettingsEntry.getValue();
+                    final RoleSearchBatcher batcher = roleSearchBatchers.get(roleSearchSettingsEntry.getKey());
+                    final List<LdapEntry> rolesResult;
 
-                    SearchFilter f = new SearchFilter();
-                    f.setFilter(roleSearchSettings.get(ConfigConstants.LDAP_AUTHCZ_SEARCH, DEFAULT_ROLESEARCH));
-                    f.setParameter(ZERO_PLACEHOLDER, escapedDn);
-                    f.setParameter(ONE_PLACEHOLDER, originalUserName);
-                    f.setParameter(TWO_PLACEHOLDER, userRoleAttributeValue == null ? TWO_PLACEHOLDER : userRoleAttributeValue);
-
-                    List<LdapEntry> rolesResult = LdapHelper.search(
-                        connection,
-                        roleSearchSettings.get(ConfigConstants.LDAP_AUTHCZ_BASE, DEFAULT_ROLEBASE),
-                        f,
-                        SearchScope.SUBTREE,
-                        this.returnAttributes,
-                        this.shouldFollowReferrals
-                    );
+                    if (batcher != null) {
+                        rolesResult = batcher.search(connection, escapedDn);
+                    } else {
+                        SearchFilter f = new SearchFilter();
+                        f.setFilter(roleSearchSettings.get(ConfigConstants.LDAP_AUTHCZ_SEARCH, DEFAULT_ROLESEARCH));
+                        f.setParameter(ZERO_PLACEHOLDER, escapedDn);
+                        f.setParameter(ONE_PLACEHOLDER, originalUserName);
+                        f.setParameter(TWO_PLACEHOLDER, userRoleAttributeValue == null ? TWO_PLACEHOLDER : userRoleAttributeValue);
+
+                        rolesResult = LdapHelper.search(
+                            connection,
+                            roleSearchSettings.get(ConfigConstants.LDAP_AUTHCZ_BASE, DEFAULT_ROLEBASE),
+                            f,
+                            SearchScope.SUBTREE,
+                            this.returnAttributes,
+                            this.shouldFollowReferrals
+                        );
+                    }
 
                     if (isTraceEnabled) {
                         log.trace(
@@ -13,9 +13,11 @@ package com.amazon.dlic.auth.ldap2;
 
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
@@ -43,7 +45,6 @@ import org.ldaptive.pool.CompareValidator;
 import org.ldaptive.pool.ConnectionPool;
 import org.ldaptive.pool.IdlePruneStrategy;
 import org.ldaptive.pool.PoolConfig;
-import org.ldaptive.pool.PooledConnectionFactory;
 import org.ldaptive.pool.SearchValidator;
 import org.ldaptive.pool.SoftLimitConnectionPool;
 import org.ldaptive.pool.Validator;
@@ -61,6 +62,7 @@ import com.amazon.dlic.util.SettingsBasedSSLConfigurator;
 import com.amazon.dlic.util.SettingsBasedSSLConfigurator.SSLConfigException;
 
 import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.SecurityStats;
 
 import static org.opensearch.security.setting.DeprecatedSettings.checkForDeprecatedSetting;
 
@@ -76,17 +78,21 @@ public class LDAPConnectionFactoryFactory {
         this.sslConfig = new SettingsBasedSSLConfigurator(settings, configPath, "").buildSSLConfig();
     }
 
-    public ConnectionFactory createConnectionFactory(ConnectionPool connectionPool) {
+    public ConnectionFactory createConnectionFactory(LDAPConnectionPool connectionPool) {
         if (connectionPool != null) {
-            return new PooledConnectionFactory(connectionPool);
+            return connectionPool;
         } else {
             return createBasicConnectionFactory();
         }
     }
 
-    @SuppressWarnings("unchecked")
     public DefaultConnectionFactory createBasicConnectionFactory() {
-        DefaultConnectionFactory result = new DefaultConnectionFactory(getConnectionConfig());
+        return createBasicConnectionFactory(String.join(" ", getLdapUrls()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private DefaultConnectionFactory createBasicConnectionFactory(String ldapUrl) {
+        DefaultConnectionFactory result = new DefaultConnectionFactory(getConnectionConfig(ldapUrl));
 
         result.setProvider(new PrivilegedProvider((Provider<JndiProviderConfig>) result.getProvider()));
 
@@ -101,16 +107,64 @@ public class LDAPConnectionFactoryFactory {
         return result;
     }
 
-    public ConnectionPool createConnectionPool() {
+    /**
+     * Creates the connection pool according to pool.strategy:
+     * <ul>
+     * <li>elastic (default): a pool for all hosts between pool.min_size and pool.max_size connections, idle
+     * connections are pruned down to the minimum size</li>
+     * <li>fixed: a pool for all hosts which keeps pool.max_size connections open and blocks if all are in use</li>
+     * <li>per_host: an elastic pool per host, connections are checked out from the host with the lowest latency</li>
+     * </ul>
+     * With pool.prewarm the connections are established on a background thread.
+     *
+     * @return the pool or null if pooling is disabled
+     */
+    public LDAPConnectionPool createConnectionPool() {
 
         if (!this.settings.getAsBoolean(ConfigConstants.LDAP_POOL_ENABLED, false)) {
             return null;
         }
 
+        final String strategy = this.settings.get(ConfigConstants.LDAP_POOL_STRATEGY, "elastic").toLowerCase(Locale.ROOT);
+        final boolean prewarm = this.settings.getAsBoolean(ConfigConstants.LDAP_POOL_PREWARM, false);
+        // callers wait for a pending initialization of a pool at most as long as for a new connection
+        final long connectTimeout = this.settings.getAsLong(ConfigConstants.LDAP_CONNECT_TIMEOUT, 5000L);
+        final long initializationTimeout = connectTimeout > 0L ? connectTimeout : 5000L;
+
+        switch (strategy) {
+            case "elastic":
+            case "fixed":
+                final String ldapUrl = String.join(" ", getLdapUrls());
+                return new LDAPConnectionPool(
+                    Collections.singletonList(ldapUrl),
+                    Collections.singletonList(createConnectionPool(ldapUrl, "fixed".equals(strategy))),
+                    false,
+                    prewarm,
+                    initializationTimeout,
+                    SecurityStats.forNode(settings)
+                );
+            case "per_host":
+                final List<String> ldapUrls = getLdapUrls();
+                final List<String> names = new ArrayList<>(ldapUrls.size());
+                final List<ConnectionPool> pools = new ArrayList<>(ldapUrls.size());
+
+                for (String url : ldapUrls) {
+                    names.add(url.substring(url.indexOf("://") + 3));
+                    pools.add(createConnectionPool(url, false));
+                }
+
+                return new LDAPConnectionPool(names, pools, true, prewarm, initializationTimeout, SecurityStats.forNode(settings));
+            default:
+                throw new IllegalArgumentException("Unknown LDAP pool strategy " + strategy + "; use elastic, fixed or per_host");
+        }
+    }
+
+    private AbstractConnectionPool createConnectionPool(String ldapUrl, boolean fixed) {
         PoolConfig poolConfig = new PoolConfig();
 
-        poolConfig.setMinPoolSize(this.settings.getAsInt(ConfigConstants.LDAP_POOL_MIN_SIZE, 3));
-        poolConfig.setMaxPoolSize(this.settings.getAsInt(ConfigConstants.LDAP_POOL_MAX_SIZE, 10));
+        final int maxPoolSize = this.settings.getAsInt(ConfigConstants.LDAP_POOL_MAX_SIZE, 10);
+        poolConfig.setMinPoolSize(fixed ? maxPoolSize : this.settings.getAsInt(ConfigConstants.LDAP_POOL_MIN_SIZE, 3));
+        poolConfig.setMaxPoolSize(maxPoolSize);
 
         if (this.settings.getAsBoolean("validation.enabled", false)) {
             poolConfig.setValidateOnCheckIn(this.settings.getAsBoolean("validation.on_checkin", false));
@@ -122,10 +176,10 @@ public class LDAPConnectionFactoryFactory {
 
         AbstractConnectionPool result;
 
-        if ("blocking".equals(this.settings.get(ConfigConstants.LDAP_POOL_TYPE))) {
-            result = new BlockingConnectionPool(poolConfig, createBasicConnectionFactory());
+        if (fixed || "blocking".equals(this.settings.get(ConfigConstants.LDAP_POOL_TYPE))) {
+            result = new BlockingConnectionPool(poolConfig, createBasicConnectionFactory(ldapUrl));
         } else {
-            result = new SoftLimitConnectionPool(poolConfig, createBasicConnectionFactory());
+            result = new SoftLimitConnectionPool(poolConfig, createBasicConnectionFactory(ldapUrl));
         }
 
         result.setValidator(getConnectionValidator());
@@ -150,13 +204,11 @@ public class LDAPConnectionFactoryFactory {
             )
         );
 
-        result.initialize();
-
         return result;
     }
 
-    private ConnectionConfig getConnectionConfig() {
-        ConnectionConfig result = new ConnectionConfig(getLdapUrlString());
+    private ConnectionConfig getConnectionConfig(String ldapUrl) {
+        ConnectionConfig result = new ConnectionConfig(ldapUrl);
 
         if (this.sslConfig != null) {
             configureSSL(result);
@@ -264,30 +316,26 @@ public class LDAPConnectionFactoryFactory {
         return result;
     }
 
-    private String getLdapUrlString() {
+    private List<String> getLdapUrls() {
         // It's a bit weird that we create from structured data a plain string which is
         // later parsed again by ldaptive. But that's the way the API wants it to be.
 
         List<String> ldapHosts = this.settings.getAsList(ConfigConstants.LDAP_HOSTS, Collections.singletonList("localhost"));
         boolean enableSSL = settings.getAsBoolean(ConfigConstants.LDAPS_ENABLE_SSL, false);
 
-        StringBuilder result = new StringBuilder();
+        List<String> result = new ArrayList<>(ldapHosts.size());
 
         for (String ldapHost : ldapHosts) {
-            if (result.length() > 0) {
-                result.append(" ");
-            }
-
             if (ldapHost.contains("://")) {
-                result.append(ldapHost);
+                result.add(ldapHost);
             } else if (enableSSL) {
-                result.append("ldaps://").append(ldapHost);
+                result.add("ldaps://" + ldapHost);
             } else {
-                result.append("ldap://").append(ldapHost);
+                result.add("ldap://" + ldapHost);
             }
         }
 
-        return result.toString();
+        return result;
     }
 
     private void configureSSL(ConnectionConfig config) {
@@ -0,0 +1,324 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package com.amazon.dlic.auth.ldap2;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ldaptive.Connection;
+import org.ldaptive.ConnectionFactory;
+import org.ldaptive.LdapException;
+import org.ldaptive.pool.ConnectionPool;
+import org.ldaptive.pool.PooledConnectionFactory;
+
+import org.opensearch.security.support.SecurityStats;
+
+/**
+ * The pooled connections of an LDAP backend. Depending on the pool strategy there is a single pool for all hosts
+ * or a sub-pool per host. With sub-pools, connections are checked out from the host with the lowest recent
+ * latency; a host whose pool fails to hand out a connection is skipped for a while and only used again when all
+ * other hosts failed as well.
+ *
+ * The pools can be initialized asynchronously, so that the connections are established ahead of the first
+ * authentication without delaying the node start. Callers arriving before the initialization finished wait for it,
+ * at most for the connect timeout.
+ *
+ * The time to check out a connection and the time a connection is in use (which covers the LDAP operations of one
+ * authentication or role lookup) are recorded in the security stats.
+ */
+public final class LDAPConnectionPool implements ConnectionFactory {
+
+    private static final Logger log = LogManager.getLogger(LDAPConnectionPool.class);
+
+    static final long RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final Set<LDAPConnectionPool> OPEN_POOLS = ConcurrentHashMap.newKeySet();
+
+    private final List<HostPool> hostPools;
+    private final SecurityStats stats;
+    private final SecurityStats.Histogram checkoutWait;
+    private final LongAdder checkoutErrors;
+
+    /**
+     * @param pools the pools by host name, or a single pool for all hosts under any name. The pools must not be
+     *              initialized yet.
+     * @param perHost true if the pools are sub-pools of a single host each; the latency is then also recorded per host
+     * @param prewarm true to initialize the pools on a background thread
+     * @param initializationTimeoutMs how long a caller waits for a pending initialization of a pool
+     * @param stats the stats of the node
+     */
+    LDAPConnectionPool(
+        final List<String> names,
+        final List<ConnectionPool> pools,
+        final boolean perHost,
+        final boolean prewarm,
+        final long initializationTimeoutMs,
+        final SecurityStats stats
+    ) {
+        final List<HostPool> hostPools = new ArrayList<>(pools.size());
+        final SecurityStats.Histogram operationLatency = stats.histogram("ldap.operation.latency");
+
+        for (int i = 0; i < pools.size(); i++) {
+            final String name = names.get(i);
+            final SecurityStats.Histogram hostLatency = perHost ? stats.histogram("ldap.host." + name + ".latency") : null;
+            hostPools.add(new HostPool(name, pools.get(i), initializationTimeoutMs, operationLatency, hostLatency));
+        }
+
+        this.stats = stats;
+        this.checkoutWait = stats.histogram("ldap.pool.checkout_wait");
+        this.checkoutErrors = stats.counter("ldap.pool.checkout_errors");
+
+        this.hostPools = hostPools;
+
+        if (prewarm) {
+            for (HostPool hostPool : hostPools) {
+                hostPool.initialization = CompletableFuture.runAsync(hostPool::initialize, (r) -> {
+                    final Thread thread = new Thread(r, "opensearch-security-ldap-prewarm-" + hostPool.name);
+                    thread.setDaemon(true);
+                    thread.start();
+                });
+            }
+        } else if (!perHost) {
+            // a single pool fails as before if no connection can be established
+            hostPools.get(0).pool.initialize();
+            hostPools.get(0).initialization = CompletableFuture.completedFuture(null);
+        } else {
+            // hosts which are down are retried later, only fail if no host is reachable
+            for (HostPool hostPool : hostPools) {
+                hostPool.initialization = CompletableFuture.runAsync(hostPool::initialize, Runnable::run);
+            }
+
+            if (hostPools.stream().noneMatch(HostPool::isInitialized)) {
+                throw new IllegalStateException("Unable to initialize the LDAP connection pool of any host");
+            }
+        }
+
+        OPEN_POOLS.add(this);
+        // the pools of all backends of the node add up, registering again just replaces the gauges
+        stats.gauge("ldap.pool.active", () -> openPools(stats).mapToLong(LDAPConnectionPool::activeCount).sum());
+        stats.gauge("ldap.pool.available", () -> openPools(stats).mapToLong(LDAPConnectionPool::availableCount).sum());
+    }
+
+    private static Stream<LDAPConnectionPool> openPools(final SecurityStats stats) {
+        return OPEN_POOLS.stream().filter(p -> p.stats == stats);
+    }
+
+    @Override
+    public Connection getConnection() throws LdapException {
+        final long start = System.nanoTime();
+        LdapException failure = null;
+
+        for (HostPool hostPool : candidates(start)) {
+            try {
+                hostPool.awaitInitialization(start);
+                final Connection connection = hostPool.factory.getConnection();
+                checkoutWait.recordSince(start);
+                hostPool.downUntilNanos = 0;
+                return instrument(connection, hostPool);
+            } catch (LdapException | RuntimeException e) {
+                checkoutErrors.increment();
+                hostPool.downUntilNanos = System.nanoTime() + RETRY_DELAY_NANOS;
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Unable to check out a connection for LDAP host {}", hostPool.name, e);
+                }
+
+                final LdapException ldapException = e instanceof LdapException
+                    ? (LdapException) e
+                    : new LdapException("Unable to check out a connection for LDAP host " + hostPool.name, e);
+
+                if (failure == null) {
+                    failure = ldapException;
+                } else {
+                    failure.addSuppressed(ldapException);
+                }
+            }
+        }
+
+        throw failure;
+    }
+
+    /**
+     * @return the pools ordered by preference: the available hosts by their recent latency, then the hosts which
+     *         failed recently
+     */
+    private List<HostPool> candidates(final long now) {
+        if (hostPools.size() == 1) {
+            return hostPools;
+        }
+
+        final List<HostPool> candidates = new ArrayList<>(hostPools);
+        candidates.sort(Comparator.comparing((HostPool p) -> p.downUntilNanos - now > 0).thenComparingLong(p -> p.latencyNanos));
+        return candidates;
+    }
+
+    private Connection instrument(final Connection connection, final HostPool hostPool) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            new LeaseHandler(connection, hostPool)
+        );
+    }
+
+    private long activeCount() {
+        return hostPools.stream().filter(HostPool::isInitialized).mapToLong(p -> p.pool.activeCount()).sum();
+    }
+
+    private long availableCount() {
+        return hostPools.stream().filter(HostPool::isInitialized).mapToLong(p -> p.pool.availableCount()).sum();
+    }
+
+    public void close() {
+        OPEN_POOLS.remove(this);
+
+        for (HostPool hostPool : hostPools) {
+            hostPool.initialization.whenComplete((v, e) -> {
+                if (e == null) {
+                    hostPool.pool.close();
+                }
+            });
+        }
+    }
+
+    private static final class HostPool {
+        private final String name;
+        private final ConnectionPool pool;
+        private final PooledConnectionFactory factory;
+        private final long initializationTimeoutMs;
+        private final SecurityStats.Histogram operationLatency;
+        /** null if the latency is not recorded per host */
+        private final SecurityStats.Histogram latency;
+        private volatile CompletableFuture<Void> initialization;
+        /** exponentially weighted moving average of the time the connections are in use */
+        private volatile long latencyNanos;
+        private volatile long downUntilNanos;
+
+        private HostPool(
+            final String name,
+            final ConnectionPool pool,
+            final long initializationTimeoutMs,
+            final SecurityStats.Histogram operationLatency,
+            final SecurityStats.Histogram latency
+        ) {
+            this.name = name;
+            this.pool = pool;
+            this.factory = new PooledConnectionFactory(pool);
+            this.initializationTimeoutMs = initializationTimeoutMs;
+            this.operationLatency = operationLatency;
+            this.latency = latency;
+        }
+
+        private void initialize() {
+            final long start = System.nanoTime();
+
+            try {
+                pool.initialize();
+                if (log.isDebugEnabled()) {
+                    log.debug("Initialized LDAP connection pool for {} in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+                }
+            } catch (RuntimeException e) {
+                log.error("Unable to initialize LDAP connection pool for {}", name, e);
+                downUntilNanos = System.nanoTime() + RETRY_DELAY_NANOS;
+                throw e;
+            }
+        }
+
+        private boolean isInitialized() {
+            final CompletableFuture<Void> initialization = this.initialization;
+            return initialization.isDone() && !initialization.isCompletedExceptionally();
+        }
+
+        /**
+         * Waits for a pending initialization, at most for the initialization timeout. A failed initialization is
+         * repeated once the retry delay elapsed.
+         */
+        private void awaitInitialization(final long now) throws LdapException {
+            CompletableFuture<Void> initialization = this.initialization;
+
+            if (initialization.isCompletedExceptionally() && downUntilNanos - now <= 0) {
+                synchronized (this) {
+                    if (this.initialization == initialization) {
+                        this.initialization = CompletableFuture.runAsync(this::initialize, Runnable::run);
+                    }
+                    initialization = this.initialization;
+                }
+            }
+
+            try {
+                initialization.get(initializationTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // the initialization goes on, the next callers find the pool ready or wait again
+                throw new LdapException("LDAP connection pool of " + name + " is still being initialized", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LdapException("Interrupted while waiting for the LDAP connection pool of " + name, e);
+            } catch (ExecutionException e) {
+                throw new LdapException("LDAP connection pool of " + name + " is not initialized", e.getCause());
+            }
+        }
+
+        private void record(final long startNanos) {
+            final long nanos = System.nanoTime() - startNanos;
+            operationLatency.recordNanos(nanos);
+
+            if (latency != null) {
+                latency.recordNanos(nanos);
+                // racy updates only lose samples, which is fine for a moving average
+                latencyNanos += (nanos - latencyNanos) / 5;
+            }
+        }
+    }
+
+    /**
+     * Records the time from the checkout of a connection until it is returned to the pool
+     */
+    private static final class LeaseHandler implements InvocationHandler {
+        private final Connection connection;
+        private final HostPool hostPool;
+        private final long checkedOutNanos = System.nanoTime();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private LeaseHandler(final Connection connection, final HostPool hostPool) {
+            this.connection = connection;
+            this.hostPool = hostPool;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                hostPool.record(checkedOutNanos);
+            }
+
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
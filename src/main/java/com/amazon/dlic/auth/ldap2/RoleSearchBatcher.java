@@ -0,0 +1,309 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package com.amazon.dlic.auth.ldap2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+
+import org.ldaptive.Connection;
+import org.ldaptive.LdapAttribute;
+import org.ldaptive.LdapEntry;
+import org.ldaptive.LdapException;
+import org.ldaptive.SearchFilter;
+import org.ldaptive.SearchScope;
+
+import com.amazon.dlic.auth.ldap.util.LdapHelper;
+
+import org.opensearch.security.support.SecurityStats;
+
+/**
+ * Coalesces the role searches of concurrent fillRoles calls for one role base. The first caller waits for a short
+ * window, then sends a single search with an OR filter over the DNs of all callers which arrived in the meantime and
+ * hands each caller the role entries which list its DN in the member attribute.
+ *
+ * This only works for role search filters of the form {@code (attribute={0})}, because the member attribute of the
+ * results is used to assign the roles to the users. If a role entry does not return all its members, for example
+ * because Active Directory returns the members of large groups in ranges ({@code member;range=0-1499}), the roles
+ * cannot be assigned and the users of the batch are searched one by one.
+ */
+final class RoleSearchBatcher {
+
+    private static final Pattern MEMBER_FILTER = Pattern.compile("^\\(\\s*([A-Za-z][A-Za-z0-9.;-]*)\\s*=\\s*\\{0\\}\\s*\\)$");
+
+    private final String base;
+    private final String filter;
+    private final String memberAttribute;
+    private final String[] returnAttributes;
+    private final boolean shouldFollowReferrals;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final LongAdder searches;
+    private final LongAdder users;
+
+    private final Object lock = new Object();
+    /** the batch new callers join, guarded by lock */
+    private Batch open;
+
+    RoleSearchBatcher(
+        final String base,
+        final String filter,
+        final String[] returnAttributes,
+        final boolean shouldFollowReferrals,
+        final long windowMs,
+        final int maxBatchSize,
+        final SecurityStats stats
+    ) {
+        this.base = base;
+        this.filter = filter;
+        this.memberAttribute = memberAttribute(filter);
+        if (memberAttribute == null) {
+            throw new IllegalArgumentException("Role search " + filter + " cannot be batched");
+        }
+        this.returnAttributes = withMemberAttribute(returnAttributes, memberAttribute);
+        this.shouldFollowReferrals = shouldFollowReferrals;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.searches = stats.counter("ldap.rolesearch_batch.searches");
+        this.users = stats.counter("ldap.rolesearch_batch.users");
+    }
+
+    /**
+     * @return the member attribute of a role search filter of the form {@code (attribute={0})}, otherwise null
+     */
+    static String memberAttribute(final String filter) {
+        if (filter == null) {
+            return null;
+        }
+        final Matcher matcher = MEMBER_FILTER.matcher(filter.trim());
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Returns the role entries the user with the DN is a member of. Blocks until the batch the caller joined was
+     * searched; the search runs on the connection of the first caller of the batch.
+     */
+    List<LdapEntry> search(final Connection connection, final String dn) throws LdapException, InterruptedException {
+        final Member member = new Member(dn);
+        final Batch batch;
+        final boolean leader;
+
+        synchronized (lock) {
+            if (open == null || open.members.size() >= maxBatchSize) {
+                open = new Batch();
+                leader = true;
+            } else {
+                leader = false;
+            }
+            batch = open;
+            batch.members.add(member);
+            if (batch.members.size() >= maxBatchSize) {
+                lock.notifyAll();
+            }
+        }
+
+        if (leader) {
+            execute(connection, batch);
+        }
+
+        try {
+            return member.result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof LdapException) {
+                throw (LdapException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private void execute(final Connection connection, final Batch batch) {
+        final List<Member> members;
+
+        try {
+            synchronized (lock) {
+                final long deadline = System.nanoTime() + windowNanos;
+                long remaining = windowNanos;
+                while (batch.members.size() < maxBatchSize && remaining > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                    remaining = deadline - System.nanoTime();
+                }
+                if (open == batch) {
+                    open = null;
+                }
+                members = new ArrayList<>(batch.members);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeAndFail(batch, e);
+            return;
+        }
+
+        try {
+            searches.increment();
+            users.add(members.size());
+
+            if (members.size() == 1) {
+                members.get(0).result.complete(search(connection, members.get(0)));
+                return;
+            }
+
+            final StringBuilder orFilter = new StringBuilder("(|");
+            for (int i = 0; i < members.size(); i++) {
+                orFilter.append('(').append(memberAttribute).append("={").append(i).append("})");
+            }
+            orFilter.append(')');
+
+            final SearchFilter f = new SearchFilter(orFilter.toString());
+            for (int i = 0; i < members.size(); i++) {
+                f.setParameter(i, members.get(i).dn);
+            }
+
+            final List<LdapEntry> entries = search(connection, f);
+
+            if (hasAllMembers(entries, memberAttribute)) {
+                distribute(entries, members);
+            } else {
+                for (Member member : members) {
+                    searches.increment();
+                    member.result.complete(search(connection, member));
+                }
+            }
+        } catch (Exception e) {
+            for (Member member : members) {
+                member.result.completeExceptionally(e);
+            }
+        } finally {
+            // no member must wait forever, even if the search failed with an error
+            for (Member member : members) {
+                member.result.completeExceptionally(new IllegalStateException("Role search of the batch did not complete"));
+            }
+        }
+    }
+
+    private List<LdapEntry> search(final Connection connection, final SearchFilter f) throws LdapException {
+        return LdapHelper.search(connection, base, f, SearchScope.SUBTREE, returnAttributes, shouldFollowReferrals);
+    }
+
+    private List<LdapEntry> search(final Connection connection, final Member member) throws LdapException {
+        final SearchFilter f = new SearchFilter(filter);
+        f.setParameter(0, member.dn);
+        return search(connection, f);
+    }
+
+    /**
+     * @return false if a role entry lacks the member attribute or returns it in ranges, as the members of the entry
+     * are unknown then
+     */
+    static boolean hasAllMembers(final List<LdapEntry> entries, final String memberAttribute) {
+        final String rangedAttribute = memberAttribute.toLowerCase(Locale.ROOT) + ";range=";
+
+        for (LdapEntry entry : entries) {
+            if (entry.getAttribute(memberAttribute) == null) {
+                return false;
+            }
+            for (LdapAttribute attribute : entry.getAttributes()) {
+                if (attribute.getName().toLowerCase(Locale.ROOT).startsWith(rangedAttribute)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void distribute(final List<LdapEntry> entries, final List<Member> members) {
+        final Map<Object, List<LdapEntry>> results = new HashMap<>();
+        for (Member member : members) {
+            results.put(member.key, new ArrayList<>());
+        }
+
+        for (LdapEntry entry : entries) {
+            final LdapAttribute attribute = entry.getAttribute(memberAttribute);
+            if (attribute == null) {
+                continue;
+            }
+            for (String value : attribute.getStringValues()) {
+                final List<LdapEntry> result = results.get(key(value));
+                if (result != null) {
+                    result.add(entry);
+                }
+            }
+        }
+
+        for (Member member : members) {
+            member.result.complete(results.get(member.key));
+        }
+    }
+
+    private void closeAndFail(final Batch batch, final Exception e) {
+        final List<Member> members;
+        synchronized (lock) {
+            if (open == batch) {
+                open = null;
+            }
+            members = new ArrayList<>(batch.members);
+        }
+        for (Member member : members) {
+            member.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * DNs are compared as LdapName, which ignores case and insignificant whitespace, and as strings if invalid
+     */
+    private static Object key(final String dn) {
+        try {
+            return new LdapName(dn);
+        } catch (InvalidNameException | IllegalArgumentException e) {
+            return dn;
+        }
+    }
+
+    private static String[] withMemberAttribute(final String[] returnAttributes, final String memberAttribute) {
+        for (String attribute : returnAttributes) {
+            if ("*".equals(attribute) || memberAttribute.equalsIgnoreCase(attribute)) {
+                return returnAttributes;
+            }
+        }
+        final String[] result = Arrays.copyOf(returnAttributes, returnAttributes.length + 1);
+        result[returnAttributes.length] = memberAttribute;
+        return result;
+    }
+
+    private static final class Batch {
+        private final List<Member> members = new ArrayList<>();
+    }
+
+    private static final class Member {
+        private final String dn;
+        private final Object key;
+        private final CompletableFuture<List<LdapEntry>> result = new CompletableFuture<>();
+
+        private Member(final String dn) {
+            this.dn = dn;
+            this.key = key(dn);
+        }
+    }
+}
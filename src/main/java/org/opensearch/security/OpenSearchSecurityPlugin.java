@@ -127,6 +127,7 @@ import org.opensearch.security.auditlog.NullAuditLog;
 import org.opensearch.security.auditlog.config.AuditConfig.Filter.FilterEntries;
 import org.opensearch.security.auditlog.impl.AuditLogImpl;
 import org.opensearch.security.auth.BackendRegistry;
+import org.opensearch.security.auth.internal.InternalAuthenticationBackend;
 import org.opensearch.security.compliance.ComplianceIndexingOperationListener;
 import org.opensearch.security.compliance.ComplianceIndexingOperationListenerImpl;
 import org.opensearch.security.configuration.AdminDNs;
@@ -142,17 +143,24 @@ import org.opensearch.security.dlic.rest.api.SecurityRestApiActions;
 import org.opensearch.security.dlic.rest.validation.PasswordValidator;
 import org.opensearch.security.filter.SecurityFilter;
 import org.opensearch.security.filter.SecurityRestFilter;
+import org.opensearch.security.hasher.Argon2PasswordHasher;
+import org.opensearch.security.hasher.BCryptPasswordHasher;
+import org.opensearch.security.hasher.PBKDF2PasswordHasher;
+import org.opensearch.security.hasher.PasswordHashers;
+import org.opensearch.security.http.BlockedClientRejectionHandler;
 import org.opensearch.security.http.SecurityHttpServerTransport;
 import org.opensearch.security.http.SecurityNonSslHttpServerTransport;
 import org.opensearch.security.http.XFFResolver;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
 import org.opensearch.security.privileges.PrivilegesInterceptor;
 import org.opensearch.security.privileges.RestLayerPrivilegesEvaluator;
+import org.opensearch.security.resolver.IndexAbstractionNameIndex;
 import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.rest.DashboardsInfoAction;
 import org.opensearch.security.rest.SecurityConfigUpdateAction;
 import org.opensearch.security.rest.SecurityHealthAction;
 import org.opensearch.security.rest.SecurityInfoAction;
+import org.opensearch.security.rest.SecurityStatsAction;
 import org.opensearch.security.rest.SecurityWhoAmIAction;
 import org.opensearch.security.rest.TenantInfoAction;
 import org.opensearch.security.securityconf.DynamicConfigFactory;
@@ -170,6 +178,7 @@ import org.opensearch.security.support.HeaderHelper;
 import org.opensearch.security.support.ModuleInfo;
 import org.opensearch.security.support.ReflectionHelper;
 import org.opensearch.security.support.SecuritySettings;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.support.SecurityUtils;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.transport.DefaultInterClusterRequestEvaluator;
@@ -215,6 +224,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
     private static volatile DiscoveryNode localNode;
     private volatile AuditLog auditLog;
     private volatile BackendRegistry backendRegistry;
+    private volatile XFFResolver xffResolver;
     private volatile SslExceptionHandler sslExceptionHandler;
     private volatile Client localClient;
     private final boolean disabled;
@@ -244,6 +254,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         if (auditLog != null) {
             auditLog.close();
         }
+        SecurityStats.removeNode(settings);
     }
 
     private final SslExceptionHandler evaluateSslExceptionHandler() {
@@ -495,6 +506,9 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     new SecurityInfoAction(settings, restController, Objects.requireNonNull(evaluator), Objects.requireNonNull(threadPool))
                 );
                 handlers.add(new SecurityHealthAction(settings, restController, Objects.requireNonNull(backendRegistry)));
+                handlers.add(
+                    new SecurityStatsAction(settings, restController, Objects.requireNonNull(threadPool), Objects.requireNonNull(adminDns))
+                );
                 handlers.add(
                     new DashboardsInfoAction(
                         settings,
@@ -857,6 +871,18 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         }
 
         if (!disabled) {
+            final BlockedClientRejectionHandler blockedClientRejectionHandler = settings.getAsBoolean(
+                ConfigConstants.SECURITY_HTTP_REJECT_BLOCKED_CLIENTS_EARLY,
+                false
+            ) ? new BlockedClientRejectionHandler(SecurityStats.forNode(settings), address -> {
+                final BackendRegistry registry = backendRegistry;
+                final XFFResolver xffResolver = this.xffResolver;
+                // clients behind a trusted proxy are rejected by the BackendRegistry after their address is resolved
+                return registry != null
+                    && registry.isBlocked(address)
+                    && (xffResolver == null || !xffResolver.isInternalProxy(address));
+            }, !httpSSLEnabled) : null;
+
             if (!client && httpSSLEnabled) {
 
                 final ValidatingDispatcher validatingDispatcher = new ValidatingDispatcher(
@@ -877,7 +903,8 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     xContentRegistry,
                     validatingDispatcher,
                     clusterSettings,
-                    sharedGroupFactory
+                    sharedGroupFactory,
+                    blockedClientRejectionHandler
                 );
 
                 return Collections.singletonMap("org.opensearch.security.http.SecurityHttpServerTransport", () -> odshst);
@@ -892,7 +919,8 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                         xContentRegistry,
                         dispatcher,
                         clusterSettings,
-                        sharedGroupFactory
+                        sharedGroupFactory,
+                        blockedClientRejectionHandler
                     )
                 );
             }
@@ -950,7 +978,9 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         this.salt = Salt.from(settings);
 
         final IndexNameExpressionResolver resolver = new IndexNameExpressionResolver(threadPool.getThreadContext());
-        irr = new IndexResolverReplacer(resolver, clusterService, cih);
+        final IndexAbstractionNameIndex nameIndex = new IndexAbstractionNameIndex();
+        this.cs.addListener(nameIndex);
+        irr = new IndexResolverReplacer(resolver, clusterService, cih, nameIndex);
 
         final String DEFAULT_INTERCLUSTER_REQUEST_EVALUATOR_CLASS = DefaultInterClusterRequestEvaluator.class.getName();
         InterClusterRequestEvaluator interClusterRequestEvaluator = new DefaultInterClusterRequestEvaluator(settings);
@@ -992,7 +1022,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
 
         userService = new UserService(cs, cr, settings, localClient);
 
-        final XFFResolver xffResolver = new XFFResolver(threadPool);
+        xffResolver = new XFFResolver(threadPool);
         backendRegistry = new BackendRegistry(settings, adminDns, xffResolver, auditLog, threadPool);
 
         final CompatConfig compatConfig = new CompatConfig(environment, transportPassiveAuthSetting);
@@ -1036,7 +1066,15 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             compatConfig
         );
 
-        final DynamicConfigFactory dcf = new DynamicConfigFactory(cr, settings, configPath, localClient, threadPool, cih);
+        final DynamicConfigFactory dcf = new DynamicConfigFactory(
+            cr,
+            settings,
+            configPath,
+            localClient,
+            threadPool,
+            cih,
+            irr.getIndexOrdinals()
+        );
         dcf.registerDCFListener(backendRegistry);
         dcf.registerDCFListener(compatConfig);
         dcf.registerDCFListener(irr);
@@ -1044,6 +1082,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         dcf.registerDCFListener(evaluator);
         dcf.registerDCFListener(restLayerEvaluator);
         dcf.registerDCFListener(securityRestHandler);
+        dcf.setPasswordRehashHandler(userService::rehashPassword);
         if (!(auditLog instanceof NullAuditLog)) {
             // Don't register if advanced modules is disabled in which case auditlog is instance of NullAuditLog
             dcf.registerDCFListener(auditLog);
@@ -1221,6 +1260,130 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_DISABLED, false, Property.NodeScope, Property.Filtered));
 
             settings.add(Setting.intSetting(ConfigConstants.SECURITY_CACHE_TTL_MINUTES, 60, 0, Property.NodeScope, Property.Filtered));
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_INTERNAL_AUTH_HASHING_THREADS,
+                    InternalAuthenticationBackend.DEFAULT_HASHING_THREADS,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_INTERNAL_AUTH_HASHING_QUEUE_SIZE,
+                    100,
+                    1,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_INTERNAL_AUTH_VERDICT_CACHE_SIZE,
+                    1000,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.simpleString(
+                    ConfigConstants.SECURITY_PASSWORD_HASHING_ALGORITHM,
+                    PasswordHashers.BCRYPT,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_PASSWORD_HASHING_BCRYPT_ROUNDS,
+                    PasswordHashers.DEFAULT_BCRYPT_ROUNDS,
+                    4,
+                    BCryptPasswordHasher.MAX_ROUNDS,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_PASSWORD_HASHING_PBKDF2_ITERATIONS,
+                    PasswordHashers.DEFAULT_PBKDF2_ITERATIONS,
+                    1,
+                    PBKDF2PasswordHasher.MAX_ITERATIONS,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_MEMORY_KB,
+                    PasswordHashers.DEFAULT_ARGON2_MEMORY_KB,
+                    8,
+                    Argon2PasswordHasher.MAX_MEMORY_KB,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_ITERATIONS,
+                    PasswordHashers.DEFAULT_ARGON2_ITERATIONS,
+                    1,
+                    Argon2PasswordHasher.MAX_ITERATIONS,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_PARALLELISM,
+                    PasswordHashers.DEFAULT_ARGON2_PARALLELISM,
+                    1,
+                    Argon2PasswordHasher.MAX_PARALLELISM,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.boolSetting(
+                    ConfigConstants.SECURITY_PASSWORD_HASHING_REHASH_ON_LOGIN,
+                    false,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_PASSWORD_HASHING_REHASH_INTERVAL_SECONDS,
+                    30,
+                    1,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.boolSetting(ConfigConstants.SECURITY_AUTHZ_PARALLEL_ENABLED, false, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUTHZ_PARALLEL_THREADS, 4, 1, Property.NodeScope, Property.Filtered));
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_AUTHZ_PARALLEL_QUEUE_SIZE, 100, 1, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.longSetting(ConfigConstants.SECURITY_AUTHZ_PARALLEL_TIMEOUT_MS, 5000L, 1L, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.longSetting(
+                    ConfigConstants.SECURITY_AUTHC_NEGATIVE_CACHE_TTL_SECONDS,
+                    0L,
+                    0L,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_AUTHC_NEGATIVE_CACHE_SIZE, 10000, 1, Property.NodeScope, Property.Filtered)
+            );
 
             // Security
             settings.add(
@@ -1265,6 +1428,66 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     Property.Filtered
                 )
             );
+            settings.add(Setting.simpleString(ConfigConstants.SECURITY_AUDIT_SPOOL_PATH, Property.NodeScope, Property.Filtered));
+            settings.add(
+                Setting.longSetting(
+                    ConfigConstants.SECURITY_AUDIT_SPOOL_MAX_SIZE_BYTES,
+                    256L * 1024 * 1024,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_AUDIT_SPOOL_SEGMENT_SIZE_BYTES,
+                    16 * 1024 * 1024,
+                    4096,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.boolSetting(ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_ENABLED, false, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_THREADS, 2, 1, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_QUEUE_SIZE,
+                    10000,
+                    1,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.simpleString(
+                    ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_POLICY,
+                    "fallback",
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.doubleSetting(
+                    ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_SAMPLE_RATE,
+                    0.1,
+                    0.0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.longSetting(
+                    ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_BLOCK_TIMEOUT_MS,
+                    1000,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
             settings.add(
                 Setting.boolSetting(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY, true, Property.NodeScope, Property.Filtered)
             );
@@ -1761,6 +1984,24 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(
                 Setting.boolSetting(ConfigConstants.SECURITY_UNSUPPORTED_ALLOW_NOW_IN_DLS, false, Property.NodeScope, Property.Filtered)
             );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS,
+                    10,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_SIZE,
+                    10000,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
             settings.add(
                 Setting.boolSetting(
                     ConfigConstants.SECURITY_UNSUPPORTED_RESTAPI_ALLOW_SECURITYCONFIG_MODIFICATION,
@@ -1775,6 +2016,14 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(
                 Setting.boolSetting(ConfigConstants.SECURITY_SSL_CERT_RELOAD_ENABLED, false, Property.NodeScope, Property.Filtered)
             );
+            settings.add(
+                Setting.boolSetting(
+                    ConfigConstants.SECURITY_HTTP_REJECT_BLOCKED_CLIENTS_EARLY,
+                    false,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
             settings.add(
                 Setting.boolSetting(
                     ConfigConstants.SECURITY_UNSUPPORTED_ACCEPT_INVALID_CONFIG,
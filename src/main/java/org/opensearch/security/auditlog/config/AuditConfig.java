@@ -15,6 +15,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -142,6 +143,12 @@ public class AuditConfig {
         private final WildcardMatcher ignoredAuditRequestsMatcher;
         private final Set<AuditCategory> disabledRestCategories;
         private final Set<AuditCategory> disabledTransportCategories;
+        // decisions compiled from the settings above, so that filtered events are dropped without further work
+        private final boolean[] restCategoryEnabled = new boolean[AuditCategory.values().length];
+        private final boolean[] transportCategoryEnabled = new boolean[AuditCategory.values().length];
+        private final DecisionCache ignoredUsers;
+        private final DecisionCache ignoredActions;
+        private final Map<Class<?>, Boolean> ignoredRequestClasses = new ConcurrentHashMap<>();
 
         @VisibleForTesting
         Filter(
@@ -168,6 +175,14 @@ public class AuditConfig {
             this.ignoredAuditRequestsMatcher = WildcardMatcher.from(ignoredAuditRequests);
             this.disabledRestCategories = disabledRestCategories;
             this.disabledTransportCategories = disabledTransportCategories;
+            this.ignoredUsers = new DecisionCache(ignoredAuditUsersMatcher);
+            this.ignoredActions = new DecisionCache(ignoredAuditRequestsMatcher);
+
+            for (AuditCategory category : AuditCategory.values()) {
+                restCategoryEnabled[category.ordinal()] = isRestApiAuditEnabled && !disabledRestCategories.contains(category);
+                transportCategoryEnabled[category.ordinal()] = isTransportApiAuditEnabled
+                    && !disabledTransportCategories.contains(category);
+            }
         }
 
         public enum FilterEntries {
@@ -395,7 +410,7 @@ public class AuditConfig {
          * @return true if user is excluded from audit logging
          */
         public boolean isAuditDisabled(String user) {
-            return ignoredAuditUsersMatcher.test(user);
+            return ignoredUsers.test(user);
         }
 
         @VisibleForTesting
@@ -409,7 +424,38 @@ public class AuditConfig {
          * @return true if request action is excluded from audit
          */
         public boolean isRequestAuditDisabled(String action) {
-            return ignoredAuditRequestsMatcher.test(action);
+            return ignoredActions.test(action);
+        }
+
+        /**
+         * Check if requests of the given type are excluded from audit
+         * @param requestClass
+         * @return true if the simple name of the request class is excluded from audit logging
+         */
+        public boolean isRequestAuditDisabled(Class<?> requestClass) {
+            if (ignoredAuditRequestsMatcher == WildcardMatcher.NONE) {
+                return false;
+            }
+            return ignoredRequestClasses.computeIfAbsent(requestClass, c -> ignoredAuditRequestsMatcher.test(c.getSimpleName()));
+        }
+
+        /**
+         * Checks if the category is audited for the REST API, that is REST auditing is enabled and the category is not disabled
+         * @param category
+         * @return true/false
+         */
+        public boolean isRestCategoryEnabled(AuditCategory category) {
+            return restCategoryEnabled[category.ordinal()];
+        }
+
+        /**
+         * Checks if the category is audited for the Transport API, that is Transport auditing is enabled and the category
+         * is not disabled
+         * @param category
+         * @return true/false
+         */
+        public boolean isTransportCategoryEnabled(AuditCategory category) {
+            return transportCategoryEnabled[category.ordinal()];
         }
 
         /**
@@ -467,6 +513,38 @@ public class AuditConfig {
                 + ignoredAuditRequestsMatcher
                 + '}';
         }
+
+        /**
+         * Remembers the results of a matcher for the values seen so far. The number of remembered values is bounded
+         * as user names are not, values beyond the bound are matched every time.
+         */
+        private static final class DecisionCache {
+            private static final int MAX_SIZE = 4096;
+
+            private final WildcardMatcher matcher;
+            private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+            private DecisionCache(WildcardMatcher matcher) {
+                this.matcher = matcher;
+            }
+
+            boolean test(String value) {
+                if (value == null || matcher == WildcardMatcher.NONE) {
+                    return matcher.test(value);
+                }
+
+                final Boolean decision = decisions.get(value);
+                if (decision != null) {
+                    return decision;
+                }
+
+                final boolean matches = matcher.test(value);
+                if (decisions.size() < MAX_SIZE) {
+                    decisions.put(value, matches);
+                }
+                return matches;
+            }
+        }
     }
 
     /**
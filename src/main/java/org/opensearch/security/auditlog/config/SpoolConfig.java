@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.google.common.base.Strings;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.Environment;
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * Configuration of the disk spool which takes the audit messages the async storage pool cannot accept.
+ * The spool is disabled if no path is configured. The path must be within a data path of the node, a relative
+ * path is resolved against the first data path.
+ */
+public class SpoolConfig {
+    private static final long DEFAULT_MAX_SIZE_BYTES = 256L * 1024 * 1024;
+    private static final int DEFAULT_SEGMENT_SIZE_BYTES = 16 * 1024 * 1024;
+
+    public static final SpoolConfig DISABLED = new SpoolConfig(null, DEFAULT_MAX_SIZE_BYTES, DEFAULT_SEGMENT_SIZE_BYTES);
+
+    private final Path path;
+    private final long maxSizeBytes;
+    private final int segmentSizeBytes;
+
+    public SpoolConfig(Path path, long maxSizeBytes, int segmentSizeBytes) {
+        if (segmentSizeBytes <= 0) {
+            throw new IllegalArgumentException("Incorrect segment size: " + segmentSizeBytes + " configured for the audit spool.");
+        }
+
+        if (maxSizeBytes < segmentSizeBytes) {
+            throw new IllegalArgumentException(
+                "Incorrect max size: " + maxSizeBytes + " configured for the audit spool, must not be smaller than the segment size."
+            );
+        }
+
+        this.path = path;
+        this.maxSizeBytes = maxSizeBytes;
+        this.segmentSizeBytes = segmentSizeBytes;
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    public int getSegmentSizeBytes() {
+        return segmentSizeBytes;
+    }
+
+    public static SpoolConfig getConfig(Settings settings) {
+        final String path = settings.get(ConfigConstants.SECURITY_AUDIT_SPOOL_PATH);
+        final long maxSizeBytes = settings.getAsLong(ConfigConstants.SECURITY_AUDIT_SPOOL_MAX_SIZE_BYTES, DEFAULT_MAX_SIZE_BYTES);
+        final int segmentSizeBytes = settings.getAsInt(ConfigConstants.SECURITY_AUDIT_SPOOL_SEGMENT_SIZE_BYTES, DEFAULT_SEGMENT_SIZE_BYTES);
+
+        return new SpoolConfig(Strings.isNullOrEmpty(path) ? null : resolve(path, settings), maxSizeBytes, segmentSizeBytes);
+    }
+
+    private static Path resolve(String path, Settings settings) {
+        final Path[] dataPaths = new Environment(settings, null).dataFiles();
+        final Path resolved = dataPaths[0].resolve(Paths.get(path)).toAbsolutePath().normalize();
+
+        for (Path dataPath : dataPaths) {
+            final Path normalized = dataPath.toAbsolutePath().normalize();
+            if (resolved.startsWith(normalized) && !resolved.equals(normalized)) {
+                return resolved;
+            }
+        }
+
+        throw new IllegalArgumentException(
+            "Incorrect path: " + path + " configured for the audit spool, must be a directory within the data path of the node."
+        );
+    }
+}
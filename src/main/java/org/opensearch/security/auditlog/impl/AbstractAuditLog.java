@@ -205,17 +205,22 @@ public abstract class AbstractAuditLog implements AuditLog {
     public void logMissingPrivileges(String privilege, TransportRequest request, Task task) {
         final String action = null;
 
-        if (!checkTransportFilter(AuditCategory.MISSING_PRIVILEGES, privilege, getUser(), request)) {
+        if (!auditConfigFilter.isTransportCategoryEnabled(AuditCategory.MISSING_PRIVILEGES)) {
+            return;
+        }
+
+        final String effectiveUser = getUser();
+        if (!checkTransportFilter(AuditCategory.MISSING_PRIVILEGES, privilege, effectiveUser, request)) {
             return;
         }
 
         final TransportAddress remoteAddress = getRemoteAddress();
-        final List<AuditMessage> msgs = RequestResolver.resolve(
+        final Iterable<AuditMessage> msgs = RequestResolver.resolve(
             AuditCategory.MISSING_PRIVILEGES,
             getOrigin(),
             action,
             privilege,
-            getUser(),
+            effectiveUser,
             null,
             null,
             remoteAddress,
@@ -242,17 +247,22 @@ public abstract class AbstractAuditLog implements AuditLog {
     public void logGrantedPrivileges(String privilege, TransportRequest request, Task task) {
         final String action = null;
 
-        if (!checkTransportFilter(AuditCategory.GRANTED_PRIVILEGES, privilege, getUser(), request)) {
+        if (!auditConfigFilter.isTransportCategoryEnabled(AuditCategory.GRANTED_PRIVILEGES)) {
+            return;
+        }
+
+        final String effectiveUser = getUser();
+        if (!checkTransportFilter(AuditCategory.GRANTED_PRIVILEGES, privilege, effectiveUser, request)) {
             return;
         }
 
         final TransportAddress remoteAddress = getRemoteAddress();
-        final List<AuditMessage> msgs = RequestResolver.resolve(
+        final Iterable<AuditMessage> msgs = RequestResolver.resolve(
             AuditCategory.GRANTED_PRIVILEGES,
             getOrigin(),
             action,
             privilege,
-            getUser(),
+            effectiveUser,
             null,
             null,
             remoteAddress,
@@ -277,7 +287,12 @@ public abstract class AbstractAuditLog implements AuditLog {
 
     @Override
     public void logIndexEvent(String privilege, TransportRequest request, Task task) {
-        if (!checkTransportFilter(AuditCategory.INDEX_EVENT, privilege, getUser(), request)) {
+        if (!auditConfigFilter.isTransportCategoryEnabled(AuditCategory.INDEX_EVENT)) {
+            return;
+        }
+
+        final String effectiveUser = getUser();
+        if (!checkTransportFilter(AuditCategory.INDEX_EVENT, privilege, effectiveUser, request)) {
             return;
         }
         // log only cluster admin action
@@ -285,12 +300,12 @@ public abstract class AbstractAuditLog implements AuditLog {
             return;
         }
         final TransportAddress remoteAddress = getRemoteAddress();
-        final List<AuditMessage> msgs = RequestResolver.resolve(
+        final Iterable<AuditMessage> msgs = RequestResolver.resolve(
             AuditCategory.INDEX_EVENT,
             getOrigin(),
             null,
             privilege,
-            getUser(),
+            effectiveUser,
             null,
             null,
             remoteAddress,
@@ -314,17 +329,22 @@ public abstract class AbstractAuditLog implements AuditLog {
     @Override
     public void logBadHeaders(TransportRequest request, String action, Task task) {
 
-        if (!checkTransportFilter(AuditCategory.BAD_HEADERS, action, getUser(), request)) {
+        if (!auditConfigFilter.isTransportCategoryEnabled(AuditCategory.BAD_HEADERS)) {
+            return;
+        }
+
+        final String effectiveUser = getUser();
+        if (!checkTransportFilter(AuditCategory.BAD_HEADERS, action, effectiveUser, request)) {
             return;
         }
 
         final TransportAddress remoteAddress = getRemoteAddress();
-        final List<AuditMessage> msgs = RequestResolver.resolve(
+        final Iterable<AuditMessage> msgs = RequestResolver.resolve(
             AuditCategory.BAD_HEADERS,
             getOrigin(),
             action,
             null,
-            getUser(),
+            effectiveUser,
             null,
             null,
             remoteAddress,
@@ -366,17 +386,22 @@ public abstract class AbstractAuditLog implements AuditLog {
     @Override
     public void logSecurityIndexAttempt(TransportRequest request, String action, Task task) {
 
-        if (!checkTransportFilter(AuditCategory.OPENDISTRO_SECURITY_INDEX_ATTEMPT, action, getUser(), request)) {
+        if (!auditConfigFilter.isTransportCategoryEnabled(AuditCategory.OPENDISTRO_SECURITY_INDEX_ATTEMPT)) {
+            return;
+        }
+
+        final String effectiveUser = getUser();
+        if (!checkTransportFilter(AuditCategory.OPENDISTRO_SECURITY_INDEX_ATTEMPT, action, effectiveUser, request)) {
             return;
         }
 
         final TransportAddress remoteAddress = getRemoteAddress();
-        final List<AuditMessage> msgs = RequestResolver.resolve(
+        final Iterable<AuditMessage> msgs = RequestResolver.resolve(
             AuditCategory.OPENDISTRO_SECURITY_INDEX_ATTEMPT,
             getOrigin(),
             action,
             null,
-            getUser(),
+            effectiveUser,
             false,
             null,
             remoteAddress,
@@ -402,18 +427,23 @@ public abstract class AbstractAuditLog implements AuditLog {
     @Override
     public void logSSLException(TransportRequest request, Throwable t, String action, Task task) {
 
-        if (!checkTransportFilter(AuditCategory.SSL_EXCEPTION, action, getUser(), request)) {
+        if (!auditConfigFilter.isTransportCategoryEnabled(AuditCategory.SSL_EXCEPTION)) {
+            return;
+        }
+
+        final String effectiveUser = getUser();
+        if (!checkTransportFilter(AuditCategory.SSL_EXCEPTION, action, effectiveUser, request)) {
             return;
         }
 
         final TransportAddress remoteAddress = getRemoteAddress();
 
-        final List<AuditMessage> msgs = RequestResolver.resolve(
+        final Iterable<AuditMessage> msgs = RequestResolver.resolve(
             AuditCategory.SSL_EXCEPTION,
             Origin.TRANSPORT,
             action,
             null,
-            getUser(),
+            effectiveUser,
             false,
             null,
             remoteAddress,
@@ -807,7 +837,10 @@ public abstract class AbstractAuditLog implements AuditLog {
             );
         }
 
-        if (!auditConfigFilter.isTransportApiAuditEnabled()) {
+        if (!auditConfigFilter.isTransportCategoryEnabled(category)) {
+            if (isTraceEnabled) {
+                log.trace("Skipped audit log message because category {} not enabled", category);
+            }
             return false;
         }
 
@@ -826,8 +859,7 @@ public abstract class AbstractAuditLog implements AuditLog {
         }
 
         if (request != null
-            && (auditConfigFilter.isRequestAuditDisabled(action)
-                || auditConfigFilter.isRequestAuditDisabled(request.getClass().getSimpleName()))) {
+            && (auditConfigFilter.isRequestAuditDisabled(action) || auditConfigFilter.isRequestAuditDisabled(request.getClass()))) {
 
             if (isTraceEnabled) {
                 log.trace("Skipped audit log message because request {} is ignored", action + "#" + request.getClass().getSimpleName());
@@ -836,21 +868,7 @@ public abstract class AbstractAuditLog implements AuditLog {
             return false;
         }
 
-        if (!auditConfigFilter.getDisabledTransportCategories().contains(category)) {
-            return true;
-        } else {
-            if (isTraceEnabled) {
-                log.trace("Skipped audit log message because category {} not enabled", category);
-            }
-            return false;
-        }
-
-        // skip internal:*
-        // check transport audit enabled
-        // check category enabled
-        // check action
-        // check ignoreAuditUsers
-
+        return true;
     }
 
     private boolean checkComplianceFilter(
@@ -907,7 +925,10 @@ public abstract class AbstractAuditLog implements AuditLog {
             );
         }
 
-        if (!auditConfigFilter.isRestApiAuditEnabled()) {
+        if (!auditConfigFilter.isRestCategoryEnabled(category)) {
+            if (isTraceEnabled) {
+                log.trace("Skipped audit log message because category {} not enabled", category);
+            }
             return false;
         }
 
@@ -929,19 +950,7 @@ public abstract class AbstractAuditLog implements AuditLog {
             return false;
         }
 
-        if (!auditConfigFilter.getDisabledRestCategories().contains(category)) {
-            return true;
-        } else {
-            if (isTraceEnabled) {
-                log.trace("Skipped audit log message because category {} not enabled", category);
-            }
-            return false;
-        }
-
-        // check rest audit enabled
-        // check category enabled
-        // check action
-        // check ignoreAuditUsers
+        return true;
     }
 
     protected abstract void save(final AuditMessage msg);
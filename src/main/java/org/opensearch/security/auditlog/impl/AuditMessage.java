@@ -16,31 +16,37 @@ import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.hc.core5.net.URIBuilder;
-import org.joda.time.DateTime;
-import org.joda.time.DateTimeZone;
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
 
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.security.auditlog.AuditLog.Operation;
@@ -120,77 +126,194 @@ public final class AuditMessage {
     public static final String COMPLIANCE_OPERATION = "audit_compliance_operation";
     public static final String COMPLIANCE_DOC_VERSION = "audit_compliance_doc_version";
 
-    private static final DateTimeFormatter DEFAULT_FORMAT = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZZ");
-    private final Map<String, Object> auditInfo = new HashMap<String, Object>(50);
+    private static final DateTimeFormatter DEFAULT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSxxx", Locale.ROOT)
+        .withZone(ZoneOffset.UTC);
+
+    /**
+     * Per thread buffer the messages are encoded into; it shrinks back to a single page when it is reset
+     */
+    private static final ThreadLocal<BytesStreamOutput> ENCODING_BUFFER = ThreadLocal.withInitial(BytesStreamOutput::new);
+
+    /**
+     * The fields of an audit message, in the order in which they are serialized
+     */
+    enum Field {
+        FORMAT_VERSION(AuditMessage.FORMAT_VERSION),
+        CATEGORY(AuditMessage.CATEGORY),
+        UTC_TIMESTAMP(AuditMessage.UTC_TIMESTAMP),
+        NODE_ID(AuditMessage.NODE_ID),
+        NODE_NAME(AuditMessage.NODE_NAME),
+        NODE_HOST_ADDRESS(AuditMessage.NODE_HOST_ADDRESS),
+        NODE_HOST_NAME(AuditMessage.NODE_HOST_NAME),
+        CLUSTER_NAME(AuditMessage.CLUSTER_NAME),
+        REQUEST_LAYER(AuditMessage.REQUEST_LAYER),
+        ORIGIN(AuditMessage.ORIGIN),
+        REMOTE_ADDRESS(AuditMessage.REMOTE_ADDRESS),
+        REQUEST_EFFECTIVE_USER(AuditMessage.REQUEST_EFFECTIVE_USER),
+        REQUEST_INITIATING_USER(AuditMessage.REQUEST_INITIATING_USER),
+        IS_ADMIN_DN(AuditMessage.IS_ADMIN_DN),
+        PRIVILEGE(AuditMessage.PRIVILEGE),
+        REST_REQUEST_PATH(AuditMessage.REST_REQUEST_PATH),
+        REST_REQUEST_PARAMS(AuditMessage.REST_REQUEST_PARAMS),
+        REST_REQUEST_HEADERS(AuditMessage.REST_REQUEST_HEADERS),
+        REST_REQUEST_METHOD(AuditMessage.REST_REQUEST_METHOD),
+        TRANSPORT_REQUEST_TYPE(AuditMessage.TRANSPORT_REQUEST_TYPE),
+        TRANSPORT_ACTION(AuditMessage.TRANSPORT_ACTION),
+        TRANSPORT_REQUEST_HEADERS(AuditMessage.TRANSPORT_REQUEST_HEADERS),
+        ID(AuditMessage.ID),
+        INDICES(AuditMessage.INDICES),
+        SHARD_ID(AuditMessage.SHARD_ID),
+        RESOLVED_INDICES(AuditMessage.RESOLVED_INDICES),
+        TASK_ID(AuditMessage.TASK_ID),
+        TASK_PARENT_ID(AuditMessage.TASK_PARENT_ID),
+        EXCEPTION(AuditMessage.EXCEPTION),
+        REQUEST_BODY(AuditMessage.REQUEST_BODY),
+        COMPLIANCE_OPERATION(AuditMessage.COMPLIANCE_OPERATION),
+        COMPLIANCE_DOC_VERSION(AuditMessage.COMPLIANCE_DOC_VERSION),
+        COMPLIANCE_DIFF_IS_NOOP(AuditMessage.COMPLIANCE_DIFF_IS_NOOP),
+        COMPLIANCE_DIFF_CONTENT(AuditMessage.COMPLIANCE_DIFF_CONTENT),
+        COMPLIANCE_FILE_INFOS(AuditMessage.COMPLIANCE_FILE_INFOS);
+
+        private static final Map<String, Field> BY_KEY = Arrays.stream(values())
+            .collect(Collectors.toMap(field -> field.key, field -> field));
+
+        private final String key;
+
+        Field(String key) {
+            this.key = key;
+        }
+
+        String getKey() {
+            return key;
+        }
+    }
+
+    private final EnumMap<Field, Object> fields = new EnumMap<>(Field.class);
     private final AuditCategory msgCategory;
+    // the JSON encoding which is shared by all sinks, reset whenever a field changes
+    private volatile BytesReference json;
 
     public AuditMessage(final AuditCategory msgCategory, final ClusterService clusterService, final Origin origin, final Origin layer) {
         this.msgCategory = Objects.requireNonNull(msgCategory);
-        final String currentTime = currentTime();
-        auditInfo.put(FORMAT_VERSION, 4);
-        auditInfo.put(CATEGORY, Objects.requireNonNull(msgCategory));
-        auditInfo.put(UTC_TIMESTAMP, currentTime);
-        auditInfo.put(NODE_HOST_ADDRESS, Objects.requireNonNull(clusterService).localNode().getHostAddress());
-        auditInfo.put(NODE_ID, Objects.requireNonNull(clusterService).localNode().getId());
-        auditInfo.put(NODE_HOST_NAME, Objects.requireNonNull(clusterService).localNode().getHostName());
-        auditInfo.put(NODE_NAME, Objects.requireNonNull(clusterService).localNode().getName());
-        auditInfo.put(CLUSTER_NAME, Objects.requireNonNull(clusterService).getClusterName().value());
+        put(Field.FORMAT_VERSION, 4);
+        put(Field.CATEGORY, Objects.requireNonNull(msgCategory));
+        // formatted when the message is serialized
+        put(Field.UTC_TIMESTAMP, System.currentTimeMillis());
+        put(Field.NODE_HOST_ADDRESS, Objects.requireNonNull(clusterService).localNode().getHostAddress());
+        put(Field.NODE_ID, Objects.requireNonNull(clusterService).localNode().getId());
+        put(Field.NODE_HOST_NAME, Objects.requireNonNull(clusterService).localNode().getHostName());
+        put(Field.NODE_NAME, Objects.requireNonNull(clusterService).localNode().getName());
+        put(Field.CLUSTER_NAME, Objects.requireNonNull(clusterService).getClusterName().value());
 
         if (origin != null) {
-            auditInfo.put(ORIGIN, origin);
+            put(Field.ORIGIN, origin);
         }
 
         if (layer != null) {
-            auditInfo.put(REQUEST_LAYER, layer);
+            put(Field.REQUEST_LAYER, layer);
         }
     }
 
+    private AuditMessage(final AuditCategory msgCategory, final Map<String, Object> auditInfo) {
+        this.msgCategory = msgCategory;
+        for (Entry<String, Object> entry : auditInfo.entrySet()) {
+            final Field field = Field.BY_KEY.get(entry.getKey());
+            if (field != null && entry.getValue() != null) {
+                fields.put(field, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Recreates a message from the parsed JSON of {@link #toJson()}, e.g. after it was spooled to disk.
+     * Enum values are restored, so that the getters of the message work as for the original message.
+     */
+    public static AuditMessage fromMap(final Map<String, Object> map) {
+        final Map<String, Object> auditInfo = new HashMap<>(map);
+        final AuditCategory category = AuditCategory.valueOf(String.valueOf(map.get(CATEGORY)));
+        auditInfo.put(CATEGORY, category);
+        restoreEnum(auditInfo, ORIGIN, Origin.class);
+        restoreEnum(auditInfo, REQUEST_LAYER, Origin.class);
+        restoreEnum(auditInfo, REST_REQUEST_METHOD, RestRequest.Method.class);
+        restoreEnum(auditInfo, COMPLIANCE_OPERATION, Operation.class);
+        return new AuditMessage(category, auditInfo);
+    }
+
+    private static <E extends Enum<E>> void restoreEnum(Map<String, Object> auditInfo, String key, Class<E> enumClass) {
+        final Object value = auditInfo.get(key);
+        if (value instanceof String) {
+            auditInfo.put(key, Enum.valueOf(enumClass, (String) value));
+        }
+    }
+
+    private void put(final Field field, final Object value) {
+        fields.put(field, value);
+        json = null;
+    }
+
+    /**
+     * @return the value as it is exposed by {@link #getAsMap()} and serialized
+     */
+    private Object get(final Field field) {
+        final Object value = fields.get(field);
+
+        if (value instanceof Long && field == Field.UTC_TIMESTAMP) {
+            return formatTime((Long) value);
+        }
+
+        if (value instanceof RawRequestBody) {
+            return ((RawRequestBody) value).toJsonString();
+        }
+
+        return value;
+    }
+
     public void addRemoteAddress(TransportAddress remoteAddress) {
         if (remoteAddress != null && remoteAddress.getAddress() != null) {
-            auditInfo.put(REMOTE_ADDRESS, remoteAddress.getAddress());
+            put(Field.REMOTE_ADDRESS, remoteAddress.getAddress());
         }
     }
 
     public void addIsAdminDn(boolean isAdminDn) {
-        auditInfo.put(IS_ADMIN_DN, isAdminDn);
+        put(Field.IS_ADMIN_DN, isAdminDn);
     }
 
     public void addException(Throwable t) {
         if (t != null) {
-            auditInfo.put(EXCEPTION, ExceptionsHelper.stackTrace(t));
+            put(Field.EXCEPTION, ExceptionsHelper.stackTrace(t));
         }
     }
 
     public void addPrivilege(String priv) {
         if (priv != null) {
-            auditInfo.put(PRIVILEGE, priv);
+            put(Field.PRIVILEGE, priv);
         }
     }
 
     public void addInitiatingUser(String user) {
         if (user != null) {
-            auditInfo.put(REQUEST_INITIATING_USER, user);
+            put(Field.REQUEST_INITIATING_USER, user);
         }
     }
 
     public void addEffectiveUser(String user) {
         if (user != null) {
-            auditInfo.put(REQUEST_EFFECTIVE_USER, user);
+            put(Field.REQUEST_EFFECTIVE_USER, user);
         }
     }
 
     public void addPath(String path) {
         if (path != null) {
-            auditInfo.put(REST_REQUEST_PATH, path);
+            put(Field.REST_REQUEST_PATH, path);
         }
     }
 
     public void addComplianceWriteDiffSource(String diff) {
         if (diff != null && !diff.isEmpty()) {
-            auditInfo.put(COMPLIANCE_DIFF_CONTENT, diff);
-            auditInfo.put(COMPLIANCE_DIFF_IS_NOOP, false);
+            put(Field.COMPLIANCE_DIFF_CONTENT, diff);
+            put(Field.COMPLIANCE_DIFF_IS_NOOP, false);
         } else if (diff != null && diff.isEmpty()) {
-            auditInfo.put(COMPLIANCE_DIFF_IS_NOOP, true);
+            put(Field.COMPLIANCE_DIFF_IS_NOOP, true);
         }
     }
 
@@ -205,25 +328,24 @@ public final class AuditMessage {
     // }
     // }
 
+    /**
+     * Keeps a copy of the request body, which is converted to JSON once when the message is serialized or read
+     */
     public void addTupleToRequestBody(Tuple<XContentType, BytesReference> xContentTuple) {
-        if (xContentTuple != null) {
-            try {
-                auditInfo.put(REQUEST_BODY, XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()));
-            } catch (Exception e) {
-                auditInfo.put(REQUEST_BODY, "ERROR: Unable to convert to json because of " + e.toString());
-            }
+        if (xContentTuple != null && xContentTuple.v2() != null) {
+            put(Field.REQUEST_BODY, new RawRequestBody(xContentTuple.v1(), xContentTuple.v2()));
         }
     }
 
     public void addMapToRequestBody(Map<String, ?> map) {
         if (map != null) {
-            auditInfo.put(REQUEST_BODY, Utils.convertStructuredMapToJson(map));
+            put(Field.REQUEST_BODY, Utils.convertStructuredMapToJson(map));
         }
     }
 
     public void addUnescapedJsonToRequestBody(String source) {
         if (source != null) {
-            auditInfo.put(REQUEST_BODY, source);
+            put(Field.REQUEST_BODY, source);
         }
     }
 
@@ -237,7 +359,7 @@ public final class AuditMessage {
     void addSecurityConfigContentToRequestBody(final String source, final String id) {
         if (source != null) {
             final String redactedContent = redactSecurityConfigContent(source, id);
-            auditInfo.put(REQUEST_BODY, redactedContent);
+            put(Field.REQUEST_BODY, redactedContent);
         }
     }
 
@@ -246,7 +368,7 @@ public final class AuditMessage {
             try {
                 addSecurityConfigContentToRequestBody(XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()), id);
             } catch (Exception e) {
-                auditInfo.put(REQUEST_BODY, "ERROR: Unable to convert to json");
+                put(Field.REQUEST_BODY, "ERROR: Unable to convert to json");
             }
         }
     }
@@ -259,19 +381,19 @@ public final class AuditMessage {
 
     public void addRequestType(String requestType) {
         if (requestType != null) {
-            auditInfo.put(TRANSPORT_REQUEST_TYPE, requestType);
+            put(Field.TRANSPORT_REQUEST_TYPE, requestType);
         }
     }
 
     public void addAction(String action) {
         if (action != null) {
-            auditInfo.put(TRANSPORT_ACTION, action);
+            put(Field.TRANSPORT_ACTION, action);
         }
     }
 
     public void addId(String id) {
         if (id != null) {
-            auditInfo.put(ID, id);
+            put(Field.ID, id);
         }
     }
 
@@ -307,48 +429,48 @@ public final class AuditMessage {
                     // ignore non readable files
                 }
             }
-            auditInfo.put(COMPLIANCE_FILE_INFOS, infos);
+            put(Field.COMPLIANCE_FILE_INFOS, infos);
         }
     }
 
     /*public void addSource(Map<String, String> source) {
         if (source != null && !source.isEmpty()) {
-            auditInfo.put(REQUEST_BODY, source);
+            put(Field.REQUEST_BODY, source);
         }
     }*/
 
     public void addIndices(String[] indices) {
         if (indices != null && indices.length > 0) {
-            auditInfo.put(INDICES, indices);
+            put(Field.INDICES, indices);
         }
 
     }
 
     public void addResolvedIndices(String[] resolvedIndices) {
         if (resolvedIndices != null && resolvedIndices.length > 0) {
-            auditInfo.put(RESOLVED_INDICES, resolvedIndices);
+            put(Field.RESOLVED_INDICES, resolvedIndices);
         }
     }
 
     public void addTaskId(long id) {
-        auditInfo.put(TASK_ID, auditInfo.get(NODE_ID) + ":" + id);
+        put(Field.TASK_ID, get(Field.NODE_ID) + ":" + id);
     }
 
     public void addShardId(ShardId id) {
         if (id != null) {
-            auditInfo.put(SHARD_ID, id.getId());
+            put(Field.SHARD_ID, id.getId());
         }
     }
 
     public void addTaskParentId(String id) {
         if (id != null) {
-            auditInfo.put(TASK_PARENT_ID, id);
+            put(Field.TASK_PARENT_ID, id);
         }
     }
 
     public void addRestParams(Map<String, String> params) {
         if (params != null && !params.isEmpty()) {
-            auditInfo.put(REST_REQUEST_PARAMS, new HashMap<>(params));
+            put(Field.REST_REQUEST_PARAMS, new HashMap<>(params));
         }
     }
 
@@ -358,13 +480,13 @@ public final class AuditMessage {
             if (excludeSensitiveHeaders) {
                 headersClone.keySet().removeIf(AUTHORIZATION_HEADER);
             }
-            auditInfo.put(REST_REQUEST_HEADERS, headersClone);
+            put(Field.REST_REQUEST_HEADERS, headersClone);
         }
     }
 
     void addRestMethod(final RestRequest.Method method) {
         if (method != null) {
-            auditInfo.put(REST_REQUEST_METHOD, method);
+            put(Field.REST_REQUEST_METHOD, method);
         }
     }
 
@@ -383,12 +505,12 @@ public final class AuditMessage {
                         && requestBody != null
                         && SENSITIVE_PATHS.matcher(path).matches()
                         && requestBody.contains(SENSITIVE_KEY)) {
-                        auditInfo.put(REQUEST_BODY, SENSITIVE_REPLACEMENT_VALUE);
+                        put(Field.REQUEST_BODY, SENSITIVE_REPLACEMENT_VALUE);
                     } else {
-                        auditInfo.put(REQUEST_BODY, requestBody);
+                        put(Field.REQUEST_BODY, requestBody);
                     }
                 } catch (IOException e) {
-                    auditInfo.put(REQUEST_BODY, "ERROR: Unable to generate request body");
+                    put(Field.REQUEST_BODY, "ERROR: Unable to generate request body");
                 }
             }
         }
@@ -400,38 +522,42 @@ public final class AuditMessage {
             if (excludeSensitiveHeaders) {
                 headersClone.keySet().removeIf(AUTHORIZATION_HEADER);
             }
-            auditInfo.put(TRANSPORT_REQUEST_HEADERS, headersClone);
+            put(Field.TRANSPORT_REQUEST_HEADERS, headersClone);
         }
     }
 
     public void addComplianceOperation(Operation op) {
         if (op != null) {
-            auditInfo.put(COMPLIANCE_OPERATION, op);
+            put(Field.COMPLIANCE_OPERATION, op);
         }
     }
 
     public void addComplianceDocVersion(long version) {
-        auditInfo.put(COMPLIANCE_DOC_VERSION, version);
+        put(Field.COMPLIANCE_DOC_VERSION, version);
     }
 
     public Map<String, Object> getAsMap() {
-        return new HashMap<>(this.auditInfo);
+        final Map<String, Object> map = new HashMap<>(fields.size() * 2);
+        for (Field field : fields.keySet()) {
+            map.put(field.getKey(), get(field));
+        }
+        return map;
     }
 
     public String getInitiatingUser() {
-        return (String) this.auditInfo.get(REQUEST_INITIATING_USER);
+        return (String) get(Field.REQUEST_INITIATING_USER);
     }
 
     public String getEffectiveUser() {
-        return (String) this.auditInfo.get(REQUEST_EFFECTIVE_USER);
+        return (String) get(Field.REQUEST_EFFECTIVE_USER);
     }
 
     public String getRequestType() {
-        return (String) this.auditInfo.get(TRANSPORT_REQUEST_TYPE);
+        return (String) get(Field.TRANSPORT_REQUEST_TYPE);
     }
 
     public RestRequest.Method getRequestMethod() {
-        return (RestRequest.Method) this.auditInfo.get(REST_REQUEST_METHOD);
+        return (RestRequest.Method) get(Field.REST_REQUEST_METHOD);
     }
 
     public AuditCategory getCategory() {
@@ -439,41 +565,84 @@ public final class AuditMessage {
     }
 
     public Origin getOrigin() {
-        return (Origin) this.auditInfo.get(ORIGIN);
+        return (Origin) get(Field.ORIGIN);
     }
 
     public String getPrivilege() {
-        return (String) this.auditInfo.get(PRIVILEGE);
+        return (String) get(Field.PRIVILEGE);
     }
 
     public String getExceptionStackTrace() {
-        return (String) this.auditInfo.get(EXCEPTION);
+        return (String) get(Field.EXCEPTION);
     }
 
     public String getRequestBody() {
-        return (String) this.auditInfo.get(REQUEST_BODY);
+        return (String) get(Field.REQUEST_BODY);
     }
 
     public String getNodeId() {
-        return (String) this.auditInfo.get(NODE_ID);
+        return (String) get(Field.NODE_ID);
     }
 
     public String getDocId() {
-        return (String) this.auditInfo.get(ID);
+        return (String) get(Field.ID);
     }
 
-    @Override
-    public String toString() {
-        try {
-            return org.opensearch.common.Strings.toString(JsonXContent.contentBuilder().map(getAsMap()));
+    /**
+     * The JSON encoding of this message. It is encoded once and shared by all sinks, as long as the message
+     * is not modified anymore.
+     */
+    public BytesReference toJsonBytes() {
+        BytesReference result = json;
+
+        if (result == null) {
+            result = encode(XContentType.JSON);
+            json = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Encodes this message as JSON, CBOR or another xcontent type
+     */
+    public BytesReference toBytes(final XContentType xContentType) {
+        return xContentType == XContentType.JSON ? toJsonBytes() : encode(xContentType);
+    }
+
+    private BytesReference encode(final XContentType xContentType) {
+        final BytesStreamOutput buffer = ENCODING_BUFFER.get();
+        buffer.reset();
+
+        try (XContentBuilder builder = new XContentBuilder(xContentType.xContent(), buffer)) {
+            toXContent(builder);
         } catch (final IOException e) {
             throw ExceptionsHelper.convertToOpenSearchException(e);
         }
+
+        return new BytesArray(BytesReference.toBytes(buffer.bytes()));
+    }
+
+    private void toXContent(final XContentBuilder builder) throws IOException {
+        builder.startObject();
+
+        for (Field field : fields.keySet()) {
+            builder.field(field.getKey(), get(field));
+        }
+
+        builder.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return toJsonBytes().utf8ToString();
     }
 
     public String toPrettyString() {
         try {
-            return org.opensearch.common.Strings.toString(JsonXContent.contentBuilder().prettyPrint().map(getAsMap()));
+            final XContentBuilder builder = JsonXContent.contentBuilder().prettyPrint();
+            toXContent(builder);
+            return org.opensearch.common.Strings.toString(builder);
         } catch (final IOException e) {
             throw ExceptionsHelper.convertToOpenSearchException(e);
         }
@@ -508,14 +677,8 @@ public final class AuditMessage {
         }
     }
 
-    private String currentTime() {
-        DateTime dt = new DateTime(DateTimeZone.UTC);
-        return DEFAULT_FORMAT.print(dt);
-    }
-
-    private String formatTime(long epoch) {
-        DateTime dt = new DateTime(epoch, DateTimeZone.UTC);
-        return DEFAULT_FORMAT.print(dt);
+    private static String formatTime(long epoch) {
+        return DEFAULT_FORMAT.format(Instant.ofEpochMilli(epoch));
     }
 
     protected String stringOrNull(Object object) {
@@ -525,4 +688,34 @@ public final class AuditMessage {
 
         return String.valueOf(object);
     }
+
+    /**
+     * A request body which is converted to JSON when it is first needed instead of on the thread which audits
+     * the request. The bytes are copied, as the request might release its buffer before the message is stored.
+     */
+    private static final class RawRequestBody {
+        private final XContentType xContentType;
+        private final BytesReference bytes;
+        private volatile String json;
+
+        private RawRequestBody(final XContentType xContentType, final BytesReference bytes) {
+            this.xContentType = xContentType;
+            this.bytes = new BytesArray(BytesReference.toBytes(bytes));
+        }
+
+        private String toJsonString() {
+            String result = json;
+
+            if (result == null) {
+                try {
+                    result = XContentHelper.convertToJson(bytes, false, xContentType);
+                } catch (Exception e) {
+                    result = "ERROR: Unable to convert to json because of " + e.toString();
+                }
+                json = result;
+            }
+
+            return result;
+        }
+    }
 }
@@ -12,12 +12,12 @@
 package org.opensearch.security.auditlog.impl;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
@@ -63,7 +63,11 @@ public final class RequestResolver {
 
     private static final Logger log = LogManager.getLogger(RequestResolver.class);
 
-    public static List<AuditMessage> resolve(
+    /**
+     * Resolves the audit messages for a request. If bulk requests are resolved, the messages for the items of a
+     * bulk shard request are created one at a time while iterating, so that they need not all be held in memory.
+     */
+    public static Iterable<AuditMessage> resolve(
         final AuditCategory category,
         final Origin origin,
         final String action,
@@ -87,38 +91,49 @@ public final class RequestResolver {
     ) {
 
         if (resolveBulk && request instanceof BulkShardRequest) {
-            final BulkItemRequest[] innerRequests = ((BulkShardRequest) request).items();
-            final List<AuditMessage> messages = new ArrayList<AuditMessage>(innerRequests.length);
-
-            for (BulkItemRequest ar : innerRequests) {
-                final DocWriteRequest<?> innerRequest = ar.request();
-                final AuditMessage msg = resolveInner(
-                    category,
-                    effectiveUser,
-                    securityadmin,
-                    initiatingUser,
-                    remoteAddress,
-                    action,
-                    privilege,
-                    origin,
-                    innerRequest,
-                    headers,
-                    task,
-                    resolver,
-                    cs,
-                    settings,
-                    logRequestBody,
-                    resolveIndices,
-                    securityIndex,
-                    excludeSensitiveHeaders,
-                    exception
-                );
-                msg.addShardId(((BulkShardRequest) request).shardId());
-
-                messages.add(msg);
-            }
+            final BulkShardRequest bulkShardRequest = (BulkShardRequest) request;
+
+            return () -> new Iterator<AuditMessage>() {
+                private final BulkItemRequest[] innerRequests = bulkShardRequest.items();
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < innerRequests.length;
+                }
 
-            return messages;
+                @Override
+                public AuditMessage next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    final DocWriteRequest<?> innerRequest = innerRequests[next++].request();
+                    final AuditMessage msg = resolveInner(
+                        category,
+                        effectiveUser,
+                        securityadmin,
+                        initiatingUser,
+                        remoteAddress,
+                        action,
+                        privilege,
+                        origin,
+                        innerRequest,
+                        headers,
+                        task,
+                        resolver,
+                        cs,
+                        settings,
+                        logRequestBody,
+                        resolveIndices,
+                        securityIndex,
+                        excludeSensitiveHeaders,
+                        exception
+                    );
+                    msg.addShardId(bulkShardRequest.shardId());
+                    return msg;
+                }
+            };
         }
 
         if (request instanceof BulkShardRequest) {
@@ -11,6 +11,12 @@
 
 package org.opensearch.security.auditlog.routing;
 
+import java.nio.file.Files;
+import java.security.AccessController;
+import java.security.PrivilegedExceptionAction;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -19,17 +25,32 @@ import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import org.opensearch.SpecialPermission;
+import org.opensearch.security.auditlog.config.SpoolConfig;
 import org.opensearch.security.auditlog.config.ThreadPoolConfig;
 import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.auditlog.sink.AuditLogSink;
+import org.opensearch.security.support.SecurityStats;
 
 public class AsyncStoragePool {
     private static final Logger log = LogManager.getLogger(AsyncStoragePool.class);
     private final ExecutorService pool;
     private final ThreadPoolConfig threadPoolConfig;
+    private final SpoolConfig spoolConfig;
+    private final SecurityStats stats;
+    private final Map<String, AuditSpool> spools = new ConcurrentHashMap<>();
 
     public AsyncStoragePool(final ThreadPoolConfig threadPoolConfig) {
+        this(threadPoolConfig, SpoolConfig.DISABLED, null);
+    }
+
+    /**
+     * @param stats the stats of the node, used by the spools; may be null if spooling is disabled
+     */
+    public AsyncStoragePool(final ThreadPoolConfig threadPoolConfig, final SpoolConfig spoolConfig, final SecurityStats stats) {
         this.threadPoolConfig = threadPoolConfig;
+        this.spoolConfig = spoolConfig;
+        this.stats = stats;
         this.pool = createExecutor(threadPoolConfig);
     }
 
@@ -46,6 +67,12 @@ public class AsyncStoragePool {
                 }
             });
         } catch (Exception ex) {
+            if (spool(message, sink)) {
+                if (log.isTraceEnabled()) {
+                    log.trace("spooled message for delegate {}", sink.getClass().getSimpleName());
+                }
+                return;
+            }
             log.error(
                 "Could not submit audit message {} to thread pool for delegate '{}' due to '{}'",
                 message,
@@ -58,6 +85,50 @@ public class AsyncStoragePool {
         }
     }
 
+    /**
+     * @return true if the message was appended to the spool of the sink, false if spooling is disabled or the spool is full
+     */
+    boolean spool(AuditMessage message, AuditLogSink sink) {
+        final AuditSpool spool = spoolConfig.isEnabled() ? getSpool(sink) : null;
+        return spool != null && spool.append(message);
+    }
+
+    /**
+     * Opens the spools which were left behind by a previous run, so that their messages are delivered
+     */
+    public void recoverSpools(Collection<AuditLogSink> sinks) {
+        if (!spoolConfig.isEnabled()) {
+            return;
+        }
+
+        for (AuditLogSink sink : sinks) {
+            if (!sink.isHandlingBackpressure() && Files.isDirectory(spoolConfig.getPath().resolve(sink.getName()))) {
+                getSpool(sink);
+            }
+        }
+    }
+
+    private AuditSpool getSpool(AuditLogSink sink) {
+        return spools.computeIfAbsent(sink.getName(), name -> {
+            SpecialPermission.check();
+            try {
+                return AccessController.doPrivileged(
+                    (PrivilegedExceptionAction<AuditSpool>) () -> new AuditSpool(
+                        name,
+                        spoolConfig.getPath().resolve(name),
+                        spoolConfig.getMaxSizeBytes(),
+                        spoolConfig.getSegmentSizeBytes(),
+                        stats,
+                        sink::store
+                    )
+                );
+            } catch (Exception e) {
+                log.error("Unable to open audit spool for delegate '{}'", name, e);
+                return null;
+            }
+        });
+    }
+
     private static ThreadPoolExecutor createExecutor(final ThreadPoolConfig config) {
         if (log.isDebugEnabled()) {
             log.debug(
@@ -94,5 +165,9 @@ public class AsyncStoragePool {
                 Thread.currentThread().interrupt();
             }
         }
+
+        // undelivered messages stay on disk and are delivered after the next start
+        spools.values().forEach(AuditSpool::close);
+        spools.clear();
     }
 }
@@ -13,6 +13,7 @@ package org.opensearch.security.auditlog.routing;
 
 import java.nio.file.Path;
 import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +25,7 @@ import org.apache.logging.log4j.Logger;
 
 import org.opensearch.client.Client;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.config.SpoolConfig;
 import org.opensearch.security.auditlog.config.ThreadPoolConfig;
 import org.opensearch.security.auditlog.impl.AuditCategory;
 import org.opensearch.security.auditlog.impl.AuditMessage;
@@ -31,6 +33,7 @@ import org.opensearch.security.auditlog.sink.AuditLogSink;
 import org.opensearch.security.auditlog.sink.SinkProvider;
 import org.opensearch.security.dlic.rest.support.Utils;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.threadpool.ThreadPool;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -42,16 +45,24 @@ public class AuditMessageRouter {
     volatile Map<AuditCategory, List<AuditLogSink>> categorySinks;
     final SinkProvider sinkProvider;
     final AsyncStoragePool storagePool;
+    // sinks which do not handle backpressure get their own executor if enabled, otherwise they share the storage pool
+    final Map<AuditLogSink, SinkExecutor> sinkExecutors = new IdentityHashMap<>();
 
     public AuditMessageRouter(final Settings settings, final Client clientProvider, ThreadPool threadPool, final Path configPath) {
         this(
             new SinkProvider(settings, clientProvider, threadPool, configPath),
-            new AsyncStoragePool(ThreadPoolConfig.getConfig(settings))
+            new AsyncStoragePool(ThreadPoolConfig.getConfig(settings), SpoolConfig.getConfig(settings), SecurityStats.forNode(settings)),
+            settings
         );
     }
 
     @VisibleForTesting
     public AuditMessageRouter(SinkProvider sinkProvider, AsyncStoragePool storagePool) {
+        this(sinkProvider, storagePool, Settings.EMPTY);
+    }
+
+    @VisibleForTesting
+    AuditMessageRouter(SinkProvider sinkProvider, AsyncStoragePool storagePool, Settings settings) {
         this.sinkProvider = sinkProvider;
         this.storagePool = storagePool;
 
@@ -59,6 +70,16 @@ public class AuditMessageRouter {
         this.defaultSink = sinkProvider.getDefaultSink();
         if (defaultSink == null) {
             log.warn("No default storage available, audit log may not work properly. Please check configuration.");
+        } else {
+            storagePool.recoverSpools(sinkProvider.getSinks());
+
+            if (settings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_ENABLED, false)) {
+                for (AuditLogSink sink : sinkProvider.getSinks()) {
+                    if (!sink.isHandlingBackpressure()) {
+                        sinkExecutors.put(sink, SinkExecutor.create(sink, settings, msg -> storagePool.spool(msg, sink)));
+                    }
+                }
+            }
         }
     }
 
@@ -84,7 +105,8 @@ public class AuditMessageRouter {
 
     public final void close() {
         log.info("Closing {}", getClass().getSimpleName());
-        // shutdown storage pool
+        // store queued messages and shutdown storage pool
+        sinkExecutors.values().forEach(SinkExecutor::close);
         storagePool.close();
         // close default
         sinkProvider.close();
@@ -181,7 +203,12 @@ public class AuditMessageRouter {
                 log.trace("stored on sink {} synchronously", sink.getClass().getSimpleName());
             }
         } else {
-            storagePool.submit(msg, sink);
+            final SinkExecutor sinkExecutor = sinkExecutors.get(sink);
+            if (sinkExecutor != null) {
+                sinkExecutor.submit(msg);
+            } else {
+                storagePool.submit(msg, sink);
+            }
             if (isTraceEnabled) {
                 log.trace("will store on sink {} asynchronously", sink.getClass().getSimpleName());
             }
@@ -0,0 +1,495 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.SpecialPermission;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.SecurityStats;
+
+/**
+ * An append-only log of audit messages in memory-mapped segment files of a fixed size, which takes the messages
+ * a sink cannot keep up with. A single drainer thread delivers the spooled messages to the sink in the order
+ * they were appended.
+ *
+ * The position of the drainer is stored in a memory-mapped offset file after each delivered message, so the
+ * spooled messages survive a restart of the node and are delivered at least once. Segments are deleted once
+ * they were drained. The total size of all segments is bounded; messages which do not fit are rejected.
+ *
+ * Segments are only synced to disk when the spool switches to a new segment and when it is closed, as a sync
+ * per message would cost more than the sink the spool relieves. A crash of the operating system or a power
+ * loss can therefore lose the messages appended to the current segment since then, and messages which were
+ * drained since the last sync of the offset file are delivered again.
+ *
+ * Each record consists of the payload length, the CRC32 of the payload, the time the message was spooled and
+ * the JSON of the message. A length of 0 marks the end of the data in a segment.
+ */
+final class AuditSpool implements Closeable {
+
+    private static final Logger log = LogManager.getLogger(AuditSpool.class);
+    private static final int HEADER_SIZE = 16;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String OFFSET_FILE = "offset";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Consumer<AuditMessage> consumer;
+    private final Object lock = new Object();
+
+    // guarded by lock
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private Segment writeSegment;
+    private int writePosition;
+    private boolean closed;
+
+    // only accessed by the drainer thread once it was started
+    private Segment readSegment;
+    private int readPosition;
+
+    private final FileChannel offsetChannel;
+    private final MappedByteBuffer offsetBuffer;
+    private final AtomicLong pendingRecords = new AtomicLong();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private volatile long headTimestamp;
+    private final SecurityStats stats;
+    private final String statsPrefix;
+    private final LongAdder spooledRecords;
+    private final LongAdder rejectedRecords;
+    private final LongAdder drainErrors;
+    private final Thread drainer;
+
+    AuditSpool(String name, Path directory, long maxSizeBytes, int segmentSize, SecurityStats stats, Consumer<AuditMessage> consumer)
+        throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = (int) Math.max(1, maxSizeBytes / segmentSize);
+        this.consumer = consumer;
+
+        Files.createDirectories(directory);
+        this.offsetChannel = FileChannel.open(
+            directory.resolve(OFFSET_FILE),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        this.offsetBuffer = offsetChannel.map(FileChannel.MapMode.READ_WRITE, 0, 16);
+        recover();
+
+        this.stats = stats;
+        this.statsPrefix = "audit.spool." + name + ".";
+        this.spooledRecords = stats.counter(statsPrefix + "spooled");
+        this.rejectedRecords = stats.counter(statsPrefix + "rejected");
+        this.drainErrors = stats.counter(statsPrefix + "drain_errors");
+        stats.gauge(statsPrefix + "queue_depth", pendingRecords::get);
+        stats.gauge(statsPrefix + "bytes_spooled", pendingBytes::get);
+        stats.gauge(statsPrefix + "drain_lag_ms", this::drainLagMillis);
+
+        this.drainer = new Thread(this::drain, "opensearch-security-audit-spool-" + name);
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * Opens the existing segments, starting at the committed offset, and finds the end of the valid data
+     */
+    private void recover() throws IOException {
+        final long committedSequence = offsetBuffer.getLong(0);
+        final long committedPosition = offsetBuffer.getLong(8);
+
+        final TreeMap<Long, Path> files = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (Path file : stream) {
+                final String fileName = file.getFileName().toString();
+                try {
+                    files.put(Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length())), file);
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring unexpected file {} in audit spool", file);
+                }
+            }
+        }
+
+        for (Map.Entry<Long, Path> file : files.entrySet()) {
+            if (file.getKey() < committedSequence) {
+                // was drained, but not deleted before the node stopped
+                Files.deleteIfExists(file.getValue());
+            } else {
+                segments.put(file.getKey(), Segment.open(file.getValue(), file.getKey(), segmentSize));
+            }
+        }
+
+        if (segments.isEmpty()) {
+            final long sequence = Math.max(0, committedSequence);
+            segments.put(sequence, Segment.open(segmentPath(sequence), sequence, segmentSize));
+        }
+
+        readSegment = segments.firstEntry().getValue();
+        readPosition = readSegment.sequence == committedSequence ? (int) Math.min(committedPosition, segmentSize) : 0;
+        writeSegment = segments.lastEntry().getValue();
+
+        for (Segment segment : segments.values()) {
+            int position = segment == readSegment ? readPosition : 0;
+            int length;
+
+            while ((length = validRecordLength(segment.buffer, position, segmentSize)) > 0) {
+                pendingRecords.incrementAndGet();
+                pendingBytes.addAndGet(HEADER_SIZE + length);
+                position += HEADER_SIZE + length;
+            }
+
+            if (segment == writeSegment) {
+                writePosition = position;
+                // a partially written record might have been left behind, which must not be read as data later on
+                final ByteBuffer buffer = segment.buffer.duplicate();
+                final byte[] zeros = new byte[8192];
+                buffer.position(position);
+                while (buffer.hasRemaining()) {
+                    buffer.put(zeros, 0, Math.min(zeros.length, buffer.remaining()));
+                }
+            }
+        }
+
+        if (pendingRecords.get() > 0) {
+            log.info("Recovered {} audit messages from spool {}", pendingRecords.get(), directory);
+        }
+    }
+
+    /**
+     * @return the payload length of the valid record at the position or 0 if there is no valid record
+     */
+    private static int validRecordLength(MappedByteBuffer buffer, int position, int limit) {
+        if (limit - position < HEADER_SIZE) {
+            return 0;
+        }
+
+        final int length = buffer.getInt(position);
+
+        if (length <= 0 || length > limit - position - HEADER_SIZE) {
+            return 0;
+        }
+
+        return crc(buffer, position + HEADER_SIZE, length) == buffer.getInt(position + 4) ? length : 0;
+    }
+
+    private static int crc(MappedByteBuffer buffer, int offset, int length) {
+        final ByteBuffer payload = buffer.duplicate();
+        payload.position(offset).limit(offset + length);
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * @return false if the message was not spooled because the spool is full or closed
+     */
+    boolean append(AuditMessage msg) {
+        final byte[] payload = BytesReference.toBytes(msg.toJsonBytes());
+        final int recordSize = HEADER_SIZE + payload.length;
+
+        if (recordSize > segmentSize) {
+            log.error("Audit message of {} bytes exceeds the spool segment size of {} bytes", recordSize, segmentSize);
+            rejectedRecords.increment();
+            return false;
+        }
+
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        synchronized (lock) {
+            if (closed) {
+                return false;
+            }
+
+            if (writePosition + recordSize > segmentSize) {
+                if (segments.size() >= maxSegments) {
+                    rejectedRecords.increment();
+                    return false;
+                }
+
+                try {
+                    final long sequence = writeSegment.sequence + 1;
+                    writeSegment.buffer.force();
+                    writeSegment = Segment.open(segmentPath(sequence), sequence, segmentSize);
+                    segments.put(sequence, writeSegment);
+                    writePosition = 0;
+                } catch (IOException e) {
+                    log.error("Unable to create audit spool segment in {}", directory, e);
+                    rejectedRecords.increment();
+                    return false;
+                }
+            }
+
+            final MappedByteBuffer buffer = writeSegment.buffer;
+            final ByteBuffer payloadBuffer = buffer.duplicate();
+            payloadBuffer.position(writePosition + HEADER_SIZE);
+            payloadBuffer.put(payload);
+            buffer.putInt(writePosition + 4, (int) crc.getValue());
+            buffer.putLong(writePosition + 8, System.currentTimeMillis());
+            // the length is written last, so that an incomplete record is never considered valid
+            buffer.putInt(writePosition, payload.length);
+            writePosition += recordSize;
+
+            pendingRecords.incrementAndGet();
+            pendingBytes.addAndGet(recordSize);
+            spooledRecords.increment();
+            lock.notifyAll();
+        }
+
+        return true;
+    }
+
+    private void drain() {
+        try {
+            drainRecords();
+        } catch (RuntimeException e) {
+            // messages are no longer accepted, so that they are stored in the fallback sink instead
+            log.error("Audit spool {} stopped draining, the spooled messages are delivered after a restart", directory, e);
+            drainErrors.increment();
+            synchronized (lock) {
+                closed = true;
+            }
+        }
+    }
+
+    private void drainRecords() {
+        while (true) {
+            final Segment segment;
+            final int limit;
+
+            synchronized (lock) {
+                while (!closed && readSegment == writeSegment && readPosition >= writePosition) {
+                    headTimestamp = 0;
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+
+                if (closed) {
+                    return;
+                }
+
+                segment = readSegment;
+                // the lock makes the records up to the write position visible to this thread
+                limit = segment == writeSegment ? writePosition : segmentSize;
+            }
+
+            final int length = validRecordLength(segment.buffer, readPosition, limit);
+
+            if (length == 0) {
+                if (limit - readPosition >= HEADER_SIZE && segment.buffer.getInt(readPosition) != 0) {
+                    log.error("Skipping corrupted audit spool segment {} at position {}", segment.path, readPosition);
+                }
+                nextSegment();
+                continue;
+            }
+
+            headTimestamp = segment.buffer.getLong(readPosition + 8);
+            deliver(segment, readPosition + HEADER_SIZE, length);
+            readPosition += HEADER_SIZE + length;
+            commitOffset();
+            pendingRecords.decrementAndGet();
+            pendingBytes.addAndGet(-(HEADER_SIZE + length));
+        }
+    }
+
+    private void deliver(Segment segment, int offset, int length) {
+        final byte[] payload = new byte[length];
+        final ByteBuffer buffer = segment.buffer.duplicate();
+        buffer.position(offset);
+        buffer.get(payload);
+
+        try {
+            final Map<String, Object> map = XContentHelper.convertToMap(new BytesArray(payload), false, XContentType.JSON).v2();
+            consumer.accept(AuditMessage.fromMap(map));
+        } catch (Exception e) {
+            log.error("Unable to deliver spooled audit message from {}", directory, e);
+            drainErrors.increment();
+        }
+    }
+
+    /**
+     * Moves the drainer to the next segment and deletes the drained one. Must only be called if there is a next
+     * segment or the current segment is corrupted.
+     */
+    private void nextSegment() {
+        final Segment drained = readSegment;
+        final Segment next;
+
+        synchronized (lock) {
+            if (drained == writeSegment) {
+                // corrupted data in the segment which is written to, continue writing into a new segment
+                final long sequence = drained.sequence + 1;
+                try {
+                    writeSegment = Segment.open(segmentPath(sequence), sequence, segmentSize);
+                } catch (IOException e) {
+                    log.error("Unable to create audit spool segment in {}, the spool stops draining", directory, e);
+                    drainErrors.increment();
+                    closed = true;
+                    return;
+                }
+                segments.put(sequence, writeSegment);
+                writePosition = 0;
+            }
+
+            segments.remove(drained.sequence);
+            next = segments.firstEntry().getValue();
+        }
+
+        readSegment = next;
+        readPosition = 0;
+        commitOffset();
+        offsetBuffer.force();
+        drained.delete();
+    }
+
+    private void commitOffset() {
+        // a crash between both writes leads to redelivery, but never skips records
+        offsetBuffer.putLong(8, readPosition);
+        offsetBuffer.putLong(0, readSegment.sequence);
+    }
+
+    private long drainLagMillis() {
+        final long timestamp = headTimestamp;
+        return timestamp == 0 ? 0 : Math.max(0, System.currentTimeMillis() - timestamp);
+    }
+
+    long getPendingRecords() {
+        return pendingRecords.get();
+    }
+
+    long getDrainErrors() {
+        return drainErrors.sum();
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format(Locale.ROOT, "%020d%s", sequence, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Stops the drainer; messages which are not delivered yet stay in the spool and are delivered after a restart
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+
+        try {
+            drainer.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (lock) {
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+        }
+
+        offsetBuffer.force();
+        try {
+            offsetChannel.close();
+        } catch (IOException e) {
+            log.warn("Unable to close audit spool offset file in {}", directory, e);
+        }
+
+        stats.removeGauge(statsPrefix + "queue_depth");
+        stats.removeGauge(statsPrefix + "bytes_spooled");
+        stats.removeGauge(statsPrefix + "drain_lag_ms");
+    }
+
+    private static final class Segment {
+        private final long sequence;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        private Segment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private static Segment open(Path path, long sequence, int size) throws IOException {
+            SpecialPermission.check();
+            try {
+                // new segments are opened on the threads which audit a request
+                return AccessController.doPrivileged((PrivilegedExceptionAction<Segment>) () -> {
+                    final FileChannel channel = FileChannel.open(
+                        path,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE
+                    );
+                    try {
+                        // extends a new file to the segment size, the new bytes are zero
+                        return new Segment(sequence, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+                    } catch (IOException e) {
+                        channel.close();
+                        throw e;
+                    }
+                });
+            } catch (PrivilegedActionException e) {
+                throw (IOException) e.getException();
+            }
+        }
+
+        private void close() {
+            buffer.force();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Unable to close audit spool segment {}", path, e);
+            }
+        }
+
+        private void delete() {
+            try {
+                channel.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Unable to delete audit spool segment {}", path, e);
+            }
+        }
+    }
+}
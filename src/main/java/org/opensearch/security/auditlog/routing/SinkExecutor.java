@@ -0,0 +1,273 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.AuditLogSink;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
+
+/**
+ * A bounded queue with its own worker threads for a single sink, so that a slow sink cannot delay the messages
+ * of the other sinks. What happens with a message when the queue is full is determined by the {@link Policy}.
+ * Messages which are spilled are appended to the disk spool of the sink if spooling is enabled, otherwise or if
+ * the spool is full they are stored in the fallback sink.
+ */
+final class SinkExecutor {
+
+    private static final Logger log = LogManager.getLogger(SinkExecutor.class);
+
+    enum Policy {
+        /** waits up to the block timeout for space in the queue, then spills the message */
+        BLOCK,
+        /** removes the oldest queued message to make room */
+        DROP_OLDEST,
+        /** drops the new message */
+        DROP_NEWEST,
+        /** spills the new message on the calling thread */
+        FALLBACK,
+        /** once the queue is half full, only accepts the configured fraction of messages */
+        SAMPLE;
+
+        static Policy parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final AuditLogSink sink;
+    private final BlockingQueue<Task> queue;
+    private final int queueSize;
+    private final Policy policy;
+    private final double sampleRate;
+    private final long blockTimeoutMs;
+    private final Predicate<AuditMessage> spool;
+    private final List<Thread> workers = new ArrayList<>();
+    private final SecurityStats stats;
+    private final String statsPrefix;
+    private final LongAdder dropped;
+    private final LongAdder spilled;
+    private final SecurityStats.Histogram latency;
+    private volatile boolean closed;
+
+    SinkExecutor(
+        AuditLogSink sink,
+        int threads,
+        int queueSize,
+        Policy policy,
+        double sampleRate,
+        long blockTimeoutMs,
+        Predicate<AuditMessage> spool,
+        SecurityStats stats
+    ) {
+        this.sink = sink;
+        this.queueSize = queueSize;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.policy = policy;
+        this.sampleRate = sampleRate;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.spool = spool;
+
+        this.stats = stats;
+        this.statsPrefix = "audit.sink." + sink.getName() + ".";
+        this.dropped = stats.counter(statsPrefix + "dropped");
+        this.spilled = stats.counter(statsPrefix + "spilled_to_fallback");
+        this.latency = stats.histogram(statsPrefix + "latency");
+        stats.gauge(statsPrefix + "queue_depth", queue::size);
+
+        for (int i = 0; i < threads; i++) {
+            final Thread worker = new Thread(this::work, "opensearch-security-audit-sink-" + sink.getName() + "-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Creates the executor with the settings of plugins.security.audit.sink_executors, which can be overridden
+     * by the executor settings of the sink
+     *
+     * @param spool appends a spilled message to the disk spool of the sink, returns false if it was not spooled
+     */
+    static SinkExecutor create(AuditLogSink sink, Settings settings, Predicate<AuditMessage> spool) {
+        final Settings sinkSettings = sink.getSinkSettings();
+        final int threads = sinkSettings.getAsInt(
+            ConfigConstants.SECURITY_AUDIT_SINK_EXECUTOR_THREADS,
+            settings.getAsInt(ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_THREADS, 2)
+        );
+        final int queueSize = sinkSettings.getAsInt(
+            ConfigConstants.SECURITY_AUDIT_SINK_EXECUTOR_QUEUE_SIZE,
+            settings.getAsInt(ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_QUEUE_SIZE, 10000)
+        );
+        final String policy = sinkSettings.get(
+            ConfigConstants.SECURITY_AUDIT_SINK_EXECUTOR_POLICY,
+            settings.get(ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_POLICY, "fallback")
+        );
+        final double sampleRate = sinkSettings.getAsDouble(
+            ConfigConstants.SECURITY_AUDIT_SINK_EXECUTOR_SAMPLE_RATE,
+            settings.getAsDouble(ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_SAMPLE_RATE, 0.1)
+        );
+        final long blockTimeoutMs = sinkSettings.getAsLong(
+            ConfigConstants.SECURITY_AUDIT_SINK_EXECUTOR_BLOCK_TIMEOUT_MS,
+            settings.getAsLong(ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_BLOCK_TIMEOUT_MS, 1000L)
+        );
+
+        if (threads <= 0 || queueSize <= 0) {
+            throw new IllegalArgumentException(
+                "Incorrect executor configuration for audit sink " + sink.getName() + ": threads and queue size must be positive"
+            );
+        }
+
+        return new SinkExecutor(
+            sink,
+            threads,
+            queueSize,
+            Policy.parse(policy),
+            sampleRate,
+            blockTimeoutMs,
+            spool,
+            SecurityStats.forNode(settings)
+        );
+    }
+
+    void submit(AuditMessage msg) {
+        final Task task = new Task(msg);
+
+        if (closed) {
+            spill(msg);
+            return;
+        }
+
+        switch (policy) {
+            case BLOCK:
+                if (!offer(task, blockTimeoutMs)) {
+                    spill(msg);
+                }
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(task)) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+                break;
+            case DROP_NEWEST:
+                if (!queue.offer(task)) {
+                    dropped.increment();
+                }
+                break;
+            case SAMPLE:
+                if ((queue.size() >= queueSize / 2 && ThreadLocalRandom.current().nextDouble() >= sampleRate) || !queue.offer(task)) {
+                    dropped.increment();
+                }
+                break;
+            default:
+                if (!queue.offer(task)) {
+                    spill(msg);
+                }
+        }
+    }
+
+    private boolean offer(Task task, long timeoutMs) {
+        try {
+            return queue.offer(task, timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void spill(AuditMessage msg) {
+        if (spool.test(msg)) {
+            return;
+        }
+
+        spilled.increment();
+        if (sink.getFallbackSink() != null) {
+            sink.getFallbackSink().store(msg);
+        }
+    }
+
+    private void work() {
+        while (!closed || !queue.isEmpty()) {
+            final Task task;
+
+            try {
+                task = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (task == null) {
+                continue;
+            }
+
+            try {
+                sink.store(task.msg);
+            } catch (Exception e) {
+                log.error("Unable to store audit message in sink {}", sink.getName(), e);
+            }
+
+            latency.recordSince(task.enqueuedNanos);
+        }
+    }
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Stores the queued messages and stops the workers
+     */
+    void close() {
+        closed = true;
+
+        for (Thread worker : workers) {
+            try {
+                worker.join(60_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        Task task;
+        while ((task = queue.poll()) != null) {
+            spill(task.msg);
+        }
+
+        stats.removeGauge(statsPrefix + "queue_depth");
+    }
+
+    private static final class Task {
+        private final AuditMessage msg;
+        private final long enqueuedNanos = System.nanoTime();
+
+        private Task(AuditMessage msg) {
+            this.msg = msg;
+        }
+    }
+}
@@ -58,12 +58,28 @@ public abstract class AuditLogSink {
         return fallbackSink;
     }
 
+    /**
+     * The settings of this sink, relative to its settings prefix
+     */
+    public Settings getSinkSettings() {
+        return settingsPrefix != null ? settings.getAsSettings(settingsPrefix) : Settings.EMPTY;
+    }
+
     public final void store(AuditMessage msg) {
         if (!doStoreWithRetry(msg) && !fallbackSink.doStoreWithRetry(msg)) {
             System.err.println(msg.toPrettyString());
         }
     }
 
+    /**
+     * Stores a message which this sink accepted but could not deliver in the fallback sink
+     */
+    protected final void storeInFallback(AuditMessage msg) {
+        if (fallbackSink == null || !fallbackSink.doStoreWithRetry(msg)) {
+            System.err.println(msg.toPrettyString());
+        }
+    }
+
     private boolean doStoreWithRetry(AuditMessage msg) {
         // retryCount of 0 means no retry (which is: try exactly once) - delayMs is ignored
         // retryCount of 1 means: try and if this fails wait delayMs and try once again
@@ -0,0 +1,364 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
+
+/**
+ * Collects audit messages in a bounded queue and sends them as bulk requests, once the configured number of
+ * messages or bytes is reached or the flush interval elapsed. At most max_in_flight_requests bulk requests
+ * are sent concurrently; if the external cluster is slow, the queue fills up and further messages are
+ * rejected instead of blocking the threads writing audit messages.
+ *
+ * Items which failed with a retryable status (429, 5xx) or whose bulk request failed as a whole are retried
+ * with exponential backoff. Items which failed permanently are handed to the failure handler.
+ */
+final class BulkAuditMessageSender implements Closeable {
+
+    private static final Logger log = LogManager.getLogger(BulkAuditMessageSender.class);
+
+    private final BiConsumer<BulkRequest, ActionListener<BulkResponse>> bulkClient;
+    private final Consumer<AuditMessage> failureHandler;
+    private final int maxActions;
+    private final long maxSizeBytes;
+    private final int maxRetries;
+    private final long retryDelayMs;
+    private final int maxInFlight;
+    private final BlockingQueue<Item> queue;
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Semaphore inFlight;
+    private final ScheduledExecutorService scheduler;
+    private final SecurityStats stats;
+    private final String statsPrefix;
+    private final LongAdder sentItems;
+    private final LongAdder retriedItems;
+    private final LongAdder failedItems;
+    private final LongAdder rejectedItems;
+    private final SecurityStats.Histogram bulkLatency;
+    private volatile boolean closed;
+
+    BulkAuditMessageSender(
+        String name,
+        Settings sinkSettings,
+        SecurityStats stats,
+        BiConsumer<BulkRequest, ActionListener<BulkResponse>> bulkClient,
+        Consumer<AuditMessage> failureHandler
+    ) {
+        this.bulkClient = bulkClient;
+        this.failureHandler = failureHandler;
+        this.maxActions = sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_MAX_ACTIONS, 500);
+        this.maxSizeBytes = sinkSettings.getAsLong(
+            ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_MAX_SIZE_BYTES,
+            5L * 1024 * 1024
+        );
+        this.maxRetries = sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_MAX_RETRIES, 3);
+        this.retryDelayMs = sinkSettings.getAsLong(ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_RETRY_DELAY_MS, 500L);
+        this.maxInFlight = Math.max(1, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_MAX_IN_FLIGHT, 2));
+        this.queue = new ArrayBlockingQueue<>(
+            Math.max(1, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_MAX_QUEUE_SIZE, 10000))
+        );
+        this.inFlight = new Semaphore(maxInFlight);
+
+        final long flushIntervalMs = sinkSettings.getAsLong(
+            ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_FLUSH_INTERVAL_MS,
+            1000L
+        );
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "opensearch-security-audit-bulk-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::scheduledFlush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+
+        this.stats = stats;
+        this.statsPrefix = "audit.sink." + name + ".bulk.";
+        this.sentItems = stats.counter(statsPrefix + "sent_items");
+        this.retriedItems = stats.counter(statsPrefix + "retried_items");
+        this.failedItems = stats.counter(statsPrefix + "failed_items");
+        this.rejectedItems = stats.counter(statsPrefix + "rejected_items");
+        this.bulkLatency = stats.histogram(statsPrefix + "latency");
+        stats.gauge(statsPrefix + "queue_size", queue::size);
+    }
+
+    /**
+     * @return false if the message was rejected because the queue is full or the sender is closed
+     */
+    boolean offer(AuditMessage msg, String index) {
+        if (closed) {
+            return false;
+        }
+
+        final Item item = new Item(msg, index, msg.toJsonBytes());
+
+        if (!queue.offer(item)) {
+            rejectedItems.increment();
+            return false;
+        }
+
+        if (queuedBytes.addAndGet(item.sizeInBytes) >= maxSizeBytes || queue.size() >= maxActions) {
+            triggerFlush();
+        }
+
+        return true;
+    }
+
+    private void triggerFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::scheduledFlush);
+            } catch (Exception e) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    private void scheduledFlush() {
+        flushScheduled.set(false);
+
+        try {
+            do {
+                flush();
+            } while (queue.size() >= maxActions || queuedBytes.get() >= maxSizeBytes);
+        } catch (Exception e) {
+            log.error("Error while sending audit messages", e);
+        }
+    }
+
+    /**
+     * Blocks the scheduler thread until a request slot is available, which leaves the messages in the queue
+     */
+    private void flush() throws InterruptedException {
+        inFlight.acquire();
+
+        final List<Item> batch = new ArrayList<>();
+        long batchBytes = 0;
+
+        while (batch.size() < maxActions && batchBytes < maxSizeBytes) {
+            final Item item = queue.poll();
+
+            if (item == null) {
+                break;
+            }
+
+            queuedBytes.addAndGet(-item.sizeInBytes);
+            batchBytes += item.sizeInBytes;
+            batch.add(item);
+        }
+
+        if (batch.isEmpty()) {
+            inFlight.release();
+        } else {
+            send(batch);
+        }
+    }
+
+    /**
+     * Sends the batch; the caller must have acquired a request slot
+     */
+    private void send(List<Item> batch) {
+        final BulkRequest bulkRequest = new BulkRequest();
+
+        for (Item item : batch) {
+            bulkRequest.add(new IndexRequest(item.index).source(item.source, XContentType.JSON));
+        }
+
+        final long start = System.nanoTime();
+
+        try {
+            bulkClient.accept(bulkRequest, new ActionListener<BulkResponse>() {
+                @Override
+                public void onResponse(BulkResponse response) {
+                    inFlight.release();
+                    bulkLatency.recordSince(start);
+                    handleResponse(batch, response);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    inFlight.release();
+                    log.warn("Unable to send {} audit messages", batch.size(), e);
+                    retryOrFail(batch);
+                }
+            });
+        } catch (Exception e) {
+            inFlight.release();
+            log.warn("Unable to send {} audit messages", batch.size(), e);
+            retryOrFail(batch);
+        }
+    }
+
+    private void handleResponse(List<Item> batch, BulkResponse response) {
+        if (!response.hasFailures()) {
+            sentItems.add(batch.size());
+            return;
+        }
+
+        final BulkItemResponse[] itemResponses = response.getItems();
+        final List<Item> failed = new ArrayList<>();
+
+        for (int i = 0; i < itemResponses.length; i++) {
+            final BulkItemResponse itemResponse = itemResponses[i];
+            final Item item = batch.get(itemResponse.getItemId() >= 0 ? itemResponse.getItemId() : i);
+
+            if (!itemResponse.isFailed()) {
+                sentItems.increment();
+            } else if (isRetryable(itemResponse.status())) {
+                failed.add(item);
+            } else {
+                log.error("Unable to store audit message in {}: {}", item.index, itemResponse.getFailureMessage());
+                fail(item);
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            retryOrFail(failed);
+        }
+    }
+
+    static boolean isRetryable(RestStatus status) {
+        return status == RestStatus.TOO_MANY_REQUESTS || status.getStatus() >= 500;
+    }
+
+    private void retryOrFail(List<Item> items) {
+        final List<Item> retry = new ArrayList<>();
+        int attempt = 0;
+
+        for (Item item : items) {
+            if (!closed && item.attempts < maxRetries) {
+                item.attempts++;
+                attempt = Math.max(attempt, item.attempts);
+                retry.add(item);
+            } else {
+                fail(item);
+            }
+        }
+
+        if (retry.isEmpty()) {
+            return;
+        }
+
+        retriedItems.add(retry.size());
+
+        try {
+            scheduler.schedule(() -> {
+                try {
+                    inFlight.acquire();
+                    send(retry);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    retry.forEach(this::fail);
+                }
+            }, retryDelayMs << (attempt - 1), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            retry.forEach(this::fail);
+        }
+    }
+
+    private void fail(Item item) {
+        failedItems.increment();
+
+        try {
+            failureHandler.accept(item.msg);
+        } catch (Exception e) {
+            log.error("Error while handling failed audit message", e);
+        }
+    }
+
+    /**
+     * Sends the queued messages and waits up to the given time for the outstanding requests
+     */
+    boolean close(long timeout, TimeUnit unit) throws InterruptedException {
+        closed = true;
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        scheduler.execute(() -> {
+            try {
+                while (!queue.isEmpty()) {
+                    flush();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        scheduler.shutdown();
+
+        boolean completed = scheduler.awaitTermination(timeout, unit)
+            && inFlight.tryAcquire(maxInFlight, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+        if (!completed) {
+            scheduler.shutdownNow();
+            Item item;
+            while ((item = queue.poll()) != null) {
+                fail(item);
+            }
+        }
+
+        stats.removeGauge(statsPrefix + "queue_size");
+        return completed;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (!close(10, TimeUnit.SECONDS)) {
+                log.warn("Not all audit messages could be sent before closing");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Item {
+        private final AuditMessage msg;
+        private final String index;
+        private final BytesReference source;
+        private final long sizeInBytes;
+        private int attempts;
+
+        private Item(AuditMessage msg, String index, BytesReference source) {
+            this.msg = msg;
+            this.index = index;
+            this.source = source;
+            this.sizeInBytes = source.length() + index.length() + 50;
+        }
+    }
+}
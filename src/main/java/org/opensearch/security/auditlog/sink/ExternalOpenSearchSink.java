@@ -30,6 +30,7 @@ import org.opensearch.security.httpclient.HttpClient.HttpClientBuilder;
 import org.opensearch.security.ssl.util.SSLConfigConstants;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.PemKeyReader;
+import org.opensearch.security.support.SecurityStats;
 
 import static org.opensearch.security.ssl.SecureSSLSettings.SSLSetting.SECURITY_SSL_TRANSPORT_KEYSTORE_PASSWORD;
 import static org.opensearch.security.ssl.SecureSSLSettings.SSLSetting.SECURITY_SSL_TRANSPORT_TRUSTSTORE_PASSWORD;
@@ -41,6 +42,7 @@ public final class ExternalOpenSearchSink extends AuditLogSink {
     private final String index;
     private final String type;
     private final HttpClient client;
+    private final BulkAuditMessageSender bulkSender;
     private List<String> servers;
     private DateTimeFormatter indexPattern;
 
@@ -87,6 +89,9 @@ public final class ExternalOpenSearchSink extends AuditLogSink {
         final String password = sinkSettings.get(ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_PASSWORD);
 
         final HttpClientBuilder builder = HttpClient.builder(servers.toArray(new String[0]));
+        builder.setCompressionEnabled(
+            sinkSettings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_COMPRESSION_ENABLED, false)
+        );
 
         if (enableSsl) {
 
@@ -232,16 +237,36 @@ public final class ExternalOpenSearchSink extends AuditLogSink {
         }
 
         client = builder.build();
+
+        if (sinkSettings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_ENABLED, false)) {
+            bulkSender = new BulkAuditMessageSender(
+                name,
+                sinkSettings,
+                SecurityStats.forNode(settings),
+                client::bulkAsync,
+                this::storeInFallback
+            );
+        } else {
+            bulkSender = null;
+        }
     }
 
     @Override
     public void close() throws IOException {
+        if (bulkSender != null) {
+            bulkSender.close();
+        }
         if (client != null) {
             client.close();
         }
     }
 
     public boolean doStore(final AuditMessage msg) {
+        if (bulkSender != null) {
+            // delivery failures are reported to the fallback sink asynchronously
+            return bulkSender.offer(msg, getExpandedIndexName(indexPattern, index));
+        }
+
         try {
             boolean successful = client.index(msg.toString(), getExpandedIndexName(indexPattern, index), type, true);
             if (!successful) {
@@ -15,7 +15,13 @@ import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
@@ -23,22 +29,56 @@ import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.serialization.LongSerializer;
-import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 
 import org.opensearch.SpecialPermission;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
 
+/**
+ * Sends audit messages to a Kafka topic. The JSON of the message is sent as bytes; without a key strategy the
+ * records are identical to the ones of a producer with a String value serializer and no key.
+ *
+ * In high throughput mode, records are keyed by node or user so that the messages of a node or user stay in
+ * order within a partition, and batching and compression are enabled unless configured otherwise. The number
+ * of records which were not acknowledged yet is bounded; if the limit is reached, the message is rejected and
+ * stored in the fallback sink instead of queueing up in the producer.
+ */
 public class KafkaSink extends AuditLogSink {
 
     private final String[] mandatoryProperties = new String[] { "bootstrap_servers", "topic_name" };
     private boolean valid = true;
-    private Producer<Long, String> producer;
+    private Producer<byte[], byte[]> producer;
     private String topicName;
+    private KeyStrategy keyStrategy = KeyStrategy.NONE;
+    private Semaphore inFlight;
+    private long enqueueTimeoutMs;
+    private String statsPrefix;
+    private LongAdder sentMessages;
+    private LongAdder failedMessages;
+    private LongAdder rejectedMessages;
+
+    enum KeyStrategy {
+        NONE,
+        NODE,
+        USER
+    }
 
-    @SuppressWarnings("removal")
     public KafkaSink(final String name, final Settings settings, final String settingsPrefix, AuditLogSink fallbackSink) {
+        this(name, settings, settingsPrefix, fallbackSink, KafkaProducer::new);
+    }
+
+    @SuppressWarnings("removal")
+    KafkaSink(
+        final String name,
+        final Settings settings,
+        final String settingsPrefix,
+        AuditLogSink fallbackSink,
+        final Function<Properties, Producer<byte[], byte[]>> producerFactory
+    ) {
         super(name, settings, settingsPrefix, fallbackSink);
 
         Settings sinkSettings = settings.getAsSettings(settingsPrefix);
@@ -52,15 +92,19 @@ public class KafkaSink extends AuditLogSink {
         final Properties producerProps = new Properties();
 
         for (String key : sinkSettings.names()) {
-            if (!key.equals("topic_name")) {
+            if (!key.equals("topic_name") && !key.startsWith(ConfigConstants.SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_PREFIX)) {
                 producerProps.put(key.replace('_', '.'), sinkSettings.get(key));
             }
         }
 
-        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, LongSerializer.class.getName());
-        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
         topicName = sinkSettings.get("topic_name");
 
+        if (sinkSettings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_ENABLED, false)) {
+            configureHighThroughput(sinkSettings, producerProps);
+        }
+
         // map path of
         // ssl.keystore.location
         // ssl.truststore.location
@@ -73,10 +117,10 @@ public class KafkaSink extends AuditLogSink {
         }
 
         try {
-            this.producer = AccessController.doPrivileged(new PrivilegedExceptionAction<KafkaProducer<Long, String>>() {
+            this.producer = AccessController.doPrivileged(new PrivilegedExceptionAction<Producer<byte[], byte[]>>() {
                 @Override
-                public KafkaProducer<Long, String> run() throws Exception {
-                    return new KafkaProducer<Long, String>(producerProps);
+                public Producer<byte[], byte[]> run() throws Exception {
+                    return producerFactory.apply(producerProps);
                 }
             });
         } catch (PrivilegedActionException e) {
@@ -86,29 +130,104 @@ public class KafkaSink extends AuditLogSink {
 
     }
 
+    private void configureHighThroughput(Settings sinkSettings, Properties producerProps) {
+        producerProps.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, "5");
+        producerProps.putIfAbsent(ProducerConfig.BATCH_SIZE_CONFIG, String.valueOf(64 * 1024));
+        producerProps.putIfAbsent(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+
+        try {
+            keyStrategy = KeyStrategy.valueOf(
+                sinkSettings.get(ConfigConstants.SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_KEY, "node").toUpperCase(Locale.ROOT)
+            );
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid key strategy for Kafka sink {}, must be one of none, node or user", getName());
+            keyStrategy = KeyStrategy.NODE;
+        }
+
+        final int maxInFlight = Math.max(
+            1,
+            sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_MAX_IN_FLIGHT, 10000)
+        );
+        inFlight = new Semaphore(maxInFlight);
+        enqueueTimeoutMs = sinkSettings.getAsLong(ConfigConstants.SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_ENQUEUE_TIMEOUT_MS, 50L);
+
+        final SecurityStats stats = SecurityStats.forNode(settings);
+        statsPrefix = "audit.sink." + getName() + ".kafka.";
+        sentMessages = stats.counter(statsPrefix + "sent");
+        failedMessages = stats.counter(statsPrefix + "failed");
+        rejectedMessages = stats.counter(statsPrefix + "rejected");
+        final Semaphore permits = inFlight;
+        stats.gauge(statsPrefix + "in_flight", () -> maxInFlight - permits.availablePermits());
+    }
+
     @Override
     protected boolean doStore(AuditMessage msg) {
         if (!valid || producer == null) {
             return false;
         }
 
-        ProducerRecord<Long, String> data = new ProducerRecord<Long, String>(topicName, msg.toJson());
-        producer.send(data, new Callback() {
+        if (inFlight != null && !acquire()) {
+            rejectedMessages.increment();
+            return false;
+        }
 
-            @Override
-            public void onCompletion(RecordMetadata metadata, Exception exception) {
-                if (exception == null) {
-                    // log trace?
-                } else {
-                    log.error("Could not store message on Kafka topic {}", topicName, exception);
-                    fallbackSink.store(msg);
-                }
+        final ProducerRecord<byte[], byte[]> data = new ProducerRecord<>(topicName, key(msg), BytesReference.toBytes(msg.toJsonBytes()));
 
+        try {
+            producer.send(data, new Callback() {
+
+                @Override
+                public void onCompletion(RecordMetadata metadata, Exception exception) {
+                    if (inFlight != null) {
+                        inFlight.release();
+                        (exception == null ? sentMessages : failedMessages).increment();
+                    }
+
+                    if (exception != null) {
+                        log.error("Could not store message on Kafka topic {}", topicName, exception);
+                        fallbackSink.store(msg);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            if (inFlight != null) {
+                inFlight.release();
             }
-        });
+            log.error("Could not send message to Kafka topic {}", topicName, e);
+            return false;
+        }
         return true;
     }
 
+    private boolean acquire() {
+        try {
+            return inFlight.tryAcquire(enqueueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private byte[] key(AuditMessage msg) {
+        String key;
+
+        switch (keyStrategy) {
+            case NODE:
+                key = msg.getNodeId();
+                break;
+            case USER:
+                key = msg.getEffectiveUser() != null ? msg.getEffectiveUser() : msg.getInitiatingUser();
+                if (key == null) {
+                    key = msg.getNodeId();
+                }
+                break;
+            default:
+                key = null;
+        }
+
+        return key != null ? key.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
     @Override
     public boolean isHandlingBackpressure() {
         return true;
@@ -130,5 +249,8 @@ public class KafkaSink extends AuditLogSink {
             valid = false;
             producer.close();
         }
+        if (statsPrefix != null) {
+            SecurityStats.forNode(settings).removeGauge(statsPrefix + "in_flight");
+        }
     }
 }
@@ -12,6 +12,8 @@
 package org.opensearch.security.auditlog.sink;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -109,6 +111,10 @@ public class SinkProvider {
         return allSinks.get(sinkName.toLowerCase());
     }
 
+    public Collection<AuditLogSink> getSinks() {
+        return Collections.unmodifiableCollection(allSinks.values());
+    }
+
     public AuditLogSink getDefaultSink() {
         return defaultSink;
     }
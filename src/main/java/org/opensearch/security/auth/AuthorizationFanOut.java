@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
+import org.opensearch.security.user.AuthCredentials;
+import org.opensearch.security.user.User;
+
+/**
+ * Fills the backend roles of a user from all authorization backends. With plugins.security.authz.parallel.enabled,
+ * multiple backends are queried concurrently on a bounded executor, so that the latency is the one of the slowest
+ * backend and not the sum of all. The backends add their roles to the user as they complete. A backend that does not
+ * complete within the deadline is interrupted and its roles are missing, the roles of the other backends are kept.
+ */
+final class AuthorizationFanOut {
+
+    private static final Logger log = LogManager.getLogger(AuthorizationFanOut.class);
+
+    /** null if the backends are queried sequentially on the calling thread */
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final ThreadContext threadContext;
+    private final SecurityStats stats;
+    private final LongAdder callerRuns;
+
+    AuthorizationFanOut(final Settings settings, final ThreadContext threadContext) {
+        this.threadContext = threadContext;
+        this.stats = SecurityStats.forNode(settings);
+        this.callerRuns = stats.counter("authz.parallel.caller_runs");
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(settings.getAsLong(ConfigConstants.SECURITY_AUTHZ_PARALLEL_TIMEOUT_MS, 5000L));
+
+        if (settings.getAsBoolean(ConfigConstants.SECURITY_AUTHZ_PARALLEL_ENABLED, false)) {
+            final int threads = settings.getAsInt(ConfigConstants.SECURITY_AUTHZ_PARALLEL_THREADS, 4);
+            final int queueSize = settings.getAsInt(ConfigConstants.SECURITY_AUTHZ_PARALLEL_QUEUE_SIZE, 100);
+            final AtomicInteger threadNumber = new AtomicInteger();
+            // when the queue is full, the backend is queried on the calling thread instead
+            executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), r -> {
+                final Thread thread = new Thread(r, "opensearch-security-authz-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }, (r, e) -> {
+                callerRuns.increment();
+                r.run();
+            });
+            executor.allowCoreThreadTimeOut(true);
+            stats.gauge("authz.parallel.queue_depth", () -> executor.getQueue().size());
+        } else {
+            executor = null;
+        }
+    }
+
+    boolean isParallel() {
+        return executor != null;
+    }
+
+    /**
+     * @return false if a backend did not complete within the deadline, the roles of the user are incomplete then and
+     *         must not be cached
+     */
+    boolean fillRoles(final User user, final Collection<AuthorizationBackend> authorizers) {
+        if (executor == null || authorizers.size() < 2) {
+            for (final AuthorizationBackend ab : authorizers) {
+                fillRoles(ab, user);
+            }
+            return true;
+        }
+
+        final long deadline = System.nanoTime() + timeoutNanos;
+        final List<AuthorizationBackend> backends = new ArrayList<>(authorizers);
+        final List<Future<?>> results = new ArrayList<>(backends.size());
+        boolean complete = true;
+
+        for (final AuthorizationBackend ab : backends) {
+            final Runnable task = () -> fillRoles(ab, user);
+            results.add(executor.submit(threadContext != null ? threadContext.preserveContext(task) : task));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            final Future<?> result = results.get(i);
+            final String type = backends.get(i).getType();
+
+            try {
+                result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                result.cancel(true);
+                complete = false;
+                stats.counter("authz.backend." + type + ".timeouts").increment();
+                log.warn("Authorization backend {} did not return the roles of {} within the deadline", type, user.getName());
+            } catch (ExecutionException e) {
+                log.error("Cannot retrieve roles for {} from {} due to {}", user, type, e.getCause().toString(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (int j = i; j < results.size(); j++) {
+                    results.get(j).cancel(true);
+                }
+                return false;
+            }
+        }
+
+        return complete;
+    }
+
+    private void fillRoles(final AuthorizationBackend ab, final User user) {
+        final long start = System.nanoTime();
+
+        try {
+            if (log.isTraceEnabled()) {
+                log.trace("Backend roles for {} not cached, return from {} backend directly", user.getName(), ab.getType());
+            }
+            ab.fillRoles(user, new AuthCredentials(user.getName()));
+        } catch (Exception e) {
+            stats.counter("authz.backend." + ab.getType() + ".errors").increment();
+            log.error("Cannot retrieve roles for {} from {} due to {}", user, ab.getType(), e.toString(), e);
+        } finally {
+            stats.histogram("authz.backend." + ab.getType() + ".latency").recordSince(start);
+        }
+    }
+}
@@ -88,6 +88,8 @@ public class BackendRegistry {
     private final AuditLog auditLog;
     private final ThreadPool threadPool;
     private final UserInjector userInjector;
+    private final AuthorizationFanOut authorizationFanOut;
+    private final FailedAuthenticationCache failedAuthenticationCache;
     private final int ttlInMin;
     private Cache<AuthCredentials, User> userCache; // rest standard
     private Cache<String, User> restImpersonationCache; // used for rest impersonation
@@ -139,6 +141,8 @@ public class BackendRegistry {
         this.auditLog = auditLog;
         this.threadPool = threadPool;
         this.userInjector = new UserInjector(settings, threadPool, auditLog, xffResolver);
+        this.authorizationFanOut = new AuthorizationFanOut(settings, threadPool != null ? threadPool.getThreadContext() : null);
+        this.failedAuthenticationCache = new FailedAuthenticationCache(settings);
 
         this.ttlInMin = settings.getAsInt(ConfigConstants.SECURITY_CACHE_TTL_MINUTES, 60);
 
@@ -156,6 +160,7 @@ public class BackendRegistry {
         userCache.invalidateAll();
         restImpersonationCache.invalidateAll();
         restRoleCache.invalidateAll();
+        failedAuthenticationCache.invalidateAll();
     }
 
     @Subscribe
@@ -306,7 +311,14 @@ public class BackendRegistry {
             }
 
             // http completed
-            authenticatedUser = authcz(userCache, restRoleCache, ac, authDomain.getBackend(), restAuthorizers);
+            authenticatedUser = authcz(
+                userCache,
+                restRoleCache,
+                ac,
+                authDomain.getBackend(),
+                restAuthorizers,
+                failedAuthenticationCache.key(authDomain, ac)
+            );
 
             if (authenticatedUser == null) {
                 if (isDebugEnabled) {
@@ -507,23 +519,10 @@ public class BackendRegistry {
             return;
         }
 
-        final boolean isTraceEnabled = log.isTraceEnabled();
-        for (final AuthorizationBackend ab : authorizers) {
-            try {
-                if (isTraceEnabled) {
-                    log.trace(
-                        "Backend roles for {} not cached, return from {} backend directly",
-                        authenticatedUser.getName(),
-                        ab.getType()
-                    );
-                }
-                ab.fillRoles(authenticatedUser, new AuthCredentials(authenticatedUser.getName()));
-            } catch (Exception e) {
-                log.error("Cannot retrieve roles for {} from {} due to {}", authenticatedUser, ab.getType(), e.toString(), e);
-            }
-        }
+        final boolean complete = authorizationFanOut.fillRoles(authenticatedUser, authorizers);
 
-        if (roleCache != null) {
+        // roles of a backend which timed out are missing, they must not be cached for the whole ttl
+        if (roleCache != null && complete) {
             roleCache.put(authenticatedUser, new HashSet<String>(authenticatedUser.getRoles()));
         }
     }
@@ -531,6 +530,11 @@ public class BackendRegistry {
     /**
      * no auditlog, throw no exception, does also authz for all authorizers
      *
+     * Failures are remembered under the failure key for a short time. A remembered failure is returned without asking
+     * the backend again, but is reported to the auth failure listeners like any other failure, so rate limiting still
+     * counts the attempts.
+     *
+     * @param failureKey the key of the credentials in the failed authentication cache, null if not cached
      * @return null if user cannot b authenticated
      */
     private User authcz(
@@ -538,12 +542,23 @@ public class BackendRegistry {
         Cache<User, Set<String>> roleCache,
         final AuthCredentials ac,
         final AuthenticationBackend authBackend,
-        final Set<AuthorizationBackend> authorizers
+        final Set<AuthorizationBackend> authorizers,
+        final String failureKey
     ) {
         if (ac == null) {
             return null;
         }
         try {
+            if (failedAuthenticationCache.contains(failureKey)) {
+                if (log.isDebugEnabled()) {
+                    log.debug(
+                        "Authentication of {} with {} backend failed recently, not trying again",
+                        ac.getUsername(),
+                        authBackend.getType()
+                    );
+                }
+                return null;
+            }
 
             // noop backend configured and no authorizers
             // that mean authc and authz was completely done via HTTP (like JWT or PKI)
@@ -571,6 +586,7 @@ public class BackendRegistry {
             if (log.isDebugEnabled()) {
                 log.debug("Can not authenticate {} due to exception", ac.getUsername(), e);
             }
+            failedAuthenticationCache.put(failureKey, e);
             return null;
         } finally {
             ac.clearSecrets();
@@ -645,7 +661,11 @@ public class BackendRegistry {
 
     }
 
-    private boolean isBlocked(InetAddress address) {
+    /**
+     * Checks whether the address is blocked by an IP based auth failure listener.
+     * This is also used by the HTTP transport to reject blocked clients early.
+     */
+    public boolean isBlocked(InetAddress address) {
         if (this.ipClientBlockRegistries == null || this.ipClientBlockRegistries.isEmpty()) {
             return false;
         }
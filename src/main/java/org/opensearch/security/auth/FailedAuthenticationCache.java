@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
+import org.opensearch.security.user.AuthCredentials;
+
+/**
+ * Remembers failed authentications for a short time, so that clients retrying bad credentials in a loop do not
+ * reach the authentication backend each time. The entries are keyed by a HMAC of auth domain, user name and secret
+ * under a random per node key, so neither passwords nor their plain hashes are kept in memory.
+ *
+ * Only definite rejections of the credentials are cached, which the backends signal with an exception of status
+ * 401 (a wrong password of an internal user or a bind rejected by LDAP because of invalid credentials). Any other
+ * failure, like an unreachable or overloaded backend, may go away on a retry and is not cached.
+ */
+final class FailedAuthenticationCache {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /** null if disabled */
+    private final Cache<String, Boolean> cache;
+    private final ThreadLocal<Mac> mac;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    FailedAuthenticationCache(final Settings settings) {
+        final SecurityStats stats = SecurityStats.forNode(settings);
+        hits = stats.counter("authc.negative_cache.hits");
+        misses = stats.counter("authc.negative_cache.misses");
+        final long ttlSeconds = settings.getAsLong(ConfigConstants.SECURITY_AUTHC_NEGATIVE_CACHE_TTL_SECONDS, 0L);
+        final int size = settings.getAsInt(ConfigConstants.SECURITY_AUTHC_NEGATIVE_CACHE_SIZE, 10000);
+
+        if (ttlSeconds > 0 && size > 0) {
+            cache = CacheBuilder.newBuilder().maximumSize(size).expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build();
+            final byte[] key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            final SecretKeySpec keySpec = new SecretKeySpec(key, ALGORITHM);
+            mac = ThreadLocal.withInitial(() -> {
+                try {
+                    final Mac mac = Mac.getInstance(ALGORITHM);
+                    mac.init(keySpec);
+                    return mac;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("Unable to initialize failed authentication cache", e);
+                }
+            });
+        } else {
+            cache = null;
+            mac = null;
+        }
+    }
+
+    /**
+     * @return the cache key of the credentials, or null if the cache is disabled or the credentials carry no secret
+     *         (like the credentials of a proxy), as a failure must not be cached for the user name alone
+     */
+    String key(final AuthDomain authDomain, final AuthCredentials credentials) {
+        if (cache == null || credentials == null) {
+            return null;
+        }
+
+        final byte[] password = credentials.getPassword();
+        final Object nativeCredentials = credentials.getNativeCredentials();
+        final byte[] secret;
+
+        if (password != null) {
+            secret = password;
+        } else if (nativeCredentials instanceof byte[]) {
+            secret = (byte[]) nativeCredentials;
+        } else if (nativeCredentials instanceof String) {
+            secret = ((String) nativeCredentials).getBytes(StandardCharsets.UTF_8);
+        } else {
+            return null;
+        }
+
+        final Mac mac = this.mac.get();
+        mac.update((authDomain.getOrder() + "/" + authDomain.getBackend().getType()).getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        mac.update(credentials.getUsername().getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        mac.update(secret);
+
+        if (password != null) {
+            Arrays.fill(password, (byte) 0);
+        }
+
+        return Base64.getEncoder().encodeToString(mac.doFinal());
+    }
+
+    /**
+     * @return true if the authentication with these credentials failed recently
+     */
+    boolean contains(final String key) {
+        if (key == null) {
+            return false;
+        }
+
+        if (cache.getIfPresent(key) != null) {
+            hits.increment();
+            return true;
+        }
+
+        misses.increment();
+        return false;
+    }
+
+    void put(final String key, final Throwable failure) {
+        if (key != null && isCredentialRejection(failure)) {
+            cache.put(key, Boolean.TRUE);
+        }
+    }
+
+    void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    static boolean isCredentialRejection(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof OpenSearchException && ((OpenSearchException) t).status() == RestStatus.UNAUTHORIZED) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
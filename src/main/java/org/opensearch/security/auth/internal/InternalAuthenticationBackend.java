@@ -29,26 +29,148 @@ package org.opensearch.security.auth.internal;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-
-import org.bouncycastle.crypto.generators.OpenBSDBCrypt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.greenrobot.eventbus.Subscribe;
 
 import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.rest.RestStatus;
 import org.opensearch.security.auth.AuthenticationBackend;
 import org.opensearch.security.auth.AuthorizationBackend;
+import org.opensearch.security.hasher.PasswordHasher;
+import org.opensearch.security.hasher.PasswordHashers;
 import org.opensearch.security.securityconf.InternalUsersModel;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
 
 public class InternalAuthenticationBackend implements AuthenticationBackend, AuthorizationBackend {
 
+    public static final int DEFAULT_HASHING_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private static final String VERDICT_ALGORITHM = "HmacSHA256";
+
+    private static final Logger log = LogManager.getLogger(InternalAuthenticationBackend.class);
+
+    private static final String DEFAULT_DUMMY_HASH = "$2y$12$NmKhjNssNgSIj8iXT7SYxeXvMA1E95a9tCt4cySY9FrQ4fB18xEc2";
+
+    /**
+     * Stores a new hash for a user, if the stored hash is still the given current hash. Failures to store the hash
+     * are reported to onFailure, so that the next login of the user retries.
+     */
+    @FunctionalInterface
+    public interface PasswordRehashHandler {
+        void rehash(String username, String currentHash, String newHash, Consumer<Exception> onFailure);
+    }
+
     private InternalUsersModel internalUsersModel;
 
+    /** the hashing policy, hashes of other algorithms or parameters are replaced on login if rehashing is enabled */
+    private final PasswordHasher passwordHasher;
+    private final boolean rehashOnLogin;
+    /** checked for unknown users, has the cost of the hashing policy */
+    private final String dummyHash;
+    private volatile PasswordRehashHandler rehashHandler;
+    /** users with a rehash in flight, so that a login burst stores the new hash only once */
+    private final Set<String> pendingRehashes = ConcurrentHashMap.newKeySet();
+
+    /** bounds the number of concurrent password hash checks, null if the checks run on the calling thread */
+    private final ThreadPoolExecutor hashingExecutor;
+    private final LongAdder hashingRejected;
+    private final SecurityStats.Histogram hashingLatency;
+
+    /**
+     * Successful verifications, keyed by a HMAC of user name, password and stored hash under a random per node key,
+     * so that neither the password nor a fast hash of it is kept in memory. Null if disabled.
+     */
+    private final Cache<String, Boolean> verdictCache;
+    private final ThreadLocal<Mac> verdictMac;
+    private final LongAdder verdictCacheHits;
+    private final LongAdder verdictCacheMisses;
+
+    public InternalAuthenticationBackend() {
+        this(Settings.EMPTY);
+    }
+
+    public InternalAuthenticationBackend(final Settings settings) {
+        final SecurityStats stats = SecurityStats.forNode(settings);
+        this.hashingRejected = stats.counter("auth.internal.hashing.rejected");
+        this.hashingLatency = stats.histogram("auth.internal.hashing.latency");
+        this.verdictCacheHits = stats.counter("auth.internal.verdict_cache.hits");
+        this.verdictCacheMisses = stats.counter("auth.internal.verdict_cache.misses");
+        this.passwordHasher = PasswordHashers.fromSettings(settings);
+        this.rehashOnLogin = settings.getAsBoolean(ConfigConstants.SECURITY_PASSWORD_HASHING_REHASH_ON_LOGIN, false);
+        this.dummyHash = passwordHasher.needsRehash(DEFAULT_DUMMY_HASH)
+            ? passwordHasher.hash(UUID.randomUUID().toString().toCharArray())
+            : DEFAULT_DUMMY_HASH;
+
+        final int threads = settings.getAsInt(ConfigConstants.SECURITY_INTERNAL_AUTH_HASHING_THREADS, DEFAULT_HASHING_THREADS);
+        final int queueSize = settings.getAsInt(ConfigConstants.SECURITY_INTERNAL_AUTH_HASHING_QUEUE_SIZE, 100);
+
+        if (threads > 0) {
+            final AtomicInteger threadNumber = new AtomicInteger();
+            hashingExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), r -> {
+                final Thread thread = new Thread(r, "opensearch-security-internal-auth-hashing-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+            hashingExecutor.allowCoreThreadTimeOut(true);
+            stats.gauge("auth.internal.hashing.queue_depth", () -> hashingExecutor.getQueue().size());
+        } else {
+            hashingExecutor = null;
+        }
+
+        final int cacheSize = settings.getAsInt(ConfigConstants.SECURITY_INTERNAL_AUTH_VERDICT_CACHE_SIZE, 1000);
+        final int ttlMinutes = settings.getAsInt(ConfigConstants.SECURITY_CACHE_TTL_MINUTES, 60);
+
+        if (cacheSize > 0 && ttlMinutes > 0) {
+            verdictCache = CacheBuilder.newBuilder().maximumSize(cacheSize).expireAfterWrite(ttlMinutes, TimeUnit.MINUTES).build();
+            final byte[] key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            final SecretKeySpec keySpec = new SecretKeySpec(key, VERDICT_ALGORITHM);
+            verdictMac = ThreadLocal.withInitial(() -> {
+                try {
+                    final Mac mac = Mac.getInstance(VERDICT_ALGORITHM);
+                    mac.init(keySpec);
+                    return mac;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("Unable to initialize credential verdict cache", e);
+                }
+            });
+        } else {
+            verdictCache = null;
+            verdictMac = null;
+        }
+    }
+
     @Override
     public boolean exists(User user) {
 
@@ -90,7 +212,7 @@ public class InternalAuthenticationBackend implements AuthenticationBackend, Aut
      * @return Whether the hash matches the provided password
      */
     public boolean passwordMatchesHash(String hash, char[] array) {
-        return OpenBSDBCrypt.checkPassword(hash, array);
+        return PasswordHashers.check(array, hash);
     }
 
     @Override
@@ -107,8 +229,7 @@ public class InternalAuthenticationBackend implements AuthenticationBackend, Aut
         if (!internalUsersModel.exists(credentials.getUsername())) {
             userExists = false;
             password = credentials.getPassword();
-            hash = "$2y$12$NmKhjNssNgSIj8iXT7SYxeXvMA1E95a9tCt4cySY9FrQ4fB18xEc2"; // Ensure the same cryptographic complexity for users not
-                                                                                   // found and invalid password
+            hash = dummyHash; // Ensure the same cryptographic complexity for users not found and invalid password
         } else {
             userExists = true;
             password = credentials.getPassword();
@@ -124,10 +245,13 @@ public class InternalAuthenticationBackend implements AuthenticationBackend, Aut
         char[] array = new char[buf.limit()];
         buf.get(array);
 
+        // only verdicts for existing users are cached, unknown users always pay for a full hash check
+        final String verdictKey = userExists && verdictCache != null ? verdictKey(credentials.getUsername(), password, hash) : null;
+
         Arrays.fill(password, (byte) 0);
 
         try {
-            if (passwordMatchesHash(hash, array) && userExists) {
+            if (checkPassword(verdictKey, hash, array) && userExists) {
                 final List<String> roles = internalUsersModel.getBackenRoles(credentials.getUsername());
                 final Map<String, String> customAttributes = internalUsersModel.getAttributes(credentials.getUsername());
                 if (customAttributes != null) {
@@ -136,6 +260,10 @@ public class InternalAuthenticationBackend implements AuthenticationBackend, Aut
                     }
                 }
 
+                if (rehashOnLogin) {
+                    rehashIfNeeded(credentials.getUsername(), hash, array);
+                }
+
                 final User user = new User(credentials.getUsername(), roles, credentials);
 
                 final List<String> securityRoles = internalUsersModel.getSecurityRoles(credentials.getUsername());
@@ -145,9 +273,9 @@ public class InternalAuthenticationBackend implements AuthenticationBackend, Aut
                 return user;
             } else {
                 if (!userExists) {
-                    throw new OpenSearchSecurityException(credentials.getUsername() + " not found");
+                    throw new OpenSearchSecurityException(credentials.getUsername() + " not found", RestStatus.UNAUTHORIZED);
                 }
-                throw new OpenSearchSecurityException("password does not match");
+                throw new OpenSearchSecurityException("password does not match", RestStatus.UNAUTHORIZED);
             }
         } finally {
             Arrays.fill(wrap.array(), (byte) 0);
@@ -156,6 +284,110 @@ public class InternalAuthenticationBackend implements AuthenticationBackend, Aut
         }
     }
 
+    private boolean checkPassword(final String verdictKey, final String hash, final char[] array) {
+        if (verdictKey != null) {
+            if (verdictCache.getIfPresent(verdictKey) != null) {
+                verdictCacheHits.increment();
+                return true;
+            }
+            verdictCacheMisses.increment();
+        }
+
+        final boolean matches = hashingExecutor != null ? checkPasswordOffThread(hash, array) : passwordMatchesHash(hash, array);
+
+        if (matches && verdictKey != null) {
+            verdictCache.put(verdictKey, Boolean.TRUE);
+        }
+        return matches;
+    }
+
+    /**
+     * Runs the password hash check on the bounded hashing pool. The authentication backend API is synchronous, so the
+     * calling thread still waits for the result, but the number of concurrent checks is bounded and requests are
+     * rejected fast when the queue is full instead of piling up on the transport and http threads.
+     */
+    private boolean checkPasswordOffThread(final String hash, final char[] array) {
+        final long start = System.nanoTime();
+        final Future<Boolean> result;
+
+        try {
+            result = hashingExecutor.submit(() -> passwordMatchesHash(hash, array));
+        } catch (RejectedExecutionException e) {
+            hashingRejected.increment();
+            throw new OpenSearchSecurityException("Too many concurrent password checks, try again later", RestStatus.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new OpenSearchSecurityException("Interrupted while checking password", e);
+        } catch (ExecutionException e) {
+            throw new OpenSearchSecurityException("Unable to check password", e.getCause());
+        } finally {
+            hashingLatency.recordSince(start);
+        }
+    }
+
+    /**
+     * Hashes the password with the hashing policy on the hashing pool, so that the login does not pay for a second
+     * hash, and hands the new hash to the rehash handler. If the pool is busy, the next login of the user retries.
+     */
+    private void rehashIfNeeded(final String username, final String hash, final char[] array) {
+        final PasswordRehashHandler handler = rehashHandler;
+
+        if (handler == null || !passwordHasher.needsRehash(hash) || !pendingRehashes.add(username)) {
+            return;
+        }
+
+        final char[] password = Arrays.copyOf(array, array.length);
+        final Consumer<Exception> onFailure = e -> {
+            pendingRehashes.remove(username);
+            log.warn("Unable to rehash password of user {}", username, e);
+        };
+        final Runnable rehash = () -> {
+            try {
+                final String newHash;
+                try {
+                    newHash = passwordHasher.hash(password);
+                } finally {
+                    Arrays.fill(password, '\0');
+                }
+                handler.rehash(username, hash, newHash, onFailure);
+            } catch (Exception e) {
+                onFailure.accept(e);
+            }
+        };
+
+        if (hashingExecutor == null) {
+            rehash.run();
+            return;
+        }
+
+        try {
+            hashingExecutor.execute(rehash);
+        } catch (RejectedExecutionException e) {
+            Arrays.fill(password, '\0');
+            pendingRehashes.remove(username);
+            log.debug("Hashing pool is busy, not rehashing password of user {}", username);
+        }
+    }
+
+    public void setPasswordRehashHandler(final PasswordRehashHandler rehashHandler) {
+        this.rehashHandler = rehashHandler;
+    }
+
+    private String verdictKey(final String username, final byte[] password, final String hash) {
+        final Mac mac = verdictMac.get();
+        mac.update(username.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        mac.update(password);
+        mac.update((byte) 0);
+        mac.update(hash.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(mac.doFinal());
+    }
+
     @Override
     public String getType() {
         return "internal";
@@ -183,6 +415,10 @@ public class InternalAuthenticationBackend implements AuthenticationBackend, Aut
     @Subscribe
     public void onInternalUsersModelChanged(InternalUsersModel ium) {
         this.internalUsersModel = ium;
+        pendingRehashes.clear();
+        if (verdictCache != null) {
+            verdictCache.invalidateAll();
+        }
     }
 
 }
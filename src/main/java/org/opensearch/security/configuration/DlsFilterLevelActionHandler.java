@@ -15,16 +15,19 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.admin.cluster.shards.ClusterSearchShardsRequest;
@@ -37,10 +40,12 @@ import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollAction;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
@@ -48,11 +53,13 @@ import org.opensearch.index.IndexService;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.TermsLookup;
 import org.opensearch.script.mustache.MultiSearchTemplateAction;
 import org.opensearch.script.mustache.SearchTemplateAction;
 import org.opensearch.search.SearchHit;
@@ -84,6 +91,7 @@ public class DlsFilterLevelActionHandler {
         IndicesService indicesService,
         IndexNameExpressionResolver resolver,
         DlsQueryParser dlsQueryParser,
+        TermsLookupCache termsLookupCache,
         ThreadContext threadContext
     ) {
 
@@ -122,6 +130,7 @@ public class DlsFilterLevelActionHandler {
             indicesService,
             resolver,
             dlsQueryParser,
+            termsLookupCache,
             threadContext
         ).handle();
     }
@@ -134,12 +143,15 @@ public class DlsFilterLevelActionHandler {
     private final boolean requiresIndexScoping;
     private final Client nodeClient;
     private final DlsQueryParser dlsQueryParser;
+    private final TermsLookupCache termsLookupCache;
     private final ClusterService clusterService;
     private final IndicesService indicesService;
     private final ThreadContext threadContext;
     private final IndexNameExpressionResolver resolver;
     private BoolQueryBuilder filterLevelQueryBuilder;
     private DocumentAllowList documentAllowlist;
+    private final Map<TermsLookup, List<Object>> resolvedTermsLookups = new HashMap<>();
+    private final Set<TermsLookup> unresolvedTermsLookups = new HashSet<>();
 
     DlsFilterLevelActionHandler(
         String action,
@@ -152,6 +164,7 @@ public class DlsFilterLevelActionHandler {
         IndicesService indicesService,
         IndexNameExpressionResolver resolver,
         DlsQueryParser dlsQueryParser,
+        TermsLookupCache termsLookupCache,
         ThreadContext threadContext
     ) {
         this.action = action;
@@ -163,6 +176,7 @@ public class DlsFilterLevelActionHandler {
         this.clusterService = clusterService;
         this.indicesService = indicesService;
         this.dlsQueryParser = dlsQueryParser;
+        this.termsLookupCache = termsLookupCache;
         this.threadContext = threadContext;
         this.resolver = resolver;
 
@@ -194,29 +208,99 @@ public class DlsFilterLevelActionHandler {
                 return true;
             }
 
-            if (request instanceof SearchRequest) {
-                return handle((SearchRequest) request, ctx);
-            } else if (request instanceof GetRequest) {
-                return handle((GetRequest) request, ctx);
-            } else if (request instanceof MultiGetRequest) {
-                return handle((MultiGetRequest) request, ctx);
-            } else if (request instanceof ClusterSearchShardsRequest) {
-                return handle((ClusterSearchShardsRequest) request, ctx);
-            } else {
-                log.error("Unsupported request type for filter level DLS: " + request);
-                listener.onFailure(
-                    new OpenSearchSecurityException(
-                        "Unsupported request type for filter level DLS: " + action + "; " + request.getClass().getName()
+            if (!unresolvedTermsLookups.isEmpty()) {
+                return fetchTermsLookups(ctx);
+            }
+
+            return dispatch(ctx);
+        }
+    }
+
+    private boolean dispatch(StoredContext ctx) {
+        if (request instanceof SearchRequest) {
+            return handle((SearchRequest) request, ctx);
+        } else if (request instanceof GetRequest) {
+            return handle((GetRequest) request, ctx);
+        } else if (request instanceof MultiGetRequest) {
+            return handle((MultiGetRequest) request, ctx);
+        } else if (request instanceof ClusterSearchShardsRequest) {
+            return handle((ClusterSearchShardsRequest) request, ctx);
+        } else {
+            log.error("Unsupported request type for filter level DLS: " + request);
+            listener.onFailure(
+                new OpenSearchSecurityException(
+                    "Unsupported request type for filter level DLS: " + action + "; " + request.getClass().getName()
+                )
+            );
+            return false;
+        }
+    }
+
+    /**
+     * Fetches all terms lookup documents which are not cached yet in one parallel pass. Afterwards, the filter
+     * level query is rebuilt with plain terms queries and the request is executed.
+     */
+    private boolean fetchTermsLookups(StoredContext ctx) {
+        final List<TermsLookup> termsLookups = new ArrayList<>(unresolvedTermsLookups);
+        final Supplier<StoredContext> filterLevelContext = threadContext.newRestorableContext(false);
+
+        final GroupedActionListener<Tuple<TermsLookup, GetResponse>> groupedListener = new GroupedActionListener<>(
+            ActionListener.wrap(responses -> {
+                try (StoredContext restored = filterLevelContext.get()) {
+                    for (Tuple<TermsLookup, GetResponse> response : responses) {
+                        resolvedTermsLookups.put(response.v1(), termsLookupCache.put(response.v1(), evaluatedDlsFlsConfig, response.v2()));
+                    }
+
+                    modifyQuery();
+
+                    if (log.isDebugEnabled()) {
+                        log.debug("Created filterLevelQuery with resolved terms lookups for " + request + ":\n" + filterLevelQueryBuilder);
+                    }
+
+                    dispatch(ctx);
+                } catch (Exception e) {
+                    log.error("Unable to handle filter level DLS", e);
+                    listener.onFailure(new OpenSearchSecurityException("Unable to handle filter level DLS", e));
+                }
+            }, listener::onFailure),
+            termsLookups.size()
+        );
+
+        try (StoredContext lookupCtx = threadContext.newStoredContext(true)) {
+            DocumentAllowList lookupAllowList = new DocumentAllowList();
+
+            for (TermsLookup termsLookup : termsLookups) {
+                lookupAllowList.add(termsLookup.index(), termsLookup.id());
+            }
+
+            lookupAllowList.applyTo(threadContext, isBinaryAllowListSupported());
+
+            for (TermsLookup termsLookup : termsLookups) {
+                nodeClient.get(
+                    new GetRequest(termsLookup.index(), termsLookup.id()).routing(termsLookup.routing()),
+                    ActionListener.wrap(
+                        response -> groupedListener.onResponse(new Tuple<>(termsLookup, response)),
+                        groupedListener::onFailure
                     )
                 );
-                return false;
             }
         }
+
+        return false;
+    }
+
+    private boolean isBinaryAllowListSupported() {
+        if (!resolved.getRemoteIndices().isEmpty()) {
+            // the versions of the nodes of remote clusters are not known here
+            return false;
+        }
+
+        return clusterService.state().nodes().getMinNodeVersion().onOrAfter(Version.CURRENT);
     }
 
     private boolean handle(SearchRequest searchRequest, StoredContext ctx) {
         if (documentAllowlist != null) {
-            documentAllowlist.applyTo(threadContext);
+            documentAllowlist.applyTo(threadContext, isBinaryAllowListSupported());
         }
 
         String localClusterAlias = LOCAL_CLUSTER_ALIAS_GETTER.apply(searchRequest);
@@ -263,7 +347,7 @@ public class DlsFilterLevelActionHandler {
 
     private boolean handle(GetRequest getRequest, StoredContext ctx) {
         if (documentAllowlist != null) {
-            documentAllowlist.applyTo(threadContext);
+            documentAllowlist.applyTo(threadContext, isBinaryAllowListSupported());
         }
 
         SearchRequest searchRequest = new SearchRequest(getRequest.indices());
@@ -323,7 +407,7 @@ public class DlsFilterLevelActionHandler {
 
     private boolean handle(MultiGetRequest multiGetRequest, StoredContext ctx) {
         if (documentAllowlist != null) {
-            documentAllowlist.applyTo(threadContext);
+            documentAllowlist.applyTo(threadContext, isBinaryAllowListSupported());
         }
 
         Map<String, Set<String>> idsGroupedByIndex = multiGetRequest.getItems()
@@ -470,6 +554,7 @@ public class DlsFilterLevelActionHandler {
 
         BoolQueryBuilder dlsQueryBuilder = QueryBuilders.boolQuery().minimumShouldMatch(1);
         DocumentAllowList documentAllowlist = new DocumentAllowList();
+        unresolvedTermsLookups.clear();
 
         int queryCount = 0;
 
@@ -509,7 +594,7 @@ public class DlsFilterLevelActionHandler {
             for (String unparsedDlsQuery : unparsedDlsQueries) {
                 queryCount++;
 
-                QueryBuilder parsedDlsQuery = dlsQueryParser.parse(unparsedDlsQuery);
+                QueryBuilder parsedDlsQuery = resolveTermsLookups(dlsQueryParser.parse(unparsedDlsQuery));
 
                 if (!requiresIndexScoping) {
                     dlsQueryBuilder.should(parsedDlsQuery);
@@ -544,4 +629,62 @@ public class DlsFilterLevelActionHandler {
         }
     }
 
+    /**
+     * Replaces terms lookup queries by plain terms queries if the values of the lookup are already known.
+     * Terms lookups which are not known yet are collected in unresolvedTermsLookups. Only terms lookups
+     * nested in bool and constant_score queries are considered; others are executed as usual.
+     */
+    QueryBuilder resolveTermsLookups(QueryBuilder queryBuilder) {
+        if (termsLookupCache == null || !termsLookupCache.isEnabled()) {
+            return queryBuilder;
+        }
+
+        if (queryBuilder instanceof TermsQueryBuilder && ((TermsQueryBuilder) queryBuilder).termsLookup() != null) {
+            TermsQueryBuilder termsQueryBuilder = (TermsQueryBuilder) queryBuilder;
+            TermsLookup termsLookup = termsQueryBuilder.termsLookup();
+            List<Object> values = resolvedTermsLookups.get(termsLookup);
+
+            if (values == null) {
+                values = termsLookupCache.get(termsLookup, evaluatedDlsFlsConfig);
+            }
+
+            if (values == null) {
+                unresolvedTermsLookups.add(termsLookup);
+                return queryBuilder;
+            }
+
+            return new TermsQueryBuilder(termsQueryBuilder.fieldName(), values).boost(termsQueryBuilder.boost())
+                .queryName(termsQueryBuilder.queryName());
+        } else if (queryBuilder instanceof BoolQueryBuilder) {
+            BoolQueryBuilder boolQueryBuilder = (BoolQueryBuilder) queryBuilder;
+            BoolQueryBuilder result = QueryBuilders.boolQuery();
+
+            for (QueryBuilder clause : boolQueryBuilder.must()) {
+                result.must(resolveTermsLookups(clause));
+            }
+            for (QueryBuilder clause : boolQueryBuilder.filter()) {
+                result.filter(resolveTermsLookups(clause));
+            }
+            for (QueryBuilder clause : boolQueryBuilder.should()) {
+                result.should(resolveTermsLookups(clause));
+            }
+            for (QueryBuilder clause : boolQueryBuilder.mustNot()) {
+                result.mustNot(resolveTermsLookups(clause));
+            }
+
+            return result.minimumShouldMatch(boolQueryBuilder.minimumShouldMatch())
+                .adjustPureNegative(boolQueryBuilder.adjustPureNegative())
+                .boost(boolQueryBuilder.boost())
+                .queryName(boolQueryBuilder.queryName());
+        } else if (queryBuilder instanceof ConstantScoreQueryBuilder) {
+            ConstantScoreQueryBuilder constantScoreQueryBuilder = (ConstantScoreQueryBuilder) queryBuilder;
+
+            return new ConstantScoreQueryBuilder(resolveTermsLookups(constantScoreQueryBuilder.innerQuery())).boost(
+                constantScoreQueryBuilder.boost()
+            ).queryName(constantScoreQueryBuilder.queryName());
+        } else {
+            return queryBuilder;
+        }
+    }
+
 }
@@ -28,7 +28,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
-import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.util.BytesRef;
 
 import org.opensearch.OpenSearchException;
@@ -90,6 +90,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
     private final ThreadContext threadContext;
     private final Mode mode;
     private final DlsQueryParser dlsQueryParser;
+    private final TermsLookupCache termsLookupCache;
     private final IndexNameExpressionResolver resolver;
 
     public DlsFlsValveImpl(
@@ -107,6 +108,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         this.threadContext = threadContext;
         this.mode = Mode.get(settings);
         this.dlsQueryParser = new DlsQueryParser(namedXContentRegistry);
+        this.termsLookupCache = new TermsLookupCache(settings);
     }
 
     /**
@@ -332,6 +334,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
                 OpenSearchSecurityPlugin.GuiceHolder.getIndicesService(),
                 resolver,
                 dlsQueryParser,
+                termsLookupCache,
                 threadContext
             );
         } else {
@@ -361,12 +364,12 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
                 final Set<String> unparsedDlsQueries = queries.get(dlsEval);
 
                 if (unparsedDlsQueries != null && !unparsedDlsQueries.isEmpty()) {
-                    BooleanQuery.Builder queryBuilder = dlsQueryParser.parse(
-                        unparsedDlsQueries,
-                        context.getQueryShardContext(),
-                        (q) -> new ConstantScoreQuery(q)
-                    );
+                    // the DLS part is shared between searches with the same restrictions, so that
+                    // it can be served from the query cache as a filter
+                    final Query restriction = dlsQueryParser.parseCached(unparsedDlsQueries, context.getQueryShardContext());
 
+                    BooleanQuery.Builder queryBuilder = new BooleanQuery.Builder();
+                    queryBuilder.add(restriction, Occur.FILTER);
                     queryBuilder.add(context.parsedQuery().query(), Occur.MUST);
 
                     ParsedQuery dlsQuery = new ParsedQuery(queryBuilder.build());
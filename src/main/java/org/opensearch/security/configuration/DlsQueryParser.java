@@ -11,6 +11,7 @@
 
 package org.opensearch.security.configuration;
 
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -19,26 +20,32 @@ import java.util.function.Function;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.join.BitSetProducer;
 import org.apache.lucene.search.join.ToChildBlockJoinQuery;
 
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.Index;
 import org.opensearch.index.query.AbstractQueryBuilder;
 import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.ScriptQueryBuilder;
 import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.index.query.functionscore.FunctionScoreQueryBuilder;
 import org.opensearch.security.queries.QueryBuilderTraverser;
 
 public final class DlsQueryParser {
@@ -64,6 +71,20 @@ public final class DlsQueryParser {
         .expireAfterWrite(4, TimeUnit.HOURS)
         .build();
 
+    private static Cache<String, Boolean> queryIsCacheableCache = CacheBuilder.newBuilder()
+        .maximumSize(10000)
+        .expireAfterWrite(4, TimeUnit.HOURS)
+        .build();
+
+    /**
+     * Rewritten Lucene DLS queries per index and query set. The mapping version the query was
+     * built against is stored along with the query; a mapping update replaces the entry.
+     */
+    private final Cache<LuceneQueryCacheKey, Tuple<Long, Query>> luceneQueryCache = CacheBuilder.newBuilder()
+        .maximumSize(10000)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .build();
+
     private final NamedXContentRegistry namedXContentRegistry;
 
     public DlsQueryParser(NamedXContentRegistry namedXContentRegistry) {
@@ -107,6 +128,43 @@ public final class DlsQueryParser {
         return dlsQueryBuilder;
     }
 
+    /**
+     * Returns the Lucene query restricting the documents to the given DLS queries. The query is
+     * reused for subsequent searches on the same index as long as its mapping is unchanged, so
+     * identical restrictions get a stable query identity and can be served from the query cache.
+     * Queries which depend on the time of the request (date math in any query type) or on scripts
+     * are never reused; this is decided by the query shard context, which is marked as not cacheable
+     * while such a query is built.
+     */
+    public Query parseCached(Set<String> unparsedDlsQueries, QueryShardContext queryShardContext) {
+
+        if (unparsedDlsQueries == null || unparsedDlsQueries.isEmpty()) {
+            return null;
+        }
+
+        if (!isCacheable(unparsedDlsQueries)) {
+            return parse(unparsedDlsQueries, queryShardContext, (q) -> new ConstantScoreQuery(q)).build();
+        }
+
+        final LuceneQueryCacheKey key = new LuceneQueryCacheKey(queryShardContext.index(), ImmutableSet.copyOf(unparsedDlsQueries));
+        final long mappingVersion = queryShardContext.getIndexSettings().getIndexMetadata().getMappingVersion();
+        final Tuple<Long, Query> cached = luceneQueryCache.getIfPresent(key);
+
+        if (cached != null && cached.v1() == mappingVersion) {
+            return cached.v2();
+        }
+
+        // if the context is not cacheable already (because of the search query), it cannot tell about the DLS queries
+        final boolean contextWasCacheable = queryShardContext.isCacheable();
+        final Query query = parse(unparsedDlsQueries, queryShardContext, (q) -> new ConstantScoreQuery(q)).build();
+
+        if (contextWasCacheable && queryShardContext.isCacheable()) {
+            luceneQueryCache.put(key, new Tuple<>(mappingVersion, query));
+        }
+
+        return query;
+    }
+
     private static void handleNested(
         final QueryShardContext queryShardContext,
         final BooleanQuery.Builder dlsQueryBuilder,
@@ -138,6 +196,33 @@ public final class DlsQueryParser {
         }
     }
 
+    boolean isCacheable(Set<String> unparsedQueries) {
+        for (String query : unparsedQueries) {
+            if (!isCacheable(query)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    boolean isCacheable(String query) {
+        try {
+            return queryIsCacheableCache.get(query, () -> {
+                QueryBuilder queryBuilder = parse(query);
+
+                return !QueryBuilderTraverser.exists(
+                    queryBuilder,
+                    (q) -> (q instanceof ScriptQueryBuilder)
+                        || (q instanceof FunctionScoreQueryBuilder)
+                        || ((q instanceof TermsQueryBuilder) && ((TermsQueryBuilder) q).termsLookup() != null)
+                );
+            });
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error handling parsing " + query, e.getCause());
+        }
+    }
+
     boolean containsTermLookupQuery(Set<String> unparsedQueries) {
         for (String query : unparsedQueries) {
             if (containsTermLookupQuery(query)) {
@@ -171,4 +256,27 @@ public final class DlsQueryParser {
         }
     }
 
+    private static final class LuceneQueryCacheKey {
+        private final Index index;
+        private final Set<String> unparsedDlsQueries;
+
+        private LuceneQueryCacheKey(Index index, Set<String> unparsedDlsQueries) {
+            this.index = index;
+            this.unparsedDlsQueries = unparsedDlsQueries;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, unparsedDlsQueries);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null) return false;
+            if (getClass() != obj.getClass()) return false;
+            LuceneQueryCacheKey other = (LuceneQueryCacheKey) obj;
+            return index.equals(other.index) && unparsedDlsQueries.equals(other.unparsedDlsQueries);
+        }
+    }
 }
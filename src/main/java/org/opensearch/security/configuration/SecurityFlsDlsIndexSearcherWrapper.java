@@ -14,9 +14,13 @@ package org.opensearch.security.configuration;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.LongSupplier;
 
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.search.ConstantScoreQuery;
@@ -30,8 +34,10 @@ import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.shard.ShardUtils;
 import org.opensearch.security.auditlog.AuditLog;
+import org.opensearch.security.compliance.ComplianceConfig;
 import org.opensearch.security.compliance.ComplianceIndexingOperationListener;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
+import org.opensearch.security.support.Base64Helper;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HeaderHelper;
 import org.opensearch.security.support.SecurityUtils;
@@ -42,6 +48,8 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SecurityIndexSearcherWra
     // We may consider using MapperService.isMetadataField() instead of relying on the static set or
     // (if it is too costly or does not meet requirements) use IndicesModule.getBuiltInMetadataFields()
     // for OpenSearch version specific Set of meta fields
+    private static final String DECODED_HEADERS_TRANSIENT = ConfigConstants.OPENDISTRO_SECURITY_CONFIG_PREFIX + "dls_fls_decoded_headers";
+
     private static final Set<String> metaFields = Sets.newHashSet(
         "_source",
         "_version",
@@ -90,67 +98,150 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SecurityIndexSearcherWra
         this.salt = salt;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     protected DirectoryReader dlsFlsWrap(final DirectoryReader reader, boolean isAdmin) throws IOException {
 
-        final ShardId shardId = ShardUtils.extractShardId(reader);
-
-        Set<String> flsFields = null;
-        Set<String> maskedFields = null;
-        Query dlsQuery = null;
-
-        if (!isAdmin) {
-
-            final Map<String, Set<String>> allowedFlsFields = (Map<String, Set<String>>) HeaderHelper.deserializeSafeFromHeader(
-                threadContext,
-                ConfigConstants.OPENDISTRO_SECURITY_FLS_FIELDS_HEADER
-            );
-            final Map<String, Set<String>> queries = (Map<String, Set<String>>) HeaderHelper.deserializeSafeFromHeader(
-                threadContext,
-                ConfigConstants.OPENDISTRO_SECURITY_DLS_QUERY_HEADER
-            );
-            final Map<String, Set<String>> maskedFieldsMap = (Map<String, Set<String>>) HeaderHelper.deserializeSafeFromHeader(
-                threadContext,
-                ConfigConstants.OPENDISTRO_SECURITY_MASKED_FIELD_HEADER
-            );
+        final Restriction restriction = isAdmin ? Restriction.NONE : getRestriction();
 
-            final String flsEval = SecurityUtils.evalMap(allowedFlsFields, index.getName());
-            final String dlsEval = SecurityUtils.evalMap(queries, index.getName());
-            final String maskedEval = SecurityUtils.evalMap(maskedFieldsMap, index.getName());
+        if (restriction.isEmpty() && !isReadHistoryEnabled()) {
+            // nothing to filter, mask or audit for this index
+            return reader;
+        }
 
-            if (flsEval != null) {
-                flsFields = Sets.union(metaFields, allowedFlsFields.get(flsEval));
-            }
+        // the reader returned here is closed by the caller when the searcher is released, so it must not be reused
+        return wrap(reader, restriction);
+    }
 
-            if (dlsEval != null) {
-                Set<String> unparsedDlsQueries = queries.get(dlsEval);
+    private DirectoryReader wrap(final DirectoryReader reader, final Restriction restriction) throws IOException {
 
-                if (unparsedDlsQueries != null && !unparsedDlsQueries.isEmpty()) {
-                    QueryShardContext queryShardContext = this.indexService.newQueryShardContext(shardId.getId(), null, nowInMillis, null);
-                    // no need for scoring here, so its possible to wrap this in a
-                    // ConstantScoreQuery
-                    dlsQuery = new ConstantScoreQuery(dlsQueryParser.parse(unparsedDlsQueries, queryShardContext).build());
-                }
-            }
+        final ShardId shardId = ShardUtils.extractShardId(reader);
+        Query dlsQuery = null;
 
-            if (maskedEval != null) {
-                maskedFields = new HashSet<>();
-                maskedFields.addAll(maskedFieldsMap.get(maskedEval));
-            }
+        if (restriction.dlsQueries != null) {
+            QueryShardContext queryShardContext = this.indexService.newQueryShardContext(shardId.getId(), null, nowInMillis, null);
+            // no need for scoring here, so its possible to wrap this in a
+            // ConstantScoreQuery
+            dlsQuery = new ConstantScoreQuery(dlsQueryParser.parse(restriction.dlsQueries, queryShardContext).build());
         }
 
         return new DlsFlsFilterLeafReader.DlsFlsDirectoryReader(
             reader,
-            flsFields,
+            restriction.flsFields,
             dlsQuery,
             indexService,
             threadContext,
             clusterService,
             auditlog,
-            maskedFields,
+            restriction.maskedFields,
             shardId,
             salt
         );
     }
+
+    private boolean isReadHistoryEnabled() {
+        final ComplianceConfig complianceConfig = auditlog.getComplianceConfig();
+        return complianceConfig != null && complianceConfig.readHistoryEnabledForIndex(index.getName());
+    }
+
+    /**
+     * Returns the restriction of the current request for this index. The FLS, DLS and masked field headers are
+     * decoded once per request and kept in a transient together with the restrictions evaluated so far.
+     */
+    private Restriction getRestriction() {
+        final String flsHeader = HeaderHelper.getSafeFromHeader(threadContext, ConfigConstants.OPENDISTRO_SECURITY_FLS_FIELDS_HEADER);
+        final String dlsHeader = HeaderHelper.getSafeFromHeader(threadContext, ConfigConstants.OPENDISTRO_SECURITY_DLS_QUERY_HEADER);
+        final String maskedHeader = HeaderHelper.getSafeFromHeader(threadContext, ConfigConstants.OPENDISTRO_SECURITY_MASKED_FIELD_HEADER);
+
+        if (Strings.isNullOrEmpty(flsHeader) && Strings.isNullOrEmpty(dlsHeader) && Strings.isNullOrEmpty(maskedHeader)) {
+            return Restriction.NONE;
+        }
+
+        DecodedHeaders headers = threadContext.getTransient(DECODED_HEADERS_TRANSIENT);
+
+        if (headers == null || !headers.isFor(flsHeader, dlsHeader, maskedHeader)) {
+            headers = new DecodedHeaders(flsHeader, dlsHeader, maskedHeader);
+
+            if (threadContext.getTransient(DECODED_HEADERS_TRANSIENT) == null) {
+                threadContext.putTransient(DECODED_HEADERS_TRANSIENT, headers);
+            }
+        }
+
+        return headers.restrictionFor(index.getName());
+    }
+
+    /**
+     * The FLS, DLS and masked field headers of a request with the restrictions evaluated from them per index
+     */
+    private static final class DecodedHeaders {
+        private final String flsHeader;
+        private final String dlsHeader;
+        private final String maskedHeader;
+        private final Map<String, Set<String>> allowedFlsFields;
+        private final Map<String, Set<String>> queries;
+        private final Map<String, Set<String>> maskedFieldsMap;
+        private final Map<String, Restriction> restrictions = new ConcurrentHashMap<>();
+
+        private DecodedHeaders(final String flsHeader, final String dlsHeader, final String maskedHeader) {
+            this.flsHeader = flsHeader;
+            this.dlsHeader = dlsHeader;
+            this.maskedHeader = maskedHeader;
+            this.allowedFlsFields = deserialize(flsHeader);
+            this.queries = deserialize(dlsHeader);
+            this.maskedFieldsMap = deserialize(maskedHeader);
+        }
+
+        private boolean isFor(final String flsHeader, final String dlsHeader, final String maskedHeader) {
+            return Objects.equals(this.flsHeader, flsHeader)
+                && Objects.equals(this.dlsHeader, dlsHeader)
+                && Objects.equals(this.maskedHeader, maskedHeader);
+        }
+
+        private Restriction restrictionFor(final String index) {
+            return restrictions.computeIfAbsent(index, this::evaluate);
+        }
+
+        private Restriction evaluate(final String index) {
+            final String flsEval = SecurityUtils.evalMap(allowedFlsFields, index);
+            final String dlsEval = SecurityUtils.evalMap(queries, index);
+            final String maskedEval = SecurityUtils.evalMap(maskedFieldsMap, index);
+
+            final Set<String> flsFields = flsEval != null
+                ? ImmutableSet.copyOf(Sets.union(metaFields, allowedFlsFields.get(flsEval)))
+                : null;
+            final Set<String> dlsQueries = dlsEval != null ? queries.get(dlsEval) : null;
+            final Set<String> maskedFields = maskedEval != null ? new HashSet<>(maskedFieldsMap.get(maskedEval)) : null;
+
+            return new Restriction(
+                flsFields,
+                dlsQueries != null && !dlsQueries.isEmpty() ? ImmutableSet.copyOf(dlsQueries) : null,
+                maskedFields
+            );
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, Set<String>> deserialize(final String header) {
+            return Strings.isNullOrEmpty(header) ? null : (Map<String, Set<String>>) Base64Helper.deserializeObject(header);
+        }
+    }
+
+    /**
+     * The FLS fields, DLS queries and masked fields which apply to an index, null if there are none
+     */
+    private static final class Restriction {
+        private static final Restriction NONE = new Restriction(null, null, null);
+
+        private final Set<String> flsFields;
+        private final Set<String> dlsQueries;
+        private final Set<String> maskedFields;
+
+        private Restriction(final Set<String> flsFields, final Set<String> dlsQueries, final Set<String> maskedFields) {
+            this.flsFields = flsFields;
+            this.dlsQueries = dlsQueries;
+            this.maskedFields = maskedFields;
+        }
+
+        private boolean isEmpty() {
+            return flsFields == null && dlsQueries == null && (maskedFields == null || maskedFields.isEmpty());
+        }
+    }
 }
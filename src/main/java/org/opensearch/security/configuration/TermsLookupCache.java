@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.indices.TermsLookup;
+import org.opensearch.security.securityconf.EvaluatedDlsFlsConfig;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityUtils;
+
+/**
+ * Short-lived cache of the values resolved for terms lookup queries (TLQ) in DLS queries. This allows
+ * filter level DLS to replace the terms lookups by plain terms queries, so repeated requests do not
+ * need to fetch the lookup documents again.
+ *
+ * The lookup document is fetched with the privileges of the user, so the values depend on the DLS, FLS
+ * and field masking restrictions the user has on the lookup index. The entries are thus keyed by lookup
+ * index, id, routing and path together with these restrictions; users with different restrictions on the
+ * lookup index never share an entry. Changes of the lookup document become visible only after the entry
+ * expired. The TTL is thus meant to be in the range of seconds.
+ */
+public class TermsLookupCache {
+
+    private final Cache<Key, List<Object>> cache;
+
+    public TermsLookupCache(Settings settings) {
+        this(settings, Ticker.systemTicker());
+    }
+
+    TermsLookupCache(Settings settings, Ticker ticker) {
+        int ttlSeconds = settings.getAsInt(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS, 10);
+        int maxSize = settings.getAsInt(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_SIZE, 10000);
+
+        if (ttlSeconds > 0 && maxSize > 0) {
+            this.cache = CacheBuilder.newBuilder()
+                .ticker(ticker)
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+        } else {
+            this.cache = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * @param dlsFlsConfig the DLS/FLS configuration of the user the lookup is resolved for
+     * @return the cached values or null if the terms lookup was not resolved yet for these restrictions
+     */
+    public List<Object> get(TermsLookup termsLookup, EvaluatedDlsFlsConfig dlsFlsConfig) {
+        if (cache == null) {
+            return null;
+        }
+
+        return cache.getIfPresent(new Key(termsLookup, dlsFlsConfig));
+    }
+
+    /**
+     * Extracts the values at the lookup path from the given lookup document, the same way
+     * TermsQueryBuilder does it.
+     *
+     * @param dlsFlsConfig the DLS/FLS configuration of the user the lookup document was fetched for
+     */
+    public List<Object> put(TermsLookup termsLookup, EvaluatedDlsFlsConfig dlsFlsConfig, GetResponse getResponse) {
+        List<Object> values;
+
+        if (getResponse.isExists() && !getResponse.isSourceEmpty()) {
+            values = Collections.unmodifiableList(XContentMapValues.extractRawValues(termsLookup.path(), getResponse.getSourceAsMap()));
+        } else {
+            values = Collections.emptyList();
+        }
+
+        if (cache != null) {
+            cache.put(new Key(termsLookup, dlsFlsConfig), values);
+        }
+
+        return values;
+    }
+
+    private static final class Key {
+        private final TermsLookup termsLookup;
+        // DLS queries, FLS fields and masked fields which apply to the lookup index
+        private final List<Set<String>> restrictions;
+
+        private Key(TermsLookup termsLookup, EvaluatedDlsFlsConfig dlsFlsConfig) {
+            this.termsLookup = termsLookup;
+            this.restrictions = Arrays.asList(
+                restrictionsOn(dlsFlsConfig.getDlsQueriesByIndex(), termsLookup.index()),
+                restrictionsOn(dlsFlsConfig.getFlsByIndex(), termsLookup.index()),
+                restrictionsOn(dlsFlsConfig.getFieldMaskingByIndex(), termsLookup.index())
+            );
+        }
+
+        private static Set<String> restrictionsOn(Map<String, Set<String>> restrictionsByIndex, String index) {
+            final String key = SecurityUtils.evalMap(restrictionsByIndex, index);
+            return key != null ? restrictionsByIndex.get(key) : null;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * termsLookup.hashCode() + restrictions.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            final Key other = (Key) obj;
+            return termsLookup.equals(other.termsLookup) && restrictions.equals(other.restrictions);
+        }
+    }
+}
@@ -18,7 +18,6 @@ import java.util.Set;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableList;
-import org.bouncycastle.crypto.generators.OpenBSDBCrypt;
 
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.client.Client;
@@ -40,6 +39,8 @@ import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.configuration.ConfigurationRepository;
 import org.opensearch.security.dlic.rest.validation.AbstractConfigurationValidator;
 import org.opensearch.security.dlic.rest.validation.AccountValidator;
+import org.opensearch.security.hasher.PasswordHasher;
+import org.opensearch.security.hasher.PasswordHashers;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
 import org.opensearch.security.securityconf.Hashed;
 import org.opensearch.security.securityconf.impl.CType;
@@ -65,6 +66,7 @@ public class AccountApiAction extends AbstractApiAction {
 
     private final PrivilegesEvaluator privilegesEvaluator;
     private final ThreadContext threadContext;
+    private final PasswordHasher passwordHasher;
 
     public AccountApiAction(
         Settings settings,
@@ -82,6 +84,7 @@ public class AccountApiAction extends AbstractApiAction {
         super(settings, configPath, controller, client, adminDNs, cl, cs, principalExtractor, privilegesEvaluator, threadPool, auditLog);
         this.privilegesEvaluator = privilegesEvaluator;
         this.threadContext = threadPool.getThreadContext();
+        this.passwordHasher = PasswordHashers.fromSettings(settings);
     }
 
     @Override
@@ -206,7 +209,7 @@ public class AccountApiAction extends AbstractApiAction {
         final Hashed internalUserEntry = (Hashed) internalUser.getCEntry(username);
         final String currentHash = internalUserEntry.getHash();
 
-        if (currentHash == null || !OpenBSDBCrypt.checkPassword(currentHash, currentPassword.toCharArray())) {
+        if (currentHash == null || !PasswordHashers.check(currentPassword.toCharArray(), currentHash)) {
             badRequestResponse(channel, "Could not validate your current password.");
             return;
         }
@@ -217,7 +220,7 @@ public class AccountApiAction extends AbstractApiAction {
         if (Strings.isNullOrEmpty(password)) {
             hash = securityJsonNode.get("hash").asString();
         } else {
-            hash = hash(password.toCharArray());
+            hash = hash(password.toCharArray(), passwordHasher);
         }
         if (Strings.isNullOrEmpty(hash)) {
             badRequestResponse(channel, "Both provided password and hash cannot be null/empty.");
@@ -37,6 +37,8 @@ import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.configuration.ConfigurationRepository;
 import org.opensearch.security.dlic.rest.validation.AbstractConfigurationValidator;
 import org.opensearch.security.dlic.rest.validation.InternalUsersValidator;
+import org.opensearch.security.hasher.PasswordHasher;
+import org.opensearch.security.hasher.PasswordHashers;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
 import org.opensearch.security.securityconf.Hashed;
 import org.opensearch.security.securityconf.impl.CType;
@@ -76,6 +78,8 @@ public class InternalUsersApiAction extends PatchableResourceApiAction {
 
     UserService userService;
 
+    private final PasswordHasher passwordHasher;
+
     @Inject
     public InternalUsersApiAction(
         final Settings settings,
@@ -93,6 +97,7 @@ public class InternalUsersApiAction extends PatchableResourceApiAction {
     ) {
         super(settings, configPath, controller, client, adminDNs, cl, cs, principalExtractor, evaluator, threadPool, auditLog);
         this.userService = userService;
+        this.passwordHasher = PasswordHashers.fromSettings(settings);
     }
 
     @Override
@@ -291,7 +296,7 @@ public class InternalUsersApiAction extends PatchableResourceApiAction {
             }
 
             ((ObjectNode) updatedResourceAsJsonNode).remove("password");
-            ((ObjectNode) updatedResourceAsJsonNode).set("hash", new TextNode(hash(plainTextPassword.toCharArray())));
+            ((ObjectNode) updatedResourceAsJsonNode).set("hash", new TextNode(hash(plainTextPassword.toCharArray(), passwordHasher)));
             return retVal;
         }
 
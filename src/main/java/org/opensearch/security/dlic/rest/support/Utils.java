@@ -15,7 +15,6 @@ import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
-import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -30,7 +29,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.apache.commons.lang3.tuple.Pair;
-import org.bouncycastle.crypto.generators.OpenBSDBCrypt;
 
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchParseException;
@@ -48,6 +46,8 @@ import org.opensearch.rest.NamedRoute;
 import org.opensearch.rest.RestHandler.DeprecatedRoute;
 import org.opensearch.rest.RestHandler.Route;
 import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.hasher.PasswordHasher;
+import org.opensearch.security.hasher.PasswordHashers;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.user.User;
 
@@ -205,12 +205,22 @@ public class Utils {
      * @return hash of the password
      */
     public static String hash(final char[] clearTextPassword) {
-        final byte[] salt = new byte[16];
-        new SecureRandom().nextBytes(salt);
-        final String hash = OpenBSDBCrypt.generate((Objects.requireNonNull(clearTextPassword)), salt, 12);
-        Arrays.fill(salt, (byte) 0);
-        Arrays.fill(clearTextPassword, '\0');
-        return hash;
+        return hash(clearTextPassword, PasswordHashers.defaultHasher());
+    }
+
+    /**
+     * This generates hash for a given password with the given algorithm
+     * @param clearTextPassword plain text password for which hash should be generated.
+     *                          This will be cleared from memory.
+     * @param passwordHasher the algorithm and parameters of the hash
+     * @return hash of the password
+     */
+    public static String hash(final char[] clearTextPassword, final PasswordHasher passwordHasher) {
+        try {
+            return passwordHasher.hash(Objects.requireNonNull(clearTextPassword));
+        } finally {
+            Arrays.fill(clearTextPassword, '\0');
+        }
     }
 
     /**
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.hasher;
+
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+
+/**
+ * Argon2id in the PHC string format, eg. {@code $argon2id$v=19$m=19456,t=2,p=1$<salt>$<hash>}, where salt and hash
+ * are base64 encoded without padding.
+ */
+public final class Argon2PasswordHasher implements PasswordHasher {
+
+    static final String PREFIX = "$argon2id$";
+
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+    /** the upper bounds of the parameters of hashes, the parameters of stored hashes are checked before computing them */
+    public static final int MAX_MEMORY_KB = 262_144;
+    public static final int MAX_ITERATIONS = 32;
+    public static final int MAX_PARALLELISM = 16;
+    private static final int MAX_LENGTH = 64;
+
+    private final int memoryKb;
+    private final int iterations;
+    private final int parallelism;
+
+    public Argon2PasswordHasher(final int memoryKb, final int iterations, final int parallelism) {
+        if (!valid(memoryKb, iterations, parallelism)) {
+            throw new IllegalArgumentException(
+                "Argon2 memory must be between 8 KB per lane and "
+                    + MAX_MEMORY_KB
+                    + " KB, iterations between 1 and "
+                    + MAX_ITERATIONS
+                    + " and parallelism between 1 and "
+                    + MAX_PARALLELISM
+            );
+        }
+        this.memoryKb = memoryKb;
+        this.iterations = iterations;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String hash(final char[] password) {
+        final byte[] salt = new byte[SALT_LENGTH];
+        new SecureRandom().nextBytes(salt);
+        final Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX
+            + "v=19$"
+            + parameters(memoryKb, iterations, parallelism)
+            + "$"
+            + encoder.encodeToString(salt)
+            + "$"
+            + encoder.encodeToString(derive(password, salt, memoryKb, iterations, parallelism, HASH_LENGTH));
+    }
+
+    @Override
+    public boolean check(final char[] password, final String hash) {
+        final String[] parts = split(hash);
+        final int[] hashParameters = parseParameters(parts[1]);
+        final byte[] salt = Base64.getDecoder().decode(parts[2]);
+        final byte[] expected = Base64.getDecoder().decode(parts[3]);
+        if (salt.length > MAX_LENGTH || expected.length == 0 || expected.length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid Argon2 hash");
+        }
+        return MessageDigest.isEqual(
+            expected,
+            derive(password, salt, hashParameters[0], hashParameters[1], hashParameters[2], expected.length)
+        );
+    }
+
+    @Override
+    public boolean handles(final String hash) {
+        return hash.startsWith(PREFIX);
+    }
+
+    @Override
+    public boolean needsRehash(final String hash) {
+        if (!handles(hash)) {
+            return true;
+        }
+        try {
+            return !split(hash)[1].equals(parameters(memoryKb, iterations, parallelism));
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    private static String parameters(final int memoryKb, final int iterations, final int parallelism) {
+        return "m=" + memoryKb + ",t=" + iterations + ",p=" + parallelism;
+    }
+
+    /**
+     * @return version, parameters, salt and hash
+     */
+    private static String[] split(final String hash) {
+        final String[] parts = hash.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 4 || !"v=19".equals(parts[0])) {
+            throw new IllegalArgumentException("Invalid or unsupported Argon2 hash");
+        }
+        return parts;
+    }
+
+    private static int[] parseParameters(final String parameters) {
+        final String[] values = parameters.split(",");
+        if (values.length != 3 || !values[0].startsWith("m=") || !values[1].startsWith("t=") || !values[2].startsWith("p=")) {
+            throw new IllegalArgumentException("Invalid Argon2 parameters " + parameters);
+        }
+        final int[] result = new int[3];
+        for (int i = 0; i < 3; i++) {
+            result[i] = Integer.parseInt(values[i].substring(2));
+        }
+        if (!valid(result[0], result[1], result[2])) {
+            throw new IllegalArgumentException("Invalid Argon2 parameters " + parameters);
+        }
+        return result;
+    }
+
+    private static boolean valid(final int memoryKb, final int iterations, final int parallelism) {
+        return parallelism >= 1
+            && parallelism <= MAX_PARALLELISM
+            && iterations >= 1
+            && iterations <= MAX_ITERATIONS
+            && memoryKb >= 8 * parallelism
+            && memoryKb <= MAX_MEMORY_KB;
+    }
+
+    private static byte[] derive(
+        final char[] password,
+        final byte[] salt,
+        final int memoryKb,
+        final int iterations,
+        final int parallelism,
+        final int length
+    ) {
+        final Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(
+            new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id).withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                .withSalt(salt)
+                .withMemoryAsKB(memoryKb)
+                .withIterations(iterations)
+                .withParallelism(parallelism)
+                .build()
+        );
+        final byte[] result = new byte[length];
+        generator.generateBytes(password, result);
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.hasher;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+import org.bouncycastle.crypto.generators.OpenBSDBCrypt;
+
+/**
+ * BCrypt hashes as created by OpenBSD, eg. {@code $2y$12$...}
+ */
+public final class BCryptPasswordHasher implements PasswordHasher {
+
+    /** the upper bound of the cost factor of hashes, as checking a hash with 31 rounds takes days */
+    public static final int MAX_ROUNDS = 16;
+
+    private final int rounds;
+
+    public BCryptPasswordHasher(final int rounds) {
+        if (rounds < 4 || rounds > MAX_ROUNDS) {
+            throw new IllegalArgumentException("BCrypt rounds must be between 4 and " + MAX_ROUNDS);
+        }
+        this.rounds = rounds;
+    }
+
+    @Override
+    public String hash(final char[] password) {
+        final byte[] salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+        try {
+            return OpenBSDBCrypt.generate(password, salt, rounds);
+        } finally {
+            Arrays.fill(salt, (byte) 0);
+        }
+    }
+
+    @Override
+    public boolean check(final char[] password, final String hash) {
+        if (hash.length() < 7 || parseRounds(hash) > MAX_ROUNDS) {
+            throw new IllegalArgumentException("Invalid BCrypt hash");
+        }
+        return OpenBSDBCrypt.checkPassword(hash, password);
+    }
+
+    @Override
+    public boolean handles(final String hash) {
+        return hash.startsWith("$2");
+    }
+
+    @Override
+    public boolean needsRehash(final String hash) {
+        if (!handles(hash) || hash.length() < 7) {
+            return true;
+        }
+        try {
+            return parseRounds(hash) != rounds;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static int parseRounds(final String hash) {
+        return Integer.parseInt(hash.substring(4, 6));
+    }
+}
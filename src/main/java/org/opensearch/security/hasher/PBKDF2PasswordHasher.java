@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.hasher;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * PBKDF2 with HMAC-SHA256 in the format {@code $pbkdf2-sha256$<iterations>$<salt>$<hash>}, where salt and hash are
+ * base64 encoded without padding.
+ */
+public final class PBKDF2PasswordHasher implements PasswordHasher {
+
+    static final String PREFIX = "$pbkdf2-sha256$";
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+    /** the upper bounds of the parameters of hashes, the parameters of stored hashes are checked before computing them */
+    public static final int MAX_ITERATIONS = 5_000_000;
+    private static final int MAX_LENGTH = 64;
+
+    private final int iterations;
+
+    public PBKDF2PasswordHasher(final int iterations) {
+        if (iterations < 1 || iterations > MAX_ITERATIONS) {
+            throw new IllegalArgumentException("PBKDF2 iterations must be between 1 and " + MAX_ITERATIONS);
+        }
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String hash(final char[] password) {
+        final byte[] salt = new byte[SALT_LENGTH];
+        new SecureRandom().nextBytes(salt);
+        final Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(
+            derive(password, salt, iterations, HASH_LENGTH)
+        );
+    }
+
+    @Override
+    public boolean check(final char[] password, final String hash) {
+        final String[] parts = split(hash);
+        final int hashIterations = Integer.parseInt(parts[0]);
+        final byte[] salt = Base64.getDecoder().decode(parts[1]);
+        final byte[] expected = Base64.getDecoder().decode(parts[2]);
+        if (hashIterations < 1
+            || hashIterations > MAX_ITERATIONS
+            || salt.length > MAX_LENGTH
+            || expected.length == 0
+            || expected.length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid PBKDF2 hash");
+        }
+        return MessageDigest.isEqual(expected, derive(password, salt, hashIterations, expected.length));
+    }
+
+    @Override
+    public boolean handles(final String hash) {
+        return hash.startsWith(PREFIX);
+    }
+
+    @Override
+    public boolean needsRehash(final String hash) {
+        if (!handles(hash)) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(split(hash)[0]) != iterations;
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    private static String[] split(final String hash) {
+        final String[] parts = hash.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid PBKDF2 hash");
+        }
+        return parts;
+    }
+
+    private static byte[] derive(final char[] password, final byte[] salt, final int iterations, final int length) {
+        final PBEKeySpec spec = new PBEKeySpec(password, salt, iterations, length * 8);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to compute PBKDF2 hash", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
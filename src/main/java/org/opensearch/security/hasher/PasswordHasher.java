@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.hasher;
+
+/**
+ * Creates and verifies password hashes of internal users. The parameters of a hash (cost, salt) are stored in the hash
+ * itself, so an instance can verify hashes created with other parameters of the same algorithm.
+ */
+public interface PasswordHasher {
+
+    /**
+     * Hashes the password with a random salt. The password array is not cleared.
+     */
+    String hash(char[] password);
+
+    /**
+     * Checks the password against a hash of this algorithm
+     */
+    boolean check(char[] password, String hash);
+
+    /**
+     * Checks if the hash was created with this algorithm
+     */
+    boolean handles(String hash);
+
+    /**
+     * Checks if the hash was created with another algorithm or other parameters than this instance uses
+     */
+    boolean needsRehash(String hash);
+}
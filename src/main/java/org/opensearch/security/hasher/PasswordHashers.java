@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.hasher;
+
+import java.util.Locale;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * Creates the password hasher configured with the plugins.security.password.hashing settings and verifies hashes of
+ * all supported algorithms, which are told apart by the prefix of the hash.
+ */
+public final class PasswordHashers {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+    public static final String ARGON2ID = "argon2id";
+
+    public static final int DEFAULT_BCRYPT_ROUNDS = 12;
+    public static final int DEFAULT_PBKDF2_ITERATIONS = 600_000;
+    public static final int DEFAULT_ARGON2_MEMORY_KB = 19_456;
+    public static final int DEFAULT_ARGON2_ITERATIONS = 2;
+    public static final int DEFAULT_ARGON2_PARALLELISM = 1;
+
+    private static final PasswordHasher DEFAULT = new BCryptPasswordHasher(DEFAULT_BCRYPT_ROUNDS);
+
+    // the parameters for verification are taken from the hash, so one instance per algorithm is sufficient
+    private static final PasswordHasher[] VERIFIERS = {
+        DEFAULT,
+        new PBKDF2PasswordHasher(DEFAULT_PBKDF2_ITERATIONS),
+        new Argon2PasswordHasher(DEFAULT_ARGON2_MEMORY_KB, DEFAULT_ARGON2_ITERATIONS, DEFAULT_ARGON2_PARALLELISM) };
+
+    private PasswordHashers() {}
+
+    /**
+     * @return the bcrypt hasher with 12 rounds, which was the only supported algorithm in earlier versions
+     */
+    public static PasswordHasher defaultHasher() {
+        return DEFAULT;
+    }
+
+    public static PasswordHasher fromSettings(final Settings settings) {
+        final String algorithm = settings.get(ConfigConstants.SECURITY_PASSWORD_HASHING_ALGORITHM, BCRYPT);
+
+        switch (algorithm.toLowerCase(Locale.ROOT)) {
+            case BCRYPT:
+                return new BCryptPasswordHasher(
+                    settings.getAsInt(ConfigConstants.SECURITY_PASSWORD_HASHING_BCRYPT_ROUNDS, DEFAULT_BCRYPT_ROUNDS)
+                );
+            case PBKDF2:
+                return new PBKDF2PasswordHasher(
+                    settings.getAsInt(ConfigConstants.SECURITY_PASSWORD_HASHING_PBKDF2_ITERATIONS, DEFAULT_PBKDF2_ITERATIONS)
+                );
+            case ARGON2ID:
+                return new Argon2PasswordHasher(
+                    settings.getAsInt(ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_MEMORY_KB, DEFAULT_ARGON2_MEMORY_KB),
+                    settings.getAsInt(ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_ITERATIONS, DEFAULT_ARGON2_ITERATIONS),
+                    settings.getAsInt(ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_PARALLELISM, DEFAULT_ARGON2_PARALLELISM)
+                );
+            default:
+                throw new IllegalArgumentException(
+                    "Unsupported password hashing algorithm " + algorithm + ", supported are " + BCRYPT + ", " + PBKDF2 + " and " + ARGON2ID
+                );
+        }
+    }
+
+    /**
+     * Checks the password against a hash of any supported algorithm
+     *
+     * @throws IllegalArgumentException if the hash is malformed or of an unsupported algorithm
+     */
+    public static boolean check(final char[] password, final String hash) {
+        for (PasswordHasher verifier : VERIFIERS) {
+            if (verifier.handles(hash)) {
+                return verifier.check(password, hash);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported password hash format");
+    }
+}
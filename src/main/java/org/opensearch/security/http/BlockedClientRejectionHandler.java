@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.http;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.security.support.SecurityStats;
+
+/**
+ * Rejects connections of clients whose IP address is blocked by an IP based auth failure listener,
+ * before any TLS or HTTP processing happens. The check is done when the connection is accepted and
+ * again when the first bytes arrive; afterwards the handler removes itself from the pipeline.
+ *
+ * Connections are just closed, as the client cannot read a response before the TLS handshake. On plain
+ * HTTP connections a pre-encoded 429 response is sent first. Requests of clients which get blocked while
+ * their connection is open are still rejected by the BackendRegistry.
+ *
+ * The check applies to the address of the connection only. Connections of trusted proxies are never rejected here,
+ * the predicate is expected to exempt them; blocked clients behind a proxy are rejected by the BackendRegistry
+ * once their address has been resolved from the X-Forwarded-For header.
+ */
+@ChannelHandler.Sharable
+public class BlockedClientRejectionHandler extends ChannelInboundHandlerAdapter {
+
+    public static final String NAME = "blocked_client_rejection";
+
+    private static final Logger log = LogManager.getLogger(BlockedClientRejectionHandler.class);
+    private static final ByteBuf TOO_MANY_REQUESTS = Unpooled.unreleasableBuffer(
+        Unpooled.copiedBuffer("HTTP/1.1 429 Too Many Requests\r\ncontent-length: 0\r\nconnection: close\r\n\r\n", StandardCharsets.US_ASCII)
+    );
+
+    private final Predicate<InetAddress> isBlocked;
+    private final boolean sendResponse;
+    private final LongAdder rejectedOnAccept;
+    private final LongAdder rejectedOnFirstBytes;
+
+    /**
+     * @param stats the stats of the node
+     * @param isBlocked the check whether the address of a connection is blocked; must be cheap and must not block
+     * @param sendResponse true if the connection is not encrypted, so that a 429 response can be sent
+     */
+    public BlockedClientRejectionHandler(SecurityStats stats, Predicate<InetAddress> isBlocked, boolean sendResponse) {
+        this.isBlocked = isBlocked;
+        this.sendResponse = sendResponse;
+        this.rejectedOnAccept = stats.counter("http.blocked_clients.rejected_on_accept");
+        this.rejectedOnFirstBytes = stats.counter("http.blocked_clients.rejected_on_first_bytes");
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        if (isBlocked(ctx.channel().remoteAddress())) {
+            rejectedOnAccept.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Closing connection of blocked address {}", ctx.channel().remoteAddress());
+            }
+            ctx.close();
+            return;
+        }
+
+        ctx.fireChannelActive();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        ctx.pipeline().remove(this);
+
+        if (isBlocked(ctx.channel().remoteAddress())) {
+            ReferenceCountUtil.release(msg);
+            rejectedOnFirstBytes.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Rejecting first request of blocked address {}", ctx.channel().remoteAddress());
+            }
+
+            if (sendResponse) {
+                ctx.writeAndFlush(TOO_MANY_REQUESTS.duplicate()).addListener(ChannelFutureListener.CLOSE);
+            } else {
+                ctx.close();
+            }
+            return;
+        }
+
+        ctx.fireChannelRead(msg);
+    }
+
+    private boolean isBlocked(SocketAddress address) {
+        if (!(address instanceof InetSocketAddress)) {
+            return false;
+        }
+
+        try {
+            return isBlocked.test(((InetSocketAddress) address).getAddress());
+        } catch (Exception e) {
+            log.warn("Error while checking whether {} is blocked", address, e);
+            return false;
+        }
+    }
+}
@@ -41,6 +41,7 @@ import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.security.auth.HTTPAuthenticator;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.HTTPHelper;
 import org.opensearch.security.user.AuthCredentials;
 
 public class HTTPProxyAuthenticator implements HTTPAuthenticator {
@@ -48,11 +49,17 @@ public class HTTPProxyAuthenticator implements HTTPAuthenticator {
     protected final Logger log = LogManager.getLogger(this.getClass());
     private volatile Settings settings;
     private final Pattern rolesSeparator;
+    /** the separator if it is a plain string and not a regular expression, null otherwise */
+    private final String literalRolesSeparator;
 
     public HTTPProxyAuthenticator(Settings settings, final Path configPath) {
         super();
         this.settings = settings;
-        this.rolesSeparator = Pattern.compile(settings.get("roles_separator", ","));
+        final String separator = settings.get("roles_separator", ",");
+        this.rolesSeparator = Pattern.compile(separator);
+        this.literalRolesSeparator = !separator.isEmpty() && separator.chars().noneMatch(c -> "\\[](){}.*+?^$|".indexOf(c) >= 0)
+            ? separator
+            : null;
     }
 
     @Override
@@ -71,17 +78,24 @@ public class HTTPProxyAuthenticator implements HTTPAuthenticator {
             log.debug("RolesHeader {}, value {}", rolesHeader, rolesHeader == null ? null : request.header(rolesHeader));
         }
 
-        if (!Strings.isNullOrEmpty(userHeader) && !Strings.isNullOrEmpty((String) request.header(userHeader))) {
+        final String user = Strings.isNullOrEmpty(userHeader) ? null : request.header(userHeader);
 
-            String[] backendRoles = null;
+        if (!Strings.isNullOrEmpty(user)) {
 
-            if (!Strings.isNullOrEmpty(rolesHeader) && !Strings.isNullOrEmpty((String) request.header(rolesHeader))) {
-                backendRoles = rolesSeparator.splitAsStream((String) request.header(rolesHeader))
-                    .map(String::trim)
-                    .filter(Predicates.not(String::isEmpty))
-                    .toArray(String[]::new);
+            String[] backendRoles = null;
+            final String roles = Strings.isNullOrEmpty(rolesHeader) ? null : request.header(rolesHeader);
+
+            if (!Strings.isNullOrEmpty(roles)) {
+                if (literalRolesSeparator != null) {
+                    backendRoles = HTTPHelper.splitHeaderValue(roles, literalRolesSeparator);
+                } else {
+                    backendRoles = rolesSeparator.splitAsStream(roles)
+                        .map(String::trim)
+                        .filter(Predicates.not(String::isEmpty))
+                        .toArray(String[]::new);
+                }
             }
-            return new AuthCredentials((String) request.header(userHeader), backendRoles).markComplete();
+            return new AuthCredentials(user, backendRoles).markComplete();
         } else {
             log.trace("No '{}' header, send 401", userHeader);
             return null;
@@ -44,6 +44,7 @@
 package org.opensearch.security.http;
 
 import java.net.InetSocketAddress;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -53,6 +54,7 @@ import org.apache.logging.log4j.Logger;
 
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.security.support.CidrTree;
 import org.opensearch.security.support.ConfigConstants;
 
 final class RemoteIpDetector {
@@ -91,6 +93,11 @@ final class RemoteIpDetector {
             + "172\\.3[0-1]{1}\\.\\d{1,3}\\.\\d{1,3}"
     );
 
+    /**
+     * @see #setInternalProxies(String)
+     */
+    private CidrTree<Boolean> internalProxyNetworks;
+
     /**
      * @see #setRemoteIpHeader(String)
      */
@@ -107,6 +114,13 @@ final class RemoteIpDetector {
         return internalProxies.toString();
     }
 
+    boolean isInternalProxy(String remoteIp) {
+        if (internalProxyNetworks != null) {
+            return internalProxyNetworks.contains(remoteIp);
+        }
+        return internalProxies != null && internalProxies.matcher(remoteIp).matches();
+    }
+
     /**
      * @see #setRemoteIpHeader(String)
      * @return the remote IP header name (e.g. "X-Forwarded-For")
@@ -127,7 +141,7 @@ final class RemoteIpDetector {
         // ^^^^^^ originalRemoteAddr
 
         // originalRemoteAddr need to be in the list of internalProxies
-        if (internalProxies != null && internalProxies.matcher(originalRemoteAddr).matches()) {
+        if (isInternalProxy(originalRemoteAddr)) {
             String remoteIp = null;
             final StringBuilder concatRemoteIpHeaderValue = new StringBuilder();
 
@@ -156,7 +170,7 @@ final class RemoteIpDetector {
             for (idx = remoteIpHeaderValue.length - 1; idx >= 0; idx--) {
                 String currentRemoteIp = remoteIpHeaderValue[idx];
                 remoteIp = currentRemoteIp;
-                if (internalProxies.matcher(currentRemoteIp).matches()) {
+                if (isInternalProxy(currentRemoteIp)) {
                     // do nothing, internalProxies IPs are not appended to the
                 } else {
                     idx--; // decrement idx because break statement doesn't do it
@@ -206,17 +220,29 @@ final class RemoteIpDetector {
 
     /**
      * <p>
-     * Regular expression that defines the internal proxies.
+     * Regular expression that defines the internal proxies, or a comma delimited list of IP addresses and
+     * networks in CIDR notation (eg. <code>10.0.0.0/8, 192.168.0.0/16, fd00::/8</code>).
      * </p>
      * <p>
      * Default value : 10\.\d{1,3}\.\d{1,3}\.\d{1,3}|192\.168\.\d{1,3}\.\d{1,3}|169\.254.\d{1,3}.\d{1,3}|127\.\d{1,3}\.\d{1,3}\.\d{1,3}
      * </p>
      */
     public void setInternalProxies(String internalProxies) {
+        this.internalProxyNetworks = null;
+
         if (internalProxies == null || internalProxies.length() == 0) {
             this.internalProxies = null;
         } else {
             this.internalProxies = Pattern.compile(internalProxies);
+
+            final String[] networks = commaDelimitedListToStringArray(internalProxies.trim());
+            if (Arrays.stream(networks).allMatch(CidrTree::isCidr)) {
+                final CidrTree<Boolean> tree = new CidrTree<>();
+                for (String network : networks) {
+                    tree.put(network, Boolean.TRUE);
+                }
+                this.internalProxyNetworks = tree;
+            }
         }
     }
 
@@ -26,11 +26,16 @@
 
 package org.opensearch.security.http;
 
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+
 import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.http.HttpHandlingSettings;
+import org.opensearch.http.netty4.Netty4HttpServerTransport;
 import org.opensearch.security.ssl.SecurityKeyStore;
 import org.opensearch.security.ssl.SslExceptionHandler;
 import org.opensearch.security.ssl.http.netty.SecuritySSLNettyHttpServerTransport;
@@ -40,6 +45,9 @@ import org.opensearch.transport.SharedGroupFactory;
 
 public class SecurityHttpServerTransport extends SecuritySSLNettyHttpServerTransport {
 
+    private final SecurityKeyStore sks;
+    private final BlockedClientRejectionHandler blockedClientRejectionHandler;
+
     public SecurityHttpServerTransport(
         final Settings settings,
         final NetworkService networkService,
@@ -50,7 +58,8 @@ public class SecurityHttpServerTransport extends SecuritySSLNettyHttpServerTrans
         final NamedXContentRegistry namedXContentRegistry,
         final ValidatingDispatcher dispatcher,
         final ClusterSettings clusterSettings,
-        SharedGroupFactory sharedGroupFactory
+        SharedGroupFactory sharedGroupFactory,
+        final BlockedClientRejectionHandler blockedClientRejectionHandler
     ) {
         super(
             settings,
@@ -64,5 +73,32 @@ public class SecurityHttpServerTransport extends SecuritySSLNettyHttpServerTrans
             clusterSettings,
             sharedGroupFactory
         );
+        this.sks = odsks;
+        this.blockedClientRejectionHandler = blockedClientRejectionHandler;
+    }
+
+    @Override
+    public ChannelHandler configureServerChannelHandler() {
+        return new SecurityHttpChannelHandler(this, handlingSettings, sks);
+    }
+
+    protected class SecurityHttpChannelHandler extends SSLHttpChannelHandler {
+
+        protected SecurityHttpChannelHandler(
+            Netty4HttpServerTransport transport,
+            final HttpHandlingSettings handlingSettings,
+            final SecurityKeyStore odsks
+        ) {
+            super(transport, handlingSettings, odsks);
+        }
+
+        @Override
+        protected void initChannel(Channel ch) throws Exception {
+            super.initChannel(ch);
+            if (blockedClientRejectionHandler != null) {
+                // in front of the SslHandler, so that blocked clients do not cause any handshake work
+                ch.pipeline().addFirst(BlockedClientRejectionHandler.NAME, blockedClientRejectionHandler);
+            }
+        }
     }
 }
@@ -41,6 +41,8 @@ import org.opensearch.transport.SharedGroupFactory;
 
 public class SecurityNonSslHttpServerTransport extends Netty4HttpServerTransport {
 
+    private final BlockedClientRejectionHandler blockedClientRejectionHandler;
+
     public SecurityNonSslHttpServerTransport(
         final Settings settings,
         final NetworkService networkService,
@@ -49,9 +51,11 @@ public class SecurityNonSslHttpServerTransport extends Netty4HttpServerTransport
         final NamedXContentRegistry namedXContentRegistry,
         final Dispatcher dispatcher,
         ClusterSettings clusterSettings,
-        SharedGroupFactory sharedGroupFactory
+        SharedGroupFactory sharedGroupFactory,
+        BlockedClientRejectionHandler blockedClientRejectionHandler
     ) {
         super(settings, networkService, bigArrays, threadPool, namedXContentRegistry, dispatcher, clusterSettings, sharedGroupFactory);
+        this.blockedClientRejectionHandler = blockedClientRejectionHandler;
     }
 
     @Override
@@ -68,6 +72,9 @@ public class SecurityNonSslHttpServerTransport extends Netty4HttpServerTransport
         @Override
         protected void initChannel(Channel ch) throws Exception {
             super.initChannel(ch);
+            if (blockedClientRejectionHandler != null) {
+                ch.pipeline().addFirst(BlockedClientRejectionHandler.NAME, blockedClientRejectionHandler);
+            }
         }
     }
 }
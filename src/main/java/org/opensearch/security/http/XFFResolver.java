@@ -26,6 +26,7 @@
 
 package org.opensearch.security.http;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 
 import org.apache.logging.log4j.LogManager;
@@ -97,6 +98,15 @@ public class XFFResolver {
         }
     }
 
+    /**
+     * @return true if X-Forwarded-For resolution is enabled and the address is one of the trusted proxies, so that
+     *         the address of the connection is not the address of the client
+     */
+    public boolean isInternalProxy(final InetAddress address) {
+        final RemoteIpDetector detector = this.detector;
+        return enabled && detector != null && detector.isInternalProxy(address.getHostAddress());
+    }
+
     @Subscribe
     public void onDynamicConfigModelChanged(DynamicConfigModel dcm) {
         enabled = dcm.isXffEnabled();
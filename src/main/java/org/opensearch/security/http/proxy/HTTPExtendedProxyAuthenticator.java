@@ -30,7 +30,6 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map.Entry;
 
-import com.google.common.base.Joiner;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -70,12 +69,12 @@ public class HTTPExtendedProxyAuthenticator extends HTTPProxyAuthenticator {
         }
 
         credentials.addAttribute(ATTR_PROXY_USERNAME, credentials.getUsername());
-        attrHeaderPrefix = attrHeaderPrefix.toLowerCase();
         for (Entry<String, List<String>> entry : request.getHeaders().entrySet()) {
-            String key = entry.getKey().toLowerCase();
-            if (key.startsWith(attrHeaderPrefix)) {
-                key = ATTR_PROXY + key.substring(attrHeaderPrefix.length());
-                credentials.addAttribute(key, Joiner.on(",").join(entry.getValue().iterator()));
+            // only the names of matching headers are lower cased
+            if (entry.getKey().regionMatches(true, 0, attrHeaderPrefix, 0, attrHeaderPrefix.length())) {
+                final String key = ATTR_PROXY + entry.getKey().substring(attrHeaderPrefix.length()).toLowerCase();
+                final List<String> values = entry.getValue();
+                credentials.addAttribute(key, values.size() == 1 ? values.get(0) : String.join(",", values));
                 if (log.isTraceEnabled()) {
                     log.trace("Found user custom attribute '{}'", key);
                 }
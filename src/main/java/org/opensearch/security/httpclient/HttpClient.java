@@ -53,6 +53,9 @@ import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
@@ -75,6 +78,7 @@ public class HttpClient implements Closeable {
         private boolean verifyHostnames;
         private String[] supportedProtocols = null;
         private String[] supportedCipherSuites = null;
+        private boolean compressionEnabled;
 
         private final String[] servers;
         private boolean ssl;
@@ -116,6 +120,14 @@ public class HttpClient implements Closeable {
             return this;
         }
 
+        /**
+         * Enables gzip compression of request bodies
+         */
+        public HttpClientBuilder setCompressionEnabled(boolean compressionEnabled) {
+            this.compressionEnabled = compressionEnabled;
+            return this;
+        }
+
         public HttpClient build() throws Exception {
             return new HttpClient(
                 trustStore,
@@ -127,6 +139,7 @@ public class HttpClient implements Closeable {
                 ssl,
                 supportedProtocols,
                 supportedCipherSuites,
+                compressionEnabled,
                 servers
             );
         }
@@ -163,6 +176,7 @@ public class HttpClient implements Closeable {
         final boolean ssl,
         String[] supportedProtocols,
         String[] supportedCipherSuites,
+        final boolean compressionEnabled,
         final String... servers
     ) throws UnrecoverableKeyException, KeyManagementException, NoSuchAlgorithmException, KeyStoreException, CertificateException,
         IOException {
@@ -184,6 +198,7 @@ public class HttpClient implements Closeable {
             .toArray(new HttpHost[0]);
 
         RestClientBuilder builder = RestClient.builder(hosts);
+        builder.setCompressionEnabled(compressionEnabled);
         // builder.setMaxRetryTimeoutMillis(10000);
 
         builder.setFailureListener(new RestClient.FailureListener() {
@@ -228,6 +243,13 @@ public class HttpClient implements Closeable {
         }
     }
 
+    /**
+     * Sends the bulk request asynchronously; the listener is called on a thread of the http client
+     */
+    public void bulkAsync(final BulkRequest request, final ActionListener<BulkResponse> listener) {
+        rclient.bulkAsync(request, RequestOptions.DEFAULT, listener);
+    }
+
     private final HttpAsyncClientBuilder asyncClientBuilder(HttpAsyncClientBuilder httpClientBuilder) throws NoSuchAlgorithmException,
         KeyStoreException, UnrecoverableKeyException, KeyManagementException {
 
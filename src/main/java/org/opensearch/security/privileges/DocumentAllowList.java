@@ -11,6 +11,10 @@
 
 package org.opensearch.security.privileges;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -25,6 +29,12 @@ import org.opensearch.security.support.ConfigConstants;
  */
 public class DocumentAllowList {
 
+    /**
+     * Marks the binary encoding. Index names cannot start with an underscore, so the
+     * marker cannot be confused with the text encoding.
+     */
+    static final char BINARY_PREFIX = '_';
+
     private final Set<Entry> entries = new HashSet<>();
 
     public DocumentAllowList() {
@@ -44,19 +54,24 @@ public class DocumentAllowList {
     }
 
     public void applyTo(ThreadContext threadContext) {
+        applyTo(threadContext, false);
+    }
+
+    /**
+     * @param binary use the compact binary encoding; all nodes of the cluster must be able to parse it
+     */
+    public void applyTo(ThreadContext threadContext, boolean binary) {
         if (!isEmpty()) {
-            threadContext.putHeader(ConfigConstants.OPENDISTRO_SECURITY_DOC_ALLOWLIST_HEADER, toString());
+            threadContext.putHeader(ConfigConstants.OPENDISTRO_SECURITY_DOC_ALLOWLIST_HEADER, binary ? toBinaryString() : toString());
         }
     }
 
     public boolean isAllowed(String index, String id) {
-        for (Entry entry : entries) {
-            if (entry.index.equals(index) && entry.id.equals(id)) {
-                return true;
-            }
+        if (index == null || id == null || index.indexOf('/') != -1 || index.indexOf('|') != -1) {
+            return false;
         }
 
-        return false;
+        return entries.contains(new Entry(index, id));
     }
 
     public String toString() {
@@ -76,7 +91,27 @@ public class DocumentAllowList {
         return stringBuilder.toString();
     }
 
+    /**
+     * Encodes the entries as a base64 string of length prefixed UTF-8 index names and ids. Unlike the text
+     * encoding, this does not require any escaping and can be decoded without scanning for separators.
+     */
+    public String toBinaryString() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + entries.size() * 32);
+        writeVInt(out, entries.size());
+
+        for (Entry entry : entries) {
+            writeString(out, entry.index);
+            writeString(out, entry.id);
+        }
+
+        return BINARY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
     public static DocumentAllowList parse(String string) {
+        if (string.length() > 0 && string.charAt(0) == BINARY_PREFIX) {
+            return parseBinary(string);
+        }
+
         DocumentAllowList result = new DocumentAllowList();
 
         int length = string.length();
@@ -125,6 +160,68 @@ public class DocumentAllowList {
         return result;
     }
 
+    private static DocumentAllowList parseBinary(String string) {
+        DocumentAllowList result = new DocumentAllowList();
+
+        try {
+            ByteBuffer in = ByteBuffer.wrap(Base64.getUrlDecoder().decode(string.substring(1)));
+            int count = readVInt(in);
+
+            for (int i = 0; i < count; i++) {
+                String index = readString(in);
+                String id = readString(in);
+                result.add(index, id);
+            }
+
+            if (in.hasRemaining()) {
+                throw new IllegalArgumentException("Trailing bytes");
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed DocumentAllowList string: " + string, e);
+        }
+
+        return result;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVInt(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVInt(in);
+        String result = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return result;
+    }
+
+    private static void writeVInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVInt(ByteBuffer in) {
+        int result = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            result |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                if (result < 0) {
+                    throw new IllegalArgumentException("Negative length");
+                }
+                return result;
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed vint");
+    }
+
     private static String escapeId(String id) {
         int length = id.length();
         boolean needsEscaping = false;
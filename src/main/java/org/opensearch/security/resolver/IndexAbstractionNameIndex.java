@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.resolver;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.index.Index;
+import org.opensearch.security.support.WildcardMatcher;
+
+/**
+ * Keeps the names of all aliases and data streams of the cluster in sorted form, so that index patterns
+ * can be resolved by a prefix range lookup instead of a scan over the whole indices lookup.
+ *
+ * The names are updated incrementally from the metadata diffs of cluster changed events. Only index
+ * metadata instances which differ from the previous state are looked at. As the index is updated after
+ * a new cluster state has been applied, lookups return null if the index does not reflect the metadata
+ * version of the given state, or if it is updated concurrently. Callers then need to fall back to the
+ * indices lookup of the cluster state.
+ */
+public class IndexAbstractionNameIndex implements ClusterStateListener {
+
+    private static final long INVALID = Long.MIN_VALUE;
+
+    private final Logger log = LogManager.getLogger(this.getClass());
+
+    /**
+     * Alias name to the number of indices having this alias
+     */
+    private final NavigableMap<String, Integer> aliases = new ConcurrentSkipListMap<>();
+    private final NavigableSet<String> dataStreams = new ConcurrentSkipListSet<>();
+    private volatile long metadataVersion = INVALID;
+    private volatile String clusterUUID;
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        final Metadata current = event.state().metadata();
+        final Metadata previous = event.previousState().metadata();
+
+        if (metadataVersion != INVALID && !event.metadataChanged() && current.version() == metadataVersion) {
+            return;
+        }
+
+        final boolean rebuild = metadataVersion != INVALID
+            && (metadataVersion != previous.version() || !current.clusterUUID().equals(clusterUUID));
+
+        metadataVersion = INVALID;
+
+        try {
+            if (rebuild || clusterUUID == null) {
+                rebuild(current);
+            } else {
+                applyDiff(event, previous, current);
+            }
+
+            clusterUUID = current.clusterUUID();
+            metadataVersion = current.version();
+        } catch (Exception e) {
+            // stays invalid until the next full rebuild; lookups fall back to the cluster state
+            clusterUUID = null;
+            log.error("Error while updating alias and data stream names", e);
+        }
+    }
+
+    /**
+     * Returns the aliases matching the given patterns, or null if the index is not in sync with the given metadata.
+     */
+    public Set<String> matchingAliases(Metadata metadata, Collection<String> patterns) {
+        return matching(metadata, patterns, aliases.navigableKeySet());
+    }
+
+    /**
+     * Returns the data streams matching the given patterns, or null if the index is not in sync with the given metadata.
+     */
+    public Set<String> matchingDataStreams(Metadata metadata, Collection<String> patterns) {
+        return matching(metadata, patterns, dataStreams);
+    }
+
+    private Set<String> matching(Metadata metadata, Collection<String> patterns, NavigableSet<String> names) {
+        final long version = metadataVersion;
+
+        if (version == INVALID || version != metadata.version() || !metadata.clusterUUID().equals(clusterUUID)) {
+            return null;
+        }
+
+        final Set<String> result = new HashSet<>();
+
+        for (String pattern : patterns) {
+            final WildcardMatcher matcher = WildcardMatcher.from(pattern);
+            final String prefix = literalPrefix(pattern);
+            final NavigableSet<String> candidates = prefix.isEmpty()
+                ? names
+                : names.subSet(prefix, true, prefix + Character.MAX_VALUE, true);
+
+            for (String candidate : candidates) {
+                if (matcher.test(candidate)) {
+                    result.add(candidate);
+                }
+            }
+        }
+
+        if (metadataVersion != version) {
+            // updated while we were reading
+            return null;
+        }
+
+        return result;
+    }
+
+    static String literalPrefix(String pattern) {
+        if (pattern.startsWith("/") && pattern.endsWith("/")) {
+            // regular expression
+            return "";
+        }
+
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '*' || c == '?') {
+                return pattern.substring(0, i);
+            }
+        }
+
+        return pattern;
+    }
+
+    private void rebuild(Metadata metadata) {
+        aliases.clear();
+        dataStreams.clear();
+
+        for (IndexMetadata indexMetadata : metadata.indices().values()) {
+            addAliases(indexMetadata);
+        }
+
+        dataStreams.addAll(metadata.dataStreams().keySet());
+    }
+
+    private void applyDiff(ClusterChangedEvent event, Metadata previous, Metadata current) {
+        for (Index deleted : event.indicesDeleted()) {
+            final IndexMetadata indexMetadata = previous.index(deleted);
+            if (indexMetadata != null) {
+                removeAliases(indexMetadata);
+            }
+        }
+
+        if (previous.indices() != current.indices()) {
+            for (IndexMetadata indexMetadata : current.indices().values()) {
+                final IndexMetadata previousIndexMetadata = previous.index(indexMetadata.getIndex());
+
+                if (previousIndexMetadata == indexMetadata) {
+                    continue;
+                }
+
+                if (previousIndexMetadata != null) {
+                    if (previousIndexMetadata.getAliases().equals(indexMetadata.getAliases())) {
+                        continue;
+                    }
+                    removeAliases(previousIndexMetadata);
+                }
+
+                addAliases(indexMetadata);
+            }
+        }
+
+        if (!previous.dataStreams().keySet().equals(current.dataStreams().keySet())) {
+            dataStreams.retainAll(current.dataStreams().keySet());
+            dataStreams.addAll(current.dataStreams().keySet());
+        }
+    }
+
+    private void addAliases(IndexMetadata indexMetadata) {
+        for (String alias : indexMetadata.getAliases().keySet()) {
+            aliases.merge(alias, 1, Integer::sum);
+        }
+    }
+
+    private void removeAliases(IndexMetadata indexMetadata) {
+        for (String alias : indexMetadata.getAliases().keySet()) {
+            aliases.computeIfPresent(alias, (k, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.resolver;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import org.apache.lucene.util.FixedBitSet;
+
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.security.support.WildcardMatcher;
+
+/**
+ * Assigns an ordinal to each concrete index of a cluster state, so that sets of indices can be represented
+ * as bit sets ({@link IndexSet}). The table is built once per metadata instance and shared by all requests
+ * which are evaluated against that metadata. The table of a node is held by its {@link Provider}.
+ *
+ * The table also caches the bit sets of the indices matched by index patterns of roles, so that permission
+ * evaluation for requests spanning many indices can be done with bitwise operations.
+ */
+public final class IndexOrdinals {
+
+    private static final int MAX_CACHED_PATTERNS = 1000;
+
+    private final Metadata metadata;
+    private final String[] names;
+    private final Map<String, Integer> ordinals;
+    private final FixedBitSet openIndices;
+    /** least recently used patterns are evicted first */
+    private final Cache<String, PatternBits> patternBits = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PATTERNS).build();
+
+    private IndexOrdinals(Metadata metadata) {
+        this.metadata = metadata;
+        this.names = metadata.indices().keySet().toArray(new String[0]);
+        Arrays.sort(this.names);
+        this.ordinals = new HashMap<>(names.length * 2);
+
+        for (int i = 0; i < names.length; i++) {
+            ordinals.put(names[i], i);
+        }
+
+        this.openIndices = new FixedBitSet(Math.max(1, names.length));
+
+        for (String openIndex : metadata.getConcreteAllOpenIndices()) {
+            openIndices.set(ordinals.get(openIndex));
+        }
+    }
+
+    /**
+     * @return the ordinal of the concrete index or -1 if there is no such index
+     */
+    public int ordinal(Object name) {
+        Integer ordinal = ordinals.get(name);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public String name(int ordinal) {
+        return names[ordinal];
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Creates an empty bit set which can hold all ordinals of this table
+     */
+    public FixedBitSet newBitSet() {
+        return new FixedBitSet(Math.max(1, names.length));
+    }
+
+    /**
+     * The indices returned by {@link Metadata#getConcreteAllOpenIndices()}. Must not be modified.
+     */
+    public FixedBitSet openIndices() {
+        return openIndices;
+    }
+
+    public IndexSet toIndexSet(Collection<String> indices) {
+        final FixedBitSet bits = newBitSet();
+        final ImmutableSet.Builder<String> others = ImmutableSet.builder();
+
+        for (String index : indices) {
+            final int ordinal = ordinal(index);
+
+            if (ordinal != -1) {
+                bits.set(ordinal);
+            } else {
+                others.add(index);
+            }
+        }
+
+        return new IndexSet(this, bits, others.build());
+    }
+
+    /**
+     * Returns the indices permitted by a role index pattern: the indices the pattern was resolved to, plus all
+     * indices matched by the pattern itself. The result is cached per pattern.
+     *
+     * @param pattern the index pattern with resolved user attributes
+     * @param resolvedNames supplies the names the pattern resolves to, including unresolvable patterns
+     */
+    public PatternBits permitted(String pattern, Supplier<Collection<String>> resolvedNames) {
+        PatternBits result = patternBits.getIfPresent(pattern);
+
+        if (result == null) {
+            final Collection<String> names = resolvedNames.get();
+            final IndexSet resolved = toIndexSet(names);
+            final FixedBitSet bits = resolved.getBits();
+            // concrete names are already set, so only the names outside of the table need to be matched
+            final WildcardMatcher othersMatcher = WildcardMatcher.from(resolved.getOthers());
+
+            for (int i = 0; i < this.names.length; i++) {
+                if (!bits.get(i) && othersMatcher.test(this.names[i])) {
+                    bits.set(i);
+                }
+            }
+
+            result = new PatternBits(bits, othersMatcher);
+            patternBits.put(pattern, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Holds the ordinal table of the most recently used metadata instance of a node
+     */
+    public static final class Provider {
+
+        private volatile IndexOrdinals current;
+
+        /**
+         * Returns the ordinal table for the given metadata. Only the table of the most recently used metadata
+         * instance is kept.
+         */
+        public IndexOrdinals of(Metadata metadata) {
+            IndexOrdinals indexOrdinals = current;
+
+            if (indexOrdinals == null || indexOrdinals.metadata != metadata) {
+                indexOrdinals = new IndexOrdinals(metadata);
+                current = indexOrdinals;
+            }
+
+            return indexOrdinals;
+        }
+    }
+
+    /**
+     * The concrete indices permitted by a pattern and a matcher for names which are not in the ordinal table
+     */
+    public static final class PatternBits {
+        private final FixedBitSet bits;
+        private final WildcardMatcher othersMatcher;
+
+        private PatternBits(FixedBitSet bits, WildcardMatcher othersMatcher) {
+            this.bits = bits;
+            this.othersMatcher = othersMatcher;
+        }
+
+        /**
+         * Must not be modified
+         */
+        public FixedBitSet getBits() {
+            return bits;
+        }
+
+        public WildcardMatcher getOthersMatcher() {
+            return othersMatcher;
+        }
+    }
+}
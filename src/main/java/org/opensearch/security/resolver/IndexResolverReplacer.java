@@ -100,16 +100,36 @@ import static org.opensearch.cluster.metadata.IndexAbstraction.Type.ALIAS;
 public class IndexResolverReplacer {
 
     private static final Set<String> NULL_SET = new HashSet<>(Collections.singleton(null));
+    private static final int COMPACT_INDEX_SET_THRESHOLD = 64;
     private final Logger log = LogManager.getLogger(this.getClass());
     private final IndexNameExpressionResolver resolver;
     private final ClusterService clusterService;
     private final ClusterInfoHolder clusterInfoHolder;
+    private final IndexAbstractionNameIndex nameIndex;
+    private final IndexOrdinals.Provider indexOrdinals = new IndexOrdinals.Provider();
     private volatile boolean respectRequestIndicesOptions = false;
 
     public IndexResolverReplacer(IndexNameExpressionResolver resolver, ClusterService clusterService, ClusterInfoHolder clusterInfoHolder) {
+        this(resolver, clusterService, clusterInfoHolder, null);
+    }
+
+    public IndexResolverReplacer(
+        IndexNameExpressionResolver resolver,
+        ClusterService clusterService,
+        ClusterInfoHolder clusterInfoHolder,
+        IndexAbstractionNameIndex nameIndex
+    ) {
         this.resolver = resolver;
         this.clusterService = clusterService;
         this.clusterInfoHolder = clusterInfoHolder;
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * @return the index ordinal tables of this node, shared with the privilege evaluation of large index sets
+     */
+    public IndexOrdinals.Provider getIndexOrdinals() {
+        return indexOrdinals;
     }
 
     private static boolean isAllWithNoRemote(final String... requestedPatterns) {
@@ -294,22 +314,35 @@ public class IndexResolverReplacer {
                 final Set<String> dateResolvedLocalRequestedPatterns = localRequestedPatterns.stream()
                     .map(resolver::resolveDateMathExpression)
                     .collect(Collectors.toSet());
-                final WildcardMatcher dateResolvedMatcher = WildcardMatcher.from(dateResolvedLocalRequestedPatterns);
                 // fill matchingAliases
-                final Map<String, IndexAbstraction> lookup = state.metadata().getIndicesLookup();
-                matchingAliases = lookup.entrySet()
-                    .stream()
-                    .filter(e -> e.getValue().getType() == ALIAS)
-                    .map(Map.Entry::getKey)
-                    .filter(dateResolvedMatcher)
-                    .collect(Collectors.toSet());
+                final Set<String> indexedAliases = nameIndex != null
+                    ? nameIndex.matchingAliases(state.metadata(), dateResolvedLocalRequestedPatterns)
+                    : null;
+                if (indexedAliases != null) {
+                    matchingAliases = indexedAliases;
+                } else {
+                    final WildcardMatcher dateResolvedMatcher = WildcardMatcher.from(dateResolvedLocalRequestedPatterns);
+                    final Map<String, IndexAbstraction> lookup = state.metadata().getIndicesLookup();
+                    matchingAliases = lookup.entrySet()
+                        .stream()
+                        .filter(e -> e.getValue().getType() == ALIAS)
+                        .map(Map.Entry::getKey)
+                        .filter(dateResolvedMatcher)
+                        .collect(Collectors.toSet());
+                }
 
                 final boolean isDebugEnabled = log.isDebugEnabled();
                 try {
                     matchingAllIndices = Arrays.asList(
                         resolver.concreteIndexNames(state, indicesOptions, localRequestedPatterns.toArray(new String[0]))
                     );
-                    matchingDataStreams = resolver.dataStreamNames(state, indicesOptions, localRequestedPatterns.toArray(new String[0]));
+                    if (mayMatchDataStreams(state, localRequestedPatterns, dateResolvedLocalRequestedPatterns)) {
+                        matchingDataStreams = resolver.dataStreamNames(
+                            state,
+                            indicesOptions,
+                            localRequestedPatterns.toArray(new String[0])
+                        );
+                    }
 
                     if (isDebugEnabled) {
                         log.debug(
@@ -349,6 +382,33 @@ public class IndexResolverReplacer {
             resolveTo(matchingAliases, matchingAllIndices, matchingDataStreams, original, remoteIndices);
         }
 
+        /**
+         * The data stream resolution of IndexNameExpressionResolver scans the whole indices lookup. It can
+         * only return data streams matched by one of the patterns (exclusions only remove names), so it can be
+         * skipped if the name index knows that no data stream matches.
+         */
+        private boolean mayMatchDataStreams(
+            final ClusterState state,
+            final Collection<String> patterns,
+            final Collection<String> dateResolvedPatterns
+        ) {
+            if (nameIndex == null) {
+                return true;
+            }
+
+            // a leading dash may denote an exclusion or be part of the name, so both are checked
+            final Set<String> candidatePatterns = new HashSet<>(patterns);
+            candidatePatterns.addAll(dateResolvedPatterns);
+            for (String pattern : patterns) {
+                if (pattern.startsWith("-")) {
+                    candidatePatterns.add(pattern.substring(1));
+                }
+            }
+
+            final Set<String> matching = nameIndex.matchingDataStreams(state.metadata(), candidatePatterns);
+            return matching == null || !matching.isEmpty();
+        }
+
         private void resolveToLocalAll() {
             aliases.add(Resolved.ANY);
             allIndices.add(Resolved.ANY);
@@ -391,7 +451,13 @@ public class IndexResolverReplacer {
         Resolved resolved(IndicesOptions indicesOptions) {
             final Resolved resolved = alreadyResolved.isEmpty()
                 ? Resolved._LOCAL_ALL
-                : new Resolved(aliases.build(), allIndices.build(), originalRequested.build(), remoteIndices.build(), indicesOptions);
+                : new Resolved(
+                    aliases.build(),
+                    compact(allIndices.build()),
+                    originalRequested.build(),
+                    remoteIndices.build(),
+                    indicesOptions
+                );
 
             if (log.isTraceEnabled()) {
                 log.trace("Finally resolved for {}: {}", name, resolved);
@@ -401,6 +467,17 @@ public class IndexResolverReplacer {
         }
     }
 
+    /**
+     * Large index sets are stored as bit sets over the index ordinals of the current cluster state
+     */
+    private Set<String> compact(ImmutableSet<String> indices) {
+        if (indices.size() < COMPACT_INDEX_SET_THRESHOLD) {
+            return indices;
+        }
+
+        return indexOrdinals.of(clusterService.state().metadata()).toIndexSet(indices);
+    }
+
     // dnfof
     public boolean replace(final TransportRequest request, boolean retainMode, String... replacements) {
         return getOrReplaceAllIndices(request, new IndicesProvider() {
@@ -410,8 +487,7 @@ public class IndexResolverReplacer {
                 if (supportsReplace) {
                     if (retainMode && !isAllWithNoRemote(original)) {
                         final Resolved resolved = resolveRequest(request);
-                        final List<String> retained = WildcardMatcher.from(resolved.getAllIndices())
-                            .getMatchAny(replacements, Collectors.toList());
+                        final List<String> retained = retain(resolved.getAllIndices(), replacements);
                         retained.addAll(resolved.getRemoteIndices());
                         return retained.toArray(new String[0]);
                     }
@@ -423,6 +499,24 @@ public class IndexResolverReplacer {
         }, false);
     }
 
+    private static List<String> retain(Set<String> allIndices, String[] replacements) {
+        if (allIndices instanceof IndexSet) {
+            // concrete names can be checked by ordinal, only the other names may be patterns
+            final IndexSet indexSet = (IndexSet) allIndices;
+            final WildcardMatcher othersMatcher = WildcardMatcher.from(indexSet.getOthers());
+            final List<String> retained = new ArrayList<>();
+            for (String replacement : replacements) {
+                final int ordinal = indexSet.getOrdinals().ordinal(replacement);
+                if ((ordinal != -1 && indexSet.getBits().get(ordinal)) || othersMatcher.test(replacement)) {
+                    retained.add(replacement);
+                }
+            }
+            return retained;
+        }
+
+        return WildcardMatcher.from(allIndices).getMatchAny(replacements, Collectors.toList());
+    }
+
     public Resolved resolveRequest(final Object request) {
         if (log.isDebugEnabled()) {
             log.debug("Resolve aliases, indices and types from {}", request.getClass().getSimpleName());
@@ -456,7 +550,7 @@ public class IndexResolverReplacer {
 
         public Resolved(
             final ImmutableSet<String> aliases,
-            final ImmutableSet<String> allIndices,
+            final Set<String> allIndices,
             final ImmutableSet<String> originalRequested,
             final ImmutableSet<String> remoteIndices,
             IndicesOptions indicesOptions
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.resolver;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * An immutable set of index names which stores the concrete indices as a bit set over the ordinals of an
+ * {@link IndexOrdinals} table. Names which are not in the table (like patterns for non-existing indices)
+ * are kept as strings.
+ *
+ * Contains checks and set operations work on the ordinals; strings are only looked up from the table when
+ * the set is iterated.
+ */
+public final class IndexSet extends AbstractSet<String> {
+
+    private final IndexOrdinals ordinals;
+    private final FixedBitSet bits;
+    private final Set<String> others;
+    private final int size;
+
+    IndexSet(IndexOrdinals ordinals, FixedBitSet bits, Set<String> others) {
+        this.ordinals = ordinals;
+        this.bits = bits;
+        this.others = others;
+        this.size = bits.cardinality() + others.size();
+    }
+
+    public IndexOrdinals getOrdinals() {
+        return ordinals;
+    }
+
+    /**
+     * The ordinals of the concrete indices in this set. Must not be modified.
+     */
+    public FixedBitSet getBits() {
+        return bits;
+    }
+
+    /**
+     * The names in this set which are not in the ordinal table
+     */
+    public Set<String> getOthers() {
+        return others;
+    }
+
+    /**
+     * Creates a set of the given ordinals and names; the bit set must not be modified afterwards.
+     */
+    public static IndexSet of(IndexOrdinals ordinals, FixedBitSet bits, Set<String> others) {
+        return new IndexSet(ordinals, bits, others);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        final int ordinal = ordinals.ordinal(o);
+        return ordinal != -1 ? bits.get(ordinal) : others.contains(o);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        final Iterator<String> othersIterator = others.iterator();
+
+        return new Iterator<String>() {
+            private int next = nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return next != -1 || othersIterator.hasNext();
+            }
+
+            @Override
+            public String next() {
+                if (next != -1) {
+                    final String name = ordinals.name(next);
+                    next = nextSetBit(next + 1);
+                    return name;
+                }
+
+                if (othersIterator.hasNext()) {
+                    return othersIterator.next();
+                }
+
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    private int nextSetBit(int from) {
+        if (from >= bits.length()) {
+            return -1;
+        }
+
+        final int next = bits.nextSetBit(from);
+        return next != DocIdSetIterator.NO_MORE_DOCS ? next : -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof IndexSet && ((IndexSet) o).ordinals == ordinals) {
+            final IndexSet other = (IndexSet) o;
+            return bits.equals(other.bits) && others.equals(other.others);
+        }
+
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // must be consistent with other set implementations
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.rest;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestController;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.security.configuration.AdminDNs;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
+import org.opensearch.security.user.User;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.security.dlic.rest.support.Utils.addRoutesPrefix;
+
+/**
+ * Returns the node local {@link SecurityStats} of the node handling the request. Only allowed for admins.
+ */
+public class SecurityStatsAction extends BaseRestHandler {
+    private static final List<Route> routes = addRoutesPrefix(ImmutableList.of(new Route(GET, "/stats")), "/_plugins/_security");
+
+    private final ThreadContext threadContext;
+    private final AdminDNs adminDns;
+    private final SecurityStats stats;
+
+    public SecurityStatsAction(
+        final Settings settings,
+        final RestController controller,
+        final ThreadPool threadPool,
+        final AdminDNs adminDns
+    ) {
+        super();
+        this.threadContext = threadPool.getThreadContext();
+        this.adminDns = adminDns;
+        this.stats = SecurityStats.forNode(settings);
+    }
+
+    @Override
+    public List<Route> routes() {
+        return routes;
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        final User user = threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_USER);
+
+        // only allowed for admins
+        if (user == null || !adminDns.isAdmin(user)) {
+            return channel -> channel.sendResponse(new BytesRestResponse(RestStatus.FORBIDDEN, ""));
+        }
+
+        return channel -> {
+            try (XContentBuilder builder = channel.newBuilder()) {
+                builder.startObject();
+                stats.toXContent(builder);
+                builder.endObject();
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return "Security stats";
+    }
+
+}
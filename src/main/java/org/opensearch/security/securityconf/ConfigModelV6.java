@@ -60,6 +60,7 @@ import org.opensearch.security.securityconf.impl.v6.ActionGroupsV6;
 import org.opensearch.security.securityconf.impl.v6.RoleMappingsV6;
 import org.opensearch.security.securityconf.impl.v6.RoleV6;
 import org.opensearch.security.securityconf.impl.v6.RoleV6.Index;
+import org.opensearch.security.support.CidrTree;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
@@ -1137,6 +1138,7 @@ public class ConfigModelV6 extends ConfigModel {
         private ListMultimap<List<WildcardMatcher>, String> abars;
         private ListMultimap<String, String> bars;
         private ListMultimap<String, String> hosts;
+        private CidrTree<String> hostNetworks;
         private final String hostResolverMode;
 
         private List<WildcardMatcher> userMatchers;
@@ -1153,6 +1155,7 @@ public class ConfigModelV6 extends ConfigModel {
                 abars = ArrayListMultimap.create();
                 bars = ArrayListMultimap.create();
                 hosts = ArrayListMultimap.create();
+                hostNetworks = new CidrTree<>();
 
                 for (final Entry<String, RoleMappingsV6> roleMap : rolesMapping.getCEntries().entrySet()) {
                     final String roleMapKey = roleMap.getKey();
@@ -1173,7 +1176,10 @@ public class ConfigModelV6 extends ConfigModel {
                     }
 
                     for (String host : roleMapValue.getHosts()) {
-                        hosts.put(host, roleMapKey);
+                        // IP addresses and networks are matched by address, everything else as a wildcard pattern
+                        if (!hostNetworks.put(host, roleMapKey)) {
+                            hosts.put(host, roleMapKey);
+                        }
                     }
                 }
 
@@ -1220,7 +1226,8 @@ public class ConfigModelV6 extends ConfigModel {
                     // IPV4 or IPv6 (compressed and without scope identifiers)
                     final String ipAddress = caller.getAddress();
 
-                    final List<WildcardMatcher> hostMatchers = WildcardMatcher.matchers(hosts.keySet());
+                    hostNetworks.forEachMatch(ipAddress, securityRoles::add);
+
                     for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, ipAddress)) {
                         securityRoles.addAll(hosts.get(p));
                     }
@@ -17,6 +17,7 @@
 
 package org.opensearch.security.securityconf;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -37,16 +38,15 @@ import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import com.google.common.base.Joiner;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.MultimapBuilder.SetMultimapBuilder;
 import com.google.common.collect.SetMultimap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.util.Strings;
+import org.apache.lucene.util.FixedBitSet;
 
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.support.IndicesOptions;
@@ -57,13 +57,16 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.security.resolver.IndexOrdinals;
 import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
+import org.opensearch.security.resolver.IndexSet;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.ActionGroupsV7;
 import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.securityconf.impl.v7.RoleV7.Index;
 import org.opensearch.security.securityconf.impl.v7.TenantV7;
+import org.opensearch.security.support.CidrTree;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
@@ -81,6 +84,7 @@ public class ConfigModelV7 extends ConfigModel {
     private RoleMappingHolder roleMappingHolder;
     private SecurityDynamicConfiguration<RoleV7> roles;
     private SecurityDynamicConfiguration<TenantV7> tenants;
+    private final IndexOrdinals.Provider indexOrdinals;
 
     public ConfigModelV7(
         SecurityDynamicConfiguration<RoleV7> roles,
@@ -88,11 +92,13 @@ public class ConfigModelV7 extends ConfigModel {
         SecurityDynamicConfiguration<ActionGroupsV7> actiongroups,
         SecurityDynamicConfiguration<TenantV7> tenants,
         DynamicConfigModel dcm,
-        Settings opensearchSettings
+        Settings opensearchSettings,
+        IndexOrdinals.Provider indexOrdinals
     ) {
 
         this.roles = roles;
         this.tenants = tenants;
+        this.indexOrdinals = indexOrdinals;
 
         try {
             rolesMappingResolution = ConfigConstants.RolesMappingResolution.valueOf(
@@ -271,7 +277,7 @@ public class ConfigModelV7 extends ConfigModel {
         }
 
         try {
-            SecurityRoles _securityRoles = new SecurityRoles(futures.size());
+            SecurityRoles _securityRoles = new SecurityRoles(futures.size(), indexOrdinals);
             for (Future<SecurityRole> future : futures) {
                 _securityRoles.addSecurityRole(future.get());
             }
@@ -294,9 +300,11 @@ public class ConfigModelV7 extends ConfigModel {
         protected final Logger log = LogManager.getLogger(this.getClass());
 
         final Set<SecurityRole> roles;
+        private final IndexOrdinals.Provider indexOrdinals;
 
-        private SecurityRoles(int roleCount) {
+        private SecurityRoles(int roleCount, IndexOrdinals.Provider indexOrdinals) {
             roles = new HashSet<>(roleCount);
+            this.indexOrdinals = indexOrdinals;
         }
 
         private SecurityRoles addSecurityRole(SecurityRole securityRole) {
@@ -340,7 +348,7 @@ public class ConfigModelV7 extends ConfigModel {
         }
 
         public SecurityRoles filter(Set<String> keep) {
-            final SecurityRoles retVal = new SecurityRoles(roles.size());
+            final SecurityRoles retVal = new SecurityRoles(roles.size(), indexOrdinals);
             for (SecurityRole sr : roles) {
                 if (keep.contains(sr.getName())) {
                     retVal.addSecurityRole(sr);
@@ -471,20 +479,33 @@ public class ConfigModelV7 extends ConfigModel {
 
         // dnfof only
         public Set<String> reduce(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver, ClusterService cs) {
-            Set<String> retVal = new HashSet<>();
-            for (SecurityRole sr : roles) {
-                retVal.addAll(sr.getAllResolvedPermittedIndices(resolved, user, actions, resolver, cs));
+            final Set<String> retVal;
+            if (isIndexSetEvaluation(resolved)) {
+                // large requests are reduced by bitwise operations on the index ordinals
+                final IndexOrdinals ordinals = indexOrdinals.of(cs.state().metadata());
+                final FixedBitSet bits = ordinals.newBitSet();
+                final Set<String> others = new HashSet<>();
+                for (SecurityRole sr : roles) {
+                    sr.addAllResolvedPermittedIndices(resolved, user, actions, resolver, cs, ordinals, bits, others);
+                }
+                retVal = IndexSet.of(ordinals, bits, ImmutableSet.copyOf(others));
+            } else {
+                final Set<String> permitted = new HashSet<>();
+                for (SecurityRole sr : roles) {
+                    permitted.addAll(sr.getAllResolvedPermittedIndices(resolved, user, actions, resolver, cs));
+                }
+                retVal = Collections.unmodifiableSet(permitted);
             }
             if (log.isDebugEnabled()) {
                 log.debug("Reduced requested resolved indices {} to permitted indices {}.", resolved, retVal.toString());
             }
-            return Collections.unmodifiableSet(retVal);
+            return retVal;
         }
 
         // return true on success
         public boolean get(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver, ClusterService cs) {
             for (SecurityRole sr : roles) {
-                if (ConfigModelV7.impliesTypePerm(sr.getIpatterns(), resolved, user, actions, resolver, cs)) {
+                if (ConfigModelV7.impliesTypePerm(sr.getIpatterns(), resolved, user, actions, resolver, cs, indexOrdinals)) {
                     return true;
                 }
             }
@@ -514,7 +535,7 @@ public class ConfigModelV7 extends ConfigModel {
         ) {
             Set<IndexPattern> ipatterns = new HashSet<ConfigModelV7.IndexPattern>();
             roles.stream().forEach(p -> ipatterns.addAll(p.getIpatterns()));
-            return ConfigModelV7.impliesTypePerm(ipatterns, resolved, user, actions, resolver, cs);
+            return ConfigModelV7.impliesTypePerm(ipatterns, resolved, user, actions, resolver, cs, indexOrdinals);
         }
 
         private boolean containsDlsFlsConfig() {
@@ -571,6 +592,39 @@ public class ConfigModelV7 extends ConfigModel {
             return clusterPerms.test(action);
         }
 
+        // same as getAllResolvedPermittedIndices, but adds the permitted indices to the given bit set and set of other names
+        private void addAllResolvedPermittedIndices(
+            Resolved resolved,
+            User user,
+            String[] actions,
+            IndexNameExpressionResolver resolver,
+            ClusterService cs,
+            IndexOrdinals ordinals,
+            FixedBitSet bits,
+            Set<String> others
+        ) {
+            final boolean requestsAll = requestsAll(resolved);
+            final IndexSet requested = requestsAll ? null : toIndexSet(ordinals, resolved.getAllIndices());
+
+            for (IndexPattern p : ipatterns) {
+                if (!p.getPerms().matchAll(actions)) {
+                    continue;
+                }
+
+                final IndexOrdinals.PatternBits permitted = ordinals.permitted(
+                    p.getUnresolvedIndexPattern(user),
+                    () -> p.attemptResolveIndexNames(user, resolver, cs)
+                );
+                final FixedBitSet res = requestsAll ? ordinals.openIndices().clone() : requested.getBits().clone();
+                res.and(permitted.getBits());
+                bits.or(res);
+
+                if (!requestsAll) {
+                    requested.getOthers().stream().filter(permitted.getOthersMatcher()).forEach(others::add);
+                }
+            }
+        }
+
         // get indices which are permitted for the given types and actions
         // dnfof + opensearchDashboards special only
         private Set<String> getAllResolvedPermittedIndices(
@@ -688,7 +742,9 @@ public class ConfigModelV7 extends ConfigModel {
     // sg roles
     public static class IndexPattern {
         private final String indexPattern;
+        private final UserAttributeTemplate indexPatternTemplate;
         private String dlsQuery;
+        private UserAttributeTemplate dlsQueryTemplate = UserAttributeTemplate.compile(null);
         private final Set<String> fls = new HashSet<>();
         private final Set<String> maskedFields = new HashSet<>();
         private final Set<String> perms = new HashSet<>();
@@ -696,6 +752,7 @@ public class ConfigModelV7 extends ConfigModel {
         public IndexPattern(String indexPattern) {
             super();
             this.indexPattern = Objects.requireNonNull(indexPattern);
+            this.indexPatternTemplate = UserAttributeTemplate.compile(indexPattern);
         }
 
         public IndexPattern addFlsFields(List<String> flsFields) {
@@ -722,6 +779,7 @@ public class ConfigModelV7 extends ConfigModel {
         public IndexPattern setDlsQuery(String dlsQuery) {
             if (dlsQuery != null) {
                 this.dlsQuery = dlsQuery;
+                this.dlsQueryTemplate = UserAttributeTemplate.compile(dlsQuery);
             }
             return this;
         }
@@ -779,7 +837,7 @@ public class ConfigModelV7 extends ConfigModel {
         }
 
         public String getUnresolvedIndexPattern(User user) {
-            return replaceProperties(indexPattern, user);
+            return indexPatternTemplate.render(user);
         }
 
         /** Finds the indices accessible to the user and resolves them to concrete names */
@@ -841,7 +899,7 @@ public class ConfigModelV7 extends ConfigModel {
         }
 
         public String getDlsQuery(User user) {
-            return replaceProperties(dlsQuery, user);
+            return dlsQueryTemplate.render(user);
         }
 
         public boolean hasDlsQuery() {
@@ -986,47 +1044,67 @@ public class ConfigModelV7 extends ConfigModel {
         }
     }
 
-    private static String replaceProperties(String orig, User user) {
+    /**
+     * Same as impliesTypePerm, but checks for each action whether the union of the indices permitted
+     * for the action contains all requested indices, using bitwise operations on the index ordinals.
+     */
+    private static boolean impliesTypePermForIndexSet(
+        Set<IndexPattern> ipatterns,
+        IndexSet requestedIndices,
+        User user,
+        String[] requestedActions,
+        IndexNameExpressionResolver resolver,
+        ClusterService cs,
+        IndexOrdinals.Provider indexOrdinals
+    ) {
+        final IndexOrdinals ordinals = indexOrdinals.of(cs.state().metadata());
+        final IndexSet requested = toIndexSet(ordinals, requestedIndices);
 
-        if (user == null || orig == null) {
-            return orig;
-        }
+        for (String action : requestedActions) {
+            final FixedBitSet permitted = ordinals.newBitSet();
+            final List<WildcardMatcher> othersMatchers = new ArrayList<>();
+
+            for (IndexPattern p : ipatterns) {
+                if (p.getPerms().test(action)) {
+                    final IndexOrdinals.PatternBits patternBits = ordinals.permitted(
+                        p.getUnresolvedIndexPattern(user),
+                        () -> p.attemptResolveIndexNames(user, resolver, cs)
+                    );
+                    permitted.or(patternBits.getBits());
+                    othersMatchers.add(patternBits.getOthersMatcher());
+                }
+            }
+
+            final FixedBitSet missing = requested.getBits().clone();
+            missing.andNot(permitted);
+            if (missing.cardinality() != 0) {
+                return false;
+            }
 
-        orig = orig.replace("${user.name}", user.getName()).replace("${user_name}", user.getName());
-        orig = replaceRoles(orig, user);
-        orig = replaceSecurityRoles(orig, user);
-        for (Entry<String, String> entry : user.getCustomAttributesMap().entrySet()) {
-            if (entry == null || entry.getKey() == null || entry.getValue() == null) {
-                continue;
+            for (String other : requested.getOthers()) {
+                if (othersMatchers.stream().noneMatch(m -> m.test(other))) {
+                    return false;
+                }
             }
-            orig = orig.replace("${" + entry.getKey() + "}", entry.getValue());
-            orig = orig.replace("${" + entry.getKey().replace('.', '_') + "}", entry.getValue());
         }
-        return orig;
+
+        return true;
     }
 
-    private static String replaceRoles(final String orig, final User user) {
-        String retVal = orig;
-        if (orig.contains("${user.roles}") || orig.contains("${user_roles}")) {
-            final String commaSeparatedRoles = toQuotedCommaSeparatedString(user.getRoles());
-            retVal = orig.replace("${user.roles}", commaSeparatedRoles).replace("${user_roles}", commaSeparatedRoles);
-        }
-        return retVal;
+    private static boolean requestsAll(Resolved resolved) {
+        return resolved.isLocalAll() || resolved.getAllIndices().contains("*") || resolved.getAllIndices().contains("_all");
     }
 
-    private static String replaceSecurityRoles(final String orig, final User user) {
-        String retVal = orig;
-        if (orig.contains("${user.securityRoles}") || orig.contains("${user_securityRoles}")) {
-            final String commaSeparatedRoles = toQuotedCommaSeparatedString(user.getSecurityRoles());
-            retVal = orig.replace("${user.securityRoles}", commaSeparatedRoles).replace("${user_securityRoles}", commaSeparatedRoles);
-        }
-        return retVal;
+    private static boolean isIndexSetEvaluation(Resolved resolved) {
+        return requestsAll(resolved) || resolved.getAllIndices() instanceof IndexSet;
     }
 
-    private static String toQuotedCommaSeparatedString(final Set<String> roles) {
-        return Joiner.on(',').join(Iterables.transform(roles, s -> {
-            return new StringBuilder(s.length() + 2).append('"').append(s).append('"').toString();
-        }));
+    private static IndexSet toIndexSet(IndexOrdinals ordinals, Set<String> indices) {
+        if (indices instanceof IndexSet && ((IndexSet) indices).getOrdinals() == ordinals) {
+            return (IndexSet) indices;
+        }
+        // the cluster state changed since the request was resolved
+        return ordinals.toIndexSet(indices);
     }
 
     private static final class IndexMatcherAndPermissions {
@@ -1049,9 +1127,21 @@ public class ConfigModelV7 extends ConfigModel {
         User user,
         String[] requestedActions,
         IndexNameExpressionResolver resolver,
-        ClusterService cs
+        ClusterService cs,
+        IndexOrdinals.Provider indexOrdinals
     ) {
         Set<String> resolvedRequestedIndices = resolved.getAllIndices();
+        if (!resolved.isLocalAll() && resolvedRequestedIndices instanceof IndexSet) {
+            return impliesTypePermForIndexSet(
+                ipatterns,
+                (IndexSet) resolvedRequestedIndices,
+                user,
+                requestedActions,
+                resolver,
+                cs,
+                indexOrdinals
+            );
+        }
         IndexMatcherAndPermissions[] indexMatcherAndPermissions;
         if (resolved.isLocalAll()) {
             indexMatcherAndPermissions = ipatterns.stream()
@@ -1073,6 +1163,8 @@ public class ConfigModelV7 extends ConfigModel {
     private class TenantHolder {
 
         private SetMultimap<String, Tuple<String, Boolean>> tenantsMM = null;
+        // tenant names like "${attr.jwt.dept}" compiled once per configuration
+        private Map<String, UserAttributeTemplate> tenantTemplates = Collections.emptyMap();
 
         public TenantHolder(SecurityDynamicConfiguration<RoleV7> roles, SecurityDynamicConfiguration<TenantV7> definedTenants) {
             final Set<Future<Tuple<String, Set<Tuple<String, Boolean>>>>> futures = new HashSet<>(roles.getCEntries().size());
@@ -1151,6 +1243,12 @@ public class ConfigModelV7 extends ConfigModel {
                     tenantsMM_.putAll(result.v1(), result.v2());
                 }
 
+                final Map<String, UserAttributeTemplate> tenantTemplates_ = new HashMap<>();
+                for (Tuple<String, Boolean> tenant : tenantsMM_.values()) {
+                    tenantTemplates_.computeIfAbsent(tenant.v1(), UserAttributeTemplate::compile);
+                }
+
+                tenantTemplates = tenantTemplates_;
                 tenantsMM = tenantsMM_;
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -1181,7 +1279,7 @@ public class ConfigModelV7 extends ConfigModel {
                     // replaceProperties for tenant name because
                     // at this point e.getValue().v1() can be in this form : "${attr.[internal|jwt|proxy|ldap].*}"
                     // let's substitute it with the eventual value of the user's attribute
-                    final String tenant = replaceProperties(e.getValue().v1(), user);
+                    final String tenant = tenantTemplates.get(e.getValue().v1()).render(user);
                     final boolean rw = e.getValue().v2();
 
                     if (rw || !result.containsKey(tenant)) { // RW outperforms RO
@@ -1212,6 +1310,7 @@ public class ConfigModelV7 extends ConfigModel {
         private ListMultimap<List<WildcardMatcher>, String> abars;
         private ListMultimap<String, String> bars;
         private ListMultimap<String, String> hosts;
+        private CidrTree<String> hostNetworks;
         private final String hostResolverMode;
 
         private List<WildcardMatcher> userMatchers;
@@ -1228,6 +1327,7 @@ public class ConfigModelV7 extends ConfigModel {
                 abars = ArrayListMultimap.create();
                 bars = ArrayListMultimap.create();
                 hosts = ArrayListMultimap.create();
+                hostNetworks = new CidrTree<>();
 
                 for (final Entry<String, RoleMappingsV7> roleMap : rolemappings.getCEntries().entrySet()) {
                     final String roleMapKey = roleMap.getKey();
@@ -1248,7 +1348,10 @@ public class ConfigModelV7 extends ConfigModel {
                     }
 
                     for (String host : roleMapValue.getHosts()) {
-                        hosts.put(host, roleMapKey);
+                        // IP addresses and networks are matched by address, everything else as a wildcard pattern
+                        if (!hostNetworks.put(host, roleMapKey)) {
+                            hosts.put(host, roleMapKey);
+                        }
                     }
                 }
 
@@ -1294,6 +1397,8 @@ public class ConfigModelV7 extends ConfigModel {
                     // IPV4 or IPv6 (compressed and without scope identifiers)
                     final String ipAddress = caller.getAddress();
 
+                    hostNetworks.forEachMatch(ipAddress, securityRoles::add);
+
                     for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, ipAddress)) {
                         securityRoles.addAll(hosts.get(p));
                     }
@@ -53,6 +53,7 @@ import org.opensearch.security.configuration.ClusterInfoHolder;
 import org.opensearch.security.configuration.ConfigurationChangeListener;
 import org.opensearch.security.configuration.ConfigurationRepository;
 import org.opensearch.security.configuration.StaticResourceException;
+import org.opensearch.security.resolver.IndexOrdinals;
 import org.opensearch.security.securityconf.impl.AllowlistingSettings;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.NodesDn;
@@ -127,7 +128,8 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
     private final EventBus eventBus = EVENT_BUS_BUILDER.logger(new JavaLogger(DynamicConfigFactory.class.getCanonicalName())).build();
     private final Settings opensearchSettings;
     private final Path configPath;
-    private final InternalAuthenticationBackend iab = new InternalAuthenticationBackend();
+    private final InternalAuthenticationBackend iab;
+    private final IndexOrdinals.Provider indexOrdinals;
 
     SecurityDynamicConfiguration<?> config;
 
@@ -137,12 +139,15 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
         final Path configPath,
         Client client,
         ThreadPool threadPool,
-        ClusterInfoHolder cih
+        ClusterInfoHolder cih,
+        IndexOrdinals.Provider indexOrdinals
     ) {
         super();
         this.cr = cr;
         this.opensearchSettings = opensearchSettings;
         this.configPath = configPath;
+        this.indexOrdinals = indexOrdinals;
+        this.iab = new InternalAuthenticationBackend(opensearchSettings);
 
         if (opensearchSettings.getAsBoolean(ConfigConstants.SECURITY_UNSUPPORTED_LOAD_STATIC_RESOURCES, true)) {
             try {
@@ -283,7 +288,8 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
                 (SecurityDynamicConfiguration<ActionGroupsV7>) actionGroups,
                 (SecurityDynamicConfiguration<TenantV7>) tenants,
                 dcm,
-                opensearchSettings
+                opensearchSettings,
+                indexOrdinals
             );
 
         } else {
@@ -341,6 +347,10 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
         eventBus.unregister(listener);
     }
 
+    public void setPasswordRehashHandler(InternalAuthenticationBackend.PasswordRehashHandler rehashHandler) {
+        iab.setPasswordRehashHandler(rehashHandler);
+    }
+
     private static class InternalUsersModelV7 extends InternalUsersModel {
 
         private final SecurityDynamicConfiguration<InternalUserV7> internalUserV7SecurityDynamicConfiguration;
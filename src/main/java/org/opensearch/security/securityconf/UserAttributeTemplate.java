@@ -0,0 +1,260 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+
+import org.opensearch.security.user.User;
+
+/**
+ * A pre-parsed form of an index pattern, DLS query or tenant name that may contain
+ * <code>${user.name}</code>, <code>${user.roles}</code>, <code>${user.securityRoles}</code>
+ * and custom attribute placeholders (like <code>${attr.jwt.sub}</code> or <code>${attr_jwt_sub}</code>).
+ *
+ * The placeholder positions are determined once when the configuration is loaded, so rendering for a
+ * user only needs to look up the referenced values. Strings without placeholders are returned as is.
+ * Renderings are memoized per snapshot of the referenced user values (name, roles and attributes), so
+ * repeated requests by the same users neither join the roles again nor allocate a new string.
+ */
+public final class UserAttributeTemplate {
+
+    private static final String[] USER_NAME = { "user.name", "user_name" };
+    private static final String[] USER_ROLES = { "user.roles", "user_roles" };
+    private static final String[] USER_SECURITY_ROLES = { "user.securityRoles", "user_securityRoles" };
+
+    private static final int MAX_RENDERED = 1000;
+
+    private final String source;
+    // literal fragments; there is always one more fragment than placeholders
+    private final String[] fragments;
+    private final Placeholder[] placeholders;
+    private final Cache<List<Object>, String> rendered;
+
+    private UserAttributeTemplate(String source, String[] fragments, Placeholder[] placeholders) {
+        this.source = source;
+        this.fragments = fragments;
+        this.placeholders = placeholders;
+        this.rendered = placeholders == null
+            ? null
+            : CacheBuilder.newBuilder().maximumSize(MAX_RENDERED).expireAfterAccess(1, TimeUnit.HOURS).build();
+    }
+
+    public static UserAttributeTemplate compile(String source) {
+        if (source == null || source.indexOf("${") == -1) {
+            return new UserAttributeTemplate(source, null, null);
+        }
+
+        final List<String> fragments = new ArrayList<>();
+        final List<Placeholder> placeholders = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int pos = 0;
+
+        while (pos < source.length()) {
+            final int start = source.indexOf("${", pos);
+            final int end = start == -1 ? -1 : source.indexOf('}', start + 2);
+            if (start == -1 || end == -1) {
+                literal.append(source, pos, source.length());
+                break;
+            }
+
+            literal.append(source, pos, start);
+            fragments.add(literal.toString());
+            literal.setLength(0);
+            placeholders.add(Placeholder.of(source.substring(start + 2, end)));
+            pos = end + 1;
+        }
+
+        fragments.add(literal.toString());
+        return new UserAttributeTemplate(source, fragments.toArray(new String[0]), placeholders.toArray(new Placeholder[0]));
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public boolean hasPlaceholders() {
+        return placeholders != null;
+    }
+
+    /**
+     * Substitutes the placeholders with the values of the given user. Placeholders which cannot be
+     * resolved for the user are left untouched.
+     */
+    public String render(User user) {
+        if (user == null || placeholders == null) {
+            return source;
+        }
+
+        final Object[] inputs = new Object[placeholders.length];
+        for (int i = 0; i < placeholders.length; i++) {
+            inputs[i] = placeholders[i].snapshot(user);
+        }
+
+        final List<Object> key = Arrays.asList(inputs);
+        final String cached = rendered.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final String[] values = new String[placeholders.length];
+        int length = 0;
+        for (int i = 0; i < placeholders.length; i++) {
+            values[i] = placeholders[i].render(inputs[i]);
+            length += fragments[i].length() + values[i].length();
+        }
+        length += fragments[placeholders.length].length();
+
+        final StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < placeholders.length; i++) {
+            sb.append(fragments[i]).append(values[i]);
+        }
+        sb.append(fragments[placeholders.length]);
+
+        final String value = sb.toString();
+        rendered.put(key, value);
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(source);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null) return false;
+        if (getClass() != obj.getClass()) return false;
+        return Objects.equals(source, ((UserAttributeTemplate) obj).source);
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    static String toQuotedCommaSeparatedString(final Set<String> roles) {
+        return Joiner.on(',').join(Iterables.transform(roles, s -> {
+            return new StringBuilder(s.length() + 2).append('"').append(s).append('"').toString();
+        }));
+    }
+
+    private enum Kind {
+        NAME,
+        ROLES,
+        SECURITY_ROLES,
+        ATTRIBUTE
+    }
+
+    private static final class Placeholder {
+        private final Kind kind;
+        private final String name;
+        private final String raw;
+
+        private Placeholder(Kind kind, String name) {
+            this.kind = kind;
+            this.name = name;
+            this.raw = "${" + name + "}";
+        }
+
+        static Placeholder of(String name) {
+            if (matchesAny(name, USER_NAME)) {
+                return new Placeholder(Kind.NAME, name);
+            } else if (matchesAny(name, USER_ROLES)) {
+                return new Placeholder(Kind.ROLES, name);
+            } else if (matchesAny(name, USER_SECURITY_ROLES)) {
+                return new Placeholder(Kind.SECURITY_ROLES, name);
+            } else {
+                return new Placeholder(Kind.ATTRIBUTE, name);
+            }
+        }
+
+        private static boolean matchesAny(String name, String[] candidates) {
+            for (String candidate : candidates) {
+                if (candidate.equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return the value of the user this placeholder refers to, roles are copied as they may still change
+         */
+        Object snapshot(User user) {
+            switch (kind) {
+                case NAME:
+                    return user.getName();
+                case ROLES:
+                    return ImmutableSet.copyOf(user.getRoles());
+                case SECURITY_ROLES:
+                    return ImmutableSet.copyOf(user.getSecurityRoles());
+                default:
+                    final String value = resolveAttribute(user.getCustomAttributesMap());
+                    return value == null ? raw : value;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        String render(Object snapshot) {
+            switch (kind) {
+                case ROLES:
+                case SECURITY_ROLES:
+                    return toQuotedCommaSeparatedString((Set<String>) snapshot);
+                default:
+                    return (String) snapshot;
+            }
+        }
+
+        private String resolveAttribute(Map<String, String> attributes) {
+            final String value = attributes.get(name);
+            if (value != null || name.indexOf('_') == -1) {
+                return value;
+            }
+
+            // ${attr_jwt_sub} is an alias for the attribute attr.jwt.sub
+            synchronized (attributes) {
+                for (Map.Entry<String, String> entry : attributes.entrySet()) {
+                    if (entry.getKey() != null && entry.getValue() != null && isUnderscoreVariant(entry.getKey())) {
+                        return entry.getValue();
+                    }
+                }
+            }
+            return null;
+        }
+
+        private boolean isUnderscoreVariant(String key) {
+            if (key.length() != name.length()) {
+                return false;
+            }
+            for (int i = 0; i < key.length(); i++) {
+                final char c = key.charAt(i);
+                if ((c == '.' ? '_' : c) != name.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
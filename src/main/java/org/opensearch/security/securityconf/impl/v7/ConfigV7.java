@@ -216,6 +216,7 @@ public class ConfigV7 {
         public int block_expiry_seconds = 60 * 10;
         public int max_blocked_clients = 100_000;
         public int max_tracked_clients = 100_000;
+        public String rate_tracker = "heap";
 
         public AuthFailureListener() {
             super();
@@ -44,6 +44,7 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.SpecialPermission;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.env.Environment;
 import org.opensearch.security.ssl.util.CertFileProps;
 import org.opensearch.security.ssl.util.CertFromFile;
@@ -52,7 +53,7 @@ import org.opensearch.security.ssl.util.CertFromTruststore;
 import org.opensearch.security.ssl.util.ExceptionUtils;
 import org.opensearch.security.ssl.util.KeystoreProps;
 import org.opensearch.security.ssl.util.SSLConfigConstants;
-import org.opensearch.transport.NettyAllocator;
+import org.opensearch.security.support.SecurityStats;
 
 import javax.crypto.Cipher;
 import javax.net.ssl.SSLContext;
@@ -81,6 +82,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -139,16 +141,30 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
     private List<String> enabledTransportProtocolsJDKProvider;
     private List<String> enabledTransportProtocolsOpenSSLProvider;
 
-    private SslContext httpSslContext;
-    private SslContext transportServerSslContext;
-    private SslContext transportClientSslContext;
+    private final ReloadableSslContext httpSslContext = new ReloadableSslContext();
+    private final ReloadableSslContext transportServerSslContext = new ReloadableSslContext();
+    private final ReloadableSslContext transportClientSslContext = new ReloadableSslContext();
+    private final SecurityStats.Histogram httpReloadLatency;
+    private final SecurityStats.Histogram transportReloadLatency;
+    private final LongAdder httpReloadFailures;
+    private final LongAdder transportReloadFailures;
     private X509Certificate[] transportCerts;
     private X509Certificate[] httpCerts;
     private final Environment env;
+    private final int httpSessionCacheSize;
+    private final long httpSessionTimeoutSeconds;
+    private final int transportSessionCacheSize;
+    private final long transportSessionTimeoutSeconds;
+    private final SslSessionTicketKeys sessionTicketKeys;
 
     public DefaultSecurityKeyStore(final Settings settings, final Path configPath) {
         super();
         this.settings = settings;
+        final SecurityStats stats = SecurityStats.forNode(settings);
+        this.httpReloadLatency = stats.histogram("ssl.http.reload_latency");
+        this.transportReloadLatency = stats.histogram("ssl.transport.reload_latency");
+        this.httpReloadFailures = stats.counter("ssl.http.reload_failures");
+        this.transportReloadFailures = stats.counter("ssl.transport.reload_failures");
         Environment _env;
         try {
             _env = new Environment(settings, configPath);
@@ -164,6 +180,13 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
             SSLConfigConstants.SECURITY_SSL_TRANSPORT_ENABLED,
             SSLConfigConstants.SECURITY_SSL_TRANSPORT_ENABLED_DEFAULT
         );
+        // 0 keeps the defaults of the provider
+        httpSessionCacheSize = settings.getAsInt(SSLConfigConstants.SECURITY_SSL_HTTP_SESSION_CACHE_SIZE, 0);
+        httpSessionTimeoutSeconds = settings.getAsTime(SSLConfigConstants.SECURITY_SSL_HTTP_SESSION_TIMEOUT, TimeValue.ZERO).getSeconds();
+        transportSessionCacheSize = settings.getAsInt(SSLConfigConstants.SECURITY_SSL_TRANSPORT_SESSION_CACHE_SIZE, 0);
+        transportSessionTimeoutSeconds = settings.getAsTime(SSLConfigConstants.SECURITY_SSL_TRANSPORT_SESSION_TIMEOUT, TimeValue.ZERO)
+            .getSeconds();
+        sessionTicketKeys = SslSessionTicketKeys.fromSettings(settings);
         final boolean useOpenSSLForHttpIfAvailable = OpenSearchSecuritySSLPlugin.OPENSSL_SUPPORTED
             && settings.getAsBoolean(SSLConfigConstants.SECURITY_SSL_HTTP_ENABLE_OPENSSL_IF_AVAILABLE, true);
         final boolean useOpenSSLForTransportIfAvailable = OpenSearchSecuritySSLPlugin.OPENSSL_SUPPORTED
@@ -269,6 +292,44 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
         }
     }
 
+    /**
+     * @return the key-, trust- and PEM files configured for the http or the transport layer
+     */
+    List<Path> getCertificateFiles(final boolean http) {
+        final List<String> properties = http
+            ? Arrays.asList(
+                SSLConfigConstants.SECURITY_SSL_HTTP_KEYSTORE_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_HTTP_TRUSTSTORE_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_HTTP_PEMCERT_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_HTTP_PEMKEY_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_HTTP_PEMTRUSTEDCAS_FILEPATH
+            )
+            : Arrays.asList(
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_KEYSTORE_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_TRUSTSTORE_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_PEMCERT_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_PEMKEY_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_PEMTRUSTEDCAS_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_SERVER_PEMCERT_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_SERVER_PEMKEY_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_SERVER_PEMTRUSTEDCAS_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_CLIENT_PEMCERT_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_CLIENT_PEMKEY_FILEPATH,
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_CLIENT_PEMTRUSTEDCAS_FILEPATH
+            );
+        final List<Path> files = new ArrayList<>();
+
+        for (final String property : properties) {
+            final String path = resolve(property, false);
+
+            if (path != null) {
+                files.add(Paths.get(path));
+            }
+        }
+
+        return files;
+    }
+
     private String resolve(String propName, boolean mustBeValid) {
 
         final String originalPath = settings.get(propName, null);
@@ -314,9 +375,28 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
     }
 
     /**
-     * Initializes certs used for node to node communication
+     * Initializes certs used for node to node communication. On a reload, new connections use the new certs once
+     * they are loaded and validated while established connections are left alone.
      */
-    public void initTransportSSLConfig() {
+    public synchronized void initTransportSSLConfig() {
+        final long startNanos = System.nanoTime();
+        final boolean reload = transportCerts != null;
+
+        try {
+            loadTransportSSLConfig();
+        } catch (final RuntimeException e) {
+            if (reload) {
+                transportReloadFailures.increment();
+            }
+            throw e;
+        }
+
+        if (reload) {
+            transportReloadLatency.recordSince(startNanos);
+        }
+    }
+
+    private void loadTransportSSLConfig() {
         // when extendedKeyUsageEnabled and we use keyStore, client/server certs will be in the
         // same keyStore file
         // when extendedKeyUsageEnabled and we use rawFiles, client/server certs will be in
@@ -417,21 +497,28 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
                 }
 
                 validateNewCerts(transportCerts, certFromKeystore.getCerts());
-                transportServerSslContext = buildSSLServerContext(
+                final SslContext serverContext = buildSSLServerContext(
                     certFromKeystore.getServerKey(),
                     certFromKeystore.getServerCert(),
                     certFromTruststore.getServerTrustedCerts(),
                     getEnabledSSLCiphers(this.sslTransportServerProvider, false),
                     this.sslTransportServerProvider,
-                    ClientAuth.REQUIRE
+                    ClientAuth.REQUIRE,
+                    false
                 );
-                transportClientSslContext = buildSSLClientContext(
+                final SslContext clientContext = buildSSLClientContext(
                     certFromKeystore.getClientKey(),
                     certFromKeystore.getClientCert(),
                     certFromTruststore.getClientTrustedCerts(),
                     getEnabledSSLCiphers(sslTransportClientProvider, false),
                     sslTransportClientProvider
                 );
+                registerSessionTicketKeys(
+                    "transport",
+                    serverContext,
+                    SslSessionTicketKeys.trustDigest(certFromTruststore.getServerTrustedCerts())
+                );
+                setTransportSslContexts(serverContext, clientContext);
                 setTransportSSLCerts(certFromKeystore.getCerts());
             } catch (final Exception e) {
                 logExplanation(e);
@@ -468,16 +555,17 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
                 }
 
                 validateNewCerts(transportCerts, certFromFile.getCerts());
-                transportServerSslContext = buildSSLServerContext(
+                final SslContext serverContext = buildSSLServerContext(
                     certFromFile.getServerPemKey(),
                     certFromFile.getServerPemCert(),
                     certFromFile.getServerTrustedCas(),
                     certFromFile.getServerPemKeyPassword(),
                     getEnabledSSLCiphers(this.sslTransportServerProvider, false),
                     this.sslTransportServerProvider,
-                    ClientAuth.REQUIRE
+                    ClientAuth.REQUIRE,
+                    false
                 );
-                transportClientSslContext = buildSSLClientContext(
+                final SslContext clientContext = buildSSLClientContext(
                     certFromFile.getClientPemKey(),
                     certFromFile.getClientPemCert(),
                     certFromFile.getClientTrustedCas(),
@@ -485,6 +573,8 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
                     getEnabledSSLCiphers(sslTransportClientProvider, false),
                     sslTransportClientProvider
                 );
+                registerSessionTicketKeys("transport", serverContext, SslSessionTicketKeys.trustDigest(certFromFile.getServerTrustedCas()));
+                setTransportSslContexts(serverContext, clientContext);
                 setTransportSSLCerts(certFromFile.getCerts());
 
             } catch (final Exception e) {
@@ -504,9 +594,28 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
     }
 
     /**
-     * Initializes certs used for client https communication
+     * Initializes certs used for client https communication. On a reload, new connections use the new certs once
+     * they are loaded and validated while established connections are left alone.
      */
-    public void initHttpSSLConfig() {
+    public synchronized void initHttpSSLConfig() {
+        final long startNanos = System.nanoTime();
+        final boolean reload = httpCerts != null;
+
+        try {
+            loadHttpSSLConfig();
+        } catch (final RuntimeException e) {
+            if (reload) {
+                httpReloadFailures.increment();
+            }
+            throw e;
+        }
+
+        if (reload) {
+            httpReloadLatency.recordSince(startNanos);
+        }
+    }
+
+    private void loadHttpSSLConfig() {
         final boolean useKeyStore = settings.hasValue(SSLConfigConstants.SECURITY_SSL_HTTP_KEYSTORE_FILEPATH);
         final boolean useRawFiles = settings.hasValue(SSLConfigConstants.SECURITY_SSL_HTTP_PEMCERT_FILEPATH);
         final ClientAuth httpClientAuthMode = ClientAuth.valueOf(
@@ -566,14 +675,21 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
                 }
 
                 validateNewCerts(httpCerts, certFromKeystore.getCerts());
-                httpSslContext = buildSSLServerContext(
+                final SslContext serverContext = buildSSLServerContext(
                     certFromKeystore.getServerKey(),
                     certFromKeystore.getServerCert(),
                     certFromTruststore.getServerTrustedCerts(),
                     getEnabledSSLCiphers(this.sslHTTPProvider, true),
                     sslHTTPProvider,
-                    httpClientAuthMode
+                    httpClientAuthMode,
+                    true
                 );
+                registerSessionTicketKeys(
+                    "http",
+                    serverContext,
+                    SslSessionTicketKeys.trustDigest(certFromTruststore.getServerTrustedCerts())
+                );
+                httpSslContext.set(serverContext);
                 setHttpSSLCerts(certFromKeystore.getCerts());
 
             } catch (final Exception e) {
@@ -597,15 +713,18 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
                 CertFromFile certFromFile = new CertFromFile(certFileProps);
 
                 validateNewCerts(httpCerts, certFromFile.getCerts());
-                httpSslContext = buildSSLServerContext(
+                final SslContext serverContext = buildSSLServerContext(
                     certFromFile.getServerPemKey(),
                     certFromFile.getServerPemCert(),
                     certFromFile.getServerTrustedCas(),
                     SECURITY_SSL_HTTP_PEMKEY_PASSWORD.getSetting(settings),
                     getEnabledSSLCiphers(this.sslHTTPProvider, true),
                     sslHTTPProvider,
-                    httpClientAuthMode
+                    httpClientAuthMode,
+                    true
                 );
+                registerSessionTicketKeys("http", serverContext, SslSessionTicketKeys.trustDigest(certFromFile.getServerTrustedCas()));
+                httpSslContext.set(serverContext);
                 setHttpSSLCerts(certFromFile.getCerts());
 
             } catch (final Exception e) {
@@ -720,21 +839,21 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
     }
 
     public SSLEngine createHTTPSSLEngine() throws SSLException {
-        final SSLEngine engine = httpSslContext.newEngine(NettyAllocator.getAllocator());
+        final SSLEngine engine = httpSslContext.newEngine();
         engine.setEnabledProtocols(getEnabledSSLProtocols(this.sslHTTPProvider, true));
         return engine;
 
     }
 
     public SSLEngine createServerTransportSSLEngine() throws SSLException {
-        final SSLEngine engine = transportServerSslContext.newEngine(NettyAllocator.getAllocator());
+        final SSLEngine engine = transportServerSslContext.newEngine();
         engine.setEnabledProtocols(getEnabledSSLProtocols(this.sslTransportServerProvider, false));
         return engine;
     }
 
     public SSLEngine createClientTransportSSLEngine(final String peerHost, final int peerPort) throws SSLException {
         if (peerHost != null) {
-            final SSLEngine engine = transportClientSslContext.newEngine(NettyAllocator.getAllocator(), peerHost, peerPort);
+            final SSLEngine engine = transportClientSslContext.newEngine(peerHost, peerPort);
 
             final SSLParameters sslParams = new SSLParameters();
             sslParams.setEndpointIdentificationAlgorithm("HTTPS");
@@ -742,7 +861,7 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
             engine.setEnabledProtocols(getEnabledSSLProtocols(this.sslTransportClientProvider, false));
             return engine;
         } else {
-            final SSLEngine engine = transportClientSslContext.newEngine(NettyAllocator.getAllocator());
+            final SSLEngine engine = transportClientSslContext.newEngine();
             engine.setEnabledProtocols(getEnabledSSLProtocols(this.sslTransportClientProvider, false));
             return engine;
         }
@@ -965,14 +1084,16 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
         final X509Certificate[] _trustedCerts,
         final Iterable<String> ciphers,
         final SslProvider sslProvider,
-        final ClientAuth authMode
+        final ClientAuth authMode,
+        final boolean http
     ) throws SSLException {
 
         final SslContextBuilder _sslContextBuilder = configureSSLServerContextBuilder(
             SslContextBuilder.forServer(_key, _cert),
             sslProvider,
             ciphers,
-            authMode
+            authMode,
+            http
         );
 
         if (_trustedCerts != null && _trustedCerts.length > 0) {
@@ -989,14 +1110,16 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
         final String pwd,
         final Iterable<String> ciphers,
         final SslProvider sslProvider,
-        final ClientAuth authMode
+        final ClientAuth authMode,
+        final boolean http
     ) throws SSLException {
 
         final SslContextBuilder _sslContextBuilder = configureSSLServerContextBuilder(
             SslContextBuilder.forServer(_cert, _key, pwd),
             sslProvider,
             ciphers,
-            authMode
+            authMode,
+            http
         );
 
         if (_trustedCerts != null) {
@@ -1010,7 +1133,8 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
         final SslContextBuilder builder,
         final SslProvider sslProvider,
         final Iterable<String> ciphers,
-        final ClientAuth authMode
+        final ClientAuth authMode,
+        final boolean http
     ) {
         return builder.ciphers(
             Stream.concat(Http2SecurityUtil.CIPHERS.stream(), StreamSupport.stream(ciphers.spliterator(), false))
@@ -1018,8 +1142,8 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
             SupportedCipherSuiteFilter.INSTANCE
         )
             .clientAuth(Objects.requireNonNull(authMode))
-            .sessionCacheSize(0)
-            .sessionTimeout(0)
+            .sessionCacheSize(http ? httpSessionCacheSize : transportSessionCacheSize)
+            .sessionTimeout(http ? httpSessionTimeoutSeconds : transportSessionTimeoutSeconds)
             .sslProvider(sslProvider)
             .applicationProtocolConfig(
                 new ApplicationProtocolConfig(
@@ -1045,8 +1169,8 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
         final SslContextBuilder _sslClientContextBuilder = SslContextBuilder.forClient()
             .ciphers(ciphers)
             .applicationProtocolConfig(ApplicationProtocolConfig.DISABLED)
-            .sessionCacheSize(0)
-            .sessionTimeout(0)
+            .sessionCacheSize(transportSessionCacheSize)
+            .sessionTimeout(transportSessionTimeoutSeconds)
             .sslProvider(sslProvider)
             .trustManager(_trustedCerts)
             .keyManager(_key, _cert);
@@ -1067,8 +1191,8 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
         final SslContextBuilder _sslClientContextBuilder = SslContextBuilder.forClient()
             .ciphers(ciphers)
             .applicationProtocolConfig(ApplicationProtocolConfig.DISABLED)
-            .sessionCacheSize(0)
-            .sessionTimeout(0)
+            .sessionCacheSize(transportSessionCacheSize)
+            .sessionTimeout(transportSessionTimeoutSeconds)
             .sslProvider(sslProvider)
             .trustManager(_trustedCerts)
             .keyManager(_cert, _key, pwd);
@@ -1077,6 +1201,26 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
 
     }
 
+    private void setTransportSslContexts(final SslContext serverContext, final SslContext clientContext) {
+        transportServerSslContext.set(serverContext);
+        transportClientSslContext.set(clientContext);
+    }
+
+    private void registerSessionTicketKeys(final String layer, final SslContext serverContext, final byte[] trustDigest) {
+        if (sessionTicketKeys != null) {
+            sessionTicketKeys.register(layer, serverContext, trustDigest);
+        }
+    }
+
+    /**
+     * Stops the rotation of the session ticket keys
+     */
+    public void close() {
+        if (sessionTicketKeys != null) {
+            sessionTicketKeys.close();
+        }
+    }
+
     @SuppressWarnings("removal")
     private SslContext buildSSLContext0(final SslContextBuilder sslContextBuilder) throws SSLException {
 
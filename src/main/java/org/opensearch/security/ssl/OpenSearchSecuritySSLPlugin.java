@@ -17,6 +17,7 @@
 
 package org.opensearch.security.ssl;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -53,6 +54,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -108,6 +110,7 @@ public class OpenSearchSecuritySSLPlugin extends Plugin implements SystemIndexPl
     private final static SslExceptionHandler NOOP_SSL_EXCEPTION_HANDLER = new SslExceptionHandler() {
     };
     protected final SSLConfig SSLConfig;
+    private SslCertificateWatcher certificateWatcher;
 
     // public OpenSearchSecuritySSLPlugin(final Settings settings, final Path configPath) {
     // this(settings, configPath, false);
@@ -233,6 +236,45 @@ public class OpenSearchSecuritySSLPlugin extends Plugin implements SystemIndexPl
             this.sks = new ExternalSecurityKeyStore(settings);
         } else {
             this.sks = new DefaultSecurityKeyStore(settings, configPath);
+
+            if (settings.getAsBoolean(SSLConfigConstants.SECURITY_SSL_CERTIFICATES_HOT_RELOAD_ENABLED, false)) {
+                certificateWatcher = startCertificateWatcher((DefaultSecurityKeyStore) sks);
+            }
+        }
+    }
+
+    private SslCertificateWatcher startCertificateWatcher(final DefaultSecurityKeyStore keyStore) {
+        final SslCertificateWatcher watcher = new SslCertificateWatcher(
+            settings.getAsTime(SSLConfigConstants.SECURITY_SSL_CERTIFICATES_HOT_RELOAD_DEBOUNCE, TimeValue.timeValueSeconds(5)).millis()
+        );
+
+        if (transportSSLEnabled) {
+            watcher.addLayer("transport", keyStore.getCertificateFiles(false), keyStore::initTransportSSLConfig);
+        }
+
+        if (!client && httpSSLEnabled) {
+            watcher.addLayer("http", keyStore.getCertificateFiles(true), keyStore::initHttpSSLConfig);
+        }
+
+        try {
+            watcher.start();
+            return watcher;
+        } catch (final IOException e) {
+            log.error("Unable to watch the certificate files, certificates can only be reloaded through the REST API", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+
+        if (certificateWatcher != null) {
+            certificateWatcher.close();
+        }
+
+        if (sks instanceof DefaultSecurityKeyStore) {
+            ((DefaultSecurityKeyStore) sks).close();
         }
     }
 
@@ -625,6 +667,59 @@ public class OpenSearchSecuritySSLPlugin extends Plugin implements SystemIndexPl
         settings.add(
             Setting.longSetting(SSLConfigConstants.SECURITY_SSL_HTTP_CRL_VALIDATION_DATE, -1, -1, Property.NodeScope, Property.Filtered)
         );
+        settings.add(
+            Setting.intSetting(SSLConfigConstants.SECURITY_SSL_HTTP_SESSION_CACHE_SIZE, 0, 0, Property.NodeScope, Property.Filtered)
+        );
+        settings.add(
+            Setting.timeSetting(
+                SSLConfigConstants.SECURITY_SSL_HTTP_SESSION_TIMEOUT,
+                TimeValue.ZERO,
+                TimeValue.ZERO,
+                Property.NodeScope,
+                Property.Filtered
+            )
+        );
+        settings.add(
+            Setting.intSetting(SSLConfigConstants.SECURITY_SSL_TRANSPORT_SESSION_CACHE_SIZE, 0, 0, Property.NodeScope, Property.Filtered)
+        );
+        settings.add(
+            Setting.timeSetting(
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_SESSION_TIMEOUT,
+                TimeValue.ZERO,
+                TimeValue.ZERO,
+                Property.NodeScope,
+                Property.Filtered
+            )
+        );
+        settings.add(
+            Setting.boolSetting(SSLConfigConstants.SECURITY_SSL_SESSION_TICKETS_ENABLED, false, Property.NodeScope, Property.Filtered)
+        );
+        settings.add(
+            Setting.boolSetting(
+                SSLConfigConstants.SECURITY_SSL_CERTIFICATES_HOT_RELOAD_ENABLED,
+                false,
+                Property.NodeScope,
+                Property.Filtered
+            )
+        );
+        settings.add(
+            Setting.timeSetting(
+                SSLConfigConstants.SECURITY_SSL_CERTIFICATES_HOT_RELOAD_DEBOUNCE,
+                TimeValue.timeValueSeconds(5),
+                TimeValue.ZERO,
+                Property.NodeScope,
+                Property.Filtered
+            )
+        );
+        settings.add(
+            Setting.timeSetting(
+                SSLConfigConstants.SECURITY_SSL_SESSION_TICKETS_ROTATION_INTERVAL,
+                TimeValue.timeValueHours(1),
+                TimeValue.timeValueMinutes(1),
+                Property.NodeScope,
+                Property.Filtered
+            )
+        );
 
         return settings;
     }
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl;
+
+import javax.net.ssl.SSLEngine;
+
+import io.netty.handler.ssl.SslContext;
+
+import org.opensearch.transport.NettyAllocator;
+
+/**
+ * Holds the current SSL context of a layer. Engines are created from the context which is current at the time of
+ * the handshake, so replacing the context affects new connections only; established connections keep the engine
+ * (and the keys) they were created with and are neither closed nor renegotiated.
+ */
+public final class ReloadableSslContext {
+
+    private volatile SslContext context;
+
+    public SslContext get() {
+        return context;
+    }
+
+    /**
+     * @return the replaced context, null if there was none
+     */
+    public SslContext set(final SslContext context) {
+        final SslContext previous = this.context;
+        this.context = context;
+        return previous;
+    }
+
+    public SSLEngine newEngine() {
+        return current().newEngine(NettyAllocator.getAllocator());
+    }
+
+    public SSLEngine newEngine(final String peerHost, final int peerPort) {
+        return current().newEngine(NettyAllocator.getAllocator(), peerHost, peerPort);
+    }
+
+    private SslContext current() {
+        final SslContext context = this.context;
+
+        if (context == null) {
+            throw new IllegalStateException("SSL context is not initialized");
+        }
+
+        return context;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Reloads the certificates of a layer when its key-, trust- or PEM files change. Changes are debounced, so that
+ * certificate and key written one after the other are reloaded together. The files are compared by content, so
+ * a reload is only done if a file actually changed; if the reload fails (for instance because only one of the
+ * files has been replaced yet) the previous certificates stay in use and the reload is retried on the next change.
+ */
+public final class SslCertificateWatcher implements Closeable {
+
+    private static final Logger log = LogManager.getLogger(SslCertificateWatcher.class);
+
+    private final long debounceMillis;
+    private final List<Layer> layers = new ArrayList<>();
+    private final ScheduledExecutorService scheduler;
+    private WatchService watchService;
+    private ScheduledFuture<?> pendingCheck;
+
+    public SslCertificateWatcher(final long debounceMillis) {
+        this.debounceMillis = debounceMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "opensearch-security-ssl-cert-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param reload reloads the certificates of the layer, throws if they are invalid
+     */
+    public SslCertificateWatcher addLayer(final String name, final List<Path> files, final Runnable reload) {
+        layers.add(new Layer(name, files, reload));
+        return this;
+    }
+
+    public void start() throws IOException {
+        final Set<Path> directories = new HashSet<>();
+
+        for (final Layer layer : layers) {
+            for (final Path file : layer.files) {
+                directories.add(file.toAbsolutePath().getParent());
+            }
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+
+        try {
+            for (final Path directory : directories) {
+                directory.register(
+                    watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE
+                );
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+
+        final Thread watcher = new Thread(this::watch, "opensearch-security-ssl-cert-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching {} for certificate changes", directories);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                final WatchKey key = watchService.take();
+                key.pollEvents();
+                key.reset();
+                scheduleCheck();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.debug("Stopped watching certificate files");
+        }
+    }
+
+    private synchronized void scheduleCheck() {
+        if (pendingCheck != null) {
+            pendingCheck.cancel(false);
+        }
+
+        pendingCheck = scheduler.schedule(this::check, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reloads the layers whose files changed since they were loaded last
+     */
+    void check() {
+        for (final Layer layer : layers) {
+            final List<byte[]> digests = digests(layer.files);
+
+            if (sameDigests(digests, layer.digests) || digests.stream().anyMatch(digest -> digest.length == 0)) {
+                // unchanged, or a file is missing while being replaced
+                continue;
+            }
+
+            try {
+                layer.reload.run();
+                layer.digests = digests;
+                log.info("Reloaded {} certificates after a change of {}", layer.name, layer.files);
+            } catch (RuntimeException e) {
+                log.warn("Unable to reload {} certificates, keeping the previous ones until the files change again", layer.name, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private static List<byte[]> digests(final List<Path> files) {
+        final List<byte[]> digests = new ArrayList<>(files.size());
+
+        for (final Path file : files) {
+            try {
+                digests.add(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+            } catch (IOException e) {
+                // missing or unreadable
+                digests.add(new byte[0]);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return digests;
+    }
+
+    private static boolean sameDigests(final List<byte[]> a, final List<byte[]> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < a.size(); i++) {
+            if (!MessageDigest.isEqual(a.get(i), b.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static final class Layer {
+        private final String name;
+        private final List<Path> files;
+        private final Runnable reload;
+        private List<byte[]> digests;
+
+        private Layer(final String name, final List<Path> files, final Runnable reload) {
+            this.name = name;
+            this.files = files;
+            this.reload = reload;
+            this.digests = digests(files);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSession;
+
+import io.netty.handler.ssl.ReferenceCountedOpenSslEngine;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.internal.tcnative.SSL;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.SecurityStats;
+
+/**
+ * Counts the full and the resumed TLS handshakes of a layer, by session id or session ticket alike. OpenSSL reports
+ * whether the session was reused. The JDK provider has no such flag; it keeps the creation time of a resumed session
+ * though, so a session created before the handshake started was resumed.
+ */
+public final class SslHandshakeStats {
+
+    private final LongAdder fullHandshakes;
+    private final LongAdder resumedHandshakes;
+    private final LongAdder failedHandshakes;
+    private final SecurityStats.Histogram latency;
+
+    private SslHandshakeStats(final SecurityStats stats, final String layer) {
+        fullHandshakes = stats.counter("ssl." + layer + ".full_handshakes");
+        resumedHandshakes = stats.counter("ssl." + layer + ".resumed_handshakes");
+        failedHandshakes = stats.counter("ssl." + layer + ".failed_handshakes");
+        latency = stats.histogram("ssl." + layer + ".handshake_latency");
+    }
+
+    public static SslHandshakeStats forHttp(final Settings settings) {
+        return new SslHandshakeStats(SecurityStats.forNode(settings), "http");
+    }
+
+    public static SslHandshakeStats forTransport(final Settings settings) {
+        return new SslHandshakeStats(SecurityStats.forNode(settings), "transport");
+    }
+
+    /**
+     * Records the outcome of the handshake of the given handler, which must not have started yet
+     */
+    public SslHandler track(final SslHandler sslHandler) {
+        final long startMillis = System.currentTimeMillis();
+        final long startNanos = System.nanoTime();
+
+        sslHandler.handshakeFuture().addListener(future -> {
+            if (!future.isSuccess()) {
+                failedHandshakes.increment();
+                return;
+            }
+
+            latency.recordSince(startNanos);
+
+            if (isResumed(sslHandler.engine(), startMillis)) {
+                resumedHandshakes.increment();
+            } else {
+                fullHandshakes.increment();
+            }
+        });
+
+        return sslHandler;
+    }
+
+    static boolean isResumed(final SSLEngine engine, final long startMillis) {
+        if (engine instanceof ReferenceCountedOpenSslEngine) {
+            // the creation time of OpenSSL sessions has a resolution of seconds, so only the flag tells
+            synchronized (engine) {
+                // 0 once the engine was released
+                final long ssl = ((ReferenceCountedOpenSslEngine) engine).sslPointer();
+                return ssl != 0 && SSL.isSessionReused(ssl);
+            }
+        }
+
+        final SSLSession session = engine.getSession();
+        return session != null && session.getCreationTime() < startMillis;
+    }
+}
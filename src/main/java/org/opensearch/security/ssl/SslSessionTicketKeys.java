@@ -0,0 +1,262 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.AccessController;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.netty.handler.ssl.SslContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.SpecialPermission;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.security.ssl.util.SSLConfigConstants;
+
+import static org.opensearch.security.ssl.SecureSSLSettings.SSLSetting.SECURITY_SSL_SESSION_TICKETS_SECRET;
+
+/**
+ * Session ticket keys for the OpenSSL server contexts. The keys are derived from a secret and the current rotation
+ * period (wall clock time divided by the rotation interval), so all nodes sharing the secret issue and accept the
+ * same tickets and a client can resume its session on any of them. Besides the current key, which encrypts new
+ * tickets, the keys of the previous and the next period are accepted to cover tickets issued shortly before a
+ * rotation and clocks which are slightly off.
+ *
+ * The layer is part of the derivation, so a ticket issued on the http port (which may not require client
+ * certificates) cannot resume a session on the transport port; a resumed handshake does not request the client
+ * certificate again. For the same reason a digest of the trusted certificates is part of the derivation: once the
+ * trusted certificates are reloaded, tickets of clients whose certificate was verified with the old ones are no
+ * longer accepted.
+ *
+ * The JDK provider has no API for ticket keys; it rotates its own per node keys (see the
+ * jdk.tls.server.statelessKeyTimeout system property), so contexts of that provider are left alone.
+ */
+public final class SslSessionTicketKeys {
+
+    private static final Logger log = LogManager.getLogger(SslSessionTicketKeys.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int KEY_SIZE = 16;
+
+    private final SecretKeySpec secret;
+    private final long rotationIntervalMillis;
+    private final LongSupplier clock;
+    private final Map<String, SslContext> contexts = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> trustDigests = new ConcurrentHashMap<>();
+    private ScheduledExecutorService rotator;
+    private long appliedPeriod = Long.MIN_VALUE;
+
+    SslSessionTicketKeys(final byte[] secret, final long rotationIntervalMillis, final LongSupplier clock) {
+        this.secret = new SecretKeySpec(secret, ALGORITHM);
+        this.rotationIntervalMillis = rotationIntervalMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the ticket keys configured by the settings or null if session tickets are not enabled
+     */
+    public static SslSessionTicketKeys fromSettings(final Settings settings) {
+        if (!settings.getAsBoolean(SSLConfigConstants.SECURITY_SSL_SESSION_TICKETS_ENABLED, false)) {
+            return null;
+        }
+
+        final String configuredSecret = SECURITY_SSL_SESSION_TICKETS_SECRET.getSetting(settings);
+        final byte[] secret;
+
+        if (configuredSecret != null) {
+            secret = configuredSecret.getBytes(StandardCharsets.UTF_8);
+        } else {
+            log.warn(
+                "{} is not set, using a random secret. Sessions can only be resumed on the node which issued the ticket.",
+                SECURITY_SSL_SESSION_TICKETS_SECRET.propertyName
+            );
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        }
+
+        final TimeValue rotationInterval = settings.getAsTime(
+            SSLConfigConstants.SECURITY_SSL_SESSION_TICKETS_ROTATION_INTERVAL,
+            TimeValue.timeValueHours(1)
+        );
+        return new SslSessionTicketKeys(secret, rotationInterval.millis(), System::currentTimeMillis);
+    }
+
+    /**
+     * @return the digest of the trusted certificates of a server context, which may have none
+     */
+    static byte[] trustDigest(final X509Certificate[] trustedCerts) throws GeneralSecurityException {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        if (trustedCerts != null) {
+            for (X509Certificate trustedCert : trustedCerts) {
+                digest.update(trustedCert.getEncoded());
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * @return the digest of the PEM file with the trusted certificates of a server context, which may have none
+     */
+    @SuppressWarnings("removal")
+    static byte[] trustDigest(final File trustedCas) throws GeneralSecurityException, IOException {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        if (trustedCas != null) {
+            final SecurityManager sm = System.getSecurityManager();
+            if (sm != null) {
+                sm.checkPermission(new SpecialPermission());
+            }
+            try {
+                digest.update(
+                    AccessController.doPrivileged((PrivilegedExceptionAction<byte[]>) () -> Files.readAllBytes(trustedCas.toPath()))
+                );
+            } catch (PrivilegedActionException e) {
+                throw (IOException) e.getException();
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Applies the ticket keys to the server context of a layer, replacing the context registered before (after a
+     * certificate reload for instance). Contexts not backed by OpenSSL are ignored.
+     *
+     * @param trustDigest the digest of the trusted certificates of the context, see {@link #trustDigest(X509Certificate[])}
+     */
+    public synchronized void register(final String layer, final SslContext context, final byte[] trustDigest) {
+        if (!(context.sessionContext() instanceof OpenSslSessionContext)) {
+            log.info("Session tickets of the {} layer are managed by the JDK, keys are neither shared nor rotated by the plugin", layer);
+            contexts.remove(layer);
+            trustDigests.remove(layer);
+            return;
+        }
+
+        contexts.put(layer, context);
+        trustDigests.put(layer, trustDigest.clone());
+        // applies the keys to the new context and brings the other layers up to date
+        appliedPeriod = Long.MIN_VALUE;
+        rotate();
+
+        if (rotator == null) {
+            rotator = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "opensearch-security-ssl-ticket-keys");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long checkIntervalMillis = Math.min(rotationIntervalMillis, TimeUnit.MINUTES.toMillis(1));
+            rotator.scheduleWithFixedDelay(this::rotate, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the rotation of the keys, the contexts keep the keys applied last
+     */
+    public synchronized void close() {
+        if (rotator != null) {
+            rotator.shutdownNow();
+            rotator = null;
+        }
+    }
+
+    synchronized void rotate() {
+        final long period = period();
+
+        if (period == appliedPeriod) {
+            return;
+        }
+
+        for (Map.Entry<String, SslContext> entry : contexts.entrySet()) {
+            try {
+                apply(entry.getKey(), entry.getValue(), period);
+            } catch (RuntimeException e) {
+                log.error("Unable to rotate the session ticket keys of the {} layer", entry.getKey(), e);
+            }
+        }
+
+        log.debug("Rotated session ticket keys for period {}", period);
+        appliedPeriod = period;
+    }
+
+    private void apply(final String layer, final SslContext context, final long period) {
+        ((OpenSslSessionContext) context.sessionContext()).setTicketKeys(keys(layer, period));
+    }
+
+    long period() {
+        return Math.floorDiv(clock.getAsLong(), rotationIntervalMillis);
+    }
+
+    /**
+     * @return the keys accepted by the layer in the given period, the first one encrypts new tickets
+     */
+    OpenSslSessionTicketKey[] keys(final String layer, final long period) {
+        return new OpenSslSessionTicketKey[] { key(layer, period), key(layer, period - 1), key(layer, period + 1) };
+    }
+
+    OpenSslSessionTicketKey key(final String layer, final long period) {
+        final byte[] material = keyMaterial(layer, period);
+        return new OpenSslSessionTicketKey(
+            Arrays.copyOfRange(material, 0, KEY_SIZE),
+            Arrays.copyOfRange(material, KEY_SIZE, 2 * KEY_SIZE),
+            Arrays.copyOfRange(material, 2 * KEY_SIZE, 3 * KEY_SIZE)
+        );
+    }
+
+    byte[] keyMaterial(final String layer, final long period) {
+        return keyMaterial(layer, trustDigests.getOrDefault(layer, new byte[0]), period);
+    }
+
+    /**
+     * @return 48 bytes of key material (name, HMAC key and AES key) derived from the secret, the layer, the digest of
+     *         the trusted certificates and the period
+     */
+    byte[] keyMaterial(final String layer, final byte[] trustDigest, final long period) {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secret);
+            final byte[] material = new byte[64];
+            final byte[] layerName = layer.getBytes(StandardCharsets.UTF_8);
+
+            for (int block = 0; block < 2; block++) {
+                mac.update(layerName);
+                mac.update((byte) 0);
+                mac.update(trustDigest);
+                mac.update(ByteBuffer.allocate(Long.BYTES + 1).putLong(period).put((byte) block).array());
+                System.arraycopy(mac.doFinal(), 0, material, block * 32, 32);
+            }
+
+            return material;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to derive session ticket keys", e);
+        }
+    }
+}
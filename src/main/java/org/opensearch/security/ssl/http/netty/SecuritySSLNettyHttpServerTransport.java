@@ -38,6 +38,7 @@ import org.opensearch.http.netty4.Netty4HttpChannel;
 import org.opensearch.http.netty4.Netty4HttpServerTransport;
 import org.opensearch.security.ssl.SecurityKeyStore;
 import org.opensearch.security.ssl.SslExceptionHandler;
+import org.opensearch.security.ssl.SslHandshakeStats;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.SharedGroupFactory;
 
@@ -45,6 +46,7 @@ public class SecuritySSLNettyHttpServerTransport extends Netty4HttpServerTranspo
     private static final Logger logger = LogManager.getLogger(SecuritySSLNettyHttpServerTransport.class);
     private final SecurityKeyStore sks;
     private final SslExceptionHandler errorHandler;
+    private final SslHandshakeStats handshakeStats;
 
     public SecuritySSLNettyHttpServerTransport(
         final Settings settings,
@@ -61,6 +63,7 @@ public class SecuritySSLNettyHttpServerTransport extends Netty4HttpServerTranspo
         super(settings, networkService, bigArrays, threadPool, namedXContentRegistry, dispatcher, clusterSettings, sharedGroupFactory);
         this.sks = sks;
         this.errorHandler = errorHandler;
+        this.handshakeStats = SslHandshakeStats.forHttp(settings);
     }
 
     @Override
@@ -128,7 +131,9 @@ public class SecuritySSLNettyHttpServerTransport extends Netty4HttpServerTranspo
         @Override
         protected void initChannel(Channel ch) throws Exception {
             super.initChannel(ch);
-            final SslHandler sslHandler = new SslHandler(SecuritySSLNettyHttpServerTransport.this.sks.createHTTPSSLEngine());
+            final SslHandler sslHandler = handshakeStats.track(
+                new SslHandler(SecuritySSLNettyHttpServerTransport.this.sks.createHTTPSSLEngine())
+            );
             ch.pipeline().addFirst("ssl_http", sslHandler);
         }
 
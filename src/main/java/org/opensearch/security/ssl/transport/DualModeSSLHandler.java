@@ -27,6 +27,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.opensearch.security.ssl.SecurityKeyStore;
+import org.opensearch.security.ssl.SslHandshakeStats;
 import org.opensearch.security.ssl.util.SSLConnectionTestUtil;
 import org.opensearch.security.ssl.util.TLSUtil;
 
@@ -37,16 +38,22 @@ public class DualModeSSLHandler extends ByteToMessageDecoder {
 
     private static final Logger logger = LogManager.getLogger(DualModeSSLHandler.class);
     private final SecurityKeyStore securityKeyStore;
+    private final SslHandshakeStats handshakeStats;
 
     private final SslHandler providedSSLHandler;
 
-    public DualModeSSLHandler(SecurityKeyStore securityKeyStore) {
-        this(securityKeyStore, null);
+    public DualModeSSLHandler(SecurityKeyStore securityKeyStore, SslHandshakeStats handshakeStats) {
+        this(securityKeyStore, handshakeStats, null);
     }
 
     @VisibleForTesting
     protected DualModeSSLHandler(SecurityKeyStore securityKeyStore, SslHandler providedSSLHandler) {
+        this(securityKeyStore, null, providedSSLHandler);
+    }
+
+    private DualModeSSLHandler(SecurityKeyStore securityKeyStore, SslHandshakeStats handshakeStats, SslHandler providedSSLHandler) {
         this.securityKeyStore = securityKeyStore;
+        this.handshakeStats = handshakeStats;
         this.providedSSLHandler = providedSSLHandler;
     }
 
@@ -79,7 +86,7 @@ public class DualModeSSLHandler extends ByteToMessageDecoder {
         if (providedSSLHandler != null) {
             sslHandler = providedSSLHandler;
         } else {
-            sslHandler = new SslHandler(securityKeyStore.createServerTransportSSLEngine());
+            sslHandler = handshakeStats.track(new SslHandler(securityKeyStore.createServerTransportSSLEngine()));
         }
         ChannelPipeline p = ctx.pipeline();
         p.addAfter("port_unification_handler", "ssl_server", sslHandler);
@@ -56,6 +56,7 @@ import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.security.ssl.SecurityKeyStore;
 import org.opensearch.security.ssl.SslExceptionHandler;
+import org.opensearch.security.ssl.SslHandshakeStats;
 import org.opensearch.security.ssl.util.SSLConfigConstants;
 import org.opensearch.security.ssl.util.SSLConnectionTestResult;
 import org.opensearch.security.ssl.util.SSLConnectionTestUtil;
@@ -70,6 +71,7 @@ public class SecuritySSLNettyTransport extends Netty4Transport {
     private final SecurityKeyStore ossks;
     private final SslExceptionHandler errorHandler;
     private final SSLConfig SSLConfig;
+    private final SslHandshakeStats handshakeStats;
 
     public SecuritySSLNettyTransport(
         final Settings settings,
@@ -98,6 +100,7 @@ public class SecuritySSLNettyTransport extends Netty4Transport {
         this.ossks = ossks;
         this.errorHandler = errorHandler;
         this.SSLConfig = SSLConfig;
+        this.handshakeStats = SslHandshakeStats.forTransport(settings);
     }
 
     @Override
@@ -138,10 +141,10 @@ public class SecuritySSLNettyTransport extends Netty4Transport {
             boolean dualModeEnabled = SSLConfig.isDualModeEnabled();
             if (dualModeEnabled) {
                 logger.info("SSL Dual mode enabled, using port unification handler");
-                final ChannelHandler portUnificationHandler = new DualModeSSLHandler(ossks);
+                final ChannelHandler portUnificationHandler = new DualModeSSLHandler(ossks, handshakeStats);
                 ch.pipeline().addFirst("port_unification_handler", portUnificationHandler);
             } else {
-                final SslHandler sslHandler = new SslHandler(ossks.createServerTransportSSLEngine());
+                final SslHandler sslHandler = handshakeStats.track(new SslHandler(ossks.createServerTransportSSLEngine()));
                 ch.pipeline().addFirst("ssl_server", sslHandler);
             }
         }
@@ -165,17 +168,20 @@ public class SecuritySSLNettyTransport extends Netty4Transport {
         private final boolean hostnameVerificationEnabled;
         private final boolean hostnameVerificationResovleHostName;
         private final SslExceptionHandler errorHandler;
+        private final SslHandshakeStats handshakeStats;
 
         private ClientSSLHandler(
             final SecurityKeyStore sks,
             final boolean hostnameVerificationEnabled,
             final boolean hostnameVerificationResovleHostName,
-            final SslExceptionHandler errorHandler
+            final SslExceptionHandler errorHandler,
+            final SslHandshakeStats handshakeStats
         ) {
             this.sks = sks;
             this.hostnameVerificationEnabled = hostnameVerificationEnabled;
             this.hostnameVerificationResovleHostName = hostnameVerificationResovleHostName;
             this.errorHandler = errorHandler;
+            this.handshakeStats = handshakeStats;
         }
 
         @Override
@@ -221,7 +227,7 @@ public class SecuritySSLNettyTransport extends Netty4Transport {
             } catch (final SSLException e) {
                 throw ExceptionsHelper.convertToOpenSearchException(e);
             }
-            final SslHandler sslHandler = new SslHandler(engine);
+            final SslHandler sslHandler = handshakeStats.track(new SslHandler(engine));
             ctx.pipeline().replace(this, "ssl_client", sslHandler);
             super.connect(ctx, remoteAddress, localAddress, promise);
         }
@@ -274,7 +280,13 @@ public class SecuritySSLNettyTransport extends Netty4Transport {
                 ch.pipeline()
                     .addFirst(
                         "client_ssl_handler",
-                        new ClientSSLHandler(ossks, hostnameVerificationEnabled, hostnameVerificationResovleHostName, errorHandler)
+                        new ClientSSLHandler(
+                            ossks,
+                            hostnameVerificationEnabled,
+                            hostnameVerificationResovleHostName,
+                            errorHandler,
+                            handshakeStats
+                        )
                     );
             } else {
                 logger.debug("Connection to {} needs to be non ssl", node.getHostName());
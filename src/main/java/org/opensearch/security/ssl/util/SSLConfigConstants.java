@@ -95,6 +95,16 @@ public final class SSLConfigConstants {
     public static final String SECURITY_SSL_ALLOW_CLIENT_INITIATED_RENEGOTIATION =
         "plugins.security.ssl.allow_client_initiated_renegotiation";
 
+    public static final String SECURITY_SSL_HTTP_SESSION_CACHE_SIZE = "plugins.security.ssl.http.session_cache_size";
+    public static final String SECURITY_SSL_HTTP_SESSION_TIMEOUT = "plugins.security.ssl.http.session_timeout";
+    public static final String SECURITY_SSL_TRANSPORT_SESSION_CACHE_SIZE = "plugins.security.ssl.transport.session_cache_size";
+    public static final String SECURITY_SSL_TRANSPORT_SESSION_TIMEOUT = "plugins.security.ssl.transport.session_timeout";
+    public static final String SECURITY_SSL_SESSION_TICKETS_ENABLED = "plugins.security.ssl.session_tickets.enabled";
+    public static final String SECURITY_SSL_SESSION_TICKETS_ROTATION_INTERVAL = "plugins.security.ssl.session_tickets.rotation_interval";
+
+    public static final String SECURITY_SSL_CERTIFICATES_HOT_RELOAD_ENABLED = "plugins.security.ssl.certificates_hot_reload.enabled";
+    public static final String SECURITY_SSL_CERTIFICATES_HOT_RELOAD_DEBOUNCE = "plugins.security.ssl.certificates_hot_reload.debounce";
+
     public static final String DEFAULT_STORE_PASSWORD = "changeit"; // #16
 
     public static final String JDK_TLS_REJECT_CLIENT_INITIATED_RENEGOTIATION = "jdk.tls.rejectClientInitiatedRenegotiation";
@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.google.common.net.InetAddresses;
+
+/**
+ * Maps IPv4 and IPv6 networks in CIDR notation (eg. 10.0.0.0/8 or fd00::/8) or single addresses to values.
+ * A lookup returns the values of all networks containing an address.
+ *
+ * The networks are stored in a compressed binary radix tree per address family, so the cost of a lookup depends
+ * on the length of the address and not on the number of networks. Only IP literals are parsed, there are no
+ * DNS lookups.
+ */
+public final class CidrTree<V> {
+
+    private final Node<V> ipv4 = new Node<>(new byte[4], 0);
+    private final Node<V> ipv6 = new Node<>(new byte[16], 0);
+    private int size;
+
+    /**
+     * Checks if the value is an IP address or a network in CIDR notation
+     */
+    public static boolean isCidr(final String value) {
+        return parse(value) != null;
+    }
+
+    /**
+     * Adds the network or address to the tree
+     *
+     * @return false if the value is neither an IP address nor a network in CIDR notation
+     */
+    public boolean put(final String cidr, final V value) {
+        final Network network = parse(cidr);
+
+        if (network == null) {
+            return false;
+        }
+
+        insert(network.address.length == 4 ? ipv4 : ipv6, network.address, network.prefixLength, value);
+        size++;
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Passes the values of all networks containing the address to the consumer. Nothing is passed if the address is
+     * not an IP address.
+     */
+    public void forEachMatch(final String address, final Consumer<? super V> consumer) {
+        if (size == 0 || address == null || !InetAddresses.isInetAddress(address)) {
+            return;
+        }
+
+        forEachMatch(InetAddresses.forString(address), consumer);
+    }
+
+    public void forEachMatch(final InetAddress address, final Consumer<? super V> consumer) {
+        final byte[] bytes = address.getAddress();
+        Node<V> node = bytes.length == 4 ? ipv4 : ipv6;
+        final int bits = bytes.length * 8;
+
+        while (node != null) {
+            for (V value : node.values) {
+                consumer.accept(value);
+            }
+
+            if (node.prefixLength == bits) {
+                return;
+            }
+
+            final Node<V> child = node.children[bit(bytes, node.prefixLength)];
+            node = child != null && commonPrefixLength(bytes, child.address, child.prefixLength) == child.prefixLength ? child : null;
+        }
+    }
+
+    /**
+     * Checks if any network contains the address
+     */
+    public boolean contains(final String address) {
+        final boolean[] found = new boolean[1];
+        forEachMatch(address, v -> found[0] = true);
+        return found[0];
+    }
+
+    private static <V> void insert(Node<V> node, final byte[] address, final int prefixLength, final V value) {
+        while (true) {
+            if (node.prefixLength == prefixLength) {
+                node.values.add(value);
+                return;
+            }
+
+            final int bit = bit(address, node.prefixLength);
+            final Node<V> child = node.children[bit];
+
+            if (child == null) {
+                node.children[bit] = new Node<V>(address, prefixLength).add(value);
+                return;
+            }
+
+            final int common = commonPrefixLength(address, child.address, Math.min(prefixLength, child.prefixLength));
+
+            if (common == child.prefixLength) {
+                node = child;
+                continue;
+            }
+
+            // the new network branches off within the edge to the child
+            final Node<V> split = new Node<>(address, common);
+            split.children[bit(child.address, common)] = child;
+            node.children[bit] = split;
+
+            if (common == prefixLength) {
+                split.values.add(value);
+            } else {
+                split.children[bit(address, common)] = new Node<V>(address, prefixLength).add(value);
+            }
+            return;
+        }
+    }
+
+    private static int bit(final byte[] address, final int index) {
+        return (address[index >>> 3] >>> (7 - (index & 7))) & 1;
+    }
+
+    private static int commonPrefixLength(final byte[] a, final byte[] b, final int maxLength) {
+        int length = 0;
+
+        for (int i = 0; length < maxLength; i++) {
+            final int diff = (a[i] ^ b[i]) & 0xff;
+
+            if (diff != 0) {
+                length += Integer.numberOfLeadingZeros(diff) - 24;
+                break;
+            }
+            length += 8;
+        }
+
+        return Math.min(length, maxLength);
+    }
+
+    private static Network parse(final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final String trimmed = value.trim();
+        final int slash = trimmed.indexOf('/');
+        final String address = slash < 0 ? trimmed : trimmed.substring(0, slash);
+
+        if (!InetAddresses.isInetAddress(address)) {
+            return null;
+        }
+
+        final InetAddress inetAddress = InetAddresses.forString(address);
+        final int maxPrefixLength = inetAddress instanceof Inet4Address ? 32 : 128;
+        int prefixLength = maxPrefixLength;
+
+        if (slash >= 0) {
+            try {
+                prefixLength = Integer.parseInt(trimmed.substring(slash + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+
+            if (prefixLength < 0 || prefixLength > maxPrefixLength) {
+                return null;
+            }
+        }
+
+        return new Network(inetAddress.getAddress(), prefixLength);
+    }
+
+    private static final class Network {
+        private final byte[] address;
+        private final int prefixLength;
+
+        private Network(final byte[] address, final int prefixLength) {
+            this.address = address;
+            this.prefixLength = prefixLength;
+        }
+    }
+
+    private static final class Node<V> {
+        private final byte[] address;
+        private final int prefixLength;
+        @SuppressWarnings("unchecked")
+        private final Node<V>[] children = new Node[2];
+        private final List<V> values = new ArrayList<>(1);
+
+        private Node(final byte[] address, final int prefixLength) {
+            this.address = address;
+            this.prefixLength = prefixLength;
+        }
+
+        private Node<V> add(final V value) {
+            values.add(value);
+            return this;
+        }
+    }
+}
@@ -150,6 +150,15 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_CONFIG_ENDPOINTS = "plugins.security.audit.endpoints";
     public static final String SECURITY_AUDIT_THREADPOOL_SIZE = "plugins.security.audit.threadpool.size";
     public static final String SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN = "plugins.security.audit.threadpool.max_queue_len";
+    public static final String SECURITY_AUDIT_SPOOL_PATH = "plugins.security.audit.spool.path";
+    public static final String SECURITY_AUDIT_SPOOL_MAX_SIZE_BYTES = "plugins.security.audit.spool.max_size_bytes";
+    public static final String SECURITY_AUDIT_SPOOL_SEGMENT_SIZE_BYTES = "plugins.security.audit.spool.segment_size_bytes";
+    public static final String SECURITY_AUDIT_SINK_EXECUTORS_ENABLED = "plugins.security.audit.sink_executors.enabled";
+    public static final String SECURITY_AUDIT_SINK_EXECUTORS_THREADS = "plugins.security.audit.sink_executors.threads";
+    public static final String SECURITY_AUDIT_SINK_EXECUTORS_QUEUE_SIZE = "plugins.security.audit.sink_executors.queue_size";
+    public static final String SECURITY_AUDIT_SINK_EXECUTORS_POLICY = "plugins.security.audit.sink_executors.policy";
+    public static final String SECURITY_AUDIT_SINK_EXECUTORS_SAMPLE_RATE = "plugins.security.audit.sink_executors.sample_rate";
+    public static final String SECURITY_AUDIT_SINK_EXECUTORS_BLOCK_TIMEOUT_MS = "plugins.security.audit.sink_executors.block_timeout_ms";
     public static final String OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY = "opendistro_security.audit.log_request_body";
     public static final String OPENDISTRO_SECURITY_AUDIT_RESOLVE_INDICES = "opendistro_security.audit.resolve_indices";
     public static final String OPENDISTRO_SECURITY_AUDIT_ENABLE_REST = "opendistro_security.audit.enable_rest";
@@ -192,6 +201,29 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_JKS_CERT_ALIAS = "cert_alias";
     public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_ENABLED_SSL_CIPHERS = "enabled_ssl_ciphers";
     public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_ENABLED_SSL_PROTOCOLS = "enabled_ssl_protocols";
+    public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_ENABLED = "bulk.enabled";
+    public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_MAX_ACTIONS = "bulk.max_actions";
+    public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_MAX_SIZE_BYTES = "bulk.max_size_bytes";
+    public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_FLUSH_INTERVAL_MS = "bulk.flush_interval_ms";
+    public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_MAX_IN_FLIGHT = "bulk.max_in_flight_requests";
+    public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_MAX_QUEUE_SIZE = "bulk.max_queue_size";
+    public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_MAX_RETRIES = "bulk.max_retries";
+    public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_BULK_RETRY_DELAY_MS = "bulk.retry_delay_ms";
+    public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_COMPRESSION_ENABLED = "compression.enabled";
+
+    // Per sink executor, overrides plugins.security.audit.sink_executors.*
+    public static final String SECURITY_AUDIT_SINK_EXECUTOR_THREADS = "executor.threads";
+    public static final String SECURITY_AUDIT_SINK_EXECUTOR_QUEUE_SIZE = "executor.queue_size";
+    public static final String SECURITY_AUDIT_SINK_EXECUTOR_POLICY = "executor.policy";
+    public static final String SECURITY_AUDIT_SINK_EXECUTOR_SAMPLE_RATE = "executor.sample_rate";
+    public static final String SECURITY_AUDIT_SINK_EXECUTOR_BLOCK_TIMEOUT_MS = "executor.block_timeout_ms";
+
+    // Kafka
+    public static final String SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_PREFIX = "high_throughput.";
+    public static final String SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_ENABLED = "high_throughput.enabled";
+    public static final String SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_KEY = "high_throughput.key";
+    public static final String SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_MAX_IN_FLIGHT = "high_throughput.max_in_flight_messages";
+    public static final String SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_ENQUEUE_TIMEOUT_MS = "high_throughput.enqueue_timeout_ms";
 
     // Webhooks
     public static final String SECURITY_AUDIT_WEBHOOK_URL = "webhook.url";
@@ -219,6 +251,27 @@ public class ConfigConstants {
     public static final String SECURITY_NODES_DN_DYNAMIC_CONFIG_ENABLED = "plugins.security.nodes_dn_dynamic_config_enabled";
     public static final String SECURITY_DISABLED = "plugins.security.disabled";
     public static final String SECURITY_CACHE_TTL_MINUTES = "plugins.security.cache.ttl_minutes";
+    public static final String SECURITY_INTERNAL_AUTH_HASHING_THREADS = "plugins.security.internal_auth.hashing.threads";
+    public static final String SECURITY_INTERNAL_AUTH_HASHING_QUEUE_SIZE = "plugins.security.internal_auth.hashing.queue_size";
+    public static final String SECURITY_INTERNAL_AUTH_VERDICT_CACHE_SIZE = "plugins.security.internal_auth.verdict_cache.size";
+
+    public static final String SECURITY_PASSWORD_HASHING_ALGORITHM = "plugins.security.password.hashing.algorithm";
+    public static final String SECURITY_PASSWORD_HASHING_BCRYPT_ROUNDS = "plugins.security.password.hashing.bcrypt.rounds";
+    public static final String SECURITY_PASSWORD_HASHING_PBKDF2_ITERATIONS = "plugins.security.password.hashing.pbkdf2.iterations";
+    public static final String SECURITY_PASSWORD_HASHING_ARGON2_MEMORY_KB = "plugins.security.password.hashing.argon2.memory_kb";
+    public static final String SECURITY_PASSWORD_HASHING_ARGON2_ITERATIONS = "plugins.security.password.hashing.argon2.iterations";
+    public static final String SECURITY_PASSWORD_HASHING_ARGON2_PARALLELISM = "plugins.security.password.hashing.argon2.parallelism";
+    public static final String SECURITY_PASSWORD_HASHING_REHASH_ON_LOGIN = "plugins.security.password.hashing.rehash_on_login";
+    public static final String SECURITY_PASSWORD_HASHING_REHASH_INTERVAL_SECONDS =
+        "plugins.security.password.hashing.rehash_interval_seconds";
+
+    public static final String SECURITY_AUTHZ_PARALLEL_ENABLED = "plugins.security.authz.parallel.enabled";
+    public static final String SECURITY_AUTHZ_PARALLEL_THREADS = "plugins.security.authz.parallel.threads";
+    public static final String SECURITY_AUTHZ_PARALLEL_QUEUE_SIZE = "plugins.security.authz.parallel.queue_size";
+    public static final String SECURITY_AUTHZ_PARALLEL_TIMEOUT_MS = "plugins.security.authz.parallel.timeout_ms";
+
+    public static final String SECURITY_AUTHC_NEGATIVE_CACHE_TTL_SECONDS = "plugins.security.authc.negative_cache.ttl_seconds";
+    public static final String SECURITY_AUTHC_NEGATIVE_CACHE_SIZE = "plugins.security.authc.negative_cache.size";
     public static final String SECURITY_ALLOW_UNSAFE_DEMOCERTIFICATES = "plugins.security.allow_unsafe_democertificates";
     public static final String SECURITY_ALLOW_DEFAULT_INIT_SECURITYINDEX = "plugins.security.allow_default_init_securityindex";
     public static final String SECURITY_BACKGROUND_INIT_IF_SECURITYINDEX_NOT_EXIST =
@@ -256,6 +309,7 @@ public class ConfigConstants {
     public static final String SECURITY_SSL_CERT_RELOAD_ENABLED = "plugins.security.ssl_cert_reload_enabled";
     public static final String SECURITY_DISABLE_ENVVAR_REPLACEMENT = "plugins.security.disable_envvar_replacement";
     public static final String SECURITY_DFM_EMPTY_OVERRIDES_ALL = "plugins.security.dfm_empty_overrides_all";
+    public static final String SECURITY_HTTP_REJECT_BLOCKED_CLIENTS_EARLY = "plugins.security.http.reject_blocked_clients_early";
 
     public enum RolesMappingResolution {
         MAPPING_ONLY,
@@ -265,6 +319,8 @@ public class ConfigConstants {
 
     public static final String SECURITY_FILTER_SECURITYINDEX_FROM_ALL_REQUESTS = "plugins.security.filter_securityindex_from_all_requests";
     public static final String SECURITY_DLS_MODE = "plugins.security.dls.mode";
+    public static final String SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS = "plugins.security.dls.terms_lookup_cache.ttl_seconds";
+    public static final String SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_SIZE = "plugins.security.dls.terms_lookup_cache.max_size";
     // REST API
     public static final String SECURITY_RESTAPI_ROLES_ENABLED = "plugins.security.restapi.roles_enabled";
     public static final String SECURITY_RESTAPI_ADMIN_ENABLED = "plugins.security.restapi.admin.enabled";
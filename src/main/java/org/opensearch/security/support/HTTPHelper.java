@@ -27,10 +27,13 @@
 package org.opensearch.security.support;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.apache.logging.log4j.Logger;
 
 import org.opensearch.rest.RestRequest;
@@ -38,47 +41,71 @@ import org.opensearch.security.user.AuthCredentials;
 
 public class HTTPHelper {
 
+    /** user names are kept by the user cache and the user objects, so repeated logins share one instance */
+    private static final Interner<String> USERNAMES = Interners.newWeakInterner();
+
+    private static final byte[] BASE64_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    /**
+     * Parses a basic authorization header. The header is decoded directly into a single byte array which holds
+     * user name and password, and is wiped afterwards; the password is never turned into a String.
+     */
     public static AuthCredentials extractCredentials(String authorizationHeader, Logger log) {
 
         if (authorizationHeader != null) {
-            if (!authorizationHeader.trim().toLowerCase().startsWith("basic ")) {
+            int tokenStart = 0;
+
+            while (tokenStart < authorizationHeader.length() && authorizationHeader.charAt(tokenStart) <= ' ') {
+                tokenStart++;
+            }
+
+            if (!authorizationHeader.regionMatches(true, tokenStart, "basic ", 0, 6)) {
                 log.warn("No 'Basic Authorization' header, send 401 and 'WWW-Authenticate Basic'");
                 return null;
             } else {
+                tokenStart += 6;
+                int tokenEnd = authorizationHeader.indexOf(' ', tokenStart);
 
-                final String decodedBasicHeader = new String(
-                    Base64.getDecoder().decode(authorizationHeader.split(" ")[1]),
-                    StandardCharsets.UTF_8
-                );
+                if (tokenEnd < 0) {
+                    tokenEnd = authorizationHeader.length();
+                }
 
-                // username:password
-                // special case
-                // username must not contain a :, but password is allowed to do so
-                // username:pass:word
-                // blank password
-                // username:
+                final byte[] decodedBasicHeader = decodeBase64(authorizationHeader, tokenStart, tokenEnd);
 
-                final int firstColonIndex = decodedBasicHeader.indexOf(':');
+                try {
+                    // username:password
+                    // special case
+                    // username must not contain a :, but password is allowed to do so
+                    // username:pass:word
+                    // blank password
+                    // username:
 
-                String username = null;
-                String password = null;
+                    int firstColonIndex = 0;
 
-                if (firstColonIndex > 0) {
-                    username = decodedBasicHeader.substring(0, firstColonIndex);
+                    while (firstColonIndex < decodedBasicHeader.length && decodedBasicHeader[firstColonIndex] != ':') {
+                        firstColonIndex++;
+                    }
 
-                    if (decodedBasicHeader.length() - 1 != firstColonIndex) {
-                        password = decodedBasicHeader.substring(firstColonIndex + 1);
-                    } else {
-                        // blank password
-                        password = "";
+                    if (firstColonIndex == 0 || firstColonIndex == decodedBasicHeader.length) {
+                        log.warn("Invalid 'Authorization' header, send 401 and 'WWW-Authenticate Basic'");
+                        return null;
                     }
-                }
 
-                if (username == null || password == null) {
-                    log.warn("Invalid 'Authorization' header, send 401 and 'WWW-Authenticate Basic'");
-                    return null;
-                } else {
-                    return new AuthCredentials(username, password.getBytes(StandardCharsets.UTF_8)).markComplete();
+                    final String username = USERNAMES.intern(new String(decodedBasicHeader, 0, firstColonIndex, StandardCharsets.UTF_8));
+                    // wiped by AuthCredentials
+                    final byte[] password = Arrays.copyOfRange(decodedBasicHeader, firstColonIndex + 1, decodedBasicHeader.length);
+
+                    return new AuthCredentials(username, password).markComplete();
+                } finally {
+                    Arrays.fill(decodedBasicHeader, (byte) 0);
                 }
             }
         } else {
@@ -86,6 +113,86 @@ public class HTTPHelper {
         }
     }
 
+    /**
+     * Decodes a region of a string in the basic Base64 alphabet, without copying the characters first. Padding is
+     * optional, like for {@link java.util.Base64#getDecoder()}.
+     *
+     * @throws IllegalArgumentException if the region is not valid Base64
+     */
+    static byte[] decodeBase64(final String value, final int start, final int end) {
+        int dataEnd = end;
+
+        while (dataEnd > start && end - dataEnd < 2 && value.charAt(dataEnd - 1) == '=') {
+            dataEnd--;
+        }
+
+        final int length = dataEnd - start;
+
+        if (length % 4 == 1 || (dataEnd != end && (length + end - dataEnd) % 4 != 0)) {
+            throw new IllegalArgumentException("Invalid Base64 length");
+        }
+
+        final byte[] result = new byte[length * 3 / 4];
+        int bits = 0;
+        int bitCount = 0;
+        int position = 0;
+
+        for (int i = start; i < dataEnd; i++) {
+            final char c = value.charAt(i);
+            final int digit = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+
+            if (digit < 0) {
+                throw new IllegalArgumentException("Illegal Base64 character " + Integer.toHexString(c));
+            }
+
+            bits = (bits << 6) | digit;
+            bitCount += 6;
+
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                result[position++] = (byte) (bits >> bitCount);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Splits a header value at a literal separator and trims the parts, without regular expressions or streams.
+     * Empty parts are omitted.
+     */
+    public static String[] splitHeaderValue(final String value, final String separator) {
+        final List<String> result = new ArrayList<>(4);
+        int start = 0;
+
+        while (start <= value.length()) {
+            int end = value.indexOf(separator, start);
+
+            if (end < 0) {
+                end = value.length();
+            }
+
+            int partStart = start;
+            int partEnd = end;
+
+            while (partStart < partEnd && value.charAt(partStart) <= ' ') {
+                partStart++;
+            }
+
+            while (partEnd > partStart && value.charAt(partEnd - 1) <= ' ') {
+                partEnd--;
+            }
+
+            if (partStart < partEnd) {
+                result.add(value.substring(partStart, partEnd));
+            }
+
+            start = end + separator.length();
+        }
+
+        return result.toArray(new String[0]);
+    }
+
     public static boolean containsBadHeader(final RestRequest request) {
 
         final Map<String, List<String>> headers;
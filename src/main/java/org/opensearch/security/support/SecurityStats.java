@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.node.Node;
+
+/**
+ * Node local counters, gauges and latency histograms of the security plugin. They are exposed by the
+ * <code>_plugins/_security/stats</code> endpoint.
+ *
+ * There is one registry per node, looked up by the node name of the node settings. Many of the measured
+ * components (like authentication backends and audit sinks) are instantiated reflectively from the
+ * configuration and have no access to plugin components, but all of them get the node settings. Keeping
+ * the registries apart matters when several nodes run in one JVM, like in the integration tests.
+ * Names are dot separated, the first segment groups the metrics in the output.
+ */
+public final class SecurityStats {
+
+    private static final ConcurrentMap<String, SecurityStats> NODES = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    SecurityStats() {}
+
+    /**
+     * @return the registry of the node the given settings belong to
+     */
+    public static SecurityStats forNode(Settings settings) {
+        return NODES.computeIfAbsent(Node.NODE_NAME_SETTING.get(settings), (k) -> new SecurityStats());
+    }
+
+    /**
+     * Drops the registry of the node, when the node is closed
+     */
+    public static void removeNode(Settings settings) {
+        NODES.remove(Node.NODE_NAME_SETTING.get(settings));
+    }
+
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, (k) -> new LongAdder());
+    }
+
+    /**
+     * Registers a gauge; a gauge registered before under the same name is replaced. This allows
+     * components which are recreated on config changes to register themselves again.
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    public void removeGauge(String name) {
+        gauges.remove(name);
+    }
+
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, (k) -> new Histogram());
+    }
+
+    public XContentBuilder toXContent(XContentBuilder builder) throws IOException {
+        builder.startObject("counters");
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(counters).entrySet()) {
+            builder.field(entry.getKey(), entry.getValue().sum());
+        }
+        builder.endObject();
+
+        builder.startObject("gauges");
+        for (Map.Entry<String, LongSupplier> entry : new TreeMap<>(gauges).entrySet()) {
+            builder.field(entry.getKey(), entry.getValue().getAsLong());
+        }
+        builder.endObject();
+
+        builder.startObject("histograms");
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            builder.field(entry.getKey());
+            entry.getValue().toXContent(builder);
+        }
+        builder.endObject();
+
+        return builder;
+    }
+
+    /**
+     * A lock free latency histogram with fixed, roughly exponential bucket bounds.
+     */
+    public static final class Histogram {
+
+        static final long[] BOUNDS_MICROS = {
+            100,
+            250,
+            500,
+            1_000,
+            2_500,
+            5_000,
+            10_000,
+            25_000,
+            50_000,
+            100_000,
+            250_000,
+            500_000,
+            1_000_000,
+            2_500_000,
+            5_000_000,
+            10_000_000 };
+
+        private final LongAdder[] buckets = new LongAdder[BOUNDS_MICROS.length + 1];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sumMicros = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void recordNanos(long nanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            int i = 0;
+
+            while (i < BOUNDS_MICROS.length && micros > BOUNDS_MICROS[i]) {
+                i++;
+            }
+
+            buckets[i].increment();
+            count.increment();
+            sumMicros.add(micros);
+        }
+
+        /**
+         * Records the time passed since the given {@link System#nanoTime()} value
+         */
+        public void recordSince(long startNanos) {
+            recordNanos(System.nanoTime() - startNanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        XContentBuilder toXContent(XContentBuilder builder) throws IOException {
+            long count = this.count.sum();
+            long sumMicros = this.sumMicros.sum();
+
+            builder.startObject();
+            builder.field("count", count);
+            builder.field("avg_micros", count != 0 ? sumMicros / count : 0);
+            builder.startObject("buckets_le_micros");
+            for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+                builder.field(String.valueOf(BOUNDS_MICROS[i]), buckets[i].sum());
+            }
+            builder.field("inf", buckets[BOUNDS_MICROS.length].sum());
+            builder.endObject();
+            builder.endObject();
+            return builder;
+        }
+    }
+}
@@ -27,7 +27,6 @@
 package org.opensearch.security.tools;
 
 import java.io.Console;
-import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -37,7 +36,11 @@ import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
-import org.bouncycastle.crypto.generators.OpenBSDBCrypt;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.hasher.PasswordHasher;
+import org.opensearch.security.hasher.PasswordHashers;
+import org.opensearch.security.support.ConfigConstants;
 
 public class Hasher {
 
@@ -53,26 +56,40 @@ public class Hasher {
                 .desc("name environment variable to read password from")
                 .build()
         );
+        options.addOption(
+            Option.builder("a")
+                .argName("algorithm")
+                .hasArg()
+                .desc("Hashing algorithm: bcrypt (default), pbkdf2 or argon2id")
+                .build()
+        );
+        options.addOption(Option.builder("r").argName("rounds").hasArg().desc("BCrypt rounds (default 12)").build());
+        options.addOption(
+            Option.builder("i").argName("iterations").hasArg().desc("PBKDF2 (default 600000) or Argon2 (default 2) iterations").build()
+        );
+        options.addOption(Option.builder("m").argName("memory").hasArg().desc("Argon2 memory in KB (default 19456)").build());
+        options.addOption(Option.builder("par").argName("parallelism").hasArg().desc("Argon2 parallelism (default 1)").build());
 
         final CommandLineParser parser = new DefaultParser();
         try {
             final CommandLine line = parser.parse(options, args);
+            final PasswordHasher passwordHasher = passwordHasher(line);
 
             if (line.hasOption("p")) {
-                System.out.println(hash(line.getOptionValue("p").toCharArray()));
+                System.out.println(hash(line.getOptionValue("p").toCharArray(), passwordHasher));
             } else if (line.hasOption("env")) {
                 final String pwd = System.getenv(line.getOptionValue("env"));
                 if (pwd == null || pwd.isEmpty()) {
                     throw new Exception("No environment variable '" + line.getOptionValue("env") + "' set");
                 }
-                System.out.println(hash(pwd.toCharArray()));
+                System.out.println(hash(pwd.toCharArray(), passwordHasher));
             } else {
                 final Console console = System.console();
                 if (console == null) {
                     throw new Exception("Cannot allocate a console");
                 }
                 final char[] passwd = console.readPassword("[%s]", "Password:");
-                System.out.println(hash(passwd));
+                System.out.println(hash(passwd, passwordHasher));
             }
         } catch (final Exception exp) {
             System.err.println("Parsing failed.  Reason: " + exp.getMessage());
@@ -82,11 +99,35 @@ public class Hasher {
     }
 
     public static String hash(final char[] clearTextPassword) {
-        final byte[] salt = new byte[16];
-        new SecureRandom().nextBytes(salt);
-        final String hash = OpenBSDBCrypt.generate((Objects.requireNonNull(clearTextPassword)), salt, 12);
-        Arrays.fill(salt, (byte) 0);
-        Arrays.fill(clearTextPassword, '\0');
-        return hash;
+        return hash(clearTextPassword, PasswordHashers.defaultHasher());
+    }
+
+    public static String hash(final char[] clearTextPassword, final PasswordHasher passwordHasher) {
+        try {
+            return passwordHasher.hash(Objects.requireNonNull(clearTextPassword));
+        } finally {
+            Arrays.fill(clearTextPassword, '\0');
+        }
+    }
+
+    private static PasswordHasher passwordHasher(final CommandLine line) {
+        final String algorithm = line.getOptionValue("a", PasswordHashers.BCRYPT);
+        final Settings.Builder settings = Settings.builder().put(ConfigConstants.SECURITY_PASSWORD_HASHING_ALGORITHM, algorithm);
+
+        if (line.hasOption("r")) {
+            settings.put(ConfigConstants.SECURITY_PASSWORD_HASHING_BCRYPT_ROUNDS, line.getOptionValue("r"));
+        }
+        if (line.hasOption("i")) {
+            settings.put(ConfigConstants.SECURITY_PASSWORD_HASHING_PBKDF2_ITERATIONS, line.getOptionValue("i"));
+            settings.put(ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_ITERATIONS, line.getOptionValue("i"));
+        }
+        if (line.hasOption("m")) {
+            settings.put(ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_MEMORY_KB, line.getOptionValue("m"));
+        }
+        if (line.hasOption("par")) {
+            settings.put(ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_PARALLELISM, line.getOptionValue("par"));
+        }
+
+        return PasswordHashers.fromSettings(settings.build());
     }
 }
@@ -45,12 +45,21 @@ import org.opensearch.OpenSearchSecurityException;
 public final class AuthCredentials {
 
     private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final ThreadLocal<MessageDigest> DIGESTER = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new OpenSearchSecurityException("Unable to digest password", e);
+        }
+    });
     private final String username;
     private byte[] password;
     private Object nativeCredentials;
     private final Set<String> backendRoles = new HashSet<String>();
     private boolean complete;
+    /** digest of the password, which makes the credentials usable as cache key without keeping the password */
     private final byte[] internalPasswordHash;
+    private final int hashCode;
     private final Map<String, String> attributes = new HashMap<>();
 
     /**
@@ -106,16 +115,14 @@ public final class AuthCredentials {
         this.password = password == null ? null : Arrays.copyOf(password, password.length);
 
         if (this.password != null) {
-            try {
-                MessageDigest digester = MessageDigest.getInstance(DIGEST_ALGORITHM);
-                internalPasswordHash = digester.digest(this.password);
-            } catch (NoSuchAlgorithmException e) {
-                throw new OpenSearchSecurityException("Unable to digest password", e);
-            }
+            internalPasswordHash = DIGESTER.get().digest(this.password);
         } else {
             internalPasswordHash = null;
         }
 
+        final int prime = 31;
+        this.hashCode = prime * (prime + Arrays.hashCode(internalPasswordHash)) + username.hashCode();
+
         if (password != null) {
             Arrays.fill(password, (byte) '\0');
             password = null;
@@ -160,11 +167,7 @@ public final class AuthCredentials {
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + Arrays.hashCode(internalPasswordHash);
-        result = prime * result + ((username == null) ? 0 : username.hashCode());
-        return result;
+        return hashCode;
     }
 
     @Override
@@ -173,6 +176,7 @@ public final class AuthCredentials {
         if (obj == null) return false;
         if (getClass() != obj.getClass()) return false;
         AuthCredentials other = (AuthCredentials) obj;
+        if (hashCode != other.hashCode) return false;
         if (internalPasswordHash == null
             || other.internalPasswordHash == null
             || !MessageDigest.isEqual(internalPasswordHash, other.internalPasswordHash)) return false;
@@ -13,10 +13,16 @@ package org.opensearch.security.user;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -27,22 +33,34 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.action.configupdate.ConfigUpdateAction;
+import org.opensearch.security.action.configupdate.ConfigUpdateRequest;
+import org.opensearch.security.action.configupdate.ConfigUpdateResponse;
 import org.opensearch.security.configuration.ConfigurationRepository;
+import org.opensearch.security.hasher.PasswordHasher;
+import org.opensearch.security.hasher.PasswordHashers;
 import org.opensearch.security.securityconf.DynamicConfigFactory;
 import org.opensearch.security.securityconf.Hashed;
+import org.opensearch.security.securityconf.StaticDefinable;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.SecurityJsonNode;
+import org.opensearch.threadpool.ThreadPool;
 
 import static org.opensearch.security.dlic.rest.support.Utils.hash;
 
@@ -56,6 +74,11 @@ public class UserService {
     static ConfigurationRepository configurationRepository;
     String securityIndex;
     Client client;
+    PasswordHasher passwordHasher;
+    private final TimeValue rehashInterval;
+    /** new password hashes which are stored with the next batch, by user name */
+    private final Map<String, PendingRehash> pendingRehashes = new ConcurrentHashMap<>();
+    private final AtomicBoolean rehashScheduled = new AtomicBoolean();
 
     User tokenUser;
     final static String NO_PASSWORD_OR_HASH_MESSAGE = "Please specify either 'hash' or 'password' when creating a new internal user.";
@@ -89,6 +112,10 @@ public class UserService {
             ConfigConstants.OPENDISTRO_SECURITY_DEFAULT_CONFIG_INDEX
         );
         this.client = client;
+        this.passwordHasher = PasswordHashers.fromSettings(settings);
+        this.rehashInterval = TimeValue.timeValueSeconds(
+            settings.getAsInt(ConfigConstants.SECURITY_PASSWORD_HASHING_REHASH_INTERVAL_SECONDS, 30)
+        );
     }
 
     /**
@@ -129,7 +156,7 @@ public class UserService {
                                                                                                                           // service account
             verifyServiceAccount(securityJsonNode, accountName);
             String password = generatePassword();
-            contentAsNode.put("hash", hash(password.toCharArray()));
+            contentAsNode.put("hash", hash(password.toCharArray(), passwordHasher));
             contentAsNode.put("service", "true");
         } else {
             contentAsNode.put("service", "false");
@@ -149,7 +176,7 @@ public class UserService {
         final String origHash = securityJsonNode.get("hash").asString();
         if (plainTextPassword != null && plainTextPassword.length() > 0) {
             contentAsNode.remove("password");
-            contentAsNode.put("hash", hash(plainTextPassword.toCharArray()));
+            contentAsNode.put("hash", hash(plainTextPassword.toCharArray(), passwordHasher));
         } else if (origHash != null && origHash.length() > 0) {
             contentAsNode.remove("password");
         } else if (plainTextPassword != null && plainTextPassword.isEmpty() && origHash == null) {
@@ -247,7 +274,7 @@ public class UserService {
 
             // Generate a new password for the account and store the hash of it
             String plainTextPassword = generatePassword();
-            contentAsNode.put("hash", hash(plainTextPassword.toCharArray()));
+            contentAsNode.put("hash", hash(plainTextPassword.toCharArray(), passwordHasher));
             contentAsNode.put("enabled", "true");
             contentAsNode.put("service", "true");
 
@@ -270,6 +297,121 @@ public class UserService {
         }
     }
 
+    /**
+     * Queues a new password hash of an internal user, used to migrate hashes to the configured hashing algorithm on
+     * login. The queued hashes are stored together once per rehash interval, as each write reloads the internal users
+     * on all nodes. A hash is only replaced if it was not changed in the meantime.
+     *
+     * @param username the user
+     * @param currentHash the hash the password was verified with
+     * @param newHash the new hash of the same password
+     * @param onFailure called if the new hash could not be stored
+     */
+    public void rehashPassword(
+        final String username,
+        final String currentHash,
+        final String newHash,
+        final Consumer<Exception> onFailure
+    ) {
+        pendingRehashes.put(username, new PendingRehash(currentHash, newHash, onFailure));
+
+        if (rehashScheduled.compareAndSet(false, true)) {
+            client.threadPool().schedule(this::storeRehashedPasswords, rehashInterval, ThreadPool.Names.GENERIC);
+        }
+    }
+
+    private void storeRehashedPasswords() {
+        rehashScheduled.set(false);
+
+        final Map<String, PendingRehash> batch = new HashMap<>();
+        for (String username : pendingRehashes.keySet()) {
+            final PendingRehash rehash = pendingRehashes.remove(username);
+            if (rehash != null) {
+                batch.put(username, rehash);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // runs on a pool thread, which must not act on behalf of the user who logged in
+        final ThreadContext threadContext = client.threadPool().getThreadContext();
+        try (StoredContext ctx = threadContext.stashContext()) {
+            threadContext.putHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER, "true");
+            storeRehashedPasswords(batch);
+        } catch (Exception e) {
+            log.warn("Unable to store rehashed passwords of users {}", batch.keySet(), e);
+            batch.values().forEach(rehash -> rehash.onFailure.accept(e));
+        }
+    }
+
+    private void storeRehashedPasswords(final Map<String, PendingRehash> batch) throws IOException {
+        final SecurityDynamicConfiguration<?> internalUsersConfiguration = load(getUserConfigName(), false);
+        final List<String> rehashed = new ArrayList<>();
+
+        for (Map.Entry<String, PendingRehash> rehash : batch.entrySet()) {
+            final Object entry = internalUsersConfiguration.getCEntry(rehash.getKey());
+
+            // the user was changed or removed in the meantime, or is defined statically
+            if (!(entry instanceof Hashed) || !rehash.getValue().currentHash.equals(((Hashed) entry).getHash())) {
+                continue;
+            }
+            if (entry instanceof StaticDefinable && ((StaticDefinable) entry).isStatic()) {
+                continue;
+            }
+
+            ((Hashed) entry).setHash(rehash.getValue().newHash);
+            rehashed.add(rehash.getKey());
+        }
+
+        if (rehashed.isEmpty()) {
+            return;
+        }
+
+        internalUsersConfiguration.removeStatic();
+
+        final String id = CType.INTERNALUSERS.toLCString();
+        final IndexRequest indexRequest = new IndexRequest(securityIndex).id(id)
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
+            .setIfSeqNo(internalUsersConfiguration.getSeqNo())
+            .setIfPrimaryTerm(internalUsersConfiguration.getPrimaryTerm())
+            .source(id, XContentHelper.toXContent(internalUsersConfiguration, XContentType.JSON, false));
+
+        client.index(indexRequest, ActionListener.wrap((IndexResponse response) -> reloadInternalUsers(id, rehashed), e -> {
+            // most likely a concurrent update of the internal users, the next login retries
+            log.warn("Unable to store rehashed passwords of users {}", rehashed, e);
+            batch.values().forEach(rehash -> rehash.onFailure.accept(e));
+        }));
+    }
+
+    private void reloadInternalUsers(final String id, final List<String> rehashed) {
+        final ThreadContext threadContext = client.threadPool().getThreadContext();
+        try (StoredContext ctx = threadContext.stashContext()) {
+            threadContext.putHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER, "true");
+            client.execute(
+                ConfigUpdateAction.INSTANCE,
+                new ConfigUpdateRequest(new String[] { id }),
+                ActionListener.wrap(
+                    (ConfigUpdateResponse response) -> log.debug("Rehashed passwords of users {}", rehashed),
+                    e -> log.warn("Unable to reload internal users after rehashing passwords of users {}", rehashed, e)
+                )
+            );
+        }
+    }
+
+    private static final class PendingRehash {
+        private final String currentHash;
+        private final String newHash;
+        private final Consumer<Exception> onFailure;
+
+        private PendingRehash(final String currentHash, final String newHash, final Consumer<Exception> onFailure) {
+            this.currentHash = currentHash;
+            this.newHash = newHash;
+            this.onFailure = onFailure;
+        }
+    }
+
     public static void saveAndUpdateConfigs(
         final String indexName,
         final Client client,
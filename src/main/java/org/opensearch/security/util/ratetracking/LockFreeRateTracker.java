@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.util.ratetracking;
+
+import java.net.InetAddress;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * A rate tracker which does not use any locks and allocates all its memory upfront.
+ *
+ * The clients are stored in a fixed table of max_tracked_clients slots, grouped into buckets of
+ * {@link #WAYS} slots. Each slot consists of a fingerprint of the client id, a write cursor and a ring
+ * buffer with the timestamps of the last allowedTries attempts. All state lives in a single
+ * {@link AtomicLongArray}, so the memory for tracked clients is not subject to garbage collection.
+ *
+ * The counting is approximate: concurrent attempts of the same client may overwrite each other and a
+ * client may lose its slot if its bucket is full of more recently active clients. This leads to attempts
+ * being missed rather than counted twice. Distinct clients do not share counters, as the fingerprints
+ * are 64 bit hashes with a random per-node seed which cannot be targeted by chosen user names.
+ */
+public class LockFreeRateTracker<ClientIdType> implements RateTracker<ClientIdType> {
+
+    static final int WAYS = 4;
+
+    private static final int FINGERPRINT = 0;
+    private static final int CURSOR = 1;
+    private static final int TIMESTAMPS = 2;
+
+    private final HashFunction hashFunction = Hashing.murmur3_128(new SecureRandom().nextInt());
+    private final long timeWindowMs;
+    private final int allowedTries;
+    private final int stride;
+    private final int bucketMask;
+    private final AtomicLongArray slots;
+
+    public LockFreeRateTracker(long timeWindowMs, int allowedTries, int maxEntries) {
+        if (allowedTries < 2) {
+            throw new IllegalArgumentException("allowedTries must be >= 2");
+        }
+
+        this.timeWindowMs = timeWindowMs;
+        this.allowedTries = allowedTries;
+        this.stride = TIMESTAMPS + allowedTries;
+
+        int minBuckets = (int) Math.max(1, ((long) maxEntries + WAYS - 1) / WAYS);
+        int buckets = minBuckets == 1 ? 1 : Integer.highestOneBit(minBuckets - 1) << 1;
+        this.bucketMask = buckets - 1;
+
+        final long size = (long) buckets * WAYS * (TIMESTAMPS + (long) allowedTries);
+
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(
+                "allowed_tries ("
+                    + allowedTries
+                    + ") and max_tracked_clients ("
+                    + maxEntries
+                    + ") are too large for the lock_free rate tracker, reduce one of them"
+            );
+        }
+
+        this.slots = new AtomicLongArray((int) size);
+    }
+
+    @Override
+    public boolean track(ClientIdType clientId) {
+        long now = System.currentTimeMillis();
+        long fingerprint = fingerprint(clientId);
+        int slot = findOrClaimSlot(fingerprint);
+
+        if (slot == -1) {
+            return false;
+        }
+
+        long cursor = slots.getAndIncrement(slot + CURSOR);
+        slots.set(slot + TIMESTAMPS + (int) (cursor % allowedTries), now);
+
+        if (slots.get(slot + FINGERPRINT) != fingerprint) {
+            // slot was taken over by another client in the meantime
+            return false;
+        }
+
+        int recentAttempts = 0;
+
+        for (int i = 0; i < allowedTries; i++) {
+            if (now - slots.get(slot + TIMESTAMPS + i) < timeWindowMs) {
+                recentAttempts++;
+            }
+        }
+
+        return recentAttempts >= allowedTries;
+    }
+
+    @Override
+    public void reset(ClientIdType clientId) {
+        int slot = findSlot(fingerprint(clientId));
+
+        if (slot != -1) {
+            clearTimestamps(slot);
+        }
+    }
+
+    private int findSlot(long fingerprint) {
+        int bucketStart = bucketStart(fingerprint);
+
+        for (int way = 0; way < WAYS; way++) {
+            int slot = bucketStart + way * stride;
+
+            if (slots.get(slot + FINGERPRINT) == fingerprint) {
+                return slot;
+            }
+        }
+
+        return -1;
+    }
+
+    private int findOrClaimSlot(long fingerprint) {
+        int slot = findSlot(fingerprint);
+
+        if (slot != -1) {
+            return slot;
+        }
+
+        // take the slot whose most recent attempt is the oldest; empty slots have no attempts at all
+        int bucketStart = bucketStart(fingerprint);
+        int victim = bucketStart;
+        long victimMostRecent = Long.MAX_VALUE;
+
+        for (int way = 0; way < WAYS; way++) {
+            int candidate = bucketStart + way * stride;
+            long mostRecent = mostRecentAttempt(candidate);
+
+            if (mostRecent < victimMostRecent) {
+                victim = candidate;
+                victimMostRecent = mostRecent;
+            }
+        }
+
+        // if all clients in the bucket are still active, the least recently active one loses its
+        // attempts; this is the same trade-off the size bounded cache of HeapBasedRateTracker makes
+        long victimFingerprint = slots.get(victim + FINGERPRINT);
+
+        if (!slots.compareAndSet(victim + FINGERPRINT, victimFingerprint, fingerprint)) {
+            // another thread claimed the slot concurrently; it might have been the same client
+            return findSlot(fingerprint);
+        }
+
+        clearTimestamps(victim);
+        return victim;
+    }
+
+    private long mostRecentAttempt(int slot) {
+        long mostRecent = 0;
+
+        for (int i = 0; i < allowedTries; i++) {
+            mostRecent = Math.max(mostRecent, slots.get(slot + TIMESTAMPS + i));
+        }
+
+        return mostRecent;
+    }
+
+    private void clearTimestamps(int slot) {
+        for (int i = 0; i < allowedTries; i++) {
+            slots.set(slot + TIMESTAMPS + i, 0);
+        }
+    }
+
+    private int bucketStart(long fingerprint) {
+        return (int) ((fingerprint >>> 32) & bucketMask) * WAYS * stride;
+    }
+
+    private long fingerprint(ClientIdType clientId) {
+        long fingerprint;
+
+        if (clientId instanceof InetAddress) {
+            fingerprint = hashFunction.hashBytes(((InetAddress) clientId).getAddress()).asLong();
+        } else {
+            fingerprint = hashFunction.hashUnencodedChars(String.valueOf(clientId)).asLong();
+        }
+
+        // 0 marks an empty slot
+        return fingerprint != 0 ? fingerprint : 1;
+    }
+}
@@ -24,8 +24,17 @@ public interface RateTracker<ClientIdType> {
     void reset(ClientIdType clientId);
 
     static <ClientIdType> RateTracker<ClientIdType> create(long timeWindowMs, int allowedTries, int maxEntries) {
+        return create(timeWindowMs, allowedTries, maxEntries, "heap");
+    }
+
+    /**
+     * @param type "heap" for {@link HeapBasedRateTracker} or "lock_free" for {@link LockFreeRateTracker}
+     */
+    static <ClientIdType> RateTracker<ClientIdType> create(long timeWindowMs, int allowedTries, int maxEntries, String type) {
         if (allowedTries == 1) {
             return new SingleTryRateTracker<ClientIdType>();
+        } else if (allowedTries > 1 && "lock_free".equalsIgnoreCase(type)) {
+            return new LockFreeRateTracker<ClientIdType>(timeWindowMs, allowedTries, maxEntries);
         } else if (allowedTries > 1) {
             return new HeapBasedRateTracker<ClientIdType>(timeWindowMs, allowedTries, maxEntries);
         } else {
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package com.amazon.dlic.auth.http.kerberos;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SpnegoSessionTokensTest {
+
+    private static final byte[] KEY = "a-shared-signing-key-for-tests!!".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    public void testIssuedTokenIsAccepted() {
+        final SpnegoSessionTokens tokens = new SpnegoSessionTokens(KEY, 60_000, now::get);
+
+        Assert.assertEquals("hnelson", tokens.verify(tokens.issue("hnelson")));
+        Assert.assertEquals("hnelson@EXAMPLE.COM", tokens.verify(tokens.issue("hnelson@EXAMPLE.COM")));
+    }
+
+    @Test
+    public void testExpiredTokenIsRejected() {
+        final SpnegoSessionTokens tokens = new SpnegoSessionTokens(KEY, 60_000, now::get);
+        final String token = tokens.issue("hnelson");
+
+        now.addAndGet(59_999);
+        Assert.assertEquals("hnelson", tokens.verify(token));
+        now.incrementAndGet();
+        Assert.assertNull(tokens.verify(token));
+    }
+
+    @Test
+    public void testTamperedTokenIsRejected() {
+        final SpnegoSessionTokens tokens = new SpnegoSessionTokens(KEY, 60_000, now::get);
+        final String token = tokens.issue("hnelson");
+        final String otherPrincipal = tokens.issue("admin");
+
+        // the principal of another token combined with this signature
+        Assert.assertNull(tokens.verify(otherPrincipal.substring(0, otherPrincipal.indexOf('.')) + token.substring(token.indexOf('.'))));
+        // a later expiry
+        Assert.assertNull(tokens.verify(token.replace("." + (now.get() + 60_000) + ".", "." + (now.get() + 600_000) + ".")));
+        Assert.assertNull(tokens.verify(token.substring(0, token.length() - 2)));
+        Assert.assertNull(tokens.verify("garbage"));
+        Assert.assertNull(tokens.verify("a.b.c.d"));
+        Assert.assertNull(tokens.verify(null));
+    }
+
+    @Test
+    public void testTokensAreRevokedByNewInstance() {
+        final SpnegoSessionTokens tokens = new SpnegoSessionTokens(KEY, 60_000, now::get);
+        final String token = tokens.issue("hnelson");
+
+        now.incrementAndGet();
+        final SpnegoSessionTokens reloaded = new SpnegoSessionTokens(KEY, 60_000, now::get);
+        Assert.assertNull(reloaded.verify(token));
+        Assert.assertEquals("hnelson", reloaded.verify(reloaded.issue("hnelson")));
+    }
+
+    @Test
+    public void testRandomKeysDoNotAcceptForeignTokens() {
+        final SpnegoSessionTokens tokens = new SpnegoSessionTokens(null, 60_000, now::get);
+        final SpnegoSessionTokens other = new SpnegoSessionTokens(null, 60_000, now::get);
+
+        Assert.assertEquals("hnelson", tokens.verify(tokens.issue("hnelson")));
+        Assert.assertNull(other.verify(tokens.issue("hnelson")));
+    }
+}
@@ -34,4 +34,8 @@ public class EmbeddedLDAPServer {
     public int getLdapsPort() {
         return s.getLdapsPort();
     }
+
+    public long getSearchCount(String baseDn) {
+        return s.getSearchCount(baseDn);
+    }
 }
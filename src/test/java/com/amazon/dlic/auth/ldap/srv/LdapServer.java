@@ -20,14 +20,20 @@ import java.net.BindException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.google.common.io.CharStreams;
 import com.unboundid.ldap.listener.InMemoryDirectoryServer;
 import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
 import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
 import com.unboundid.ldap.sdk.DN;
 import com.unboundid.ldap.sdk.Entry;
 import com.unboundid.ldap.sdk.LDAPException;
@@ -60,6 +66,7 @@ final class LdapServer {
     private final AtomicBoolean isStarted = new AtomicBoolean(Boolean.FALSE);
     private final ReentrantLock serverStateLock = new ReentrantLock();
 
+    private final ConcurrentMap<String, AtomicLong> searchesByBaseDn = new ConcurrentHashMap<>();
     private int ldapPort = -1;
     private int ldapsPort = -1;
 
@@ -77,6 +84,14 @@ final class LdapServer {
         return ldapsPort;
     }
 
+    /**
+     * @return the number of searches with the base DN since the start of the server
+     */
+    public long getSearchCount(String baseDn) {
+        final AtomicLong count = searchesByBaseDn.get(baseDn.toLowerCase(Locale.ROOT));
+        return count == null ? 0 : count.get();
+    }
+
     public int start(String... ldifFiles) throws Exception {
         boolean hasLock = false;
         try {
@@ -151,6 +166,13 @@ final class LdapServer {
         config.setListenerConfigs(listenerConfigs);
         config.setEnforceAttributeSyntaxCompliance(false);
         config.setEnforceSingleStructuralObjectClass(false);
+        config.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor() {
+            @Override
+            public void processSearchRequest(InMemoryInterceptedSearchRequest request) {
+                searchesByBaseDn.computeIfAbsent(request.getRequest().getBaseDN().toLowerCase(Locale.ROOT), k -> new AtomicLong())
+                    .incrementAndGet();
+            }
+        });
 
         // config.setLDAPDebugLogHandler(DEBUG_HANDLER);
         // config.setAccessLogHandler(DEBUG_HANDLER);
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package com.amazon.dlic.auth.ldap2;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.ldaptive.LdapException;
+import org.ldaptive.pool.ConnectionPool;
+
+import com.amazon.dlic.auth.ldap.srv.EmbeddedLDAPServer;
+import com.amazon.dlic.auth.ldap.util.ConfigConstants;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.SecurityStats;
+import org.opensearch.security.user.AuthCredentials;
+import org.opensearch.security.user.User;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class LDAPConnectionPoolTest {
+
+    private static EmbeddedLDAPServer ldapServer = null;
+    private static int ldapPort;
+
+    @BeforeClass
+    public static void startLdapServer() throws Exception {
+        ldapServer = new EmbeddedLDAPServer();
+        ldapServer.start();
+        ldapServer.applyLdif("base.ldif");
+        ldapPort = ldapServer.getLdapPort();
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (ldapServer != null) {
+            ldapServer.stop();
+        }
+    }
+
+    @Test
+    public void testPerHostPoolsSkipUnreachableHost() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(ConfigConstants.LDAP_POOL_ENABLED, true)
+            .put(ConfigConstants.LDAP_POOL_STRATEGY, "per_host")
+            .putList(ConfigConstants.LDAP_HOSTS, "127.0.0.1:4", "localhost:" + ldapPort)
+            .put("users.u1.search", "(uid={0})")
+            .build();
+        final SecurityStats stats = SecurityStats.forNode(settings);
+        final SecurityStats.Histogram hostLatency = stats.histogram("ldap.host.localhost:" + ldapPort + ".latency");
+        final long checkouts = stats.histogram("ldap.pool.checkout_wait").getCount();
+        final long operations = hostLatency.getCount();
+
+        final LDAPAuthenticationBackend2 backend = new LDAPAuthenticationBackend2(settings, null);
+        try {
+            for (int i = 0; i < 5; i++) {
+                Assert.assertEquals("cn=Michael Jackson,ou=people,o=TEST", authenticate(backend, "jacksonm").getName());
+            }
+        } finally {
+            backend.destroy();
+        }
+
+        Assert.assertEquals(5, hostLatency.getCount() - operations);
+        Assert.assertTrue(stats.histogram("ldap.pool.checkout_wait").getCount() - checkouts >= 5);
+    }
+
+    @Test
+    public void testPrewarmedFixedPool() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(ConfigConstants.LDAP_POOL_ENABLED, true)
+            .put(ConfigConstants.LDAP_POOL_STRATEGY, "fixed")
+            .put(ConfigConstants.LDAP_POOL_MAX_SIZE, 2)
+            .put(ConfigConstants.LDAP_POOL_PREWARM, true)
+            .putList(ConfigConstants.LDAP_HOSTS, "localhost:" + ldapPort)
+            .put("users.u1.search", "(uid={0})")
+            .build();
+
+        final LDAPAuthenticationBackend2 backend = new LDAPAuthenticationBackend2(settings, null);
+        try {
+            Assert.assertEquals("cn=Michael Jackson,ou=people,o=TEST", authenticate(backend, "jacksonm").getName());
+        } finally {
+            backend.destroy();
+        }
+    }
+
+    @Test
+    public void testWaitForPendingInitializationIsBounded() throws Exception {
+        final CountDownLatch initializationBlocked = new CountDownLatch(1);
+        final ConnectionPool pool = mock(ConnectionPool.class);
+        doAnswer(invocation -> {
+            initializationBlocked.await();
+            return null;
+        }).when(pool).initialize();
+
+        final LDAPConnectionPool connectionPool = new LDAPConnectionPool(
+            Collections.singletonList("unresponsive"),
+            Collections.singletonList(pool),
+            false,
+            true,
+            100,
+            SecurityStats.forNode(Settings.EMPTY)
+        );
+        try {
+            final long start = System.nanoTime();
+            Assert.assertThrows(LdapException.class, connectionPool::getConnection);
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+        } finally {
+            initializationBlocked.countDown();
+            connectionPool.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownStrategy() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(ConfigConstants.LDAP_POOL_ENABLED, true)
+            .put(ConfigConstants.LDAP_POOL_STRATEGY, "lifo")
+            .putList(ConfigConstants.LDAP_HOSTS, "localhost:" + ldapPort)
+            .build();
+
+        new LDAPAuthenticationBackend2(settings, null);
+    }
+
+    private static User authenticate(LDAPAuthenticationBackend2 backend, String username) {
+        return backend.authenticate(new AuthCredentials(username, "secret".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -40,6 +40,7 @@ import com.amazon.dlic.auth.ldap.util.LdapHelper;
 
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.rest.RestStatus;
 import org.opensearch.security.ssl.util.SSLConfigConstants;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.test.helper.file.FileHelper;
@@ -174,6 +175,23 @@ public class LdapBackendTestNewStyleConfig2 {
         );
     }
 
+    @Test
+    public void testLdapAuthenticationBindFailIsDefiniteRejection() throws Exception {
+
+        final Settings settings = createBaseSettings().putList(ConfigConstants.LDAP_HOSTS, "localhost:" + ldapPort)
+            .put("users.u1.search", "(uid={0})")
+            .build();
+
+        final OpenSearchSecurityException e = Assert.assertThrows(
+            OpenSearchSecurityException.class,
+            () -> new LDAPAuthenticationBackend2(settings, null).authenticate(
+                new AuthCredentials("jacksonm", "wrong".getBytes(StandardCharsets.UTF_8))
+            )
+        );
+        // the cause is marked, so the failed authentication cache remembers the rejection
+        Assert.assertEquals(RestStatus.UNAUTHORIZED, ((OpenSearchSecurityException) e.getCause()).status());
+    }
+
     @Test(expected = OpenSearchSecurityException.class)
     public void testLdapAuthenticationNoUser() throws Exception {
 
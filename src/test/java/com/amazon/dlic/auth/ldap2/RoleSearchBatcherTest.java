@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package com.amazon.dlic.auth.ldap2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.ldaptive.LdapAttribute;
+import org.ldaptive.LdapEntry;
+
+import com.amazon.dlic.auth.ldap.srv.EmbeddedLDAPServer;
+import com.amazon.dlic.auth.ldap.util.ConfigConstants;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.user.User;
+
+public class RoleSearchBatcherTest {
+
+    private static final String ROLE_BASE = "ou=groups,o=TEST";
+    private static final String[] USERS = {
+        "cn=Michael Jackson,ou=people,o=TEST",
+        "cn=Captain Spock,ou=people,o=TEST",
+        "cn=hnelson,ou=people,o=TEST",
+        "cn=Special\\, Sign,ou=people,o=TEST",
+        "cn=Non DN Roles,ou=people,o=TEST" };
+
+    private static EmbeddedLDAPServer ldapServer = null;
+
+    @BeforeClass
+    public static void startLdapServer() throws Exception {
+        ldapServer = new EmbeddedLDAPServer();
+        ldapServer.start();
+        ldapServer.applyLdif("base.ldif");
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        if (ldapServer != null) {
+            ldapServer.stop();
+        }
+    }
+
+    @Test
+    public void testMemberAttribute() {
+        Assert.assertEquals("member", RoleSearchBatcher.memberAttribute("(member={0})"));
+        Assert.assertEquals("uniqueMember", RoleSearchBatcher.memberAttribute(" ( uniqueMember = {0} ) "));
+        Assert.assertNull(RoleSearchBatcher.memberAttribute("(memberUid={1})"));
+        Assert.assertNull(RoleSearchBatcher.memberAttribute("(&(objectClass=group)(member={0}))"));
+        Assert.assertNull(RoleSearchBatcher.memberAttribute(null));
+    }
+
+    @Test
+    public void testConcurrentRoleSearchesAreBatched() throws Exception {
+        final Map<String, Set<String>> expected = new HashMap<>();
+        final LDAPAuthorizationBackend2 unbatched = new LDAPAuthorizationBackend2(settings(false), null);
+        for (String dn : USERS) {
+            expected.put(dn, fillRoles(unbatched, dn));
+        }
+
+        final int callersPerUser = 8;
+        final int callers = USERS.length * callersPerUser;
+        final LDAPAuthorizationBackend2 batched = new LDAPAuthorizationBackend2(settings(true), null);
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+        final CyclicBarrier barrier = new CyclicBarrier(callers);
+        final long searchesBefore = ldapServer.getSearchCount(ROLE_BASE);
+
+        try {
+            final List<Future<Set<String>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                final String dn = USERS[i % USERS.length];
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return fillRoles(batched, dn);
+                }));
+            }
+
+            for (int i = 0; i < callers; i++) {
+                Assert.assertEquals(USERS[i % USERS.length], expected.get(USERS[i % USERS.length]), results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+            batched.destroy();
+            unbatched.destroy();
+        }
+
+        final long searches = ldapServer.getSearchCount(ROLE_BASE) - searchesBefore;
+        Assert.assertTrue("Expected fewer role searches than users, got " + searches, searches <= callers / 2);
+    }
+
+    @Test
+    public void testIncompleteMemberAttributes() {
+        final LdapEntry complete = new LdapEntry("cn=small,ou=groups,o=TEST", new LdapAttribute("member", USERS[0], USERS[1]));
+        // Active Directory returns the members of large groups in ranges, without the plain attribute
+        final LdapEntry ranged = new LdapEntry("cn=large,ou=groups,o=TEST", new LdapAttribute("member;range=0-1499", USERS[0]));
+        final LdapEntry withoutMembers = new LdapEntry("cn=hidden,ou=groups,o=TEST", new LdapAttribute("cn", "hidden"));
+
+        Assert.assertTrue(RoleSearchBatcher.hasAllMembers(Arrays.asList(complete), "member"));
+        Assert.assertTrue(RoleSearchBatcher.hasAllMembers(Arrays.asList(complete), "MEMBER"));
+        Assert.assertFalse(RoleSearchBatcher.hasAllMembers(Arrays.asList(complete, ranged), "member"));
+        Assert.assertFalse(RoleSearchBatcher.hasAllMembers(Arrays.asList(withoutMembers, complete), "member"));
+    }
+
+    private static Set<String> fillRoles(LDAPAuthorizationBackend2 backend, String dn) {
+        final User user = new User(dn);
+        backend.fillRoles(user, null);
+        return new TreeSet<>(user.getRoles());
+    }
+
+    private static Settings settings(boolean batched) {
+        return Settings.builder()
+            .putList(ConfigConstants.LDAP_HOSTS, "localhost:" + ldapServer.getLdapPort())
+            .put(ConfigConstants.LDAP_POOL_ENABLED, true)
+            .put(ConfigConstants.LDAP_POOL_MAX_SIZE, 50)
+            .put("users.u1.search", "(uid={0})")
+            .put("users.u1.base", "ou=people,o=TEST")
+            .put("roles.g1.base", ROLE_BASE)
+            .put("roles.g1.search", "(uniqueMember={0})")
+            .put(ConfigConstants.LDAP_AUTHZ_ROLENAME, "cn")
+            .put(ConfigConstants.LDAP_AUTHZ_ROLESEARCH_BATCH_ENABLED, batched)
+            .put(ConfigConstants.LDAP_AUTHZ_ROLESEARCH_BATCH_WINDOW_MS, 50)
+            .build();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.apache.hc.core5.http.HttpStatus;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.test.SingleClusterTest;
+import org.opensearch.security.test.helper.rest.RestHelper;
+
+public class PasswordRehashIntegrationTests extends SingleClusterTest {
+
+    @Test
+    public void testHashIsReplacedOnLogin() throws Exception {
+        setup(
+            Settings.builder()
+                .put(ConfigConstants.SECURITY_PASSWORD_HASHING_ALGORITHM, "pbkdf2")
+                .put(ConfigConstants.SECURITY_PASSWORD_HASHING_PBKDF2_ITERATIONS, 1000)
+                .put(ConfigConstants.SECURITY_PASSWORD_HASHING_REHASH_ON_LOGIN, true)
+                .put(ConfigConstants.SECURITY_PASSWORD_HASHING_REHASH_INTERVAL_SECONDS, 1)
+                .build()
+        );
+        final RestHelper rh = nonSslRestHelper();
+
+        Assert.assertTrue(storedHash("worf").startsWith("$2"));
+
+        Assert.assertEquals(HttpStatus.SC_OK, rh.executeGetRequest("", encodeBasicHeader("worf", "worf")).getStatusCode());
+
+        String hash = storedHash("worf");
+        for (int i = 0; i < 50 && !hash.startsWith("$pbkdf2-sha256$1000$"); i++) {
+            Thread.sleep(200);
+            hash = storedHash("worf");
+        }
+        Assert.assertTrue(hash, hash.startsWith("$pbkdf2-sha256$1000$"));
+        Assert.assertTrue("other users are unchanged", storedHash("nagilum").startsWith("$2"));
+
+        // the internal users were reloaded with the new hash
+        Assert.assertEquals(HttpStatus.SC_OK, rh.executeGetRequest("", encodeBasicHeader("worf", "worf")).getStatusCode());
+        Assert.assertEquals(HttpStatus.SC_UNAUTHORIZED, rh.executeGetRequest("", encodeBasicHeader("worf", "wrong")).getStatusCode());
+    }
+
+    private String storedHash(String username) throws Exception {
+        try (Client tc = getClient()) {
+            final GetResponse response = tc.get(new GetRequest(".opendistro_security", "internalusers")).actionGet();
+            // the configuration is stored as binary field, which is returned base64 encoded
+            final String internalUsers = new String(
+                Base64.getDecoder().decode((String) response.getSourceAsMap().get("internalusers")),
+                StandardCharsets.UTF_8
+            );
+            return DefaultObjectMapper.readTree(internalUsers).get(username).get("hash").asText();
+        }
+    }
+}
@@ -20,6 +20,8 @@ import java.util.function.Function;
 import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
 
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auditlog.config.AuditConfig.Filter.FilterEntries;
 import org.opensearch.security.auditlog.impl.AuditCategory;
@@ -132,6 +134,33 @@ public class AuditConfigFilterTest {
         assertTrue(auditConfigFilter.getDisabledTransportCategories().isEmpty());
     }
 
+    @Test
+    public void testCompiledDecisions() {
+        // arrange
+        final Settings settings = Settings.builder()
+            .put(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_ENABLE_TRANSPORT, false)
+            .putList(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_IGNORE_REQUESTS, "indices:data/read/*", "SearchRequest")
+            .putList(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_IGNORE_USERS, "test-*")
+            .putList(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_CONFIG_DISABLED_REST_CATEGORIES, BAD_HEADERS.toString())
+            .build();
+        // act
+        final AuditConfig.Filter auditConfigFilter = AuditConfig.Filter.from(settings);
+        // assert
+        for (AuditCategory category : AuditCategory.values()) {
+            assertFalse(auditConfigFilter.isTransportCategoryEnabled(category));
+            assertEquals(category != BAD_HEADERS, auditConfigFilter.isRestCategoryEnabled(category));
+        }
+        // repeated checks are answered from the cached decisions
+        for (int i = 0; i < 2; i++) {
+            assertTrue(auditConfigFilter.isAuditDisabled("test-user"));
+            assertFalse(auditConfigFilter.isAuditDisabled("admin"));
+            assertTrue(auditConfigFilter.isRequestAuditDisabled("indices:data/read/search"));
+            assertFalse(auditConfigFilter.isRequestAuditDisabled("indices:data/write/index"));
+            assertTrue(auditConfigFilter.isRequestAuditDisabled(SearchRequest.class));
+            assertFalse(auditConfigFilter.isRequestAuditDisabled(IndexRequest.class));
+        }
+    }
+
     @Test
     public void testFilterEntries() {
         assertThat(FilterEntries.ENABLE_REST.getKey(), equalTo("enable_rest"));
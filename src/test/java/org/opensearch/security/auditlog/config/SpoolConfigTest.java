@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.config;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.ConfigConstants;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class SpoolConfigTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDisabledWithoutPath() {
+        assertFalse(SpoolConfig.getConfig(Settings.EMPTY).isEnabled());
+    }
+
+    @Test
+    public void testRelativePathIsResolvedAgainstDataPath() throws Exception {
+        final Path data = folder.newFolder("data").toPath().toAbsolutePath().normalize();
+
+        final SpoolConfig config = SpoolConfig.getConfig(settings(data, "audit/spool"));
+
+        assertEquals(data.resolve("audit").resolve("spool"), config.getPath());
+    }
+
+    @Test
+    public void testAbsolutePathWithinDataPath() throws Exception {
+        final Path data = folder.newFolder("data").toPath().toAbsolutePath().normalize();
+
+        final SpoolConfig config = SpoolConfig.getConfig(settings(data, data.resolve("spool").toString()));
+
+        assertEquals(data.resolve("spool"), config.getPath());
+    }
+
+    @Test
+    public void testPathOutsideDataPathThrowsException() throws Exception {
+        final Path data = folder.newFolder("data").toPath().toAbsolutePath().normalize();
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be a directory within the data path of the node");
+
+        SpoolConfig.getConfig(settings(data, folder.newFolder("elsewhere").getAbsolutePath()));
+    }
+
+    @Test
+    public void testPathEscapingDataPathThrowsException() throws Exception {
+        final Path data = folder.newFolder("data").toPath().toAbsolutePath().normalize();
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("must be a directory within the data path of the node");
+
+        SpoolConfig.getConfig(settings(data, "../spool"));
+    }
+
+    private Settings settings(Path data, String spoolPath) {
+        return Settings.builder()
+            .put("path.home", folder.getRoot().getAbsolutePath())
+            .put("path.data", data.toString())
+            .put(ConfigConstants.SECURITY_AUDIT_SPOOL_PATH, spoolPath)
+            .build();
+    }
+}
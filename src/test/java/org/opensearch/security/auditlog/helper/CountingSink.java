@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.helper;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.AuditLogSink;
+
+/**
+ * A fast sink which relies on the router for asynchronous delivery
+ */
+public class CountingSink extends AuditLogSink {
+
+    public final LongAdder count = new LongAdder();
+
+    public CountingSink(String name, Settings settings, String settingsPrefix, AuditLogSink fallbackSink) {
+        super(name, settings, settingsPrefix, fallbackSink);
+    }
+
+    @Override
+    protected boolean doStore(AuditMessage msg) {
+        count.increment();
+        return true;
+    }
+}
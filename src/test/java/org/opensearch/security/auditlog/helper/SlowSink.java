@@ -17,13 +17,16 @@ import org.opensearch.security.auditlog.sink.AuditLogSink;
 
 public class SlowSink extends AuditLogSink {
 
-    public SlowSink(String name, Settings settings, Settings sinkSetting, AuditLogSink fallbackSink) {
-        super(name, settings, null, fallbackSink);
+    private final long delayMs;
+
+    public SlowSink(String name, Settings settings, String settingsPrefix, AuditLogSink fallbackSink) {
+        super(name, settings, settingsPrefix, fallbackSink);
+        this.delayMs = getSinkSettings().getAsLong("delay_ms", 3000L);
     }
 
     public boolean doStore(AuditMessage msg) {
         try {
-            Thread.sleep(3000);
+            Thread.sleep(delayMs);
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
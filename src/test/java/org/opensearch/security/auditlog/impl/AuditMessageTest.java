@@ -12,6 +12,8 @@
 package org.opensearch.security.auditlog.impl;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -24,14 +26,20 @@ import org.junit.Test;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.rest.RestRequest;
 import org.opensearch.security.auditlog.AuditLog;
 import org.opensearch.security.securityconf.impl.CType;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -141,4 +149,68 @@ public class AuditMessageTest {
         message.addSecurityConfigTupleToRequestBody(new Tuple<>(XContentType.JSON, ref), internalUsersDocId);
         assertEquals("Hash in tuple is __HASH__", message.getAsMap().get(AuditMessage.REQUEST_BODY));
     }
+
+    @Test
+    public void testEncodingIsSharedUntilModified() {
+        final BytesReference json = message.toJsonBytes();
+        assertSame(json, message.toJsonBytes());
+        assertEquals(json.utf8ToString(), message.toString());
+
+        message.addEffectiveUser("user");
+        assertNotSame(json, message.toJsonBytes());
+        assertTrue(message.toString().contains("\"" + AuditMessage.REQUEST_EFFECTIVE_USER + "\":\"user\""));
+    }
+
+    @Test
+    public void testRawJsonRequestBody() {
+        final byte[] body = "{ \"query\" : { \"match_all\" : { } } }".getBytes(StandardCharsets.UTF_8);
+        message.addTupleToRequestBody(new Tuple<>(XContentType.JSON, new BytesArray(body)));
+        // the buffer of the request may be reused once the request is done
+        Arrays.fill(body, (byte) ' ');
+
+        final String normalized = "{\"query\":{\"match_all\":{}}}";
+        assertEquals(normalized, message.getRequestBody());
+        assertEquals(normalized, message.getAsMap().get(AuditMessage.REQUEST_BODY));
+        final Map<String, Object> parsed = XContentHelper.convertToMap(message.toJsonBytes(), false, XContentType.JSON).v2();
+        assertEquals(normalized, parsed.get(AuditMessage.REQUEST_BODY));
+    }
+
+    @Test
+    public void testInvalidJsonRequestBody() {
+        message.addTupleToRequestBody(new Tuple<>(XContentType.JSON, new BytesArray("{\"query\":")));
+
+        assertTrue(message.getRequestBody(), message.getRequestBody().startsWith("ERROR: Unable to convert to json"));
+        final Map<String, Object> parsed = XContentHelper.convertToMap(message.toJsonBytes(), false, XContentType.JSON).v2();
+        assertEquals(message.getRequestBody(), parsed.get(AuditMessage.REQUEST_BODY));
+    }
+
+    @Test
+    public void testCborEncoding() {
+        message.addEffectiveUser("user");
+        final Map<String, Object> parsed = XContentHelper.convertToMap(message.toBytes(XContentType.CBOR), false, XContentType.CBOR).v2();
+
+        assertEquals("user", parsed.get(AuditMessage.REQUEST_EFFECTIVE_USER));
+        assertEquals(AuditCategory.AUTHENTICATED.name(), parsed.get(AuditMessage.CATEGORY));
+        assertTrue(
+            String.valueOf(parsed.get(AuditMessage.UTC_TIMESTAMP)),
+            String.valueOf(parsed.get(AuditMessage.UTC_TIMESTAMP)).matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}\\+00:00")
+        );
+    }
+
+    @Test
+    public void testFromMapRestoresSpooledMessage() {
+        message.addEffectiveUser("user");
+        message.addRestMethod(RestRequest.Method.PUT);
+        message.addComplianceOperation(AuditLog.Operation.UPDATE);
+        final BytesReference json = message.toJsonBytes();
+
+        final AuditMessage restored = AuditMessage.fromMap(XContentHelper.convertToMap(json, false, XContentType.JSON).v2());
+
+        assertEquals(AuditCategory.AUTHENTICATED, restored.getCategory());
+        assertEquals(AuditLog.Origin.REST, restored.getOrigin());
+        assertEquals(RestRequest.Method.PUT, restored.getRequestMethod());
+        assertEquals(AuditLog.Operation.UPDATE, restored.getAsMap().get(AuditMessage.COMPLIANCE_OPERATION));
+        assertEquals("user", restored.getEffectiveUser());
+        assertEquals(json.utf8ToString(), restored.toJsonBytes().utf8ToString());
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.AuditLog.Origin;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.SecurityStats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+public class AuditSpoolTest {
+
+    private final SecurityStats stats = SecurityStats.forNode(Settings.EMPTY);
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<AuditMessage> delivered = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testDrainsInOrder() throws Exception {
+        final Path directory = folder.newFolder().toPath();
+        final CountDownLatch drained = new CountDownLatch(3);
+
+        try (AuditSpool spool = new AuditSpool("test", directory, 1024 * 1024, 4096, stats, msg -> {
+            delivered.add(msg);
+            drained.countDown();
+        })) {
+            assertThat(spool.append(MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN)), is(true));
+            assertThat(spool.append(MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES)), is(true));
+            assertThat(spool.append(MockAuditMessageFactory.validAuditMessage(AuditCategory.SSL_EXCEPTION)), is(true));
+
+            assertThat(drained.await(10, TimeUnit.SECONDS), is(true));
+        }
+
+        assertThat(delivered.get(0).getCategory(), is(AuditCategory.FAILED_LOGIN));
+        assertThat(delivered.get(1).getCategory(), is(AuditCategory.MISSING_PRIVILEGES));
+        assertThat(delivered.get(2).getCategory(), is(AuditCategory.SSL_EXCEPTION));
+        assertThat(delivered.get(0).getOrigin(), is(Origin.TRANSPORT));
+        assertThat(delivered.get(0).getEffectiveUser(), equalTo("John Doe"));
+    }
+
+    @Test
+    public void testUndeliveredMessagesSurviveRestart() throws Exception {
+        final Path directory = folder.newFolder().toPath();
+        final CountDownLatch gate = new CountDownLatch(1);
+        final AuditSpool spool = new AuditSpool("test", directory, 1024 * 1024, 4096, stats, msg -> {
+            delivered.add(msg);
+            awaitUninterruptibly(gate);
+        });
+
+        // small segments, so that the messages span several segment files
+        for (int i = 0; i < 20; i++) {
+            assertThat(spool.append(MockAuditMessageFactory.validAuditMessage()), is(true));
+        }
+
+        // the first message is handed to the consumer, which blocks until the spool is closed
+        new Thread(() -> {
+            sleepUninterruptibly(200);
+            gate.countDown();
+        }).start();
+        spool.close();
+        assertThat(delivered, hasSize(1));
+
+        final CountDownLatch drained = new CountDownLatch(19);
+        try (AuditSpool reopened = new AuditSpool("test", directory, 1024 * 1024, 4096, stats, msg -> {
+            delivered.add(msg);
+            drained.countDown();
+        })) {
+            assertThat(drained.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(reopened.getPendingRecords(), is(0L));
+        }
+
+        assertThat(delivered, hasSize(20));
+    }
+
+    @Test
+    public void testRejectsWhenFull() throws Exception {
+        final Path directory = folder.newFolder().toPath();
+        final CountDownLatch gate = new CountDownLatch(1);
+
+        try (AuditSpool spool = new AuditSpool("test", directory, 4096, 4096, stats, msg -> awaitUninterruptibly(gate))) {
+            int appended = 0;
+            while (spool.append(MockAuditMessageFactory.validAuditMessage())) {
+                appended++;
+                assertThat(appended < 100, is(true));
+            }
+            gate.countDown();
+        }
+    }
+
+    @Test
+    public void testDrainErrorsAreCounted() throws Exception {
+        final Path directory = folder.newFolder().toPath();
+        final CountDownLatch drained = new CountDownLatch(2);
+
+        try (AuditSpool spool = new AuditSpool("errors", directory, 1024 * 1024, 4096, stats, msg -> {
+            drained.countDown();
+            if (msg.getCategory() == AuditCategory.FAILED_LOGIN) {
+                throw new IllegalStateException("sink failed");
+            }
+            delivered.add(msg);
+        })) {
+            assertThat(spool.append(MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN)), is(true));
+            assertThat(spool.append(MockAuditMessageFactory.validAuditMessage(AuditCategory.SSL_EXCEPTION)), is(true));
+
+            assertThat(drained.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(spool.getDrainErrors(), is(1L));
+        }
+
+        // the drainer continues with the next message
+        assertThat(delivered, hasSize(1));
+        assertThat(delivered.get(0).getCategory(), is(AuditCategory.SSL_EXCEPTION));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepUninterruptibly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
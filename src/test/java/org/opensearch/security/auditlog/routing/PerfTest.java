@@ -11,12 +11,15 @@
 
 package org.opensearch.security.auditlog.routing;
 
+import java.util.Locale;
+
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auditlog.AbstractAuditlogiUnitTest;
+import org.opensearch.security.auditlog.helper.CountingSink;
 import org.opensearch.security.auditlog.helper.LoggingSink;
 import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
 import org.opensearch.security.auditlog.impl.AuditCategory;
@@ -48,4 +51,51 @@ public class PerfTest extends AbstractAuditlogiUnitTest {
         Assert.assertTrue(currentSize > 0);
     }
 
+    @Test
+    @Ignore(value = "throughput benchmark, run manually")
+    public void testThroughputWithSlowSinks() throws Exception {
+        System.out.println("shared storage pool:  " + runWithSlowSinks(false));
+        System.out.println("per sink executors:   " + runWithSlowSinks(true));
+    }
+
+    private String runWithSlowSinks(boolean sinkExecutors) throws Exception {
+        Settings settings = Settings.builder()
+            .loadFromPath(FileHelper.getAbsoluteFilePathFromClassPath("auditlog/endpoints/routing/perftest_slow_sinks.yml"))
+            .put("path.home", ".")
+            .put(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_CONFIG_DISABLED_TRANSPORT_CATEGORIES, "NONE")
+            .put(ConfigConstants.SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN, 10000)
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_ENABLED, sinkExecutors)
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_EXECUTORS_POLICY, "drop_newest")
+            .build();
+
+        AuditMessageRouter router = createMessageRouterComplianceEnabled(settings);
+        CountingSink defaultSink = (CountingSink) router.defaultSink;
+        CountingSink fallbackSink = (CountingSink) router.defaultSink.getFallbackSink();
+        int messages = 200000;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < messages; i++) {
+            router.route(MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES));
+        }
+        long routedNanos = System.nanoTime() - start;
+
+        // the time until the fast sink has seen all messages shows whether it was delayed by the slow ones
+        while (defaultSink.count.sum() + fallbackSink.count.sum() < messages && System.nanoTime() - start < 60_000_000_000L) {
+            Thread.sleep(10);
+        }
+        long deliveredNanos = System.nanoTime() - start;
+
+        String result = String.format(
+            Locale.ROOT,
+            "%d msg/s routed, default sink complete after %d ms, %d stored in default sink, %d in fallback",
+            messages * 1_000_000_000L / routedNanos,
+            deliveredNanos / 1_000_000,
+            defaultSink.count.sum(),
+            fallbackSink.count.sum()
+        );
+
+        // the router is not closed, as that would wait for the slow sinks
+        return result;
+    }
+
 }
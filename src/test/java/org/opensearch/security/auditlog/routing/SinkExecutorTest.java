@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.AuditLogSink;
+import org.opensearch.security.support.SecurityStats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+public class SinkExecutorTest {
+
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private final List<AuditMessage> stored = new CopyOnWriteArrayList<>();
+    private final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+    private final AuditLogSink blockingSink = new AuditLogSink("blocking", Settings.EMPTY, null, fallback) {
+        @Override
+        protected boolean doStore(AuditMessage msg) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            stored.add(msg);
+            return true;
+        }
+    };
+    private final List<AuditMessage> spooled = new CopyOnWriteArrayList<>();
+    private SinkExecutor executor;
+
+    @After
+    public void tearDown() {
+        gate.countDown();
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testDropNewest() throws Exception {
+        executor = executor(SinkExecutor.Policy.DROP_NEWEST);
+        AuditMessage[] messages = fillQueue();
+
+        executor.submit(message(AuditCategory.SSL_EXCEPTION));
+        gate.countDown();
+        executor.close();
+
+        assertThat(stored, contains(messages[0], messages[1], messages[2]));
+        assertThat(fallback.messages, hasSize(0));
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        executor = executor(SinkExecutor.Policy.DROP_OLDEST);
+        AuditMessage[] messages = fillQueue();
+
+        AuditMessage newest = message(AuditCategory.SSL_EXCEPTION);
+        executor.submit(newest);
+        gate.countDown();
+        executor.close();
+
+        assertThat(stored, contains(messages[0], messages[2], newest));
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        executor = executor(SinkExecutor.Policy.FALLBACK);
+        fillQueue();
+
+        AuditMessage newest = message(AuditCategory.SSL_EXCEPTION);
+        executor.submit(newest);
+
+        assertThat(fallback.messages, contains(newest));
+    }
+
+    @Test
+    public void testSpilledMessagesAreSpooled() throws Exception {
+        executor = new SinkExecutor(blockingSink, 1, 2, SinkExecutor.Policy.FALLBACK, 0.0, 10, spooled::add, stats());
+        fillQueue();
+
+        AuditMessage newest = message(AuditCategory.SSL_EXCEPTION);
+        executor.submit(newest);
+
+        assertThat(spooled, contains(newest));
+        assertThat(fallback.messages, hasSize(0));
+    }
+
+    @Test
+    public void testBlockSpillsAfterTimeout() throws Exception {
+        executor = executor(SinkExecutor.Policy.BLOCK);
+        fillQueue();
+
+        AuditMessage newest = message(AuditCategory.SSL_EXCEPTION);
+        executor.submit(newest);
+
+        assertThat(fallback.messages, contains(newest));
+    }
+
+    @Test
+    public void testSampleDropsOnceHalfFull() throws Exception {
+        executor = executor(SinkExecutor.Policy.SAMPLE);
+        fillQueue();
+
+        executor.submit(message(AuditCategory.SSL_EXCEPTION));
+        gate.countDown();
+        executor.close();
+
+        assertThat(stored, hasSize(3));
+        assertThat(fallback.messages, hasSize(0));
+    }
+
+    @Test
+    public void testPolicyNames() {
+        assertThat(SinkExecutor.Policy.parse("drop_oldest"), is(SinkExecutor.Policy.DROP_OLDEST));
+        assertThat(SinkExecutor.Policy.parse("Fallback"), is(SinkExecutor.Policy.FALLBACK));
+    }
+
+    /**
+     * Submits one message which blocks the single worker and two more which fill the queue
+     */
+    private AuditMessage[] fillQueue() throws Exception {
+        AuditMessage[] messages = new AuditMessage[] {
+            message(AuditCategory.FAILED_LOGIN),
+            message(AuditCategory.MISSING_PRIVILEGES),
+            message(AuditCategory.BAD_HEADERS) };
+
+        executor.submit(messages[0]);
+        while (executor.getQueueDepth() > 0) {
+            Thread.sleep(5);
+        }
+        executor.submit(messages[1]);
+        executor.submit(messages[2]);
+        return messages;
+    }
+
+    private SinkExecutor executor(SinkExecutor.Policy policy) {
+        // sample rate 0 drops every message once the queue is half full
+        // spooling is disabled, spilled messages go to the fallback sink
+        return new SinkExecutor(blockingSink, 1, 2, policy, 0.0, 10, msg -> false, stats());
+    }
+
+    private static SecurityStats stats() {
+        return SecurityStats.forNode(Settings.EMPTY);
+    }
+
+    private static AuditMessage message(AuditCategory category) {
+        return MockAuditMessageFactory.validAuditMessage(category);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest.OpType;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.SecurityStats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+public class BulkAuditMessageSenderTest {
+
+    private final List<BulkRequest> requests = new CopyOnWriteArrayList<>();
+    private final List<AuditMessage> failed = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testBatchesByMaxActions() throws Exception {
+        BulkAuditMessageSender sender = sender(Settings.builder().put("bulk.max_actions", 2), RestStatus.OK);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(sender.offer(MockAuditMessageFactory.validAuditMessage(), "audit"), is(true));
+        }
+
+        assertThat(sender.close(10, TimeUnit.SECONDS), is(true));
+        assertThat(requests.stream().mapToInt(BulkRequest::numberOfActions).sum(), is(4));
+        assertThat(requests.stream().allMatch(r -> r.numberOfActions() <= 2), is(true));
+        assertThat(failed, hasSize(0));
+    }
+
+    @Test
+    public void testRetriesRetryableFailures() throws Exception {
+        BulkAuditMessageSender sender = sender(
+            Settings.builder().put("bulk.max_retries", 2).put("bulk.retry_delay_ms", 1),
+            RestStatus.TOO_MANY_REQUESTS
+        );
+
+        sender.offer(MockAuditMessageFactory.validAuditMessage(), "audit");
+
+        assertThat(sender.close(10, TimeUnit.SECONDS), is(true));
+        // the retry is not sent anymore as the sender is closed
+        assertThat(failed, hasSize(1));
+    }
+
+    @Test
+    public void testPermanentFailuresGoToFailureHandler() throws Exception {
+        BulkAuditMessageSender sender = sender(Settings.builder(), RestStatus.BAD_REQUEST);
+
+        sender.offer(MockAuditMessageFactory.validAuditMessage(), "audit");
+
+        assertThat(sender.close(10, TimeUnit.SECONDS), is(true));
+        assertThat(requests, hasSize(1));
+        assertThat(failed, hasSize(1));
+    }
+
+    @Test
+    public void testRejectsWhenQueueIsFull() throws Exception {
+        BulkAuditMessageSender sender = sender(
+            Settings.builder().put("bulk.max_queue_size", 1).put("bulk.flush_interval_ms", 60000),
+            RestStatus.OK
+        );
+
+        assertThat(sender.offer(MockAuditMessageFactory.validAuditMessage(), "audit"), is(true));
+        assertThat(sender.offer(MockAuditMessageFactory.validAuditMessage(), "audit"), is(false));
+        sender.close(10, TimeUnit.SECONDS);
+    }
+
+    private BulkAuditMessageSender sender(Settings.Builder settings, RestStatus itemStatus) {
+        return new BulkAuditMessageSender(
+            "test",
+            settings.build(),
+            SecurityStats.forNode(Settings.EMPTY),
+            (request, listener) -> respond(request, listener, itemStatus),
+            failed::add
+        );
+    }
+
+    private void respond(BulkRequest request, ActionListener<BulkResponse> listener, RestStatus itemStatus) {
+        requests.add(request);
+        BulkItemResponse[] items = new BulkItemResponse[request.numberOfActions()];
+
+        for (int i = 0; i < items.length; i++) {
+            if (itemStatus == RestStatus.OK) {
+                items[i] = new BulkItemResponse(i, OpType.INDEX, new IndexResponse(new ShardId("audit", "_na_", 0), "id", 1, 1, 1, true));
+            } else {
+                items[i] = new BulkItemResponse(
+                    i,
+                    OpType.INDEX,
+                    new BulkItemResponse.Failure("audit", "id", new Exception("failed"), itemStatus)
+                );
+            }
+        }
+
+        listener.onResponse(new BulkResponse(items, 1));
+    }
+}
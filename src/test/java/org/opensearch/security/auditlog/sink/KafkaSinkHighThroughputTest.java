@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
+
+public class KafkaSinkHighThroughputTest {
+
+    private final List<Properties> producerProperties = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testRecordsAreKeyedAndPreSerialized() throws Exception {
+        MockProducer<byte[], byte[]> producer = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+        KafkaSink sink = sink(producer, Settings.builder().put(ConfigConstants.SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_KEY, "user"));
+
+        try {
+            AuditMessage msg = MockAuditMessageFactory.validAuditMessage();
+            Assert.assertTrue(sink.doStore(msg));
+
+            Assert.assertEquals(1, producer.history().size());
+            Assert.assertEquals("John Doe", new String(producer.history().get(0).key(), StandardCharsets.UTF_8));
+            Assert.assertEquals(msg.toJson(), new String(producer.history().get(0).value(), StandardCharsets.UTF_8));
+
+            Properties props = producerProperties.get(0);
+            Assert.assertEquals("lz4", props.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+            Assert.assertEquals("5", props.get(ProducerConfig.LINGER_MS_CONFIG));
+            Assert.assertNull(props.get("high.throughput.key"));
+        } finally {
+            sink.close();
+        }
+    }
+
+    @Test
+    public void testConfiguredProducerSettingsTakePrecedence() throws Exception {
+        MockProducer<byte[], byte[]> producer = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+        KafkaSink sink = sink(producer, Settings.builder().put("compression_type", "zstd").put("linger_ms", "20"));
+
+        try {
+            Assert.assertEquals("zstd", producerProperties.get(0).get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+            Assert.assertEquals("20", producerProperties.get(0).get(ProducerConfig.LINGER_MS_CONFIG));
+        } finally {
+            sink.close();
+        }
+    }
+
+    @Test
+    public void testInFlightMessagesAreBounded() throws Exception {
+        MockProducer<byte[], byte[]> producer = new MockProducer<>(false, new ByteArraySerializer(), new ByteArraySerializer());
+        KafkaSink sink = sink(
+            producer,
+            Settings.builder()
+                .put(ConfigConstants.SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_MAX_IN_FLIGHT, 2)
+                .put(ConfigConstants.SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_ENQUEUE_TIMEOUT_MS, 0)
+        );
+
+        try {
+            Assert.assertTrue(sink.doStore(MockAuditMessageFactory.validAuditMessage()));
+            Assert.assertTrue(sink.doStore(MockAuditMessageFactory.validAuditMessage()));
+            Assert.assertFalse(sink.doStore(MockAuditMessageFactory.validAuditMessage()));
+
+            Assert.assertTrue(producer.completeNext());
+            Assert.assertTrue(sink.doStore(MockAuditMessageFactory.validAuditMessage()));
+        } finally {
+            sink.close();
+        }
+    }
+
+    @Ignore("Throughput harness, run manually")
+    @Test
+    public void testThroughput() throws Exception {
+        MockProducer<byte[], byte[]> producer = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+        KafkaSink sink = sink(producer, Settings.builder());
+        AuditMessage[] messages = new AuditMessage[1000];
+
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = MockAuditMessageFactory.validAuditMessage();
+        }
+
+        try {
+            final int count = 1_000_000;
+            final long start = System.nanoTime();
+
+            for (int i = 0; i < count; i++) {
+                // a fresh encoding per message, as for messages which are not shared between sinks
+                messages[i % messages.length].addTaskParentId(String.valueOf(i));
+                sink.doStore(messages[i % messages.length]);
+                if (i % 10000 == 0) {
+                    producer.clear();
+                }
+            }
+
+            final long elapsed = System.nanoTime() - start;
+            System.out.println("Kafka sink: " + (count * 1_000_000_000L / elapsed) + " messages/s");
+        } finally {
+            sink.close();
+        }
+    }
+
+    private KafkaSink sink(MockProducer<byte[], byte[]> producer, Settings.Builder sinkSettings) {
+        Settings settings = Settings.builder()
+            .put(sinkSettings.build())
+            .put("bootstrap_servers", "localhost:9092")
+            .put("topic_name", "audit")
+            .put(ConfigConstants.SECURITY_AUDIT_KAFKA_HIGH_THROUGHPUT_ENABLED, true)
+            .build();
+
+        return new KafkaSink(
+            "kafka",
+            Settings.builder().put(settings).normalizePrefix("plugins.security.audit.config.").build(),
+            "plugins.security.audit.config",
+            new LoggingSink("fallback", Settings.EMPTY, null, null),
+            props -> {
+                producerProperties.add(props);
+                return producer;
+            }
+        );
+    }
+}
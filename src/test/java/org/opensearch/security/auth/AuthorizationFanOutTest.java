@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
+import org.opensearch.security.user.AuthCredentials;
+import org.opensearch.security.user.User;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.lessThan;
+
+public class AuthorizationFanOutTest {
+
+    private static final Settings PARALLEL = Settings.builder()
+        .put(ConfigConstants.SECURITY_AUTHZ_PARALLEL_ENABLED, true)
+        .put(ConfigConstants.SECURITY_AUTHZ_PARALLEL_TIMEOUT_MS, 1000)
+        .build();
+
+    @Test
+    public void testSequentialByDefault() {
+        final AuthorizationFanOut fanOut = new AuthorizationFanOut(Settings.EMPTY, null);
+        final User user = new User("hnelson");
+
+        Assert.assertFalse(fanOut.isParallel());
+        Assert.assertTrue(
+            fanOut.fillRoles(user, Arrays.asList(backend("ldap", 0, "a"), backend("failing", 0, null), backend("ldap2", 0, "b")))
+        );
+        assertThat(user.getRoles(), containsInAnyOrder("a", "b"));
+    }
+
+    @Test
+    public void testBackendsAreQueriedConcurrently() {
+        final AuthorizationFanOut fanOut = new AuthorizationFanOut(PARALLEL, null);
+        final User user = new User("hnelson");
+        final long start = System.nanoTime();
+
+        Assert.assertTrue(
+            fanOut.fillRoles(user, Arrays.asList(backend("slow1", 400, "a"), backend("slow2", 400, "b"), backend("slow3", 400, "c")))
+        );
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1000L));
+        assertThat(user.getRoles(), containsInAnyOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void testPartialResultsOnTimeout() {
+        final AuthorizationFanOut fanOut = new AuthorizationFanOut(PARALLEL, null);
+        final User user = new User("hnelson");
+        final long timeouts = SecurityStats.forNode(PARALLEL).counter("authz.backend.hanging.timeouts").sum();
+        final long start = System.nanoTime();
+
+        final boolean complete = fanOut.fillRoles(
+            user,
+            Arrays.asList(backend("fast", 0, "a"), backend("hanging", 60_000, "b"), backend("failing", 0, null))
+        );
+
+        Assert.assertFalse("the partial roles must not be cached", complete);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(5000L));
+        assertThat(user.getRoles(), containsInAnyOrder("a"));
+        Assert.assertEquals(timeouts + 1, SecurityStats.forNode(PARALLEL).counter("authz.backend.hanging.timeouts").sum());
+    }
+
+    /**
+     * @param role the role to add, null to fail
+     */
+    private static AuthorizationBackend backend(final String type, final long delayMs, final String role) {
+        return new AuthorizationBackend() {
+            @Override
+            public String getType() {
+                return type;
+            }
+
+            @Override
+            public void fillRoles(User user, AuthCredentials credentials) throws OpenSearchSecurityException {
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (role == null) {
+                    throw new OpenSearchSecurityException("backend " + type + " not reachable");
+                }
+                user.addRole(role);
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.security.auth.internal.NoOpAuthenticationBackend;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
+import org.opensearch.security.user.AuthCredentials;
+
+public class FailedAuthenticationCacheTest {
+
+    private static final Settings ENABLED = Settings.builder().put(ConfigConstants.SECURITY_AUTHC_NEGATIVE_CACHE_TTL_SECONDS, 60).build();
+
+    private final AuthDomain domain1 = new AuthDomain(new NoOpAuthenticationBackend(Settings.EMPTY, null), null, false, 1);
+    private final AuthDomain domain2 = new AuthDomain(new NoOpAuthenticationBackend(Settings.EMPTY, null), null, false, 2);
+
+    @Test
+    public void testDisabledByDefault() {
+        final FailedAuthenticationCache cache = new FailedAuthenticationCache(Settings.EMPTY);
+
+        Assert.assertNull(cache.key(domain1, credentials("hnelson", "wrong")));
+        Assert.assertFalse(cache.contains(null));
+    }
+
+    @Test
+    public void testFailuresAreCachedPerDomainAndSecret() {
+        final FailedAuthenticationCache cache = new FailedAuthenticationCache(ENABLED);
+        final long hits = SecurityStats.forNode(ENABLED).counter("authc.negative_cache.hits").sum();
+        final String key = cache.key(domain1, credentials("hnelson", "wrong"));
+
+        Assert.assertFalse(cache.contains(key));
+        cache.put(key, new OpenSearchSecurityException("password does not match", RestStatus.UNAUTHORIZED));
+
+        Assert.assertTrue(cache.contains(cache.key(domain1, credentials("hnelson", "wrong"))));
+        Assert.assertFalse(cache.contains(cache.key(domain1, credentials("hnelson", "secret"))));
+        Assert.assertFalse(cache.contains(cache.key(domain1, credentials("jacksonm", "wrong"))));
+        Assert.assertFalse(cache.contains(cache.key(domain2, credentials("hnelson", "wrong"))));
+        Assert.assertEquals(1, SecurityStats.forNode(ENABLED).counter("authc.negative_cache.hits").sum() - hits);
+
+        cache.invalidateAll();
+        Assert.assertFalse(cache.contains(key));
+    }
+
+    @Test
+    public void testOnlyCredentialRejectionsAreCached() {
+        final FailedAuthenticationCache cache = new FailedAuthenticationCache(ENABLED);
+        final String key = cache.key(domain1, credentials("hnelson", "secret"));
+
+        cache.put(key, new OpenSearchSecurityException("Too many concurrent password checks", RestStatus.TOO_MANY_REQUESTS));
+        cache.put(key, new RuntimeException(new OpenSearchSecurityException("unavailable", RestStatus.SERVICE_UNAVAILABLE)));
+        cache.put(key, new OpenSearchSecurityException("Unable to connect to LDAP server", new IOException("Connection refused")));
+        cache.put(key, new IllegalStateException("Internal authentication backend not configured"));
+        Assert.assertFalse(cache.contains(key));
+
+        // the authentication cache wraps the failures of the backends
+        cache.put(key, new UncheckedExecutionException(new OpenSearchSecurityException("rejected", RestStatus.UNAUTHORIZED)));
+        Assert.assertTrue(cache.contains(key));
+    }
+
+    @Test
+    public void testCredentialsWithoutSecretAreNotCached() {
+        final FailedAuthenticationCache cache = new FailedAuthenticationCache(ENABLED);
+
+        Assert.assertNull(cache.key(domain1, new AuthCredentials("hnelson")));
+        Assert.assertNotNull(cache.key(domain1, new AuthCredentials("hnelson", (Object) "negotiate-token")));
+    }
+
+    private static AuthCredentials credentials(String username, String password) {
+        return new AuthCredentials(username, password.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -15,6 +15,10 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -22,8 +26,13 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.rest.RestStatus;
 import org.opensearch.security.auth.internal.InternalAuthenticationBackend;
+import org.opensearch.security.hasher.BCryptPasswordHasher;
+import org.opensearch.security.hasher.PasswordHashers;
 import org.opensearch.security.securityconf.InternalUsersModel;
+import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.user.AuthCredentials;
 
 import static org.mockito.Mockito.doReturn;
@@ -99,6 +108,7 @@ public class InternalAuthBackendTests {
             () -> internalAuthenticationBackend.authenticate(validUsernameAuth)
         );
         assert (ex.getMessage().contains("password does not match"));
+        Assert.assertEquals("a definite rejection", RestStatus.UNAUTHORIZED, ex.status());
         verify(internalAuthenticationBackend, times(1)).passwordMatchesHash(hash, array);
     }
 
@@ -146,4 +156,85 @@ public class InternalAuthBackendTests {
         verify(internalAuthenticationBackend, times(1)).passwordMatchesHash(hash, array);
         assert (ex.getMessage().contains("not found"));
     }
+
+    @Test
+    public void testVerdictCacheSkipsRepeatedHashing() {
+
+        final String hash = "$2y$12$NmKhjNssNgSIj8iXT7SYxeXvMA1E95a9tCt4cySY9FrQ4fB18xEc2";
+
+        when(internalUsersModel.getHash("admin")).thenReturn(hash);
+        when(internalUsersModel.exists("admin")).thenReturn(true);
+        doReturn(true).when(internalAuthenticationBackend).passwordMatchesHash(Mockito.any(String.class), Mockito.any(char[].class));
+
+        internalAuthenticationBackend.authenticate(new AuthCredentials("admin", "admin".getBytes()));
+        internalAuthenticationBackend.authenticate(new AuthCredentials("admin", "admin".getBytes()));
+        verify(internalAuthenticationBackend, times(1)).passwordMatchesHash(Mockito.any(String.class), Mockito.any(char[].class));
+
+        // another password is not covered by the cached verdict
+        internalAuthenticationBackend.authenticate(new AuthCredentials("admin", "other".getBytes()));
+        verify(internalAuthenticationBackend, times(2)).passwordMatchesHash(Mockito.any(String.class), Mockito.any(char[].class));
+
+        // a changed model drops all verdicts
+        internalAuthenticationBackend.onInternalUsersModelChanged(internalUsersModel);
+        internalAuthenticationBackend.authenticate(new AuthCredentials("admin", "admin".getBytes()));
+        verify(internalAuthenticationBackend, times(3)).passwordMatchesHash(Mockito.any(String.class), Mockito.any(char[].class));
+    }
+
+    @Test
+    public void testRehashOnLoginWhenPolicyChanges() throws Exception {
+        final InternalAuthenticationBackend backend = new InternalAuthenticationBackend(
+            Settings.builder()
+                .put(ConfigConstants.SECURITY_PASSWORD_HASHING_ALGORITHM, "pbkdf2")
+                .put(ConfigConstants.SECURITY_PASSWORD_HASHING_PBKDF2_ITERATIONS, 1000)
+                .put(ConfigConstants.SECURITY_PASSWORD_HASHING_REHASH_ON_LOGIN, true)
+                .build()
+        );
+        backend.onInternalUsersModelChanged(internalUsersModel);
+        final List<String> rehashed = new CopyOnWriteArrayList<>();
+        final AtomicReference<Consumer<Exception>> failureHandler = new AtomicReference<>();
+        backend.setPasswordRehashHandler((username, currentHash, newHash, onFailure) -> {
+            rehashed.add(username + " " + currentHash + " " + newHash);
+            failureHandler.set(onFailure);
+        });
+
+        final String bcryptHash = new BCryptPasswordHasher(4).hash("admin".toCharArray());
+        when(internalUsersModel.getHash("admin")).thenReturn(bcryptHash);
+        when(internalUsersModel.exists("admin")).thenReturn(true);
+
+        backend.authenticate(new AuthCredentials("admin", "admin".getBytes()));
+        backend.authenticate(new AuthCredentials("admin", "admin".getBytes()));
+        awaitSize(rehashed, 1);
+
+        // one rehash per user, even if the new hash was not stored yet
+        Assert.assertEquals(1, rehashed.size());
+        final String[] rehash = rehashed.get(0).split(" ");
+        Assert.assertEquals("admin", rehash[0]);
+        Assert.assertEquals(bcryptHash, rehash[1]);
+        Assert.assertTrue(rehash[2].startsWith("$pbkdf2-sha256$1000$"));
+        Assert.assertTrue(PasswordHashers.check("admin".toCharArray(), rehash[2]));
+
+        // failed logins do not rehash, also after a reload of the internal users
+        backend.onInternalUsersModelChanged(internalUsersModel);
+        Assert.assertThrows(
+            OpenSearchSecurityException.class,
+            () -> backend.authenticate(new AuthCredentials("admin", "wrong".getBytes()))
+        );
+        Assert.assertEquals(1, rehashed.size());
+
+        // a failure to store the new hash lets the next login retry
+        backend.onInternalUsersModelChanged(internalUsersModel);
+        backend.authenticate(new AuthCredentials("admin", "admin".getBytes()));
+        awaitSize(rehashed, 2);
+        failureHandler.get().accept(new IllegalStateException("version conflict"));
+        backend.authenticate(new AuthCredentials("admin", "admin".getBytes()));
+        awaitSize(rehashed, 3);
+        Assert.assertEquals(3, rehashed.size());
+    }
+
+    private static void awaitSize(List<?> list, int size) throws InterruptedException {
+        for (int i = 0; i < 100 && list.size() < size; i++) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(size, list.size());
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth.limiting;
+
+import java.net.InetAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import org.opensearch.security.util.ratetracking.HeapBasedRateTracker;
+import org.opensearch.security.util.ratetracking.LockFreeRateTracker;
+import org.opensearch.security.util.ratetracking.RateTracker;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LockFreeRateTrackerTest {
+
+    @Test
+    public void simpleTest() throws Exception {
+        LockFreeRateTracker<String> tracker = new LockFreeRateTracker<>(10_000, 5, 100_000);
+
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+
+        assertFalse(tracker.track("b"));
+    }
+
+    @Test
+    public void tooLargeTest() {
+        final IllegalArgumentException e = Assert.assertThrows(
+            IllegalArgumentException.class,
+            () -> new LockFreeRateTracker<String>(10_000, 1_000, 100_000_000)
+        );
+
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("max_tracked_clients"));
+    }
+
+    @Test
+    public void resetTest() throws Exception {
+        LockFreeRateTracker<InetAddress> tracker = new LockFreeRateTracker<>(10_000, 2, 100_000);
+        InetAddress address = InetAddress.getByName("10.0.0.1");
+
+        assertFalse(tracker.track(address));
+        assertTrue(tracker.track(address));
+
+        tracker.reset(address);
+
+        assertFalse(tracker.track(address));
+        assertTrue(tracker.track(address));
+    }
+
+    @Test
+    public void expiryTest() throws Exception {
+        LockFreeRateTracker<String> tracker = new LockFreeRateTracker<>(100, 3, 100_000);
+
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+
+        Thread.sleep(150);
+
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+    }
+
+    @Test
+    public void evictionTest() throws Exception {
+        // a single bucket; the fifth client evicts the least recently active one
+        LockFreeRateTracker<String> tracker = new LockFreeRateTracker<>(10_000, 2, 1);
+
+        for (int i = 0; i < 100; i++) {
+            tracker.track("client" + i);
+        }
+
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+    }
+
+    @Test
+    @Ignore(value = "contention benchmark; run manually")
+    public void contentionPerfTest() throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors() * 2;
+        int clients = 1_000;
+        long durationMs = 5_000;
+
+        for (int round = 0; round < 2; round++) {
+            long heapBased = runContention(new HeapBasedRateTracker<>(60_000, 10, 100_000), threads, clients, durationMs);
+            long lockFree = runContention(new LockFreeRateTracker<>(60_000, 10, 100_000), threads, clients, durationMs);
+
+            System.out.println(
+                "Round "
+                    + round
+                    + ", "
+                    + threads
+                    + " threads: HeapBasedRateTracker "
+                    + heapBased
+                    + " ops/s, LockFreeRateTracker "
+                    + lockFree
+                    + " ops/s"
+            );
+        }
+    }
+
+    private static long runContention(RateTracker<String> tracker, int threads, int clients, long durationMs) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong operations = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+
+        String[] clientIds = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            clientIds[i] = "user" + i;
+        }
+
+        for (int t = 0; t < threads; t++) {
+            final int seed = t;
+            executor.submit(() -> {
+                start.await();
+                long count = 0;
+                int i = seed;
+                while (System.nanoTime() < deadline) {
+                    // most threads hammer a few clients, as in a credential stuffing attack
+                    tracker.track(clientIds[(i++ % 8 == 0) ? i % clients : i % 4]);
+                    count++;
+                }
+                operations.addAndGet(count);
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(durationMs * 2, TimeUnit.MILLISECONDS));
+        return operations.get() * 1000 / durationMs;
+    }
+}
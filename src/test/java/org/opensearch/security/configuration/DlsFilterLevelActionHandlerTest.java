@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.indices.TermsLookup;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.security.queries.QueryBuilderTraverser;
+import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
+import org.opensearch.security.securityconf.EvaluatedDlsFlsConfig;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DlsFilterLevelActionHandlerTest {
+
+    private static final String DEPT_LOOKUP = "{\"terms\":{\"dept\":{\"index\":\"users\",\"id\":\"jdoe\",\"path\":\"depts\"}}}";
+    private static final String OWNER_LOOKUP = "{\"terms\":{\"owner\":{\"index\":\"users\",\"id\":\"other\",\"path\":\"names\"}}}";
+
+    private final DlsQueryParser dlsQueryParser = new DlsQueryParser(
+        new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents())
+    );
+    private final Resolved resolved = new Resolved(
+        ImmutableSet.of(),
+        ImmutableSet.of("deals"),
+        ImmutableSet.of("deals"),
+        ImmutableSet.of(),
+        SearchRequest.DEFAULT_INDICES_OPTIONS
+    );
+    private ClusterService clusterService;
+    private Client nodeClient;
+    private TermsLookupCache termsLookupCache;
+
+    @Before
+    public void setup() {
+        clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(ClusterState.builder(ClusterName.DEFAULT).build());
+        nodeClient = mock(Client.class);
+        termsLookupCache = new TermsLookupCache(Settings.EMPTY);
+    }
+
+    @Test
+    public void testNestedTermsLookupsAreRewritten() {
+        termsLookupCache.put(
+            new TermsLookup("users", "jdoe", "depts"),
+            dlsConfig(DEPT_LOOKUP),
+            new GetResponse(
+                new GetResult(
+                    "users",
+                    "jdoe",
+                    0,
+                    1,
+                    1,
+                    true,
+                    new BytesArray("{\"depts\":[\"sales\",\"support\"]}"),
+                    null,
+                    null
+                )
+            )
+        );
+
+        final QueryBuilder query = dlsQueryParser.parse(
+            "{\"bool\":{\"must\":[{\"constant_score\":{\"filter\":" + DEPT_LOOKUP + "}}],\"must_not\":[" + OWNER_LOOKUP + "]}}"
+        );
+        final BoolQueryBuilder resolvedQuery = (BoolQueryBuilder) handler(DEPT_LOOKUP).resolveTermsLookups(query);
+
+        final TermsQueryBuilder dept = (TermsQueryBuilder) ((ConstantScoreQueryBuilder) resolvedQuery.must().get(0)).innerQuery();
+        Assert.assertNull(dept.termsLookup());
+        Assert.assertEquals("dept", dept.fieldName());
+        Assert.assertEquals(Arrays.asList("sales", "support"), dept.values());
+
+        final TermsQueryBuilder owner = (TermsQueryBuilder) resolvedQuery.mustNot().get(0);
+        Assert.assertEquals("not cached yet, kept as lookup", new TermsLookup("users", "other", "names"), owner.termsLookup());
+    }
+
+    @Test
+    public void testMissingLookupDocumentIsFetchedOnce() {
+        doAnswer(invocation -> {
+            final GetRequest getRequest = invocation.getArgument(0);
+            final ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(TermsLookupCacheTest.missingDocument(new TermsLookup(getRequest.index(), getRequest.id(), "depts")));
+            return null;
+        }).when(nodeClient).get(any(GetRequest.class), any());
+
+        final ArgumentCaptor<SearchRequest> searchRequests = ArgumentCaptor.forClass(SearchRequest.class);
+
+        for (int i = 0; i < 2; i++) {
+            final SearchRequest searchRequest = new SearchRequest("deals").source(SearchSourceBuilder.searchSource());
+            final boolean passThrough = DlsFilterLevelActionHandler.handle(
+                "indices:data/read/search",
+                searchRequest,
+                ActionListener.<SearchResponse>wrap(r -> {}, e -> Assert.fail(e.toString())),
+                dlsConfig(DEPT_LOOKUP),
+                resolved,
+                nodeClient,
+                clusterService,
+                null,
+                null,
+                dlsQueryParser,
+                termsLookupCache,
+                new ThreadContext(Settings.EMPTY)
+            );
+            Assert.assertFalse(passThrough);
+        }
+
+        // the second request is served from the cache
+        verify(nodeClient, times(1)).get(any(GetRequest.class), any());
+        Assert.assertEquals(
+            Collections.emptyList(),
+            termsLookupCache.get(new TermsLookup("users", "jdoe", "depts"), dlsConfig(DEPT_LOOKUP))
+        );
+
+        verify(nodeClient, times(2)).search(searchRequests.capture(), any());
+
+        for (SearchRequest searchRequest : searchRequests.getAllValues()) {
+            final Set<QueryBuilder> termsQueries = QueryBuilderTraverser.findAll(
+                searchRequest.source().query(),
+                q -> q instanceof TermsQueryBuilder
+            );
+            Assert.assertEquals(1, termsQueries.size());
+
+            final TermsQueryBuilder dept = (TermsQueryBuilder) termsQueries.iterator().next();
+            Assert.assertNull(dept.termsLookup());
+            Assert.assertEquals("a missing lookup document matches nothing", Collections.emptyList(), dept.values());
+        }
+    }
+
+    private DlsFilterLevelActionHandler handler(String dlsQuery) {
+        return new DlsFilterLevelActionHandler(
+            "indices:data/read/search",
+            new SearchRequest("deals"),
+            ActionListener.wrap(r -> {}, e -> {}),
+            dlsConfig(dlsQuery),
+            resolved,
+            nodeClient,
+            clusterService,
+            null,
+            null,
+            dlsQueryParser,
+            termsLookupCache,
+            new ThreadContext(Settings.EMPTY)
+        );
+    }
+
+    private static EvaluatedDlsFlsConfig dlsConfig(String dlsQuery) {
+        final Map<String, Set<String>> dlsQueries = Collections.singletonMap("deals", Collections.singleton(dlsQuery));
+        return new EvaluatedDlsFlsConfig(dlsQueries, Collections.emptyMap(), Collections.emptyMap());
+    }
+}
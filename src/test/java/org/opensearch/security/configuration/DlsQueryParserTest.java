@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.query.ParsedQuery;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.SearchModule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DlsQueryParserTest {
+
+    private final DlsQueryParser parser = new DlsQueryParser(
+        new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents())
+    );
+
+    @Test
+    public void testStaticQueriesAreCacheable() {
+        assertTrue(parser.isCacheable("{\"term\":{\"dept\":\"sales\"}}"));
+        assertTrue(parser.isCacheable("{\"range\":{\"age\":{\"gte\":18}}}"));
+        assertTrue(
+            parser.isCacheable(Set.of("{\"term\":{\"dept\":\"sales\"}}", "{\"bool\":{\"must\":[{\"match\":{\"owner\":\"jdoe\"}}]}}"))
+        );
+    }
+
+    @Test
+    public void testLiteralValuesContainingNowAreCacheable() {
+        assertTrue(parser.isCacheable("{\"term\":{\"status\":\"known\"}}"));
+        assertTrue(parser.isCacheable("{\"range\":{\"name\":{\"gte\":\"snow\"}}}"));
+    }
+
+    @Test
+    public void testScriptAndTermsLookupQueriesAreNotCacheable() {
+        assertFalse(parser.isCacheable("{\"script\":{\"script\":{\"source\":\"doc['a'].value > 1\"}}}"));
+        assertFalse(parser.isCacheable("{\"terms\":{\"dept\":{\"index\":\"users\",\"id\":\"jdoe\",\"path\":\"depts\"}}}"));
+        assertFalse(parser.isCacheable(Set.of("{\"term\":{\"dept\":\"sales\"}}", "{\"script\":{\"script\":\"true\"}}")));
+    }
+
+    @Test
+    public void testCachedQueryIsReusedForSameIndexAndQueries() {
+        final Set<String> queries = Set.of("{\"term\":{\"dept\":\"sales\"}}", "{\"term\":{\"dept\":\"support\"}}");
+        final QueryShardContext context = queryShardContext("deals", 1);
+
+        final Query query = parser.parseCached(queries, context);
+
+        assertSame(query, parser.parseCached(Set.of("{\"term\":{\"dept\":\"support\"}}", "{\"term\":{\"dept\":\"sales\"}}"), context));
+        verify(context, times(2)).toQuery(any(QueryBuilder.class));
+
+        final QueryShardContext otherIndex = queryShardContext("other", 1);
+        assertNotSame(query, parser.parseCached(queries, otherIndex));
+        assertNotSame(query, parser.parseCached(Set.of("{\"term\":{\"dept\":\"sales\"}}"), context));
+    }
+
+    @Test
+    public void testCachedQueryIsParsedAgainAfterMappingUpdate() {
+        final Set<String> queries = Set.of("{\"term\":{\"dept\":\"sales\"}}");
+        final QueryShardContext before = queryShardContext("deals", 1);
+        final Query query = parser.parseCached(queries, before);
+
+        final QueryShardContext after = queryShardContext("deals", 2);
+        final Query reparsed = parser.parseCached(queries, after);
+
+        assertNotSame(query, reparsed);
+        assertEquals(query, reparsed);
+        verify(after, times(1)).toQuery(any(QueryBuilder.class));
+        assertSame(reparsed, parser.parseCached(queries, after));
+    }
+
+    @Test
+    public void testTimeDependentQueriesAreParsedEveryTime() {
+        final Set<String> queries = Set.of("{\"query_string\":{\"query\":\"@timestamp:[now-1d TO now]\"}}");
+        final QueryShardContext context = queryShardContext("deals", 1);
+
+        assertNotSame(parser.parseCached(queries, context), parser.parseCached(queries, context));
+        verify(context, times(2)).toQuery(any(QueryBuilder.class));
+    }
+
+    @Test
+    public void testNotCachedWhenContextIsNotCacheableAlready() {
+        final Set<String> queries = Set.of("{\"term\":{\"dept\":\"sales\"}}");
+        final QueryShardContext context = queryShardContext("deals", 1);
+        when(context.isCacheable()).thenReturn(false);
+
+        assertNotSame(parser.parseCached(queries, context), parser.parseCached(queries, context));
+    }
+
+    private static QueryShardContext queryShardContext(String index, long mappingVersion) {
+        final IndexMetadata indexMetadata = IndexMetadata.builder(index)
+            .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .mappingVersion(mappingVersion)
+            .build();
+        final MapperService mapperService = mock(MapperService.class);
+        final QueryShardContext context = mock(QueryShardContext.class);
+        final AtomicBoolean cacheable = new AtomicBoolean(true);
+
+        when(context.index()).thenReturn(indexMetadata.getIndex());
+        when(context.getIndexSettings()).thenReturn(new IndexSettings(indexMetadata, Settings.EMPTY));
+        when(context.getMapperService()).thenReturn(mapperService);
+        when(context.isCacheable()).thenAnswer(invocation -> cacheable.get());
+        when(context.toQuery(any(QueryBuilder.class))).thenAnswer(invocation -> {
+            final String queryBuilder = invocation.getArgument(0).toString();
+            // like QueryShardContext.nowInMillis(), which is called for date math
+            if (queryBuilder.contains("now-")) {
+                cacheable.set(false);
+            }
+            return new ParsedQuery(new TermQuery(new Term("dept", queryBuilder)));
+        });
+        return context;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.indices.TermsLookup;
+import org.opensearch.security.securityconf.EvaluatedDlsFlsConfig;
+import org.opensearch.security.support.ConfigConstants;
+
+public class TermsLookupCacheTest {
+
+    private static final EvaluatedDlsFlsConfig NO_RESTRICTIONS = EvaluatedDlsFlsConfig.EMPTY;
+
+    private final TermsLookup lookup = new TermsLookup("users", "jdoe", "depts");
+
+    @Test
+    public void testCacheHitAndExpiry() {
+        final AtomicLong nanos = new AtomicLong();
+        final TermsLookupCache cache = new TermsLookupCache(
+            Settings.builder().put(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS, 10).build(),
+            ticker(nanos)
+        );
+
+        Assert.assertTrue(cache.isEnabled());
+        Assert.assertNull(cache.get(lookup, NO_RESTRICTIONS));
+
+        Assert.assertEquals(
+            Arrays.asList("sales", "support"),
+            cache.put(lookup, NO_RESTRICTIONS, lookupDocument("{\"depts\":[\"sales\",\"support\"]}"))
+        );
+        Assert.assertEquals(Arrays.asList("sales", "support"), cache.get(lookup, NO_RESTRICTIONS));
+        Assert.assertNull("other path", cache.get(new TermsLookup("users", "jdoe", "teams"), NO_RESTRICTIONS));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        Assert.assertEquals(Arrays.asList("sales", "support"), cache.get(lookup, NO_RESTRICTIONS));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        Assert.assertNull("expired after the ttl", cache.get(lookup, NO_RESTRICTIONS));
+    }
+
+    @Test
+    public void testEntriesAreNotSharedBetweenDifferentRestrictions() {
+        final TermsLookupCache cache = new TermsLookupCache(Settings.EMPTY);
+        final EvaluatedDlsFlsConfig dlsOnUsers = new EvaluatedDlsFlsConfig(
+            Collections.singletonMap("user*", Collections.singleton("{\"term\":{\"public\":true}}")),
+            Collections.emptyMap(),
+            Collections.emptyMap()
+        );
+        final EvaluatedDlsFlsConfig flsOnUsers = new EvaluatedDlsFlsConfig(
+            Collections.emptyMap(),
+            Collections.singletonMap("users", Collections.singleton("~depts")),
+            Collections.emptyMap()
+        );
+        final EvaluatedDlsFlsConfig dlsOnOtherIndex = new EvaluatedDlsFlsConfig(
+            Collections.singletonMap("deals", Collections.singleton("{\"term\":{\"public\":true}}")),
+            Collections.emptyMap(),
+            Collections.emptyMap()
+        );
+
+        cache.put(lookup, NO_RESTRICTIONS, lookupDocument("{\"depts\":[\"sales\",\"support\"]}"));
+
+        Assert.assertNull("the lookup document may be hidden by DLS", cache.get(lookup, dlsOnUsers));
+        Assert.assertNull("the lookup field may be hidden by FLS", cache.get(lookup, flsOnUsers));
+        Assert.assertEquals(
+            "restrictions on other indices do not matter",
+            Arrays.asList("sales", "support"),
+            cache.get(lookup, dlsOnOtherIndex)
+        );
+
+        cache.put(lookup, dlsOnUsers, missingDocument(lookup));
+        Assert.assertEquals(Collections.emptyList(), cache.get(lookup, dlsOnUsers));
+        Assert.assertEquals(Arrays.asList("sales", "support"), cache.get(lookup, NO_RESTRICTIONS));
+    }
+
+    @Test
+    public void testMissingDocumentHasNoValues() {
+        final TermsLookupCache cache = new TermsLookupCache(Settings.EMPTY);
+
+        Assert.assertEquals(Collections.emptyList(), cache.put(lookup, NO_RESTRICTIONS, missingDocument(lookup)));
+        Assert.assertEquals(Collections.emptyList(), cache.get(lookup, NO_RESTRICTIONS));
+    }
+
+    @Test
+    public void testDisabled() {
+        final TermsLookupCache cache = new TermsLookupCache(
+            Settings.builder().put(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_TTL_SECONDS, 0).build()
+        );
+
+        Assert.assertFalse(cache.isEnabled());
+        Assert.assertEquals(Arrays.asList("sales"), cache.put(lookup, NO_RESTRICTIONS, lookupDocument("{\"depts\":\"sales\"}")));
+        Assert.assertNull(cache.get(lookup, NO_RESTRICTIONS));
+    }
+
+    static GetResponse missingDocument(TermsLookup lookup) {
+        return new GetResponse(
+            new GetResult(
+                lookup.index(),
+                lookup.id(),
+                SequenceNumbers.UNASSIGNED_SEQ_NO,
+                SequenceNumbers.UNASSIGNED_PRIMARY_TERM,
+                -1,
+                false,
+                null,
+                null,
+                null
+            )
+        );
+    }
+
+    private GetResponse lookupDocument(String source) {
+        return new GetResponse(new GetResult(lookup.index(), lookup.id(), 0, 1, 1, true, new BytesArray(source), null, null));
+    }
+
+    private static Ticker ticker(AtomicLong nanos) {
+        return new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+    }
+}
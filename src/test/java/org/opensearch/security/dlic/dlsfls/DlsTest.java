@@ -307,6 +307,37 @@ public class DlsTest extends AbstractDlsFlsTest {
         Assert.assertTrue(res.getBody().contains("\"found\" : false"));
     }
 
+    @Test
+    public void testDlsRepeatedGetsAcrossRefresh() throws Exception {
+
+        setup();
+
+        HttpResponse res;
+        for (int i = 0; i < 3; i++) {
+            res = rh.executeGetRequest("/deals/_doc/0?pretty", encodeBasicHeader("dept_manager", "password"));
+            Assert.assertTrue(res.getBody().contains("\"found\" : false"));
+
+            res = rh.executeGetRequest("/deals/_doc/1?pretty", encodeBasicHeader("dept_manager", "password"));
+            Assert.assertTrue(res.getBody().contains("\"found\" : true"));
+
+            res = rh.executeGetRequest("/deals/_doc/0?pretty", encodeBasicHeader("admin", "admin"));
+            Assert.assertTrue(res.getBody().contains("\"found\" : true"));
+        }
+
+        // a refresh opens a new reader, which must be wrapped again
+        try (Client tc = getClient()) {
+            tc.index(
+                new IndexRequest("deals").id("2").setRefreshPolicy(RefreshPolicy.IMMEDIATE).source("{\"amount\": 1800}", XContentType.JSON)
+            ).actionGet();
+        }
+
+        res = rh.executeGetRequest("/deals/_doc/2?pretty", encodeBasicHeader("dept_manager", "password"));
+        Assert.assertTrue(res.getBody().contains("\"found\" : true"));
+
+        res = rh.executeGetRequest("/deals/_doc/0?pretty", encodeBasicHeader("dept_manager", "password"));
+        Assert.assertTrue(res.getBody().contains("\"found\" : false"));
+    }
+
     @Test
     public void testDlsWithMinDocCountZeroAggregations() throws Exception {
         setup();
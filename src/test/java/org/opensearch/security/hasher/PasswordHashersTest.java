@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.hasher;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.ConfigConstants;
+
+public class PasswordHashersTest {
+
+    // cheap parameters, the tests check the formats and not the cost
+    private static final PasswordHasher[] HASHERS = {
+        new BCryptPasswordHasher(4),
+        new PBKDF2PasswordHasher(1000),
+        new Argon2PasswordHasher(1024, 1, 1) };
+
+    @Test
+    public void testHashAndCheck() {
+        for (PasswordHasher hasher : HASHERS) {
+            final String hash = hasher.hash("secret".toCharArray());
+
+            Assert.assertTrue(hash, hasher.handles(hash));
+            Assert.assertTrue(hash, PasswordHashers.check("secret".toCharArray(), hash));
+            Assert.assertFalse(hash, PasswordHashers.check("Secret".toCharArray(), hash));
+            Assert.assertFalse(hash, hasher.needsRehash(hash));
+            Assert.assertNotEquals("hashes are salted", hash, hasher.hash("secret".toCharArray()));
+        }
+    }
+
+    @Test
+    public void testKnownHashes() {
+        // the default hash of the admin user in the demo configuration
+        Assert.assertTrue(PasswordHashers.check("admin".toCharArray(), "$2y$12$NmKhjNssNgSIj8iXT7SYxeXvMA1E95a9tCt4cySY9FrQ4fB18xEc2"));
+        // test vector of the Argon2 reference implementation
+        Assert.assertTrue(
+            PasswordHashers.check(
+                "password".toCharArray(),
+                "$argon2id$v=19$m=65536,t=2,p=1$c29tZXNhbHQ$CTFhFdXPJO1aFaMaO6Mm5c8y7cJHAph8ArZWb2GRPPc"
+            )
+        );
+        Assert.assertThrows(IllegalArgumentException.class, () -> PasswordHashers.check("admin".toCharArray(), "{SHA}abc"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> PasswordHashers.check("admin".toCharArray(), "$pbkdf2-sha256$1$abc"));
+    }
+
+    @Test
+    public void testNeedsRehashOnPolicyChange() {
+        final String bcrypt = HASHERS[0].hash("secret".toCharArray());
+        final String pbkdf2 = HASHERS[1].hash("secret".toCharArray());
+        final String argon2 = HASHERS[2].hash("secret".toCharArray());
+
+        Assert.assertTrue(new BCryptPasswordHasher(5).needsRehash(bcrypt));
+        Assert.assertTrue(new BCryptPasswordHasher(4).needsRehash(pbkdf2));
+        Assert.assertTrue(new PBKDF2PasswordHasher(2000).needsRehash(pbkdf2));
+        Assert.assertTrue(new PBKDF2PasswordHasher(1000).needsRehash(argon2));
+        Assert.assertTrue(new Argon2PasswordHasher(2048, 1, 1).needsRehash(argon2));
+        Assert.assertTrue(new Argon2PasswordHasher(1024, 1, 1).needsRehash(bcrypt));
+    }
+
+    @Test
+    public void testFromSettings() {
+        Assert.assertTrue(PasswordHashers.fromSettings(Settings.EMPTY) instanceof BCryptPasswordHasher);
+
+        final PasswordHasher argon2 = PasswordHashers.fromSettings(
+            Settings.builder()
+                .put(ConfigConstants.SECURITY_PASSWORD_HASHING_ALGORITHM, "argon2id")
+                .put(ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_MEMORY_KB, 1024)
+                .put(ConfigConstants.SECURITY_PASSWORD_HASHING_ARGON2_ITERATIONS, 1)
+                .build()
+        );
+        Assert.assertTrue(argon2.hash("secret".toCharArray()).startsWith("$argon2id$v=19$m=1024,t=1,p=1$"));
+
+        Assert.assertThrows(
+            IllegalArgumentException.class,
+            () -> PasswordHashers.fromSettings(Settings.builder().put(ConfigConstants.SECURITY_PASSWORD_HASHING_ALGORITHM, "md5").build())
+        );
+    }
+
+    @Test
+    public void testHashesWithExcessiveCostAreRejected() {
+        // the parameters are taken from the stored hash, which must not make a single login take hours
+        final String[] hashes = {
+            "$2y$31$" + "a".repeat(53),
+            PBKDF2PasswordHasher.PREFIX + "2000000000$c2FsdHNhbHRzYWx0c2FsdA$aGFzaGhhc2hoYXNoaGFzaA",
+            Argon2PasswordHasher.PREFIX + "v=19$m=4194304,t=1,p=1$c2FsdHNhbHRzYWx0c2FsdA$aGFzaGhhc2hoYXNoaGFzaA",
+            Argon2PasswordHasher.PREFIX + "v=19$m=1024,t=100000,p=1$c2FsdHNhbHRzYWx0c2FsdA$aGFzaGhhc2hoYXNoaGFzaA",
+            Argon2PasswordHasher.PREFIX + "v=19$m=1024,t=1,p=1$c2FsdHNhbHRzYWx0c2FsdA$" + "a".repeat(1_000_000) };
+
+        for (String hash : hashes) {
+            Assert.assertThrows(hash, IllegalArgumentException.class, () -> PasswordHashers.check("admin".toCharArray(), hash));
+        }
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> new BCryptPasswordHasher(BCryptPasswordHasher.MAX_ROUNDS + 1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new PBKDF2PasswordHasher(PBKDF2PasswordHasher.MAX_ITERATIONS + 1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Argon2PasswordHasher(Argon2PasswordHasher.MAX_MEMORY_KB + 1, 1, 1));
+    }
+
+    @Test
+    @Ignore(value = "login throughput benchmark; run manually")
+    public void loginThroughputPerfTest() {
+        final PasswordHasher[] hashers = {
+            new BCryptPasswordHasher(PasswordHashers.DEFAULT_BCRYPT_ROUNDS),
+            new BCryptPasswordHasher(10),
+            new PBKDF2PasswordHasher(PasswordHashers.DEFAULT_PBKDF2_ITERATIONS),
+            new PBKDF2PasswordHasher(100_000),
+            new Argon2PasswordHasher(
+                PasswordHashers.DEFAULT_ARGON2_MEMORY_KB,
+                PasswordHashers.DEFAULT_ARGON2_ITERATIONS,
+                PasswordHashers.DEFAULT_ARGON2_PARALLELISM
+            ),
+            new Argon2PasswordHasher(7168, 5, 1) };
+        final long durationNanos = TimeUnit.SECONDS.toNanos(5);
+
+        for (int round = 0; round < 2; round++) {
+            for (PasswordHasher hasher : hashers) {
+                final String hash = hasher.hash("admin".toCharArray());
+                // the algorithm and parameters, without salt and hash
+                final String label = hash.startsWith("$2")
+                    ? hash.substring(0, 6)
+                    : hash.substring(0, hash.lastIndexOf('$', hash.lastIndexOf('$') - 1));
+                final long start = System.nanoTime();
+                long logins = 0;
+
+                while (System.nanoTime() - start < durationNanos) {
+                    if (!PasswordHashers.check("admin".toCharArray(), hash)) {
+                        throw new AssertionError(hash);
+                    }
+                    logins++;
+                }
+
+                final double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.println("Round " + round + ", " + label + ": " + (long) (logins / seconds) + " logins/s per thread");
+            }
+        }
+    }
+}
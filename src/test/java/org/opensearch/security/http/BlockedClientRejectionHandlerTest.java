@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.http;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.SecurityStats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+public class BlockedClientRejectionHandlerTest {
+
+    private final SecurityStats stats = SecurityStats.forNode(Settings.EMPTY);
+
+    @Test
+    public void testBlockedClientIsClosedOnAccept() {
+        long rejected = stats.counter("http.blocked_clients.rejected_on_accept").sum();
+        EmbeddedChannel channel = new RemoteAddressChannel(new BlockedClientRejectionHandler(stats, address -> true, true));
+
+        assertThat(channel.isOpen(), is(false));
+        assertThat(stats.counter("http.blocked_clients.rejected_on_accept").sum(), is(rejected + 1));
+    }
+
+    @Test
+    public void testBlockedClientIsRejectedOnFirstBytes() {
+        boolean[] blocked = { false };
+        EmbeddedChannel channel = new RemoteAddressChannel(new BlockedClientRejectionHandler(stats, address -> blocked[0], true));
+        blocked[0] = true;
+
+        channel.writeInbound(Unpooled.copiedBuffer("GET / HTTP/1.1\r\n\r\n", StandardCharsets.US_ASCII));
+
+        ByteBuf response = channel.readOutbound();
+        assertThat(response.toString(StandardCharsets.US_ASCII), startsWith("HTTP/1.1 429"));
+        assertThat(channel.readInbound(), nullValue());
+        assertThat(channel.isOpen(), is(false));
+    }
+
+    @Test
+    public void testAllowedClientPassesAndHandlerIsRemoved() {
+        EmbeddedChannel channel = new RemoteAddressChannel(new BlockedClientRejectionHandler(stats, address -> false, false));
+
+        channel.writeInbound(Unpooled.copiedBuffer("GET / HTTP/1.1\r\n\r\n", StandardCharsets.US_ASCII));
+
+        ByteBuf request = channel.readInbound();
+        assertThat(request.toString(StandardCharsets.US_ASCII), startsWith("GET /"));
+        request.release();
+        assertThat(channel.pipeline().get(BlockedClientRejectionHandler.class), nullValue());
+        assertThat(channel.isOpen(), is(true));
+    }
+
+    private static class RemoteAddressChannel extends EmbeddedChannel {
+
+        RemoteAddressChannel(ChannelHandler handler) {
+            super(handler);
+        }
+
+        @Override
+        protected SocketAddress remoteAddress0() {
+            return new InetSocketAddress("127.0.0.1", 9200);
+        }
+    }
+}
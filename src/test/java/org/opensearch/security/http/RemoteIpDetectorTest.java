@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.http;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.http.HttpChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.security.support.ConfigConstants;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RemoteIpDetectorTest {
+
+    private static final String NETWORKS = "10.0.0.0/8, 192.168.1.0/24, 2001:db8::/32, 172.16.5.5";
+
+    @Test
+    public void testCidrInternalProxies() {
+        final RemoteIpDetector detector = detector(NETWORKS);
+
+        Assert.assertTrue(detector.isInternalProxy("10.255.1.2"));
+        Assert.assertTrue(detector.isInternalProxy("192.168.1.200"));
+        Assert.assertTrue(detector.isInternalProxy("2001:db8::1"));
+        Assert.assertTrue(detector.isInternalProxy("2001:db8:ffff::abcd"));
+        Assert.assertTrue("a single address", detector.isInternalProxy("172.16.5.5"));
+
+        Assert.assertFalse(detector.isInternalProxy("11.0.0.1"));
+        Assert.assertFalse(detector.isInternalProxy("192.168.2.1"));
+        Assert.assertFalse(detector.isInternalProxy("2001:db9::1"));
+        Assert.assertFalse(detector.isInternalProxy("172.16.5.6"));
+        Assert.assertFalse("not an address", detector.isInternalProxy("proxy.example.com"));
+    }
+
+    @Test
+    public void testRegexInternalProxiesAreStillSupported() {
+        final RemoteIpDetector detector = detector("192\\.168\\.0\\.\\d{1,3}");
+
+        Assert.assertTrue(detector.isInternalProxy("192.168.0.10"));
+        Assert.assertFalse(detector.isInternalProxy("192.168.1.10"));
+    }
+
+    @Test
+    public void testDetectSkipsProxiesInCidrNetworks() {
+        final RemoteIpDetector detector = detector(NETWORKS);
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+        final String remoteIp = detector.detect(request("10.1.1.1", "203.0.113.7, 192.168.1.5, 10.2.2.2"), threadContext);
+
+        Assert.assertEquals("the first address which is not a trusted proxy", "203.0.113.7", remoteIp);
+        Assert.assertEquals(Boolean.TRUE, threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_XFF_DONE));
+    }
+
+    @Test
+    public void testDetectStopsAtUntrustedProxy() {
+        final RemoteIpDetector detector = detector(NETWORKS);
+
+        // 198.51.100.1 is not trusted, so the address it forwarded for cannot be trusted either
+        Assert.assertEquals(
+            "198.51.100.1",
+            detector.detect(request("2001:db8::5", "203.0.113.7, 198.51.100.1, 10.2.2.2"), new ThreadContext(Settings.EMPTY))
+        );
+    }
+
+    @Test
+    public void testDetectIgnoresHeaderOfUntrustedConnection() {
+        final RemoteIpDetector detector = detector(NETWORKS);
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+        Assert.assertEquals("198.51.100.1", detector.detect(request("198.51.100.1", "203.0.113.7"), threadContext));
+        Assert.assertNull(threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_XFF_DONE));
+    }
+
+    private static RemoteIpDetector detector(String internalProxies) {
+        final RemoteIpDetector detector = new RemoteIpDetector();
+        detector.setInternalProxies(internalProxies);
+        return detector;
+    }
+
+    private static RestRequest request(String connectionAddress, String forwardedFor) {
+        final HttpChannel channel = mock(HttpChannel.class);
+        when(channel.getRemoteAddress()).thenReturn(new InetSocketAddress(connectionAddress, 9200));
+
+        final RestRequest request = mock(RestRequest.class);
+        when(request.getHttpChannel()).thenReturn(channel);
+        when(request.getHeaders()).thenReturn(Collections.singletonMap("X-Forwarded-For", Collections.singletonList(forwardedFor)));
+        when(request.uri()).thenReturn("/");
+        return request;
+    }
+}
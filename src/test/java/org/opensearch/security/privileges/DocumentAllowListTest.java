@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThrows;
+
+public class DocumentAllowListTest {
+
+    @Test
+    public void testTextRoundTrip() {
+        DocumentAllowList allowList = sampleAllowList();
+
+        assertThat(DocumentAllowList.parse(allowList.toString()), equalTo(allowList));
+    }
+
+    @Test
+    public void testBinaryRoundTrip() {
+        DocumentAllowList allowList = sampleAllowList();
+        String encoded = allowList.toBinaryString();
+
+        assertThat(encoded, startsWith(String.valueOf(DocumentAllowList.BINARY_PREFIX)));
+        DocumentAllowList parsed = DocumentAllowList.parse(encoded);
+        assertThat(parsed, equalTo(allowList));
+        assertThat(parsed.isAllowed("lookup", "a/b|c\\d"), is(true));
+        assertThat(parsed.isAllowed("users", "ünïcode"), is(true));
+        assertThat(parsed.isAllowed("users", "other"), is(false));
+    }
+
+    @Test
+    public void testEmptyBinary() {
+        DocumentAllowList parsed = DocumentAllowList.parse(new DocumentAllowList().toBinaryString());
+
+        assertThat(parsed.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testMalformedBinary() {
+        String encoded = sampleAllowList().toBinaryString();
+
+        assertThrows(IllegalArgumentException.class, () -> DocumentAllowList.parse(encoded.substring(0, encoded.length() - 4)));
+        assertThrows(IllegalArgumentException.class, () -> DocumentAllowList.parse("_not base64"));
+    }
+
+    @Test
+    public void testIsAllowedWithInvalidIndex() {
+        assertThat(sampleAllowList().isAllowed("look/up", "1"), is(false));
+    }
+
+    private static DocumentAllowList sampleAllowList() {
+        DocumentAllowList allowList = new DocumentAllowList();
+        allowList.add("lookup", "a/b|c\\d");
+        allowList.add("users", "ünïcode");
+        allowList.add(".hidden", "1");
+        return allowList;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.resolver;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class IndexAbstractionNameIndexTest {
+
+    @Test
+    public void testLiteralPrefix() {
+        assertThat(IndexAbstractionNameIndex.literalPrefix("logs-app-*"), equalTo("logs-app-"));
+        assertThat(IndexAbstractionNameIndex.literalPrefix("lo?s"), equalTo("lo"));
+        assertThat(IndexAbstractionNameIndex.literalPrefix("logs"), equalTo("logs"));
+        assertThat(IndexAbstractionNameIndex.literalPrefix("/logs.*/"), equalTo(""));
+    }
+
+    @Test
+    public void testIncrementalUpdates() {
+        IndexAbstractionNameIndex nameIndex = new IndexAbstractionNameIndex();
+
+        ClusterState state1 = state(1, index("logs-1", "logs-app-a", "all"), index("logs-2", "logs-app-b", "all"));
+        nameIndex.clusterChanged(new ClusterChangedEvent("test", state1, state(0)));
+
+        assertThat(
+            nameIndex.matchingAliases(state1.metadata(), Arrays.asList("logs-app-*")),
+            containsInAnyOrder("logs-app-a", "logs-app-b")
+        );
+        assertThat(nameIndex.matchingAliases(state1.metadata(), Arrays.asList("*")), containsInAnyOrder("logs-app-a", "logs-app-b", "all"));
+        assertThat(nameIndex.matchingAliases(state1.metadata(), Arrays.asList("logs-1")), empty());
+        assertThat(nameIndex.matchingDataStreams(state1.metadata(), Arrays.asList("*")), empty());
+
+        // logs-1 is removed, so logs-app-a goes away while "all" is still referenced by logs-2
+        ClusterState state2 = state(2, state1.metadata().index("logs-2"), index("logs-3", "other"));
+        nameIndex.clusterChanged(new ClusterChangedEvent("test", state2, state1));
+
+        assertThat(
+            nameIndex.matchingAliases(state2.metadata(), Arrays.asList("logs-app-*", "all")),
+            containsInAnyOrder("logs-app-b", "all")
+        );
+        assertThat(nameIndex.matchingAliases(state2.metadata(), Arrays.asList("oth?r")), containsInAnyOrder("other"));
+    }
+
+    @Test
+    public void testReturnsNullIfNotInSync() {
+        IndexAbstractionNameIndex nameIndex = new IndexAbstractionNameIndex();
+        ClusterState state1 = state(1, index("logs-1", "logs-app-a"));
+
+        assertThat(nameIndex.matchingAliases(state1.metadata(), Arrays.asList("*")), nullValue());
+
+        nameIndex.clusterChanged(new ClusterChangedEvent("test", state1, state(0)));
+        ClusterState state2 = state(2, index("logs-1", "logs-app-b"));
+
+        assertThat(nameIndex.matchingAliases(state2.metadata(), Arrays.asList("*")), nullValue());
+    }
+
+    private static ClusterState state(long version, IndexMetadata... indices) {
+        Metadata.Builder metadata = Metadata.builder().clusterUUID("test-cluster").version(version);
+        for (IndexMetadata index : indices) {
+            metadata.put(index, false);
+        }
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+    }
+
+    private static IndexMetadata index(String name, String... aliases) {
+        IndexMetadata.Builder builder = IndexMetadata.builder(name)
+            .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0);
+        for (String alias : aliases) {
+            builder.putAlias(AliasMetadata.builder(alias));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.resolver;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class IndexSetTest {
+
+    private final Metadata metadata = metadata("logs-1", "logs-2", "logs-3", "other");
+    private final IndexOrdinals.Provider provider = new IndexOrdinals.Provider();
+
+    @Test
+    public void testOrdinalsAreSharedPerMetadata() {
+        assertThat(provider.of(metadata), sameInstance(provider.of(metadata)));
+        assertThat(provider.of(metadata).size(), is(4));
+        assertThat(
+            "other nodes have their own tables",
+            new IndexOrdinals.Provider().of(metadata),
+            not(sameInstance(provider.of(metadata)))
+        );
+
+        final IndexOrdinals ordinals = provider.of(metadata);
+        assertThat(provider.of(metadata("logs-1")).size(), is(1));
+        assertThat(provider.of(metadata), not(sameInstance(ordinals)));
+    }
+
+    @Test
+    public void testSetSemantics() {
+        IndexSet indexSet = provider.of(metadata).toIndexSet(Arrays.asList("logs-1", "other", "logs-new-*"));
+
+        assertThat(indexSet.size(), is(3));
+        assertThat(indexSet.contains("logs-1"), is(true));
+        assertThat(indexSet.contains("logs-2"), is(false));
+        assertThat(indexSet.contains("logs-new-*"), is(true));
+        assertThat(indexSet.getOthers(), equalTo(ImmutableSet.of("logs-new-*")));
+        assertThat(indexSet, containsInAnyOrder("logs-1", "other", "logs-new-*"));
+        assertThat(indexSet, equalTo(new HashSet<>(Arrays.asList("logs-1", "other", "logs-new-*"))));
+        assertThat(indexSet.hashCode(), is(new HashSet<>(Arrays.asList("logs-1", "other", "logs-new-*")).hashCode()));
+    }
+
+    @Test
+    public void testPermittedPatternBits() {
+        IndexOrdinals ordinals = provider.of(metadata);
+        IndexOrdinals.PatternBits permitted = ordinals.permitted("logs-*", () -> Arrays.asList("logs-1", "logs-*"));
+
+        IndexSet permittedSet = IndexSet.of(ordinals, permitted.getBits(), ImmutableSet.of());
+        assertThat(permittedSet, containsInAnyOrder("logs-1", "logs-2", "logs-3"));
+        assertThat(permitted.getOthersMatcher().test("logs-new"), is(true));
+        assertThat(permitted.getOthersMatcher().test("other"), is(false));
+    }
+
+    private static Metadata metadata(String... indices) {
+        Metadata.Builder builder = Metadata.builder();
+        for (String index : indices) {
+            builder.put(
+                IndexMetadata.builder(index)
+                    .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0),
+                false
+            );
+        }
+        return builder.build();
+    }
+}
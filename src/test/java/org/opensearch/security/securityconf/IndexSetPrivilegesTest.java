@@ -0,0 +1,229 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.resolver.IndexOrdinals;
+import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
+import org.opensearch.security.resolver.IndexSet;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.user.User;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the evaluation of large requests with bitwise operations on index ordinals has the same results
+ * as the evaluation with sets of index names.
+ */
+public class IndexSetPrivilegesTest {
+
+    private static final List<String> INDICES = Arrays.asList(
+        "logs-2023-01",
+        "logs-2023-02",
+        "logs-2024-01",
+        "metrics-1",
+        "metrics-2",
+        "secret",
+        "user-hnelson"
+    );
+
+    private static final List<String[]> ACTIONS = Arrays.asList(
+        new String[] { "indices:data/read/search" },
+        new String[] { "indices:data/write/index" },
+        new String[] { "indices:data/read/search", "indices:data/write/index" },
+        new String[] { "indices:admin/delete" }
+    );
+
+    private static final List<List<String>> REQUESTS = Arrays.asList(
+        Arrays.asList("logs-2023-01", "logs-2024-01", "metrics-1", "secret", "user-hnelson", "logs-new-*"),
+        Arrays.asList("logs-2023-01", "logs-2023-02"),
+        Arrays.asList("logs-2023-01", "logs-2023-02", "logs-2024-01", "metrics-1", "metrics-2", "user-hnelson"),
+        Arrays.asList("metrics-1", "metrics-new", "logs-2023-*"),
+        Arrays.asList("secret", "user-jdoe")
+    );
+
+    private final Metadata metadata = metadata();
+    private final IndexNameExpressionResolver resolver = new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY));
+    private final IndexOrdinals.Provider indexOrdinals = new IndexOrdinals.Provider();
+    private final User user = new User("hnelson");
+    private ClusterService clusterService;
+    private SecurityRoles securityRoles;
+
+    @Before
+    public void setup() throws IOException {
+        clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build());
+
+        final ConfigModelV7 configModel = new ConfigModelV7(
+            rolesConfig(),
+            SecurityRolesPermissionsTest.createRoleMappingsConfig(),
+            SecurityRolesPermissionsTest.createActionGroupsConfig(),
+            SecurityRolesPermissionsTest.createTenantsConfig(),
+            mock(DynamicConfigModel.class),
+            Settings.EMPTY,
+            indexOrdinals
+        );
+        securityRoles = configModel.getSecurityRoles().filter(ImmutableSet.of("logs_reader", "metrics_writer", "own_index"));
+    }
+
+    @Test
+    public void testReduceIsEquivalentToSetBasedEvaluation() {
+        for (List<String> requested : REQUESTS) {
+            for (String[] actions : ACTIONS) {
+                final Set<String> bitwise = securityRoles.reduce(indexSetRequest(requested), user, actions, resolver, clusterService);
+                final Set<String> setBased = securityRoles.reduce(setRequest(requested), user, actions, resolver, clusterService);
+
+                Assert.assertTrue(requested + " " + Arrays.toString(actions), bitwise instanceof IndexSet);
+                Assert.assertEquals(requested + " " + Arrays.toString(actions), setBased, bitwise);
+            }
+        }
+    }
+
+    @Test
+    public void testReduceOfAllIndicesIsEquivalentToSetBasedEvaluation() {
+        for (String[] actions : ACTIONS) {
+            final Set<String> bitwise = securityRoles.reduce(Resolved._LOCAL_ALL, user, actions, resolver, clusterService);
+            final Set<String> setBased = securityRoles.getAllPermittedIndicesForDashboards(
+                Resolved._LOCAL_ALL,
+                user,
+                actions,
+                resolver,
+                clusterService
+            );
+
+            Assert.assertEquals(Arrays.toString(actions), setBased, bitwise);
+        }
+
+        Assert.assertEquals(
+            ImmutableSet.of("logs-2023-01", "logs-2023-02", "logs-2024-01", "user-hnelson"),
+            securityRoles.reduce(Resolved._LOCAL_ALL, user, ACTIONS.get(0), resolver, clusterService)
+        );
+    }
+
+    @Test
+    public void testImpliesTypePermIsEquivalentToSetBasedEvaluation() {
+        int permitted = 0;
+
+        for (List<String> requested : REQUESTS) {
+            for (String[] actions : ACTIONS) {
+                final boolean bitwise = securityRoles.get(indexSetRequest(requested), user, actions, resolver, clusterService);
+                final boolean setBased = securityRoles.get(setRequest(requested), user, actions, resolver, clusterService);
+
+                Assert.assertEquals(requested + " " + Arrays.toString(actions), setBased, bitwise);
+                Assert.assertEquals(
+                    requested + " " + Arrays.toString(actions),
+                    securityRoles.impliesTypePermGlobal(setRequest(requested), user, actions, resolver, clusterService),
+                    securityRoles.impliesTypePermGlobal(indexSetRequest(requested), user, actions, resolver, clusterService)
+                );
+                permitted += bitwise ? 1 : 0;
+            }
+        }
+
+        Assert.assertTrue("some requests must be permitted, otherwise the test proves nothing", permitted > 0);
+    }
+
+    @Test
+    public void testIndexSetOfOutdatedClusterState() {
+        final List<String> requested = REQUESTS.get(2);
+        final Resolved outdated = indexSetRequest(requested);
+
+        // the index set was created for an older cluster state, the ordinals are looked up again
+        when(clusterService.state()).thenReturn(
+            ClusterState.builder(ClusterName.DEFAULT).metadata(Metadata.builder(metadata).remove("metrics-2")).build()
+        );
+
+        final Set<String> reduced = securityRoles.reduce(outdated, user, ACTIONS.get(1), resolver, clusterService);
+        Assert.assertEquals(securityRoles.reduce(setRequest(requested), user, ACTIONS.get(1), resolver, clusterService), reduced);
+        Assert.assertTrue("permitted by name", reduced.contains("metrics-2"));
+    }
+
+    private Resolved indexSetRequest(Collection<String> indices) {
+        return new Resolved(
+            ImmutableSet.of(),
+            indexOrdinals.of(clusterService.state().metadata()).toIndexSet(indices),
+            ImmutableSet.copyOf(indices),
+            ImmutableSet.of(),
+            IndicesOptions.lenientExpandOpen()
+        );
+    }
+
+    private static Resolved setRequest(Collection<String> indices) {
+        return new Resolved(
+            ImmutableSet.of(),
+            ImmutableSet.copyOf(indices),
+            ImmutableSet.copyOf(indices),
+            ImmutableSet.of(),
+            IndicesOptions.lenientExpandOpen()
+        );
+    }
+
+    private static SecurityDynamicConfiguration<?> rolesConfig() throws IOException {
+        final ObjectNode rolesNode = DefaultObjectMapper.objectMapper.createObjectNode();
+        rolesNode.set("_meta", SecurityRolesPermissionsTest.meta("roles"));
+        rolesNode.set("logs_reader", role("indices:data/read/*", "logs-2023-*", "recent-*"));
+        rolesNode.set("metrics_writer", role("indices:data/write/*", "metrics-*"));
+        rolesNode.set("own_index", role("*", "user-${user.name}"));
+        return SecurityDynamicConfiguration.fromNode(rolesNode, CType.ROLES, 2, 0, 0);
+    }
+
+    private static ObjectNode role(String action, String... indexPatterns) {
+        final ObjectNode indexPermission = DefaultObjectMapper.objectMapper.createObjectNode();
+        final ArrayNode patterns = indexPermission.putArray("index_patterns");
+        Arrays.stream(indexPatterns).forEach(patterns::add);
+        indexPermission.putArray("allowed_actions").add(action);
+
+        final ObjectNode role = DefaultObjectMapper.objectMapper.createObjectNode();
+        role.putArray("index_permissions").add(indexPermission);
+        return role;
+    }
+
+    private static Metadata metadata() {
+        final Metadata.Builder builder = Metadata.builder();
+        for (String index : INDICES) {
+            final IndexMetadata.Builder indexMetadata = IndexMetadata.builder(index)
+                .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                .numberOfShards(1)
+                .numberOfReplicas(0);
+            if (index.equals("logs-2024-01")) {
+                indexMetadata.putAlias(AliasMetadata.builder("recent-logs"));
+            }
+            builder.put(indexMetadata.build(), false);
+        }
+        return builder.build();
+    }
+}
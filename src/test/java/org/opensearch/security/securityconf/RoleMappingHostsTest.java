@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.resolver.IndexOrdinals;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.user.User;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that role mappings by host match IP addresses against CIDR networks in both config versions
+ */
+public class RoleMappingHostsTest {
+
+    private static final Map<String, String[]> HOSTS = ImmutableMap.of(
+        "internal",
+        new String[] { "10.0.0.0/8" },
+        "lab",
+        new String[] { "10.1.0.0/16" },
+        "office",
+        new String[] { "192.168.1.0/24", "2001:db8::/32" },
+        "gateway",
+        new String[] { "172.16.5.5" },
+        "loopback",
+        new String[] { "127.0.0.*" }
+    );
+
+    private final User user = new User("jdoe");
+
+    @Test
+    public void testHostsV7() throws IOException {
+        final ObjectNode mappings = rolesMappings(2);
+        mappings.set("_meta", SecurityRolesPermissionsTest.meta("rolesmapping"));
+
+        final ConfigModel configModel = new ConfigModelV7(
+            SecurityRolesPermissionsTest.createRolesConfig(),
+            SecurityDynamicConfiguration.fromNode(mappings, CType.ROLESMAPPING, 2, 0, 0),
+            SecurityRolesPermissionsTest.createActionGroupsConfig(),
+            SecurityRolesPermissionsTest.createTenantsConfig(),
+            dynamicConfigModel(),
+            Settings.EMPTY,
+            new IndexOrdinals.Provider()
+        );
+
+        assertHostMappings(configModel);
+    }
+
+    @Test
+    public void testHostsV6() throws IOException {
+        final ConfigModel configModel = new ConfigModelV6(
+            SecurityDynamicConfiguration.fromJson("{}", CType.ROLES, 1, 0, 0),
+            SecurityDynamicConfiguration.fromJson("{}", CType.ACTIONGROUPS, 1, 0, 0),
+            SecurityDynamicConfiguration.fromNode(rolesMappings(1), CType.ROLESMAPPING, 1, 0, 0),
+            dynamicConfigModel(),
+            Settings.EMPTY
+        );
+
+        assertHostMappings(configModel);
+    }
+
+    private void assertHostMappings(ConfigModel configModel) throws IOException {
+        Assert.assertEquals(ImmutableSet.of("internal", "lab"), configModel.mapSecurityRoles(user, caller("10.1.2.3")));
+        Assert.assertEquals(ImmutableSet.of("internal"), configModel.mapSecurityRoles(user, caller("10.2.0.1")));
+        Assert.assertEquals(ImmutableSet.of("office"), configModel.mapSecurityRoles(user, caller("192.168.1.77")));
+        Assert.assertEquals(ImmutableSet.of("office"), configModel.mapSecurityRoles(user, caller("2001:db8:1::7")));
+        Assert.assertEquals(ImmutableSet.of("gateway"), configModel.mapSecurityRoles(user, caller("172.16.5.5")));
+        Assert.assertEquals(
+            "wildcard patterns still apply",
+            ImmutableSet.of("loopback"),
+            configModel.mapSecurityRoles(user, caller("127.0.0.1"))
+        );
+
+        Assert.assertEquals(ImmutableSet.of(), configModel.mapSecurityRoles(user, caller("172.16.5.6")));
+        Assert.assertEquals(ImmutableSet.of(), configModel.mapSecurityRoles(user, caller("192.168.2.1")));
+        Assert.assertEquals(ImmutableSet.of(), configModel.mapSecurityRoles(user, caller("2001:db9::1")));
+        Assert.assertEquals(ImmutableSet.of(), configModel.mapSecurityRoles(user, null));
+    }
+
+    private static ObjectNode rolesMappings(int version) {
+        final ObjectNode mappings = DefaultObjectMapper.objectMapper.createObjectNode();
+        for (Map.Entry<String, String[]> hosts : HOSTS.entrySet()) {
+            final ObjectNode mapping = mappings.putObject(hosts.getKey());
+            final ArrayNode hostsNode = mapping.putArray("hosts");
+            Arrays.stream(hosts.getValue()).forEach(hostsNode::add);
+            mapping.putArray(version == 1 ? "backendroles" : "backend_roles");
+            mapping.putArray("users");
+        }
+        return mappings;
+    }
+
+    private static DynamicConfigModel dynamicConfigModel() {
+        final DynamicConfigModel dcm = mock(DynamicConfigModel.class);
+        when(dcm.getHostsResolverMode()).thenReturn("ip-only");
+        return dcm;
+    }
+
+    private static TransportAddress caller(String address) throws IOException {
+        return new TransportAddress(InetAddress.getByName(address), 9300);
+    }
+}
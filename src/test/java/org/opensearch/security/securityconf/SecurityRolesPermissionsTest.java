@@ -47,6 +47,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.security.DefaultObjectMapper;
 import org.opensearch.security.dlic.rest.api.Endpoint;
 import org.opensearch.security.dlic.rest.api.RestApiAdminPrivilegesEvaluator.PermissionBuilder;
+import org.opensearch.security.resolver.IndexOrdinals;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 
@@ -110,7 +111,8 @@ public class SecurityRolesPermissionsTest {
             createActionGroupsConfig(),
             createTenantsConfig(),
             Mockito.mock(DynamicConfigModel.class),
-            Settings.EMPTY
+            Settings.EMPTY,
+            new IndexOrdinals.Provider()
         );
     }
 
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.opensearch.security.user.User;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class UserAttributeTemplateTest {
+
+    @Test
+    public void testNoPlaceholders() {
+        final String source = "logs-*";
+        final UserAttributeTemplate template = UserAttributeTemplate.compile(source);
+
+        assertThat(template.hasPlaceholders(), is(false));
+        assertThat(template.render(userWithAttributes()), sameInstance(source));
+        assertThat(UserAttributeTemplate.compile(null).render(userWithAttributes()), equalTo(null));
+    }
+
+    @Test
+    public void testUserNameAndRoles() {
+        final User user = userWithAttributes();
+        user.addRoles(List.of("backend"));
+        user.addSecurityRoles(List.of("readall"));
+
+        assertThat(UserAttributeTemplate.compile("${user.name}-${user_name}").render(user), equalTo("jdoe-jdoe"));
+        assertThat(UserAttributeTemplate.compile("[${user.roles}]").render(user), equalTo("[\"backend\"]"));
+        assertThat(UserAttributeTemplate.compile("[${user_securityRoles}]").render(user), equalTo("[\"readall\"]"));
+    }
+
+    @Test
+    public void testAttributes() {
+        final User user = userWithAttributes();
+        final UserAttributeTemplate template = UserAttributeTemplate.compile(
+            "{\"term\":{\"dept\":\"${attr.jwt.dept}\",\"sub\":\"${attr_jwt_sub}\",\"x\":\"${attr.unknown}\"}}"
+        );
+
+        assertThat(
+            template.render(user),
+            equalTo("{\"term\":{\"dept\":\"sales\",\"sub\":\"42\",\"x\":\"${attr.unknown}\"}}")
+        );
+    }
+
+    @Test
+    public void testRenderingIsMemoized() {
+        final UserAttributeTemplate template = UserAttributeTemplate.compile("tenant_${attr.jwt.dept}");
+
+        final String first = template.render(userWithAttributes());
+        assertThat(template.render(userWithAttributes()), sameInstance(first));
+
+        final User other = userWithAttributes();
+        other.getCustomAttributesMap().put("attr.jwt.dept", "hr");
+        final String second = template.render(other);
+        assertThat(second, equalTo("tenant_hr"));
+
+        // alternating users do not evict each other
+        assertThat(template.render(userWithAttributes()), sameInstance(first));
+        assertThat(template.render(other), sameInstance(second));
+    }
+
+    @Test
+    public void testRolesChangeIsRendered() {
+        final UserAttributeTemplate template = UserAttributeTemplate.compile("[${user.roles}]");
+        final User user = userWithAttributes();
+        user.addRoles(List.of("backend"));
+
+        final String first = template.render(user);
+        assertThat(template.render(user), sameInstance(first));
+
+        user.addRoles(List.of("admin"));
+        assertThat(template.render(user), is(not(first)));
+        assertThat(template.render(user).contains("\"admin\""), is(true));
+    }
+
+    @Test
+    public void testUnterminatedPlaceholder() {
+        assertThat(UserAttributeTemplate.compile("${user.name}_${user.name").render(userWithAttributes()), equalTo("jdoe_${user.name"));
+    }
+
+    private static User userWithAttributes() {
+        final User user = new User("jdoe");
+        user.addAttributes(Map.of("attr.jwt.dept", "sales", "attr.jwt.sub", "42"));
+        return user;
+    }
+}
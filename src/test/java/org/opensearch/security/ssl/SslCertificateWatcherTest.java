@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SslCertificateWatcherTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReloadsOnlyLayersWithChangedFiles() throws Exception {
+        final Path cert = write("node.pem", "cert-1");
+        final Path key = write("node-key.pem", "key-1");
+        final Path httpCert = write("http.pem", "http-1");
+        final AtomicInteger transportReloads = new AtomicInteger();
+        final AtomicInteger httpReloads = new AtomicInteger();
+
+        try (SslCertificateWatcher watcher = new SslCertificateWatcher(0)) {
+            watcher.addLayer("transport", Arrays.asList(cert, key), transportReloads::incrementAndGet);
+            watcher.addLayer("http", Arrays.asList(httpCert), httpReloads::incrementAndGet);
+            watcher.check();
+            Assert.assertEquals(0, transportReloads.get());
+
+            write("node.pem", "cert-1");
+            watcher.check();
+            Assert.assertEquals("same content", 0, transportReloads.get());
+
+            write("node.pem", "cert-2");
+            write("node-key.pem", "key-2");
+            watcher.check();
+            watcher.check();
+            Assert.assertEquals(1, transportReloads.get());
+            Assert.assertEquals(0, httpReloads.get());
+        }
+    }
+
+    @Test
+    public void testFailedReloadIsRetried() throws Exception {
+        final Path cert = write("node.pem", "cert-1");
+        final AtomicBoolean valid = new AtomicBoolean(false);
+        final AtomicInteger reloads = new AtomicInteger();
+
+        try (SslCertificateWatcher watcher = new SslCertificateWatcher(0)) {
+            watcher.addLayer("transport", Arrays.asList(cert), () -> {
+                if (!valid.get()) {
+                    throw new IllegalStateException("key does not match the certificate");
+                }
+                reloads.incrementAndGet();
+            });
+            write("node.pem", "cert-2");
+            watcher.check();
+            Assert.assertEquals(0, reloads.get());
+
+            valid.set(true);
+            watcher.check();
+            Assert.assertEquals(1, reloads.get());
+        }
+    }
+
+    @Test
+    public void testFileChangeTriggersReload() throws Exception {
+        final Path cert = write("node.pem", "cert-1");
+        final AtomicInteger reloads = new AtomicInteger();
+
+        try (SslCertificateWatcher watcher = new SslCertificateWatcher(10)) {
+            watcher.addLayer("transport", Arrays.asList(cert), reloads::incrementAndGet);
+            watcher.start();
+            Files.delete(cert);
+            write("node.pem", "cert-2");
+
+            for (int i = 0; i < 100 && reloads.get() == 0; i++) {
+                Thread.sleep(100);
+            }
+
+            Assert.assertEquals(1, reloads.get());
+        }
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.write(folder.getRoot().toPath().resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
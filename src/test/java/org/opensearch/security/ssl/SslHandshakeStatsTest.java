@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import org.opensearch.security.test.helper.file.FileHelper;
+
+/**
+ * Runs real handshakes against server engines of both providers, the second handshake of a client resumes the
+ * session of the first
+ */
+public class SslHandshakeStatsTest {
+
+    @Test
+    public void testResumedHandshakeJdk() throws Exception {
+        assertResumption(SslProvider.JDK);
+    }
+
+    @Test
+    public void testResumedHandshakeOpenSsl() throws Exception {
+        Assume.assumeTrue(OpenSearchSecuritySSLPlugin.OPENSSL_SUPPORTED && OpenSsl.isAvailable());
+        assertResumption(SslProvider.OPENSSL);
+    }
+
+    private static void assertResumption(final SslProvider serverProvider) throws Exception {
+        final File trustedCas = FileHelper.getAbsoluteFilePathFromClassPath("ssl/root-ca.pem").toFile();
+        final SslContext serverContext = SslContextBuilder.forServer(
+            FileHelper.getAbsoluteFilePathFromClassPath("ssl/node-0.crt.pem").toFile(),
+            FileHelper.getAbsoluteFilePathFromClassPath("ssl/node-0.key.pem").toFile()
+        ).sslProvider(serverProvider).build();
+        final SslContext clientContext = SslContextBuilder.forClient().sslProvider(SslProvider.JDK).trustManager(trustedCas).build();
+
+        // OpenSSL only issues tickets with ticket keys
+        final SslSessionTicketKeys ticketKeys = new SslSessionTicketKeys(
+            new byte[32],
+            TimeUnit.HOURS.toMillis(1),
+            System::currentTimeMillis
+        );
+        ticketKeys.register("transport", serverContext, SslSessionTicketKeys.trustDigest(trustedCas));
+
+        try {
+            Assert.assertFalse("the first handshake is a full one", handshake(clientContext, serverContext));
+            // the JDK compares milliseconds, OpenSSL must not depend on the handshakes starting in different seconds
+            Thread.sleep(5);
+            Assert.assertTrue("the second handshake resumes the session", handshake(clientContext, serverContext));
+            Assert.assertTrue(handshake(clientContext, serverContext));
+        } finally {
+            ticketKeys.close();
+        }
+    }
+
+    /**
+     * @return true if the server considers the session of the handshake resumed
+     */
+    private static boolean handshake(final SslContext clientContext, final SslContext serverContext) throws Exception {
+        final SSLEngine client = clientContext.newEngine(ByteBufAllocator.DEFAULT, "node-0.example.com", 9300);
+        final SSLEngine server = serverContext.newEngine(ByteBufAllocator.DEFAULT);
+
+        try {
+            final long startMillis = System.currentTimeMillis();
+            client.beginHandshake();
+            server.beginHandshake();
+
+            final ByteBuffer clientToServer = ByteBuffer.allocate(client.getSession().getPacketBufferSize());
+            final ByteBuffer serverToClient = ByteBuffer.allocate(server.getSession().getPacketBufferSize());
+            final ByteBuffer application = ByteBuffer.allocate(client.getSession().getApplicationBufferSize());
+            final ByteBuffer empty = ByteBuffer.allocate(0);
+
+            // also transfers the session tickets, which are sent after the handshake
+            for (int i = 0; i < 100; i++) {
+                boolean progress = transfer(client.wrap(empty, clientToServer), client);
+                progress |= transfer(server.wrap(empty, serverToClient), server);
+
+                clientToServer.flip();
+                progress |= transfer(server.unwrap(clientToServer, application), server);
+                clientToServer.compact();
+
+                serverToClient.flip();
+                progress |= transfer(client.unwrap(serverToClient, application), client);
+                serverToClient.compact();
+
+                if (!progress) {
+                    break;
+                }
+            }
+
+            Assert.assertEquals(HandshakeStatus.NOT_HANDSHAKING, server.getHandshakeStatus());
+            Assert.assertEquals(HandshakeStatus.NOT_HANDSHAKING, client.getHandshakeStatus());
+            return SslHandshakeStats.isResumed(server, startMillis);
+        } finally {
+            ReferenceCountUtil.release(client);
+            ReferenceCountUtil.release(server);
+        }
+    }
+
+    private static boolean transfer(final SSLEngineResult result, final SSLEngine engine) {
+        Runnable task;
+        while ((task = engine.getDelegatedTask()) != null) {
+            task.run();
+        }
+        return result.bytesConsumed() > 0 || result.bytesProduced() > 0;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.ssl.util.SSLConfigConstants;
+import org.opensearch.security.test.helper.file.FileHelper;
+
+public class SslSessionTicketKeysTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    @Test
+    public void testDisabledByDefault() {
+        Assert.assertNull(SslSessionTicketKeys.fromSettings(Settings.EMPTY));
+        Assert.assertNotNull(
+            SslSessionTicketKeys.fromSettings(Settings.builder().put(SSLConfigConstants.SECURITY_SSL_SESSION_TICKETS_ENABLED, true).build())
+        );
+    }
+
+    @Test
+    public void testNodesSharingTheSecretDeriveTheSameKeys() {
+        final SslSessionTicketKeys node1 = new SslSessionTicketKeys(bytes("shared"), HOUR, () -> 5 * HOUR + 10);
+        final SslSessionTicketKeys node2 = new SslSessionTicketKeys(bytes("shared"), HOUR, () -> 5 * HOUR + 20);
+        final SslSessionTicketKeys other = new SslSessionTicketKeys(bytes("other"), HOUR, () -> 5 * HOUR + 10);
+
+        Assert.assertEquals(5, node1.period());
+        Assert.assertArrayEquals(node1.keyMaterial("transport", node1.period()), node2.keyMaterial("transport", node2.period()));
+        Assert.assertFalse(Arrays.equals(node1.keyMaterial("transport", 5), other.keyMaterial("transport", 5)));
+    }
+
+    @Test
+    public void testKeysRotateWithThePeriod() {
+        final AtomicLong clock = new AtomicLong(5 * HOUR);
+        final SslSessionTicketKeys keys = new SslSessionTicketKeys(bytes("shared"), HOUR, clock::get);
+        final OpenSslSessionTicketKey[] current = keys.keys("transport", keys.period());
+
+        Assert.assertEquals(3, current.length);
+        Assert.assertEquals(16, current[0].name().length);
+        Assert.assertFalse(Arrays.equals(current[0].aesKey(), current[0].hmacKey()));
+        Assert.assertFalse(Arrays.equals(current[0].name(), current[1].name()));
+
+        clock.addAndGet(HOUR);
+        final OpenSslSessionTicketKey[] next = keys.keys("transport", keys.period());
+
+        Assert.assertArrayEquals("tickets of the previous period are still accepted", current[0].name(), next[1].name());
+        Assert.assertArrayEquals("the next key was accepted before", current[2].aesKey(), next[0].aesKey());
+    }
+
+    @Test
+    public void testLayersHaveDistinctKeys() {
+        final SslSessionTicketKeys keys = new SslSessionTicketKeys(bytes("shared"), HOUR, () -> 5 * HOUR);
+        final OpenSslSessionTicketKey[] http = keys.keys("http", keys.period());
+        final OpenSslSessionTicketKey[] transport = keys.keys("transport", keys.period());
+
+        for (int i = 0; i < http.length; i++) {
+            for (OpenSslSessionTicketKey transportKey : transport) {
+                Assert.assertFalse(
+                    "tickets of the http layer must not resume transport sessions",
+                    Arrays.equals(http[i].name(), transportKey.name())
+                );
+                Assert.assertFalse(Arrays.equals(http[i].aesKey(), transportKey.aesKey()));
+                Assert.assertFalse(Arrays.equals(http[i].hmacKey(), transportKey.hmacKey()));
+            }
+        }
+    }
+
+    @Test
+    public void testKeysDependOnTheTrustedCertificates() throws Exception {
+        final SslSessionTicketKeys keys = new SslSessionTicketKeys(bytes("shared"), HOUR, () -> 5 * HOUR);
+        final byte[] trustedCas = SslSessionTicketKeys.trustDigest(FileHelper.getAbsoluteFilePathFromClassPath("ssl/root-ca.pem").toFile());
+        final byte[] noCas = SslSessionTicketKeys.trustDigest((X509Certificate[]) null);
+
+        Assert.assertArrayEquals(keys.keyMaterial("transport", trustedCas, 5), keys.keyMaterial("transport", trustedCas.clone(), 5));
+        Assert.assertFalse(
+            "tickets issued before the trusted certificates were reloaded must not be accepted",
+            Arrays.equals(keys.keyMaterial("transport", trustedCas, 5), keys.keyMaterial("transport", noCas, 5))
+        );
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
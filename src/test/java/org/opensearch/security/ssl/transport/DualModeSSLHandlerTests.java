@@ -26,7 +26,9 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import org.opensearch.common.settings.Settings;
 import org.opensearch.security.ssl.SecurityKeyStore;
+import org.opensearch.security.ssl.SslHandshakeStats;
 import org.opensearch.security.ssl.util.SSLConnectionTestUtil;
 
 import static org.opensearch.transport.NettyAllocator.getAllocator;
@@ -54,7 +56,7 @@ public class DualModeSSLHandlerTests {
 
     @Test
     public void testInvalidMessage() throws Exception {
-        DualModeSSLHandler handler = new DualModeSSLHandler(securityKeyStore);
+        DualModeSSLHandler handler = new DualModeSSLHandler(securityKeyStore, SslHandshakeStats.forTransport(Settings.EMPTY));
 
         handler.decode(ctx, ALLOCATOR.buffer(4), null);
         // ensure pipeline is not fetched and manipulated
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class CidrTreeTest {
+
+    @Test
+    public void testParse() {
+        assertThat(CidrTree.isCidr("10.0.0.0/8"), is(true));
+        assertThat(CidrTree.isCidr("10.1.2.3"), is(true));
+        assertThat(CidrTree.isCidr("0.0.0.0/0"), is(true));
+        assertThat(CidrTree.isCidr("fd00::/8"), is(true));
+        assertThat(CidrTree.isCidr("::1"), is(true));
+
+        assertThat(CidrTree.isCidr("10.0.0.0/33"), is(false));
+        assertThat(CidrTree.isCidr("10.0.0.0/"), is(false));
+        assertThat(CidrTree.isCidr("10.*"), is(false));
+        assertThat(CidrTree.isCidr("127.0.0.*"), is(false));
+        assertThat(CidrTree.isCidr("*.example.com"), is(false));
+        assertThat(CidrTree.isCidr("localhost"), is(false));
+        assertThat(CidrTree.isCidr("/10\\..*/"), is(false));
+        assertThat(CidrTree.isCidr(null), is(false));
+    }
+
+    @Test
+    public void testAllContainingNetworksMatch() {
+        final CidrTree<String> tree = new CidrTree<>();
+        tree.put("10.0.0.0/8", "a");
+        tree.put("10.1.0.0/16", "b");
+        tree.put("10.1.2.3", "c");
+        tree.put("10.128.0.0/9", "d");
+        tree.put("192.168.0.0/16", "e");
+
+        assertThat(matches(tree, "10.1.2.3"), contains("a", "b", "c"));
+        assertThat(matches(tree, "10.1.9.9"), contains("a", "b"));
+        assertThat(matches(tree, "10.200.0.1"), contains("a", "d"));
+        assertThat(matches(tree, "192.168.5.5"), contains("e"));
+        assertThat(matches(tree, "11.0.0.1"), empty());
+        // IPv4-mapped IPv6 addresses are IPv4 addresses
+        assertThat(matches(tree, "::ffff:10.1.2.3"), contains("a", "b", "c"));
+        assertThat(matches(tree, "not-an-ip"), empty());
+        assertThat(matches(tree, null), empty());
+    }
+
+    @Test
+    public void testIpv6() {
+        final CidrTree<String> tree = new CidrTree<>();
+        tree.put("2001:db8::/32", "doc");
+        tree.put("2001:db8:1::/48", "doc1");
+        tree.put("::/0", "any");
+        tree.put("0.0.0.0/0", "any4");
+
+        assertThat(matches(tree, "2001:db8:1::5"), containsInAnyOrder("any", "doc", "doc1"));
+        assertThat(matches(tree, "2001:0db8:0002:0000:0000:0000:0000:0005"), containsInAnyOrder("any", "doc"));
+        assertThat(matches(tree, "fd00::1"), contains("any"));
+        assertThat(matches(tree, "127.0.0.1"), contains("any4"));
+        assertThat(tree.contains("::1"), is(true));
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        final Random random = new Random(42);
+        final CidrTree<Integer> tree = new CidrTree<>();
+        final int[] networks = new int[2000];
+        final int[] prefixLengths = new int[networks.length];
+
+        for (int i = 0; i < networks.length; i++) {
+            networks[i] = random.nextInt();
+            prefixLengths[i] = random.nextInt(33);
+            tree.put(toString(networks[i]) + "/" + prefixLengths[i], i);
+        }
+
+        for (int n = 0; n < 10000; n++) {
+            // half of the addresses close to a network, so that there are matches beyond the short prefixes
+            final int address = random.nextBoolean() ? random.nextInt() : networks[random.nextInt(networks.length)] ^ random.nextInt(256);
+            final Set<Integer> expected = new TreeSet<>();
+
+            for (int i = 0; i < networks.length; i++) {
+                final int mask = prefixLengths[i] == 0 ? 0 : -1 << (32 - prefixLengths[i]);
+                if (((address ^ networks[i]) & mask) == 0) {
+                    expected.add(i);
+                }
+            }
+
+            final Set<Integer> actual = new TreeSet<>();
+            tree.forEachMatch(toString(address), actual::add);
+            assertThat(actual, equalTo(expected));
+        }
+    }
+
+    private static List<String> matches(CidrTree<String> tree, String address) {
+        final List<String> result = new ArrayList<>();
+        tree.forEachMatch(address, result::add);
+        return result;
+    }
+
+    private static String toString(int address) {
+        return ((address >>> 24) & 0xff) + "." + ((address >>> 16) & 0xff) + "." + ((address >>> 8) & 0xff) + "." + (address & 0xff);
+    }
+}
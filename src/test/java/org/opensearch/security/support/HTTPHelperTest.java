@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import org.opensearch.security.user.AuthCredentials;
+
+public class HTTPHelperTest {
+
+    private static final Logger log = LogManager.getLogger(HTTPHelperTest.class);
+
+    @Test
+    public void testExtractCredentials() {
+        final AuthCredentials credentials = HTTPHelper.extractCredentials(basic("hnelson:pass:word"), log);
+
+        Assert.assertEquals("hnelson", credentials.getUsername());
+        Assert.assertArrayEquals("pass:word".getBytes(StandardCharsets.UTF_8), credentials.getPassword());
+        Assert.assertTrue(credentials.isComplete());
+
+        Assert.assertEquals("\u00fcmlaut", HTTPHelper.extractCredentials("  bAsIc " + encode("\u00fcmlaut:secret"), log).getUsername());
+        Assert.assertEquals(
+            "unpadded",
+            HTTPHelper.extractCredentials("Basic " + Base64.getEncoder().withoutPadding().encodeToString(bytes("unpadded:x")), log)
+                .getUsername()
+        );
+    }
+
+    @Test
+    public void testInvalidHeaders() {
+        Assert.assertNull(HTTPHelper.extractCredentials(null, log));
+        Assert.assertNull(HTTPHelper.extractCredentials("Bearer abc", log));
+        Assert.assertNull(HTTPHelper.extractCredentials("Basic", log));
+        Assert.assertNull(HTTPHelper.extractCredentials(basic(":secret"), log));
+        Assert.assertNull(HTTPHelper.extractCredentials(basic("no-colon"), log));
+        Assert.assertThrows(IllegalArgumentException.class, () -> HTTPHelper.extractCredentials(basic("hnelson:"), log));
+        Assert.assertThrows(IllegalArgumentException.class, () -> HTTPHelper.extractCredentials("Basic ab*d", log));
+        Assert.assertThrows(IllegalArgumentException.class, () -> HTTPHelper.extractCredentials("Basic abcde", log));
+    }
+
+    @Test
+    public void testUsernamesAreInterned() {
+        final String first = HTTPHelper.extractCredentials(basic("interned-user:a"), log).getUsername();
+        final String second = HTTPHelper.extractCredentials(basic("interned-user:b"), log).getUsername();
+
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    public void testCredentialsAsCacheKey() {
+        final AuthCredentials a = HTTPHelper.extractCredentials(basic("hnelson:secret"), log);
+        final AuthCredentials b = HTTPHelper.extractCredentials(basic("hnelson:secret"), log);
+        final AuthCredentials c = HTTPHelper.extractCredentials(basic("hnelson:other"), log);
+
+        Assert.assertEquals(a, b);
+        Assert.assertEquals(a.hashCode(), b.hashCode());
+        Assert.assertNotEquals(a, c);
+        a.clearSecrets();
+        Assert.assertEquals("the digest outlives the password", a, b);
+    }
+
+    @Test
+    public void testSplitHeaderValue() {
+        Assert.assertArrayEquals(new String[] { "a", "b", "c" }, HTTPHelper.splitHeaderValue(" a, b ,,c ,", ","));
+        Assert.assertArrayEquals(new String[] { "a", "b" }, HTTPHelper.splitHeaderValue("a;;b;;", ";;"));
+        Assert.assertArrayEquals(new String[0], HTTPHelper.splitHeaderValue(" ", ","));
+    }
+
+    @Test
+    @Ignore(value = "basic header parsing benchmark; run manually")
+    public void parseBasicHeaderPerfTest() {
+        final String header = basic("some.user@example.com:a-reasonably-long-password");
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final int iterations = 2_000_000;
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            long allocated = threadBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < iterations; i++) {
+                legacyExtractCredentials(header);
+            }
+            report(round, "split and decode", start, threadBean.getThreadAllocatedBytes(threadId) - allocated, iterations);
+
+            start = System.nanoTime();
+            allocated = threadBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < iterations; i++) {
+                HTTPHelper.extractCredentials(header, log);
+            }
+            report(round, "HTTPHelper", start, threadBean.getThreadAllocatedBytes(threadId) - allocated, iterations);
+        }
+    }
+
+    /** the previous implementation, for comparison */
+    private static AuthCredentials legacyExtractCredentials(String authorizationHeader) {
+        final String decoded = new String(Base64.getDecoder().decode(authorizationHeader.split(" ")[1]), StandardCharsets.UTF_8);
+        final int firstColonIndex = decoded.indexOf(':');
+        return new AuthCredentials(
+            decoded.substring(0, firstColonIndex),
+            decoded.substring(firstColonIndex + 1).getBytes(StandardCharsets.UTF_8)
+        ).markComplete();
+    }
+
+    private static void report(int round, String label, long startNanos, long allocatedBytes, int iterations) {
+        System.out.println(
+            "Round "
+                + round
+                + ", "
+                + label
+                + ": "
+                + (System.nanoTime() - startNanos) / iterations
+                + " ns/op, "
+                + allocatedBytes / iterations
+                + " bytes/op"
+        );
+    }
+
+    private static String basic(String userAndPassword) {
+        return "Basic " + encode(userAndPassword);
+    }
+
+    private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(bytes(value));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}